@@ -0,0 +1,37 @@
+package processor_simulator.Compilers.Abstract;
+
+import processor_simulator.Exceptions.CommandArgumentIsInvalidException;
+import processor_simulator.Exceptions.CommandIsInvalidException;
+import processor_simulator.Models.CompiledProgram;
+
+public interface IAssembler
+{
+	/**
+	 * Compiles the source in one pass.
+	 *
+	 * @param source
+	 *            the source
+	 * @return the compiled program
+	 * @throws CommandIsInvalidException
+	 *             the command is invalid exception
+	 * @throws CommandArgumentIsInvalidException
+	 *             the command argument is invalid exception
+	 */
+	CompiledProgram assemble(CharSequence source)
+		throws CommandIsInvalidException, CommandArgumentIsInvalidException;
+
+	/**
+	 * Gets the fingerprint of the assembler's settings. The assemblers with
+	 * the same fingerprint compile any source into the same program.
+	 *
+	 * @return the fingerprint
+	 */
+	String getFingerprint();
+
+	/**
+	 * Gets the number of registers.
+	 *
+	 * @return the number of registers
+	 */
+	int getNumberOfRegisters();
+}
@@ -0,0 +1,22 @@
+package processor_simulator.Compilers.Abstract;
+
+import processor_simulator.Models.CompiledProgram;
+
+public interface IBytecodeCompiler
+{
+	/**
+	 * Generates the executable code of the program.
+	 *
+	 * @param program
+	 *            the compiled program
+	 * @return the executable program
+	 */
+	IExecutableProgram compile(CompiledProgram program);
+
+	/**
+	 * Gets the number of bits, the generated code is specialized for.
+	 *
+	 * @return the number of bits
+	 */
+	int getNumberOfBits();
+}
@@ -0,0 +1,22 @@
+package processor_simulator.Compilers.Abstract;
+
+import processor_simulator.Models.CompiledProgram;
+
+public interface IClosureCompiler
+{
+	/**
+	 * Binds every command of the program to a node.
+	 *
+	 * @param program
+	 *            the compiled program
+	 * @return the executable program
+	 */
+	IExecutableProgram compile(CompiledProgram program);
+
+	/**
+	 * Gets the number of bits, the nodes are specialized for.
+	 *
+	 * @return the number of bits
+	 */
+	int getNumberOfBits();
+}
@@ -0,0 +1,17 @@
+package processor_simulator.Compilers.Abstract;
+
+/**
+ * Command with the resolved operands, which is ready to be performed.
+ */
+@FunctionalInterface
+public interface ICommandNode
+{
+	/**
+	 * Performs the command and puts the casted result to the register.
+	 *
+	 * @param registers
+	 *            the registers
+	 * @return the result before the cast, which gives the flags
+	 */
+	int perform(int[] registers);
+}
@@ -0,0 +1,43 @@
+package processor_simulator.Compilers.Abstract;
+
+import processor_simulator.Models.CompiledProgram;
+import processor_simulator.Simulators.Abstract.IArithmeticLogicUnit;
+
+public interface IExecutableProgram
+{
+	/**
+	 * The flag of the result of {@link #execute(int[])}, which is set, if
+	 * the last command overflowed.
+	 */
+	int OVERFLOW_FLAG = IArithmeticLogicUnit.OVERFLOW_FLAG;
+
+	/**
+	 * The flag of the result of {@link #execute(int[])}, which is set, if
+	 * the last command's result is negative.
+	 */
+	int SIGN_FLAG = IArithmeticLogicUnit.SIGN_FLAG;
+
+	/**
+	 * Executes all commands of the program on the registers.
+	 *
+	 * @param registers
+	 *            the registers, at least as many as the program requires
+	 * @return the {@link #OVERFLOW_FLAG} and {@link #SIGN_FLAG} of the last
+	 *         command
+	 */
+	int execute(int[] registers);
+
+	/**
+	 * Gets the number of bits, the program is specialized for.
+	 *
+	 * @return the number of bits
+	 */
+	int getNumberOfBits();
+
+	/**
+	 * Gets the program, this program is compiled from.
+	 *
+	 * @return the compiled program
+	 */
+	CompiledProgram getProgram();
+}
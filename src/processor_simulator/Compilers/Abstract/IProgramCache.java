@@ -0,0 +1,43 @@
+package processor_simulator.Compilers.Abstract;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import processor_simulator.Exceptions.CommandArgumentIsInvalidException;
+import processor_simulator.Exceptions.CommandIsInvalidException;
+import processor_simulator.Models.CompiledProgram;
+
+public interface IProgramCache
+{
+	/**
+	 * Gets the assembler, which compiles the sources, missing in the cache.
+	 *
+	 * @return the assembler
+	 */
+	IAssembler getAssembler();
+
+	/**
+	 * Gets the directory of the compiled images.
+	 *
+	 * @return the cache directory
+	 */
+	Path getDirectory();
+
+	/**
+	 * Loads the program of the specified source file. If the cache contains
+	 * the image of the same source, the program is read from it, otherwise
+	 * the source is compiled and its image is stored in the cache.
+	 *
+	 * @param sourcePath
+	 *            the source file's path
+	 * @return the compiled program
+	 * @throws IOException
+	 *             the source file can't be read
+	 * @throws CommandIsInvalidException
+	 *             the command is invalid exception
+	 * @throws CommandArgumentIsInvalidException
+	 *             the command argument is invalid exception
+	 */
+	CompiledProgram load(Path sourcePath) throws IOException,
+		CommandIsInvalidException, CommandArgumentIsInvalidException;
+}
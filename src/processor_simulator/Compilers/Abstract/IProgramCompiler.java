@@ -0,0 +1,32 @@
+package processor_simulator.Compilers.Abstract;
+
+import java.util.List;
+
+import processor_simulator.Exceptions.CommandArgumentIsInvalidException;
+import processor_simulator.Exceptions.CommandIsInvalidException;
+import processor_simulator.Models.Command;
+import processor_simulator.Models.CompiledProgram;
+
+public interface IProgramCompiler
+{
+	/**
+	 * Compiles the commands.
+	 *
+	 * @param commands
+	 *            the commands
+	 * @return the compiled program
+	 * @throws CommandIsInvalidException
+	 *             the command is invalid exception
+	 * @throws CommandArgumentIsInvalidException
+	 *             the command argument is invalid exception
+	 */
+	CompiledProgram compile(List<Command> commands)
+		throws CommandIsInvalidException, CommandArgumentIsInvalidException;
+
+	/**
+	 * Gets the number of registers.
+	 *
+	 * @return the number of registers
+	 */
+	int getNumberOfRegisters();
+}
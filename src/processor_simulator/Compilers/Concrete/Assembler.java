@@ -0,0 +1,557 @@
+package processor_simulator.Compilers.Concrete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import processor_simulator.Compilers.Abstract.IAssembler;
+import processor_simulator.Enums.ArgumentType;
+import processor_simulator.Enums.CommandType;
+import processor_simulator.Enums.SpecialTokenKind;
+import processor_simulator.Enums.TokenKind;
+import processor_simulator.Exceptions.CommandArgumentIsInvalidException;
+import processor_simulator.Exceptions.CommandIsInvalidException;
+import processor_simulator.Exceptions.PatternIsNotSupportedException;
+import processor_simulator.Exceptions.SpecialTokenIsNotDefinedException;
+import processor_simulator.Lexers.Abstract.ICommandsLexer;
+import processor_simulator.Lexers.Concrete.CommandsLexer;
+import processor_simulator.Lexers.Concrete.TokenAutomaton;
+import processor_simulator.Models.Argument;
+import processor_simulator.Models.Command;
+import processor_simulator.Models.CompiledProgram;
+import processor_simulator.Models.Token;
+import processor_simulator.Models.TokenDefinition;
+import processor_simulator.Parsers.Abstract.ICommandsParser;
+import processor_simulator.Parsers.Concrete.CommandsParser;
+import processor_simulator.Utils.Guard;
+import processor_simulator.Utils.NumberUtils;
+import processor_simulator.Utils.SpaceCharacterSet;
+
+/**
+ * One-pass assembler, which compiles the source directly, without creating
+ * tokens or commands. The result and the errors are the same as of lexing
+ * with {@link CommandsLexer}, parsing with {@link CommandsParser} and
+ * compiling with {@link ProgramCompiler}: the parsing errors are thrown
+ * first, the first compiling error is thrown only after the whole source is
+ * parsed.
+ */
+public class Assembler implements IAssembler
+{
+	private static final int INITIAL_NUMBER_OF_COMMANDS = 64;
+
+	private final CommandTypesTable _commandTypesTable;
+
+	private final Token _concatenationToken;
+
+	private final String _fingerprint;
+
+	private final int _numberOfRegisters;
+
+	private final SpaceCharacterSet _spaceCharacterSet;
+
+	private final Token _terminationToken;
+
+	private final TokenAutomaton _tokenAutomaton;
+
+	public Assembler(int numberOfRegisters)
+		throws PatternIsNotSupportedException,
+		SpecialTokenIsNotDefinedException
+	{
+		this(new CommandsLexer(), new CommandsParser(), numberOfRegisters);
+	}
+
+	/**
+	 * Instantiates a new assembler with the settings of the specified lexer
+	 * and parser.
+	 *
+	 * @param commandsLexer
+	 *            the lexer to take the token definitions and the space
+	 *            characters from
+	 * @param commandsParser
+	 *            the parser to take the dictionaries from
+	 * @param numberOfRegisters
+	 *            the number of registers
+	 * @throws PatternIsNotSupportedException
+	 *             the token definitions can't be compiled into an automaton
+	 */
+	public Assembler(ICommandsLexer commandsLexer,
+		ICommandsParser commandsParser, int numberOfRegisters)
+		throws PatternIsNotSupportedException
+	{
+		Guard.notNull(commandsLexer, "commandsLexer");
+		Guard.notNull(commandsParser, "commandsParser");
+		Guard.moreThanZero(numberOfRegisters, "numberOfRegisters");
+
+		this._numberOfRegisters = numberOfRegisters;
+
+		List<TokenDefinition> tokenDefinitions =
+			new ArrayList<TokenDefinition>();
+
+		for (TokenDefinition tokenDefinition : commandsLexer
+				.getTokenDefinitions())
+		{
+			tokenDefinitions.add(tokenDefinition);
+		}
+
+		this._tokenAutomaton = TokenAutomaton.compile(tokenDefinitions);
+
+		this._spaceCharacterSet =
+			new SpaceCharacterSet(commandsLexer.getSpaceCharacters());
+
+		this._commandTypesTable =
+			new CommandTypesTable(commandsParser.getCommandTypesDictionary());
+
+		this._concatenationToken =
+			commandsParser.getSpecialTokensDictionary().get(
+				SpecialTokenKind.Concatenation);
+
+		this._terminationToken =
+			commandsParser.getSpecialTokensDictionary().get(
+				SpecialTokenKind.Termination);
+
+		this._fingerprint =
+			Assembler.createFingerprint(numberOfRegisters, tokenDefinitions,
+				this._spaceCharacterSet.getSpaceCharacters(),
+				commandsParser.getCommandTypesDictionary(),
+				commandsParser.getSpecialTokensDictionary());
+	}
+
+	@Override
+	public CompiledProgram assemble(CharSequence source)
+		throws CommandIsInvalidException, CommandArgumentIsInvalidException
+	{
+		Guard.notNull(source, "source");
+
+		return new Assembly(source).run();
+	}
+
+	@Override
+	public String getFingerprint()
+	{
+		return this._fingerprint;
+	}
+
+	@Override
+	public int getNumberOfRegisters()
+	{
+		return this._numberOfRegisters;
+	}
+
+	/**
+	 * Describes all settings, which change the compiled program. The
+	 * dictionaries are sorted, so their order doesn't change the fingerprint.
+	 */
+	private static String createFingerprint(int numberOfRegisters,
+		List<TokenDefinition> tokenDefinitions,
+		List<Character> spaceCharacters,
+		Map<String, CommandType> commandTypesDictionary,
+		Map<SpecialTokenKind, Token> specialTokensDictionary)
+	{
+		StringBuilder stringBuilder = new StringBuilder();
+
+		stringBuilder.append("registers=").append(numberOfRegisters)
+				.append('\n');
+
+		for (TokenDefinition tokenDefinition : tokenDefinitions)
+		{
+			stringBuilder.append("definition=")
+					.append(tokenDefinition.getKind()).append(' ')
+					.append(tokenDefinition.getRepresentation().flags())
+					.append(' ')
+					.append(tokenDefinition.getRepresentation().pattern())
+					.append('\n');
+		}
+
+		stringBuilder.append("spaces=");
+
+		for (Character spaceCharacter : spaceCharacters)
+		{
+			stringBuilder.append((int) spaceCharacter).append(' ');
+		}
+
+		stringBuilder.append('\n');
+
+		Map<String, CommandType> sortedCommandTypes =
+			new TreeMap<String, CommandType>(commandTypesDictionary);
+
+		for (Map.Entry<String, CommandType> entry : sortedCommandTypes
+				.entrySet())
+		{
+			stringBuilder.append("command=").append(entry.getKey())
+					.append(' ').append(entry.getValue()).append('\n');
+		}
+
+		Map<SpecialTokenKind, Token> sortedSpecialTokens =
+			new TreeMap<SpecialTokenKind, Token>(specialTokensDictionary);
+
+		for (Map.Entry<SpecialTokenKind, Token> entry : sortedSpecialTokens
+				.entrySet())
+		{
+			Token token = entry.getValue();
+
+			stringBuilder.append("special=").append(entry.getKey())
+					.append(' ')
+					.append((token == null) ? null : token.getKind())
+					.append(' ')
+					.append((token == null) ? null : token.getValue())
+					.append('\n');
+		}
+
+		return stringBuilder.toString();
+	}
+
+	/**
+	 * State of assembling a single source.
+	 */
+	private class Assembly
+	{
+		private int _argumentsCount;
+
+		private ArgumentType[] _argumentTypes;
+
+		private int[] _argumentValues;
+
+		private int[] _code;
+
+		private int _codeLength;
+
+		private int _commandOffset;
+
+		private CommandType _commandType;
+
+		private Exception _compilingException;
+
+		private int _requiredNumberOfRegisters;
+
+		private final CharSequence _source;
+
+		private int _state;
+
+		public Assembly(CharSequence source)
+		{
+			this._source = source;
+
+			this._code =
+				new int[Assembler.INITIAL_NUMBER_OF_COMMANDS
+					* CompiledProgram.INSTRUCTION_SIZE];
+
+			this._argumentTypes = new ArgumentType[2];
+			this._argumentValues = new int[2];
+		}
+
+		public CompiledProgram run() throws CommandIsInvalidException,
+			CommandArgumentIsInvalidException
+		{
+			int offset = 0;
+			int length = this._source.length();
+
+			while (true)
+			{
+				while (offset < length
+					&& Assembler.this._spaceCharacterSet.contains(this._source
+							.charAt(offset)))
+				{
+					offset++;
+				}
+
+				if (offset == length)
+				{
+					break;
+				}
+
+				long match =
+					Assembler.this._tokenAutomaton.match(this._source, offset,
+						length);
+
+				TokenKind tokenKind = TokenKind.Unknown;
+				int tokenLength = 1;
+
+				if (match != TokenAutomaton.NO_MATCH)
+				{
+					tokenKind =
+						Assembler.this._tokenAutomaton.getKind(TokenAutomaton
+								.getDefinitionIndex(match));
+
+					tokenLength = TokenAutomaton.getMatchLength(match);
+				}
+
+				this.processToken(tokenKind, offset, tokenLength);
+
+				offset += tokenLength;
+			}
+
+			if (this._state != 0)
+			{
+				throw new CommandIsInvalidException(String.format(
+					"Invalid command '%1$s'.", this.createCommandText()),
+					this._commandOffset);
+			}
+
+			if (this._compilingException instanceof CommandIsInvalidException)
+			{
+				throw (CommandIsInvalidException) this._compilingException;
+			}
+
+			if (this._compilingException != null)
+			{
+				throw (CommandArgumentIsInvalidException) this._compilingException;
+			}
+
+			return new CompiledProgram(Arrays.copyOf(this._code,
+				this._codeLength), this._requiredNumberOfRegisters);
+		}
+
+		private void addArgument(TokenKind tokenKind, int offset, int length)
+		{
+			ArgumentType argumentType = ArgumentType.Number;
+
+			int beginIndex = offset;
+			int endIndex = offset + length;
+
+			if (tokenKind == TokenKind.Register)
+			{
+				argumentType = ArgumentType.Register;
+
+				// Get the register's number
+				beginIndex = Math.min(beginIndex + 1, endIndex);
+			}
+
+			long value =
+				NumberUtils.tryParseInt(this._source, beginIndex, endIndex);
+
+			if (value == NumberUtils.NOT_A_NUMBER)
+			{
+				// Throws the exception with the usual message
+				value =
+					Integer.parseInt(this._source.subSequence(beginIndex,
+						endIndex).toString());
+			}
+
+			if (this._argumentsCount == this._argumentValues.length)
+			{
+				int capacity = this._argumentsCount * 2;
+
+				this._argumentTypes =
+					Arrays.copyOf(this._argumentTypes, capacity);
+				this._argumentValues =
+					Arrays.copyOf(this._argumentValues, capacity);
+			}
+
+			this._argumentTypes[this._argumentsCount] = argumentType;
+			this._argumentValues[this._argumentsCount] = (int) value;
+
+			this._argumentsCount++;
+		}
+
+		private void checkRegisterNumber(int registerNumber)
+			throws CommandArgumentIsInvalidException
+		{
+			if (registerNumber < 1
+				|| registerNumber > Assembler.this._numberOfRegisters)
+			{
+				throw new CommandArgumentIsInvalidException(String.format(
+					"Register with the number '%1$s' doesn't exist.",
+					registerNumber));
+			}
+		}
+
+		/**
+		 * Compiles the parsed command the same way as {@link ProgramCompiler}
+		 * does.
+		 */
+		private void compileCommand() throws CommandIsInvalidException,
+			CommandArgumentIsInvalidException
+		{
+			if (this._commandType == CommandType.Unknown)
+			{
+				throw new CommandIsInvalidException(String.format(
+					"Command type '%1$s' is unknown.", this._commandType));
+			}
+
+			if (this._argumentsCount < 2)
+			{
+				throw new CommandIsInvalidException(
+					"Command must have at least two arguments.");
+			}
+
+			if (this._argumentTypes[0] != ArgumentType.Register)
+			{
+				throw new CommandArgumentIsInvalidException(
+					String.format(
+						"First argument with type '%1$s' is invalid. Expected register argument.",
+						this._argumentTypes[0]));
+			}
+
+			ArgumentType operandType = this._argumentTypes[1];
+
+			int operand = this._argumentValues[1];
+
+			// The source register is checked before the target one
+			if (operandType == ArgumentType.Register)
+			{
+				this.checkRegisterNumber(operand);
+
+				operand--;
+
+				this._requiredNumberOfRegisters =
+					Math.max(this._requiredNumberOfRegisters, operand + 1);
+			}
+
+			int registerNumber = this._argumentValues[0];
+
+			this.checkRegisterNumber(registerNumber);
+
+			this._requiredNumberOfRegisters =
+				Math.max(this._requiredNumberOfRegisters, registerNumber);
+
+			if (this._codeLength == this._code.length)
+			{
+				this._code = Arrays.copyOf(this._code, this._code.length * 2);
+			}
+
+			this._code[this._codeLength] =
+				CompiledProgram.getOpcode(this._commandType, operandType);
+			this._code[this._codeLength + 1] = registerNumber - 1;
+			this._code[this._codeLength + 2] = operand;
+
+			this._codeLength += CompiledProgram.INSTRUCTION_SIZE;
+		}
+
+		private String createCommandText()
+		{
+			List<Argument> arguments = new ArrayList<Argument>();
+
+			for (int i = 0; i < this._argumentsCount; i++)
+			{
+				arguments.add(new Argument(this._argumentTypes[i],
+					this._argumentValues[i]));
+			}
+
+			Command command = new Command(this._commandType);
+
+			command.setArguments(arguments);
+
+			return command.toString();
+		}
+
+		private String getValue(int offset, int length)
+		{
+			return this._source.subSequence(offset, offset + length).toString();
+		}
+
+		private boolean isToken(Token token, TokenKind tokenKind, int offset,
+			int length)
+		{
+			if (token.getKind() != tokenKind || token.getLength() != length)
+			{
+				return false;
+			}
+
+			String tokenValue = token.getValue();
+
+			for (int i = 0; i < length; i++)
+			{
+				if (this._source.charAt(offset + i) != tokenValue.charAt(i))
+				{
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		private void processToken(TokenKind tokenKind, int offset, int length)
+			throws CommandIsInvalidException
+		{
+			switch (this._state)
+			{
+				case 0:
+				{
+					if (tokenKind != TokenKind.Command)
+					{
+						throw new CommandIsInvalidException(
+							String.format(
+								"Invalid command at token '%1$s'. Command must start only from commandName.",
+								this.getValue(offset, length)), offset);
+					}
+
+					CommandType commandType =
+						Assembler.this._commandTypesTable.find(this._source,
+							offset, offset + length);
+
+					this._commandType =
+						(commandType != null) ? commandType
+							: CommandType.Unknown;
+
+					this._commandOffset = offset;
+					this._argumentsCount = 0;
+
+					this._state = 1;
+					break;
+				}
+
+				case 1:
+				{
+					if (tokenKind != TokenKind.Register
+						&& tokenKind != TokenKind.Number)
+					{
+						throw new CommandIsInvalidException(
+							String.format(
+								"Invalid command at token '%1$s'. Expected register or number token.",
+								this.getValue(offset, length)), offset);
+					}
+
+					this.addArgument(tokenKind, offset, length);
+
+					this._state = 2;
+					break;
+				}
+
+				case 2:
+				{
+					if (this.isToken(Assembler.this._concatenationToken,
+						tokenKind, offset, length))
+					{
+						this._state = 1;
+					}
+					else if (this.isToken(Assembler.this._terminationToken,
+						tokenKind, offset, length))
+					{
+						this._state = 0;
+
+						this.processCommand();
+					}
+					else
+					{
+						throw new CommandIsInvalidException(
+							String.format(
+								"Invalid command at token '%1$s'. Expected concatenation or termination token.",
+								this.getValue(offset, length)), offset);
+					}
+					break;
+				}
+			}
+		}
+
+		private void processCommand()
+		{
+			if (this._compilingException != null)
+			{
+				// The program is invalid anyway, only parsing errors matter
+				return;
+			}
+
+			try
+			{
+				this.compileCommand();
+			}
+			catch (CommandIsInvalidException
+				| CommandArgumentIsInvalidException e)
+			{
+				this._compilingException = e;
+			}
+		}
+	}
+}
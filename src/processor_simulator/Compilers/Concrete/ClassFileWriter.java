@@ -0,0 +1,535 @@
+package processor_simulator.Compilers.Concrete;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import processor_simulator.Utils.Guard;
+
+/**
+ * Minimal writer of Java 8 class files. It supports only what the generated
+ * programs need: methods without branches (so no stack map frames are
+ * required), integer constants and method references.
+ */
+public class ClassFileWriter
+{
+	public static final int ACC_FINAL = 0x0010;
+
+	public static final int ACC_PRIVATE = 0x0002;
+
+	public static final int ACC_PUBLIC = 0x0001;
+
+	public static final int ACC_STATIC = 0x0008;
+
+	public static final int ACC_SUPER = 0x0020;
+
+	public static final int ALOAD_0 = 0x2A;
+
+	public static final int ALOAD_1 = 0x2B;
+
+	public static final int DUP = 0x59;
+
+	public static final int IADD = 0x60;
+
+	public static final int IALOAD = 0x2E;
+
+	public static final int IAND = 0x7E;
+
+	public static final int IASTORE = 0x4F;
+
+	public static final int ILOAD_2 = 0x1C;
+
+	public static final int INEG = 0x74;
+
+	public static final int IOR = 0x80;
+
+	public static final int IRETURN = 0xAC;
+
+	public static final int ISHL = 0x78;
+
+	public static final int ISHR = 0x7A;
+
+	public static final int IUSHR = 0x7C;
+
+	public static final int IXOR = 0x82;
+
+	public static final int RETURN = 0xB1;
+
+	private static final int BIPUSH = 0x10;
+
+	private static final int CONSTANT_CLASS = 7;
+
+	private static final int CONSTANT_INTEGER = 3;
+
+	private static final int CONSTANT_METHODREF = 10;
+
+	private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+	private static final int CONSTANT_UTF8 = 1;
+
+	private static final int ICONST_0 = 0x03;
+
+	private static final int ILOAD = 0x15;
+
+	private static final int INVOKESPECIAL = 0xB7;
+
+	private static final int INVOKESTATIC = 0xB8;
+
+	private static final int ISTORE = 0x36;
+
+	private static final int LDC = 0x12;
+
+	private static final int LDC_W = 0x13;
+
+	private static final int MAGIC = 0xCAFEBABE;
+
+	private static final int MAJOR_VERSION = 52;
+
+	private static final int MAX_CONSTANTS_COUNT = 0xFFFF;
+
+	private static final int SIPUSH = 0x11;
+
+	private static final int WIDE = 0xC4;
+
+	private final Map<String, Integer> _constantIndexes;
+
+	private final ByteArrayOutputStream _constants;
+
+	private int _constantsCount;
+
+	private final List<byte[]> _methods;
+
+	private final int _superClassIndex;
+
+	private final int _thisClassIndex;
+
+	/**
+	 * Instantiates a new writer of the public final class.
+	 *
+	 * @param className
+	 *            the internal name of the class (with slashes)
+	 * @param superClassName
+	 *            the internal name of the super class
+	 */
+	public ClassFileWriter(String className, String superClassName)
+	{
+		Guard.notNullOrEmpty(className, "className");
+		Guard.notNullOrEmpty(superClassName, "superClassName");
+
+		this._constantIndexes = new HashMap<String, Integer>();
+		this._constants = new ByteArrayOutputStream();
+		this._constantsCount = 1;
+
+		this._methods = new ArrayList<byte[]>();
+
+		this._thisClassIndex = this.addClass(className);
+		this._superClassIndex = this.addClass(superClassName);
+	}
+
+	/**
+	 * Gets the number of the constants in the pool.
+	 *
+	 * @return the constants count
+	 */
+	public int getConstantsCount()
+	{
+		return this._constantsCount;
+	}
+
+	/**
+	 * Adds the method.
+	 *
+	 * @param accessFlags
+	 *            the access flags
+	 * @param name
+	 *            the method's name
+	 * @param descriptor
+	 *            the method's descriptor
+	 * @param code
+	 *            the method's code
+	 */
+	public void addMethod(int accessFlags, String name, String descriptor,
+		Code code)
+	{
+		Guard.notNull(code, "code");
+
+		ByteArrayOutputStream method = new ByteArrayOutputStream();
+
+		try (DataOutputStream output = new DataOutputStream(method))
+		{
+			output.writeShort(accessFlags);
+			output.writeShort(this.addUtf8(name));
+			output.writeShort(this.addUtf8(descriptor));
+
+			// The only attribute is the code
+			output.writeShort(1);
+			output.writeShort(this.addUtf8("Code"));
+
+			byte[] bytes = code._bytes.toByteArray();
+
+			output.writeInt(12 + bytes.length);
+			output.writeShort(code._maxStack);
+			output.writeShort(code._maxLocals);
+			output.writeInt(bytes.length);
+			output.write(bytes);
+
+			// No exception table and no attributes
+			output.writeShort(0);
+			output.writeShort(0);
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+
+		this._methods.add(method.toByteArray());
+	}
+
+	/**
+	 * Creates the code of a method, which can use the constants of this
+	 * class.
+	 *
+	 * @param maxStack
+	 *            the maximal depth of the operand stack
+	 * @param maxLocals
+	 *            the number of the local variables
+	 * @return the code
+	 */
+	public Code createCode(int maxStack, int maxLocals)
+	{
+		return new Code(maxStack, maxLocals);
+	}
+
+	/**
+	 * Gets the bytes of the class file.
+	 *
+	 * @return the class file
+	 */
+	public byte[] toByteArray()
+	{
+		ByteArrayOutputStream classFile = new ByteArrayOutputStream();
+
+		try (DataOutputStream output = new DataOutputStream(classFile))
+		{
+			output.writeInt(ClassFileWriter.MAGIC);
+			output.writeShort(0);
+			output.writeShort(ClassFileWriter.MAJOR_VERSION);
+
+			output.writeShort(this._constantsCount);
+			this._constants.writeTo(output);
+
+			output.writeShort(ClassFileWriter.ACC_PUBLIC
+				| ClassFileWriter.ACC_FINAL | ClassFileWriter.ACC_SUPER);
+			output.writeShort(this._thisClassIndex);
+			output.writeShort(this._superClassIndex);
+
+			// No interfaces and no fields
+			output.writeShort(0);
+			output.writeShort(0);
+
+			output.writeShort(this._methods.size());
+
+			for (byte[] method : this._methods)
+			{
+				output.write(method);
+			}
+
+			// No attributes
+			output.writeShort(0);
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+
+		return classFile.toByteArray();
+	}
+
+	private int addClass(String className)
+	{
+		int nameIndex = this.addUtf8(className);
+
+		return this.addConstant("C" + className, ClassFileWriter.CONSTANT_CLASS,
+			nameIndex, -1);
+	}
+
+	private int addConstant(String key, int tag, int firstIndex,
+		int secondIndex)
+	{
+		Integer index = this._constantIndexes.get(key);
+
+		if (index != null)
+		{
+			return index;
+		}
+
+		this.checkConstantsCount();
+
+		this._constants.write(tag);
+
+		ClassFileWriter.writeShort(this._constants, firstIndex);
+
+		if (secondIndex >= 0)
+		{
+			ClassFileWriter.writeShort(this._constants, secondIndex);
+		}
+
+		return this.registerConstant(key);
+	}
+
+	private int addInteger(int value)
+	{
+		String key = "I" + value;
+
+		Integer index = this._constantIndexes.get(key);
+
+		if (index != null)
+		{
+			return index;
+		}
+
+		this.checkConstantsCount();
+
+		this._constants.write(ClassFileWriter.CONSTANT_INTEGER);
+
+		ClassFileWriter.writeShort(this._constants, value >>> 16);
+		ClassFileWriter.writeShort(this._constants, value);
+
+		return this.registerConstant(key);
+	}
+
+	private int addMethodReference(String ownerName, String name,
+		String descriptor)
+	{
+		int classIndex = this.addClass(ownerName);
+
+		int nameAndTypeIndex =
+			this.addConstant("N" + name + ":" + descriptor,
+				ClassFileWriter.CONSTANT_NAME_AND_TYPE, this.addUtf8(name),
+				this.addUtf8(descriptor));
+
+		return this.addConstant("M" + ownerName + "." + name + ":"
+			+ descriptor, ClassFileWriter.CONSTANT_METHODREF, classIndex,
+			nameAndTypeIndex);
+	}
+
+	private int addUtf8(String value)
+	{
+		String key = "U" + value;
+
+		Integer index = this._constantIndexes.get(key);
+
+		if (index != null)
+		{
+			return index;
+		}
+
+		this.checkConstantsCount();
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		try (DataOutputStream output = new DataOutputStream(bytes))
+		{
+			output.writeUTF(value);
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+
+		this._constants.write(ClassFileWriter.CONSTANT_UTF8);
+		this._constants.write(bytes.toByteArray(), 0, bytes.size());
+
+		return this.registerConstant(key);
+	}
+
+	private void checkConstantsCount()
+	{
+		if (this._constantsCount == ClassFileWriter.MAX_CONSTANTS_COUNT)
+		{
+			throw new IllegalStateException("Constant pool is full.");
+		}
+	}
+
+	private int registerConstant(String key)
+	{
+		int index = this._constantsCount++;
+
+		this._constantIndexes.put(key, index);
+
+		return index;
+	}
+
+	private static void writeShort(ByteArrayOutputStream output, int value)
+	{
+		output.write(value >>> 8);
+		output.write(value);
+	}
+
+	/**
+	 * Code of a method. Every instruction is written at the end.
+	 */
+	public class Code
+	{
+		private final ByteArrayOutputStream _bytes;
+
+		private final int _maxLocals;
+
+		private final int _maxStack;
+
+		private Code(int maxStack, int maxLocals)
+		{
+			this._bytes = new ByteArrayOutputStream();
+			this._maxStack = maxStack;
+			this._maxLocals = maxLocals;
+		}
+
+		/**
+		 * Gets the length of the code in bytes.
+		 *
+		 * @return the code length
+		 */
+		public int getLength()
+		{
+			return this._bytes.size();
+		}
+
+		/**
+		 * Writes the instruction without operands.
+		 *
+		 * @param opcode
+		 *            the instruction's opcode
+		 */
+		public void instruction(int opcode)
+		{
+			this._bytes.write(opcode);
+		}
+
+		/**
+		 * Writes the loading of the int local variable.
+		 *
+		 * @param index
+		 *            the variable's index
+		 */
+		public void intLoad(int index)
+		{
+			this.localInstruction(ClassFileWriter.ILOAD, index);
+		}
+
+		/**
+		 * Writes the pushing of the int constant with the shortest
+		 * instruction.
+		 *
+		 * @param value
+		 *            the constant
+		 */
+		public void intPush(int value)
+		{
+			if (value >= -1 && value <= 5)
+			{
+				this._bytes.write(ClassFileWriter.ICONST_0 + value);
+			}
+			else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE)
+			{
+				this._bytes.write(ClassFileWriter.BIPUSH);
+				this._bytes.write(value);
+			}
+			else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE)
+			{
+				this._bytes.write(ClassFileWriter.SIPUSH);
+				ClassFileWriter.writeShort(this._bytes, value);
+			}
+			else
+			{
+				int index = ClassFileWriter.this.addInteger(value);
+
+				if (index <= 0xFF)
+				{
+					this._bytes.write(ClassFileWriter.LDC);
+					this._bytes.write(index);
+				}
+				else
+				{
+					this._bytes.write(ClassFileWriter.LDC_W);
+					ClassFileWriter.writeShort(this._bytes, index);
+				}
+			}
+		}
+
+		/**
+		 * Writes the storing of the int local variable.
+		 *
+		 * @param index
+		 *            the variable's index
+		 */
+		public void intStore(int index)
+		{
+			this.localInstruction(ClassFileWriter.ISTORE, index);
+		}
+
+		/**
+		 * Writes the call of the constructor or the private method.
+		 *
+		 * @param ownerName
+		 *            the internal name of the method's class
+		 * @param name
+		 *            the method's name
+		 * @param descriptor
+		 *            the method's descriptor
+		 */
+		public void invokeSpecial(String ownerName, String name,
+			String descriptor)
+		{
+			this.methodInstruction(ClassFileWriter.INVOKESPECIAL, ownerName,
+				name, descriptor);
+		}
+
+		/**
+		 * Writes the call of the static method.
+		 *
+		 * @param ownerName
+		 *            the internal name of the method's class
+		 * @param name
+		 *            the method's name
+		 * @param descriptor
+		 *            the method's descriptor
+		 */
+		public void invokeStatic(String ownerName, String name,
+			String descriptor)
+		{
+			this.methodInstruction(ClassFileWriter.INVOKESTATIC, ownerName,
+				name, descriptor);
+		}
+
+		private void localInstruction(int opcode, int index)
+		{
+			if (index <= 0xFF)
+			{
+				this._bytes.write(opcode);
+				this._bytes.write(index);
+			}
+			else
+			{
+				this._bytes.write(ClassFileWriter.WIDE);
+				this._bytes.write(opcode);
+				ClassFileWriter.writeShort(this._bytes, index);
+			}
+		}
+
+		private void methodInstruction(int opcode, String ownerName,
+			String name, String descriptor)
+		{
+			int index =
+				ClassFileWriter.this.addMethodReference(ownerName, name,
+					descriptor);
+
+			this._bytes.write(opcode);
+			ClassFileWriter.writeShort(this._bytes, index);
+		}
+	}
+}
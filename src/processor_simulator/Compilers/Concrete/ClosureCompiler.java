@@ -0,0 +1,281 @@
+package processor_simulator.Compilers.Concrete;
+
+import processor_simulator.Compilers.Abstract.IClosureCompiler;
+import processor_simulator.Compilers.Abstract.ICommandNode;
+import processor_simulator.Compilers.Abstract.IExecutableProgram;
+import processor_simulator.Models.CompiledProgram;
+import processor_simulator.Simulators.Abstract.IArithmeticLogicUnit;
+import processor_simulator.Simulators.Concrete.ArithmeticLogicUnit;
+import processor_simulator.Utils.Guard;
+
+/**
+ * Compiler of the programs to arrays of nodes. The opcode of every command
+ * is decoded once, its register indexes and number operands are bound to the
+ * node, so performing the program is a loop of node calls. No classes are
+ * generated for the programs.
+ */
+public class ClosureCompiler implements IClosureCompiler
+{
+	private final IArithmeticLogicUnit _arithmeticLogicUnit;
+
+	public ClosureCompiler(int numberOfBits)
+	{
+		this._arithmeticLogicUnit = ArithmeticLogicUnit.create(numberOfBits);
+	}
+
+	@Override
+	public IExecutableProgram compile(CompiledProgram program)
+	{
+		Guard.notNull(program, "program");
+
+		int[] code = program.getCode();
+
+		ICommandNode[] nodes = new ICommandNode[program.getCommandsCount()];
+
+		for (int i = 0, offset = 0; i < nodes.length; i++, offset +=
+			CompiledProgram.INSTRUCTION_SIZE)
+		{
+			nodes[i] =
+				this.createNode(code[offset], code[offset + 1],
+					code[offset + 2]);
+		}
+
+		int lastRegisterIndex =
+			(nodes.length == 0) ? -1 : code[code.length
+				- CompiledProgram.INSTRUCTION_SIZE + 1];
+
+		return new ClosureProgram(program, this._arithmeticLogicUnit, nodes,
+			lastRegisterIndex);
+	}
+
+	@Override
+	public int getNumberOfBits()
+	{
+		return this._arithmeticLogicUnit.getNumberOfBits();
+	}
+
+	private ICommandNode createMoveNode(int registerIndex,
+		int castedMoveArgument, boolean isLeftMove)
+	{
+		IArithmeticLogicUnit arithmeticLogicUnit = this._arithmeticLogicUnit;
+
+		// Integer.MIN_VALUE stays negative, and its shift distance is 0
+		int leftMoveArgument =
+			isLeftMove ? castedMoveArgument : -castedMoveArgument;
+
+		if (leftMoveArgument >= 0)
+		{
+			return registers ->
+			{
+				int result = registers[registerIndex] << leftMoveArgument;
+
+				registers[registerIndex] =
+					arithmeticLogicUnit.castValue(result);
+
+				return result;
+			};
+		}
+
+		// Halving with rounding down more than 31 times gives 0 or -1
+		int rightMoveArgument = Math.min(-leftMoveArgument, Integer.SIZE - 1);
+
+		return registers ->
+		{
+			int result = registers[registerIndex] >> rightMoveArgument;
+
+			registers[registerIndex] =
+				arithmeticLogicUnit.castValue(result);
+
+			return result;
+		};
+	}
+
+	private ICommandNode createNode(int opcode, int registerIndex, int operand)
+	{
+		IArithmeticLogicUnit arithmeticLogicUnit = this._arithmeticLogicUnit;
+
+		switch (opcode)
+		{
+			case CompiledProgram.ADD_NUMBER:
+			{
+				int castedOperand =
+					arithmeticLogicUnit.castValue(operand);
+
+				return registers ->
+				{
+					int result = registers[registerIndex] + castedOperand;
+
+					registers[registerIndex] =
+						arithmeticLogicUnit.castValue(result);
+
+					return result;
+				};
+			}
+
+			case CompiledProgram.ADD_REGISTER:
+			{
+				return registers ->
+				{
+					int result =
+						registers[registerIndex]
+							+ arithmeticLogicUnit
+									.castValue(registers[operand]);
+
+					registers[registerIndex] =
+						arithmeticLogicUnit.castValue(result);
+
+					return result;
+				};
+			}
+
+			case CompiledProgram.LEFT_MOVE_NUMBER:
+			{
+				return this.createMoveNode(registerIndex,
+					arithmeticLogicUnit.castValue(operand), true);
+			}
+
+			case CompiledProgram.LEFT_MOVE_REGISTER:
+			{
+				return registers ->
+				{
+					int result =
+						arithmeticLogicUnit.leftMove(registers[registerIndex],
+							arithmeticLogicUnit
+									.castValue(registers[operand]));
+
+					registers[registerIndex] =
+						arithmeticLogicUnit.castValue(result);
+
+					return result;
+				};
+			}
+
+			case CompiledProgram.LOAD_NUMBER:
+			{
+				int castedOperand =
+					arithmeticLogicUnit.castValue(operand);
+
+				return registers ->
+				{
+					registers[registerIndex] = castedOperand;
+
+					return operand;
+				};
+			}
+
+			case CompiledProgram.LOAD_REGISTER:
+			{
+				return registers ->
+				{
+					int result = registers[operand];
+
+					registers[registerIndex] =
+						arithmeticLogicUnit.castValue(result);
+
+					return result;
+				};
+			}
+
+			case CompiledProgram.RIGHT_MOVE_NUMBER:
+			{
+				return this.createMoveNode(registerIndex,
+					arithmeticLogicUnit.castValue(operand), false);
+			}
+
+			case CompiledProgram.RIGHT_MOVE_REGISTER:
+			{
+				return registers ->
+				{
+					int result =
+						arithmeticLogicUnit.rightMove(registers[registerIndex],
+							arithmeticLogicUnit
+									.castValue(registers[operand]));
+
+					registers[registerIndex] =
+						arithmeticLogicUnit.castValue(result);
+
+					return result;
+				};
+			}
+
+			case CompiledProgram.XOR_NUMBER:
+			{
+				int castedOperand =
+					arithmeticLogicUnit.castValue(operand);
+
+				return registers ->
+				{
+					int result = registers[registerIndex] ^ castedOperand;
+
+					registers[registerIndex] =
+						arithmeticLogicUnit.castValue(result);
+
+					return result;
+				};
+			}
+
+			default:
+			{
+				return registers ->
+				{
+					int result =
+						registers[registerIndex]
+							^ arithmeticLogicUnit
+									.castValue(registers[operand]);
+
+					registers[registerIndex] =
+						arithmeticLogicUnit.castValue(result);
+
+					return result;
+				};
+			}
+		}
+	}
+
+	/**
+	 * Executable program, which performs the nodes in order.
+	 */
+	private static final class ClosureProgram extends ExecutableProgram
+	{
+		private final IArithmeticLogicUnit _arithmeticLogicUnit;
+
+		private final int _lastRegisterIndex;
+
+		private final ICommandNode[] _nodes;
+
+		public ClosureProgram(CompiledProgram program,
+			IArithmeticLogicUnit arithmeticLogicUnit, ICommandNode[] nodes,
+			int lastRegisterIndex)
+		{
+			super(program, arithmeticLogicUnit.getNumberOfBits());
+
+			this._arithmeticLogicUnit = arithmeticLogicUnit;
+			this._nodes = nodes;
+			this._lastRegisterIndex = lastRegisterIndex;
+		}
+
+		@Override
+		public int execute(int[] registers)
+		{
+			ICommandNode[] nodes = this._nodes;
+
+			int lastIndex = nodes.length - 1;
+
+			if (lastIndex < 0)
+			{
+				return 0;
+			}
+
+			for (int i = 0; i < lastIndex; i++)
+			{
+				nodes[i].perform(registers);
+			}
+
+			// Only the flags of the last command are observable
+			int result = nodes[lastIndex].perform(registers);
+
+			return this._arithmeticLogicUnit.getFlags(
+				registers[this._lastRegisterIndex], result);
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package processor_simulator.Compilers.Concrete;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import processor_simulator.Enums.CommandType;
+import processor_simulator.Utils.Guard;
+
+/**
+ * Precomputed open-addressing table of the command types, which finds the
+ * type of a command name in the source without creating strings. Lookups are
+ * case-insensitive the same way as the parser's lookup of the lower-cased
+ * name in the command types dictionary.
+ */
+public class CommandTypesTable
+{
+	private static final int ASCII_SIZE = 128;
+
+	private final Map<String, CommandType> _commandTypesDictionary;
+
+	private final String[] _keys;
+
+	private final int _mask;
+
+	private final CommandType[] _values;
+
+	public CommandTypesTable(Map<String, CommandType> commandTypesDictionary)
+	{
+		Guard.notNull(commandTypesDictionary, "commandTypesDictionary");
+
+		this._commandTypesDictionary =
+			new HashMap<String, CommandType>(commandTypesDictionary);
+
+		int capacity = 2;
+
+		while (capacity < this._commandTypesDictionary.size() * 2)
+		{
+			capacity *= 2;
+		}
+
+		this._keys = new String[capacity];
+		this._values = new CommandType[capacity];
+		this._mask = capacity - 1;
+
+		for (Map.Entry<String, CommandType> entry : this._commandTypesDictionary
+				.entrySet())
+		{
+			String key = entry.getKey();
+
+			if (key == null)
+			{
+				// Lower-cased names are never null
+				continue;
+			}
+
+			int index = key.hashCode() & this._mask;
+
+			while (this._keys[index] != null)
+			{
+				index = (index + 1) & this._mask;
+			}
+
+			this._keys[index] = key;
+			this._values[index] = entry.getValue();
+		}
+	}
+
+	/**
+	 * Finds the command type of the specified part of the characters.
+	 *
+	 * @param characters
+	 *            the characters
+	 * @param beginIndex
+	 *            the index of the name's first character
+	 * @param endIndex
+	 *            the index after the name's last character
+	 * @return the command type or null, if the name is not in the table
+	 */
+	public CommandType find(CharSequence characters, int beginIndex,
+		int endIndex)
+	{
+		int hashCode = 0;
+
+		for (int i = beginIndex; i < endIndex; i++)
+		{
+			char character = characters.charAt(i);
+
+			if (character >= CommandTypesTable.ASCII_SIZE)
+			{
+				// Lower-casing of other characters depends on the context
+				return this._commandTypesDictionary.get(characters
+						.subSequence(beginIndex, endIndex).toString()
+						.toLowerCase());
+			}
+
+			hashCode = 31 * hashCode + Character.toLowerCase(character);
+		}
+
+		int length = endIndex - beginIndex;
+
+		for (int index = hashCode & this._mask; this._keys[index] != null; index =
+			(index + 1) & this._mask)
+		{
+			String key = this._keys[index];
+
+			if (key.length() == length
+				&& this.isKeyEqualTo(key, characters, beginIndex))
+			{
+				return this._values[index];
+			}
+		}
+
+		return null;
+	}
+
+	private boolean isKeyEqualTo(String key, CharSequence characters,
+		int beginIndex)
+	{
+		for (int i = 0; i < key.length(); i++)
+		{
+			if (Character.toLowerCase(characters.charAt(beginIndex + i)) != key
+					.charAt(i))
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+}
@@ -0,0 +1,37 @@
+package processor_simulator.Compilers.Concrete;
+
+import processor_simulator.Compilers.Abstract.IExecutableProgram;
+import processor_simulator.Models.CompiledProgram;
+import processor_simulator.Utils.Guard;
+
+/**
+ * Base class of the executable programs, generated by
+ * {@link BytecodeCompiler}.
+ */
+public abstract class ExecutableProgram implements IExecutableProgram
+{
+	private final int _numberOfBits;
+
+	private final CompiledProgram _program;
+
+	protected ExecutableProgram(CompiledProgram program, int numberOfBits)
+	{
+		Guard.notNull(program, "program");
+		Guard.moreThanZero(numberOfBits, "numberOfBits");
+
+		this._program = program;
+		this._numberOfBits = numberOfBits;
+	}
+
+	@Override
+	public int getNumberOfBits()
+	{
+		return this._numberOfBits;
+	}
+
+	@Override
+	public CompiledProgram getProgram()
+	{
+		return this._program;
+	}
+}
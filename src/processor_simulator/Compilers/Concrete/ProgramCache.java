@@ -0,0 +1,235 @@
+package processor_simulator.Compilers.Concrete;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import processor_simulator.Compilers.Abstract.IAssembler;
+import processor_simulator.Compilers.Abstract.IProgramCache;
+import processor_simulator.Exceptions.CommandArgumentIsInvalidException;
+import processor_simulator.Exceptions.CommandIsInvalidException;
+import processor_simulator.Exceptions.ProgramImageIsInvalidException;
+import processor_simulator.Models.CompiledProgram;
+import processor_simulator.Utils.AsciiCharSequence;
+import processor_simulator.Utils.Guard;
+
+/**
+ * Content-addressed cache of the compiled programs. The images are named
+ * after the SHA-256 hash of the source's bytes and the assembler's
+ * fingerprint, so a changed source or a differently configured assembler
+ * compiles the source again and the old image is simply not used anymore.
+ * Both the sources and the images are memory-mapped.
+ */
+public class ProgramCache implements IProgramCache
+{
+	private static final String HASH_ALGORITHM = "SHA-256";
+
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	private static final String IMAGE_EXTENSION = ".bin";
+
+	private final IAssembler _assembler;
+
+	private final Path _directory;
+
+	public ProgramCache(Path directory, IAssembler assembler)
+	{
+		Guard.notNull(directory, "directory");
+		Guard.notNull(assembler, "assembler");
+
+		this._directory = directory;
+		this._assembler = assembler;
+	}
+
+	@Override
+	public IAssembler getAssembler()
+	{
+		return this._assembler;
+	}
+
+	@Override
+	public Path getDirectory()
+	{
+		return this._directory;
+	}
+
+	@Override
+	public CompiledProgram load(Path sourcePath) throws IOException,
+		CommandIsInvalidException, CommandArgumentIsInvalidException
+	{
+		Guard.notNull(sourcePath, "sourcePath");
+
+		MappedByteBuffer source = ProgramCache.map(sourcePath);
+
+		// The image's header keeps the hash, so it is checked once more
+		byte[] sourceHash =
+			ProgramCache.hash(source, this._assembler.getFingerprint());
+
+		Path imagePath = this.getImagePath(sourceHash);
+
+		CompiledProgram program = ProgramCache.readImage(imagePath, sourceHash);
+
+		if (program == null)
+		{
+			program = this._assembler.assemble(new AsciiCharSequence(source));
+
+			this.writeImage(imagePath, program, sourceHash);
+		}
+
+		return program;
+	}
+
+	private static void deleteQuietly(Path path)
+	{
+		if (path == null)
+		{
+			return;
+		}
+
+		try
+		{
+			Files.deleteIfExists(path);
+		}
+		catch (IOException e)
+		{
+			// Nothing else can be done
+		}
+	}
+
+	private static byte[] hash(ByteBuffer source, String fingerprint)
+	{
+		try
+		{
+			MessageDigest messageDigest =
+				MessageDigest.getInstance(ProgramCache.HASH_ALGORITHM);
+
+			messageDigest.update(source.duplicate());
+			messageDigest.update(fingerprint.getBytes(StandardCharsets.UTF_8));
+
+			return messageDigest.digest();
+		}
+		catch (NoSuchAlgorithmException e)
+		{
+			// Every Java platform supports SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static MappedByteBuffer map(Path path) throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+		{
+			long size = channel.size();
+
+			if (size > Integer.MAX_VALUE)
+			{
+				throw new IOException(String.format(
+					"File '%1$s' is too large to be mapped.", path));
+			}
+
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+		}
+	}
+
+	/**
+	 * Reads the program from the image.
+	 *
+	 * @return the program or null, if there is no valid image
+	 */
+	private static CompiledProgram readImage(Path imagePath, byte[] sourceHash)
+		throws IOException
+	{
+		if (!Files.isRegularFile(imagePath))
+		{
+			return null;
+		}
+
+		try
+		{
+			return ProgramImage.read(ProgramCache.map(imagePath), sourceHash);
+		}
+		catch (ProgramImageIsInvalidException e)
+		{
+			// The image is compiled and written again
+			return null;
+		}
+	}
+
+	private static String toHexString(byte[] bytes)
+	{
+		StringBuilder stringBuilder = new StringBuilder(bytes.length * 2);
+
+		for (byte value : bytes)
+		{
+			stringBuilder.append(ProgramCache.HEX_DIGITS[(value >> 4) & 0xF]);
+			stringBuilder.append(ProgramCache.HEX_DIGITS[value & 0xF]);
+		}
+
+		return stringBuilder.toString();
+	}
+
+	private Path getImagePath(byte[] sourceHash)
+	{
+		return this._directory.resolve(ProgramCache.toHexString(sourceHash)
+			+ ProgramCache.IMAGE_EXTENSION);
+	}
+
+	private void writeImage(Path imagePath, CompiledProgram program,
+		byte[] sourceHash)
+	{
+		Path temporaryPath = null;
+
+		try
+		{
+			Files.createDirectories(this._directory);
+
+			// Write a temporary file first, so a concurrent reader never sees
+			// a partial image
+			temporaryPath =
+				Files.createTempFile(this._directory, "image", ".tmp");
+
+			ByteBuffer buffer =
+				ByteBuffer.allocate(ProgramImage.getSize(program));
+
+			ProgramImage.write(program, sourceHash, buffer);
+
+			buffer.flip();
+
+			try (FileChannel channel =
+				FileChannel.open(temporaryPath, StandardOpenOption.WRITE))
+			{
+				while (buffer.hasRemaining())
+				{
+					channel.write(buffer);
+				}
+			}
+
+			try
+			{
+				Files.move(temporaryPath, imagePath,
+					StandardCopyOption.ATOMIC_MOVE,
+					StandardCopyOption.REPLACE_EXISTING);
+			}
+			catch (AtomicMoveNotSupportedException e)
+			{
+				Files.move(temporaryPath, imagePath,
+					StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		catch (IOException e)
+		{
+			// The cache is only an optimization, the program is compiled
+			// again next time
+			ProgramCache.deleteQuietly(temporaryPath);
+		}
+	}
+}
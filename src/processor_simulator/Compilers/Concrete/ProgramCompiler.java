@@ -0,0 +1,124 @@
+package processor_simulator.Compilers.Concrete;
+
+import java.util.List;
+
+import processor_simulator.Compilers.Abstract.IProgramCompiler;
+import processor_simulator.Enums.ArgumentType;
+import processor_simulator.Enums.CommandType;
+import processor_simulator.Exceptions.CommandArgumentIsInvalidException;
+import processor_simulator.Exceptions.CommandIsInvalidException;
+import processor_simulator.Models.Argument;
+import processor_simulator.Models.Command;
+import processor_simulator.Models.CompiledProgram;
+import processor_simulator.Utils.Guard;
+
+public class ProgramCompiler implements IProgramCompiler
+{
+	private final int _numberOfRegisters;
+
+	public ProgramCompiler(int numberOfRegisters)
+	{
+		Guard.moreThanZero(numberOfRegisters, "numberOfRegisters");
+
+		this._numberOfRegisters = numberOfRegisters;
+	}
+
+	@Override
+	public CompiledProgram compile(List<Command> commands)
+		throws CommandIsInvalidException, CommandArgumentIsInvalidException
+	{
+		Guard.notNull(commands, "commands");
+
+		int[] code = new int[commands.size() * CompiledProgram.INSTRUCTION_SIZE];
+
+		int offset = 0;
+
+		int requiredNumberOfRegisters = 0;
+
+		for (Command command : commands)
+		{
+			Guard.notNull(command, "command");
+
+			this.compileCommand(command, code, offset);
+
+			requiredNumberOfRegisters =
+				Math.max(requiredNumberOfRegisters, code[offset + 1] + 1);
+
+			if (CompiledProgram.getOperandType(code[offset]) == ArgumentType.Register)
+			{
+				requiredNumberOfRegisters =
+					Math.max(requiredNumberOfRegisters, code[offset + 2] + 1);
+			}
+
+			offset += CompiledProgram.INSTRUCTION_SIZE;
+		}
+
+		return new CompiledProgram(code, requiredNumberOfRegisters);
+	}
+
+	@Override
+	public int getNumberOfRegisters()
+	{
+		return this._numberOfRegisters;
+	}
+
+	private void checkRegisterNumber(int registerNumber)
+		throws CommandArgumentIsInvalidException
+	{
+		if (registerNumber < 1 || registerNumber > this._numberOfRegisters)
+		{
+			throw new CommandArgumentIsInvalidException(String.format(
+				"Register with the number '%1$s' doesn't exist.",
+				registerNumber));
+		}
+	}
+
+	private void compileCommand(Command command, int[] code, int offset)
+		throws CommandIsInvalidException, CommandArgumentIsInvalidException
+	{
+		CommandType commandType = command.getType();
+
+		if (commandType == CommandType.Unknown)
+		{
+			throw new CommandIsInvalidException(String.format(
+				"Command type '%1$s' is unknown.", commandType));
+		}
+
+		List<Argument> arguments = command.getArguments();
+
+		if (arguments.size() < 2)
+		{
+			throw new CommandIsInvalidException(
+				"Command must have at least two arguments.");
+		}
+
+		Argument argumentOne = arguments.get(0);
+		Argument argumentTwo = arguments.get(1);
+
+		if (argumentOne.getType() != ArgumentType.Register)
+		{
+			throw new CommandArgumentIsInvalidException(
+				String.format(
+					"First argument with type '%1$s' is invalid. Expected register argument.",
+					argumentOne.getType()));
+		}
+
+		int operand = argumentTwo.getValue();
+
+		// The source register is checked before the target one, as
+		// ProcessorSimulator reads the operand first.
+		if (argumentTwo.getType() == ArgumentType.Register)
+		{
+			this.checkRegisterNumber(operand);
+
+			operand--;
+		}
+
+		this.checkRegisterNumber(argumentOne.getValue());
+
+		code[offset] =
+			CompiledProgram.getOpcode(commandType, argumentTwo.getType());
+		code[offset + 1] = argumentOne.getValue() - 1;
+		code[offset + 2] = operand;
+	}
+}
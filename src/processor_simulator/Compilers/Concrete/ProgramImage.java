@@ -0,0 +1,182 @@
+package processor_simulator.Compilers.Concrete;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import processor_simulator.Exceptions.ProgramImageIsInvalidException;
+import processor_simulator.Models.CompiledProgram;
+import processor_simulator.Utils.Guard;
+
+/**
+ * Binary image of a compiled program. The image consists of the magic
+ * number, the format version, the hash of the program's source, the number
+ * of registers, required by the program, the number of commands and the
+ * code, all in big-endian order.
+ */
+public class ProgramImage
+{
+	public static final int MAGIC = 0x5053494D;
+
+	public static final int SOURCE_HASH_LENGTH = 32;
+
+	public static final int VERSION = 1;
+
+	private static final int HEADER_SIZE = Integer.BYTES * 4
+		+ ProgramImage.SOURCE_HASH_LENGTH;
+
+	private static final int MAX_OPCODE = CompiledProgram.XOR_NUMBER;
+
+	/**
+	 * Gets the size of the image of the specified program.
+	 *
+	 * @param program
+	 *            the program
+	 * @return the image size in bytes
+	 */
+	public static int getSize(CompiledProgram program)
+	{
+		Guard.notNull(program, "program");
+
+		return ProgramImage.HEADER_SIZE + program.getCode().length
+			* Integer.BYTES;
+	}
+
+	/**
+	 * Reads the program from the image. The image is checked completely, so
+	 * a damaged image can't produce an invalid program.
+	 *
+	 * @param buffer
+	 *            the buffer, which contains exactly the image
+	 * @param sourceHash
+	 *            the expected hash of the program's source
+	 * @return the program
+	 * @throws ProgramImageIsInvalidException
+	 *             the image is damaged or belongs to another source
+	 */
+	public static CompiledProgram read(ByteBuffer buffer, byte[] sourceHash)
+		throws ProgramImageIsInvalidException
+	{
+		Guard.notNull(buffer, "buffer");
+		Guard.notNull(sourceHash, "sourceHash");
+
+		ByteBuffer image = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+
+		try
+		{
+			if (image.getInt() != ProgramImage.MAGIC)
+			{
+				throw new ProgramImageIsInvalidException(
+					"Image has an unknown format.");
+			}
+
+			int version = image.getInt();
+
+			if (version != ProgramImage.VERSION)
+			{
+				throw new ProgramImageIsInvalidException(String.format(
+					"Image version '%1$d' is not supported.", version));
+			}
+
+			byte[] imageSourceHash = new byte[ProgramImage.SOURCE_HASH_LENGTH];
+
+			image.get(imageSourceHash);
+
+			if (!Arrays.equals(imageSourceHash, sourceHash))
+			{
+				throw new ProgramImageIsInvalidException(
+					"Image was compiled from another source.");
+			}
+
+			int numberOfRegisters = image.getInt();
+
+			int commandsCount = image.getInt();
+
+			if (commandsCount < 0
+				|| image.remaining() != (long) commandsCount
+					* CompiledProgram.INSTRUCTION_SIZE * Integer.BYTES)
+			{
+				throw new ProgramImageIsInvalidException(
+					"Image's length doesn't match its commands count.");
+			}
+
+			int[] code = new int[commandsCount * CompiledProgram.INSTRUCTION_SIZE];
+
+			image.asIntBuffer().get(code);
+
+			ProgramImage.checkCode(code, numberOfRegisters);
+
+			return new CompiledProgram(code, numberOfRegisters);
+		}
+		catch (BufferUnderflowException e)
+		{
+			throw new ProgramImageIsInvalidException("Image is truncated.", e);
+		}
+	}
+
+	/**
+	 * Writes the image of the program into the buffer.
+	 *
+	 * @param program
+	 *            the program
+	 * @param sourceHash
+	 *            the hash of the program's source
+	 * @param buffer
+	 *            the buffer with at least {@link #getSize(CompiledProgram)}
+	 *            bytes remaining
+	 */
+	public static void write(CompiledProgram program, byte[] sourceHash,
+		ByteBuffer buffer)
+	{
+		Guard.notNull(program, "program");
+		Guard.notNull(sourceHash, "sourceHash");
+		Guard.notNull(buffer, "buffer");
+
+		if (sourceHash.length != ProgramImage.SOURCE_HASH_LENGTH)
+		{
+			throw new IllegalArgumentException(String.format(
+				"Argument '%1$s' must have %2$d bytes.", "sourceHash",
+				ProgramImage.SOURCE_HASH_LENGTH));
+		}
+
+		int[] code = program.getCode();
+
+		ByteBuffer image = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+
+		image.putInt(ProgramImage.MAGIC);
+		image.putInt(ProgramImage.VERSION);
+		image.put(sourceHash);
+		image.putInt(program.getNumberOfRegisters());
+		image.putInt(program.getCommandsCount());
+
+		image.asIntBuffer().put(code);
+
+		buffer.position(image.position() + code.length * Integer.BYTES);
+	}
+
+	private static void checkCode(int[] code, int numberOfRegisters)
+		throws ProgramImageIsInvalidException
+	{
+		for (int i = 0; i < code.length; i += CompiledProgram.INSTRUCTION_SIZE)
+		{
+			int opcode = code[i];
+
+			boolean isValid =
+				opcode >= 0 && opcode <= ProgramImage.MAX_OPCODE
+					&& code[i + 1] >= 0 && code[i + 1] < numberOfRegisters;
+
+			if (isValid && (opcode & CompiledProgram.NUMBER_OPERAND_FLAG) == 0)
+			{
+				isValid = code[i + 2] >= 0 && code[i + 2] < numberOfRegisters;
+			}
+
+			if (!isValid)
+			{
+				throw new ProgramImageIsInvalidException(String.format(
+					"Image's command %1$d is invalid.", i
+						/ CompiledProgram.INSTRUCTION_SIZE));
+			}
+		}
+	}
+}
@@ -0,0 +1,23 @@
+package processor_simulator.Enums;
+
+/**
+ * The way the simulator publishes a tact, when the ring buffer is full.
+ */
+public enum BackpressurePolicy
+{
+	/**
+	 * Waits until the slowest listener frees a slot.
+	 */
+	Block,
+
+	/**
+	 * Drops the tact.
+	 */
+	Drop,
+
+	/**
+	 * Keeps only the latest tact, which is delivered instead of the
+	 * previous pending ones, when a slot is free.
+	 */
+	Coalesce
+}
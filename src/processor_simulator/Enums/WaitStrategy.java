@@ -0,0 +1,23 @@
+package processor_simulator.Enums;
+
+/**
+ * The way a thread waits for the ring buffer.
+ */
+public enum WaitStrategy
+{
+	/**
+	 * Spins without giving up the processor, the lowest latency.
+	 */
+	BusySpin,
+
+	/**
+	 * Yields the processor to other threads between the checks.
+	 */
+	Yield,
+
+	/**
+	 * Parks the thread for a short time between the checks, the lowest
+	 * processor usage.
+	 */
+	Park
+}
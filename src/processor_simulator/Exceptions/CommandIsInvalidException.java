@@ -2,23 +2,56 @@ package processor_simulator.Exceptions;
 
 public class CommandIsInvalidException extends Exception
 {
+	private final int _offset;
+
 	public CommandIsInvalidException()
 	{
-
+		this._offset = -1;
 	}
 
 	public CommandIsInvalidException(String message)
 	{
 		super(message);
+
+		this._offset = -1;
+	}
+
+	/**
+	 * Instantiates a new exception for the token at the specified offset.
+	 *
+	 * @param message
+	 *            the message
+	 * @param offset
+	 *            the offset of the invalid token in its source
+	 */
+	public CommandIsInvalidException(String message, int offset)
+	{
+		super(message);
+
+		this._offset = offset;
 	}
 
 	public CommandIsInvalidException(String message, Throwable cause)
 	{
 		super(message, cause);
+
+		this._offset = -1;
 	}
 
 	public CommandIsInvalidException(Throwable cause)
 	{
 		super(cause);
+
+		this._offset = -1;
+	}
+
+	/**
+	 * Gets the offset of the invalid token in its source.
+	 *
+	 * @return the offset or -1, if it's unknown
+	 */
+	public int getOffset()
+	{
+		return this._offset;
 	}
 }
@@ -0,0 +1,24 @@
+package processor_simulator.Exceptions;
+
+public class PatternIsNotSupportedException extends Exception
+{
+	public PatternIsNotSupportedException()
+	{
+
+	}
+
+	public PatternIsNotSupportedException(String message)
+	{
+		super(message);
+	}
+
+	public PatternIsNotSupportedException(String message, Throwable cause)
+	{
+		super(message, cause);
+	}
+
+	public PatternIsNotSupportedException(Throwable cause)
+	{
+		super(cause);
+	}
+}
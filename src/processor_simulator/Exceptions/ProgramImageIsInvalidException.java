@@ -0,0 +1,24 @@
+package processor_simulator.Exceptions;
+
+public class ProgramImageIsInvalidException extends Exception
+{
+	public ProgramImageIsInvalidException()
+	{
+
+	}
+
+	public ProgramImageIsInvalidException(String message)
+	{
+		super(message);
+	}
+
+	public ProgramImageIsInvalidException(String message, Throwable cause)
+	{
+		super(message, cause);
+	}
+
+	public ProgramImageIsInvalidException(Throwable cause)
+	{
+		super(cause);
+	}
+}
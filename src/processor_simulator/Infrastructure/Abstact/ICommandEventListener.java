@@ -0,0 +1,15 @@
+package processor_simulator.Infrastructure.Abstact;
+
+import processor_simulator.Models.CommandEvent;
+
+public interface ICommandEventListener
+{
+	/**
+	 * Handles the performed command. The event is reused after the call, so
+	 * it must not be kept.
+	 *
+	 * @param event
+	 *            the event
+	 */
+	void commandPerformed(CommandEvent event);
+}
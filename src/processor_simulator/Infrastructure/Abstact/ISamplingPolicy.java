@@ -0,0 +1,25 @@
+package processor_simulator.Infrastructure.Abstact;
+
+/**
+ * Policy, which decides, whether the listener samples the state after the
+ * command. The policy is checked after every command, so the check must be
+ * cheap, and the policy instance is used by a single listener.
+ */
+public interface ISamplingPolicy
+{
+	/**
+	 * The number of the tacts of every command.
+	 */
+	int TACTS_PER_COMMAND = 2;
+
+	/**
+	 * Checks, whether the state after the command is sampled.
+	 *
+	 * @param flags
+	 *            the flags after the command
+	 * @param previousFlags
+	 *            the flags after the previous command
+	 * @return true, if the state is sampled
+	 */
+	boolean isSampled(int flags, int previousFlags);
+}
@@ -0,0 +1,15 @@
+package processor_simulator.Infrastructure.Abstact;
+
+import processor_simulator.Models.TactEvent;
+
+public interface ITactEventListener
+{
+	/**
+	 * Handles the tact. The event is reused after the call, so it must not
+	 * be kept.
+	 *
+	 * @param event
+	 *            the event
+	 */
+	void tactPerformed(TactEvent event);
+}
@@ -0,0 +1,15 @@
+package processor_simulator.Infrastructure.Abstact;
+
+import processor_simulator.Models.TactState;
+
+public interface ITactStateListener
+{
+	/**
+	 * Handles the state after the tact. The state is reused after the call,
+	 * so it must not be kept.
+	 *
+	 * @param state
+	 *            the state
+	 */
+	void tactPerformed(TactState state);
+}
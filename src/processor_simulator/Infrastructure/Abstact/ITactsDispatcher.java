@@ -0,0 +1,41 @@
+package processor_simulator.Infrastructure.Abstact;
+
+/**
+ * Dispatcher, which delivers the states of the simulator after the tacts to
+ * the listeners on other threads.
+ */
+public interface ITactsDispatcher
+{
+	/**
+	 * Delivers the pending state and waits until the listeners handle all
+	 * published states.
+	 */
+	void flush();
+
+	/**
+	 * Gets the number of the registers in the published states.
+	 *
+	 * @return the number of registers
+	 */
+	int getNumberOfRegisters();
+
+	/**
+	 * Publishes the state of the simulator after the tact. Only the
+	 * simulation thread may publish.
+	 *
+	 * @param registers
+	 *            the registers, which are copied
+	 * @param commandsCounter
+	 *            the commands counter
+	 * @param tactsCounter
+	 *            the tacts counter
+	 * @param overflowFlag
+	 *            the overflow flag
+	 * @param signFlag
+	 *            the sign flag
+	 * @param currentCommandText
+	 *            the current command's text
+	 */
+	void publish(int[] registers, int commandsCounter, int tactsCounter,
+		boolean overflowFlag, boolean signFlag, String currentCommandText);
+}
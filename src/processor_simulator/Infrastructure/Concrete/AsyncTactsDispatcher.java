@@ -0,0 +1,467 @@
+package processor_simulator.Infrastructure.Concrete;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import processor_simulator.Enums.BackpressurePolicy;
+import processor_simulator.Enums.WaitStrategy;
+import processor_simulator.Infrastructure.Abstact.IObservable;
+import processor_simulator.Infrastructure.Abstact.ITactStateListener;
+import processor_simulator.Infrastructure.Abstact.ITactsDispatcher;
+import processor_simulator.Models.TactState;
+import processor_simulator.Utils.Guard;
+
+/**
+ * Dispatcher, which copies the states into the preallocated ring buffer of
+ * a single producer. Every listener has its own thread and reads all states
+ * in the order of the publishing, so a slow listener doesn't slow down the
+ * simulator, unless the buffer is full and the policy is to block.
+ */
+public class AsyncTactsDispatcher implements ITactsDispatcher,
+		IObservable<ITactStateListener>, AutoCloseable
+{
+	private static final long PARK_TIME = 50000;
+
+	private static final AtomicInteger THREADS_COUNTER = new AtomicInteger();
+
+	private final BackpressurePolicy _backpressurePolicy;
+
+	/**
+	 * The lowest consumed sequence, when it was checked last time.
+	 */
+	private long _cachedMinSequence;
+
+	private final List<Consumer> _consumers;
+
+	private long _droppedCount;
+
+	private boolean _hasPendingState;
+
+	private final int _mask;
+
+	private long _nextSequence;
+
+	private final TactState _pendingState;
+
+	private final AtomicLong _publishedSequence;
+
+	private int _skippedTactsCount;
+
+	private final TactState[] _slots;
+
+	private final WaitStrategy _waitStrategy;
+
+	/**
+	 * Instantiates a new dispatcher.
+	 *
+	 * @param numberOfRegisters
+	 *            the number of the simulator's registers
+	 * @param capacity
+	 *            the number of the slots, which is a power of two
+	 * @param waitStrategy
+	 *            the way the threads wait for the buffer
+	 * @param backpressurePolicy
+	 *            the way to publish, when the buffer is full
+	 */
+	public AsyncTactsDispatcher(int numberOfRegisters, int capacity,
+		WaitStrategy waitStrategy, BackpressurePolicy backpressurePolicy)
+	{
+		Guard.moreThanZero(numberOfRegisters, "numberOfRegisters");
+		Guard.moreThanZero(capacity, "capacity");
+		Guard.notNull(waitStrategy, "waitStrategy");
+		Guard.notNull(backpressurePolicy, "backpressurePolicy");
+
+		if (Integer.bitCount(capacity) != 1)
+		{
+			throw new IllegalArgumentException(
+				"Argument 'capacity' must be a power of two.");
+		}
+
+		this._slots = new TactState[capacity];
+
+		for (int i = 0; i < capacity; i++)
+		{
+			this._slots[i] = new TactState(numberOfRegisters);
+		}
+
+		this._mask = capacity - 1;
+		this._waitStrategy = waitStrategy;
+		this._backpressurePolicy = backpressurePolicy;
+		this._pendingState = new TactState(numberOfRegisters);
+		this._publishedSequence = new AtomicLong(-1);
+		this._cachedMinSequence = -1;
+		this._consumers = new CopyOnWriteArrayList<Consumer>();
+	}
+
+	@Override
+	public void addListener(ITactStateListener listener)
+	{
+		Guard.notNull(listener, "listener");
+
+		Consumer consumer =
+			new Consumer(listener, this._publishedSequence.get());
+
+		this._consumers.add(consumer);
+
+		consumer.start();
+	}
+
+	/**
+	 * Flushes the states and stops the threads of the listeners. The threads
+	 * are waited for, even if the current thread is interrupted, and the
+	 * interrupt is restored afterwards.
+	 */
+	@Override
+	public void close()
+	{
+		this.flush();
+
+		for (Consumer consumer : this._consumers)
+		{
+			consumer.stop();
+		}
+
+		boolean isInterrupted = false;
+
+		for (Consumer consumer : this._consumers)
+		{
+			while (true)
+			{
+				try
+				{
+					consumer.join();
+					break;
+				}
+				catch (InterruptedException e)
+				{
+					isInterrupted = true;
+				}
+			}
+		}
+
+		this._consumers.clear();
+
+		if (isInterrupted)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public void flush()
+	{
+		if (this._hasPendingState)
+		{
+			this.waitForSlot();
+
+			this._hasPendingState = false;
+
+			TactState slot = this._slots[(int) this._nextSequence & this._mask];
+
+			slot.update(this._pendingState);
+
+			this.commit();
+		}
+
+		long publishedSequence = this._publishedSequence.get();
+
+		while (this.getMinSequence() < publishedSequence)
+		{
+			this.idle();
+		}
+	}
+
+	/**
+	 * Gets the policy, when the buffer is full.
+	 *
+	 * @return the backpressure policy
+	 */
+	public BackpressurePolicy getBackpressurePolicy()
+	{
+		return this._backpressurePolicy;
+	}
+
+	/**
+	 * Gets the number of the slots.
+	 *
+	 * @return the capacity
+	 */
+	public int getCapacity()
+	{
+		return this._slots.length;
+	}
+
+	/**
+	 * Gets the number of the tacts, which were dropped or coalesced.
+	 *
+	 * @return the dropped count
+	 */
+	public long getDroppedCount()
+	{
+		return this._droppedCount;
+	}
+
+	@Override
+	public int getNumberOfRegisters()
+	{
+		return this._pendingState.getRegistersCount();
+	}
+
+	/**
+	 * Gets the number of the published states, which aren't handled by the
+	 * slowest listener yet.
+	 *
+	 * @return the queue depth
+	 */
+	public int getQueueDepth()
+	{
+		long publishedSequence = this._publishedSequence.get();
+
+		return (int) (publishedSequence - Math.min(this.getMinSequence(),
+			publishedSequence));
+	}
+
+	/**
+	 * Gets the way the threads wait for the buffer.
+	 *
+	 * @return the wait strategy
+	 */
+	public WaitStrategy getWaitStrategy()
+	{
+		return this._waitStrategy;
+	}
+
+	@Override
+	public void publish(int[] registers, int commandsCounter, int tactsCounter,
+		boolean overflowFlag, boolean signFlag, String currentCommandText)
+	{
+		if (!this.hasSlot())
+		{
+			switch (this._backpressurePolicy)
+			{
+				case Block:
+				{
+					this.waitForSlot();
+					break;
+				}
+
+				case Drop:
+				{
+					this._droppedCount++;
+					this._skippedTactsCount++;
+					return;
+				}
+
+				default:
+				{
+					if (this._hasPendingState)
+					{
+						// The pending state is replaced by the latest one
+						this._droppedCount++;
+						this._skippedTactsCount++;
+					}
+
+					this._pendingState.update(registers, commandsCounter,
+						tactsCounter, overflowFlag, signFlag, currentCommandText);
+					this._pendingState.setSkippedTactsCount(this._skippedTactsCount);
+
+					this._hasPendingState = true;
+					return;
+				}
+			}
+		}
+
+		if (this._hasPendingState)
+		{
+			// The latest state supersedes the pending one
+			this._hasPendingState = false;
+			this._droppedCount++;
+			this._skippedTactsCount++;
+		}
+
+		TactState slot = this._slots[(int) this._nextSequence & this._mask];
+
+		slot.update(registers, commandsCounter, tactsCounter, overflowFlag,
+			signFlag, currentCommandText);
+		slot.setSkippedTactsCount(this._skippedTactsCount);
+
+		this.commit();
+	}
+
+	@Override
+	public void removeListener(ITactStateListener listener)
+	{
+		for (Consumer consumer : this._consumers)
+		{
+			if (consumer._listener == listener)
+			{
+				this._consumers.remove(consumer);
+
+				consumer.stop();
+
+				return;
+			}
+		}
+	}
+
+	private void commit()
+	{
+		this._skippedTactsCount = 0;
+
+		// The slot is written before the sequence is visible to the consumers
+		this._publishedSequence.lazySet(this._nextSequence++);
+	}
+
+	private long getMinSequence()
+	{
+		long minSequence = Long.MAX_VALUE;
+
+		for (Consumer consumer : this._consumers)
+		{
+			minSequence = Math.min(minSequence, consumer._sequence.get());
+		}
+
+		return minSequence;
+	}
+
+	private boolean hasSlot()
+	{
+		// The sequence, which was in the slot before
+		long wrapSequence = this._nextSequence - this._slots.length;
+
+		if (wrapSequence <= this._cachedMinSequence)
+		{
+			return true;
+		}
+
+		// The consumers are only checked, when the cached sequence is passed
+		this._cachedMinSequence =
+			Math.min(this.getMinSequence(), this._nextSequence - 1);
+
+		return wrapSequence <= this._cachedMinSequence;
+	}
+
+	private void idle()
+	{
+		AsyncTactsDispatcher.idle(this._waitStrategy);
+	}
+
+	private static void idle(WaitStrategy waitStrategy)
+	{
+		switch (waitStrategy)
+		{
+			case BusySpin:
+			{
+				break;
+			}
+
+			case Yield:
+			{
+				Thread.yield();
+				break;
+			}
+
+			default:
+			{
+				LockSupport.parkNanos(AsyncTactsDispatcher.PARK_TIME);
+				break;
+			}
+		}
+	}
+
+	private void waitForSlot()
+	{
+		while (!this.hasSlot())
+		{
+			this.idle();
+		}
+	}
+
+	/**
+	 * Thread of a listener, which reads the published states after its
+	 * sequence.
+	 */
+	private final class Consumer implements Runnable
+	{
+		private final ITactStateListener _listener;
+
+		private volatile boolean _running;
+
+		private final AtomicLong _sequence;
+
+		private final Thread _thread;
+
+		public Consumer(ITactStateListener listener, long sequence)
+		{
+			this._listener = listener;
+			this._sequence = new AtomicLong(sequence);
+			this._running = true;
+
+			this._thread =
+				new Thread(this, "tacts-dispatcher-"
+					+ AsyncTactsDispatcher.THREADS_COUNTER.incrementAndGet());
+
+			this._thread.setDaemon(true);
+		}
+
+		@Override
+		public void run()
+		{
+			TactState[] slots = AsyncTactsDispatcher.this._slots;
+
+			int mask = AsyncTactsDispatcher.this._mask;
+
+			long nextSequence = this._sequence.get() + 1;
+
+			try
+			{
+				while (this._running)
+				{
+					long publishedSequence =
+						AsyncTactsDispatcher.this._publishedSequence.get();
+
+					if (nextSequence > publishedSequence)
+					{
+						AsyncTactsDispatcher.this.idle();
+
+						continue;
+					}
+
+					for (; nextSequence <= publishedSequence; nextSequence++)
+					{
+						this._listener.tactPerformed(slots[(int) nextSequence
+							& mask]);
+
+						// The slot can be reused after this
+						this._sequence.lazySet(nextSequence);
+					}
+				}
+			}
+			catch (RuntimeException e)
+			{
+				// Don't let the failed listener block the simulator
+				AsyncTactsDispatcher.this._consumers.remove(this);
+
+				throw e;
+			}
+		}
+
+		public void join() throws InterruptedException
+		{
+			this._thread.join();
+		}
+
+		public void start()
+		{
+			this._thread.start();
+		}
+
+		public void stop()
+		{
+			this._running = false;
+		}
+	}
+}
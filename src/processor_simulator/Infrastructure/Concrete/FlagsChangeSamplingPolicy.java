@@ -0,0 +1,16 @@
+package processor_simulator.Infrastructure.Concrete;
+
+import processor_simulator.Infrastructure.Abstact.ISamplingPolicy;
+
+/**
+ * Policy, which samples the state after the command, when the command
+ * changes the flags.
+ */
+public class FlagsChangeSamplingPolicy implements ISamplingPolicy
+{
+	@Override
+	public boolean isSampled(int flags, int previousFlags)
+	{
+		return flags != previousFlags;
+	}
+}
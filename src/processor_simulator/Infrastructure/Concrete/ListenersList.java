@@ -0,0 +1,70 @@
+package processor_simulator.Infrastructure.Concrete;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import processor_simulator.Infrastructure.Abstact.IObservable;
+import processor_simulator.Utils.Guard;
+
+/**
+ * List of the listeners, which are notified by index, so notifying them
+ * doesn't allocate iterators.
+ *
+ * @param <T>
+ *            the type of the listeners
+ */
+public class ListenersList<T> implements IObservable<T>
+{
+	private final List<T> _listeners;
+
+	public ListenersList()
+	{
+		this._listeners = new ArrayList<T>();
+	}
+
+	@Override
+	public void addListener(T listener)
+	{
+		Guard.notNull(listener, "listener");
+
+		this._listeners.add(listener);
+	}
+
+	/**
+	 * Gets the listener.
+	 *
+	 * @param index
+	 *            the listener's index
+	 * @return the listener
+	 */
+	public T get(int index)
+	{
+		return this._listeners.get(index);
+	}
+
+	/**
+	 * Checks, whether there are no listeners.
+	 *
+	 * @return true, if there are no listeners
+	 */
+	public boolean isEmpty()
+	{
+		return this._listeners.isEmpty();
+	}
+
+	@Override
+	public void removeListener(T listener)
+	{
+		this._listeners.remove(listener);
+	}
+
+	/**
+	 * Gets the number of the listeners.
+	 *
+	 * @return the listeners count
+	 */
+	public int size()
+	{
+		return this._listeners.size();
+	}
+}
@@ -0,0 +1,49 @@
+package processor_simulator.Infrastructure.Concrete;
+
+import processor_simulator.Infrastructure.Abstact.ISamplingPolicy;
+import processor_simulator.Utils.Guard;
+
+/**
+ * Policy, which samples the state after the command, when at least the
+ * interval of tacts is passed since the previous sample. The policy is only
+ * checked after the commands, so the interval is rounded up to the whole
+ * commands and the tact before the command is never sampled.
+ */
+public class TactsSamplingPolicy implements ISamplingPolicy
+{
+	private final int _tactsInterval;
+
+	private int _tactsCount;
+
+	public TactsSamplingPolicy(int tactsInterval)
+	{
+		Guard.moreThanZero(tactsInterval, "tactsInterval");
+
+		this._tactsInterval = tactsInterval;
+	}
+
+	/**
+	 * Gets the number of the tacts between the samples.
+	 *
+	 * @return the tacts interval
+	 */
+	public int getTactsInterval()
+	{
+		return this._tactsInterval;
+	}
+
+	@Override
+	public boolean isSampled(int flags, int previousFlags)
+	{
+		this._tactsCount += ISamplingPolicy.TACTS_PER_COMMAND;
+
+		if (this._tactsCount < this._tactsInterval)
+		{
+			return false;
+		}
+
+		this._tactsCount = 0;
+
+		return true;
+	}
+}
@@ -0,0 +1,123 @@
+package processor_simulator.Infrastructure.Concrete;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import processor_simulator.Infrastructure.Abstact.ISamplingPolicy;
+import processor_simulator.Utils.Guard;
+
+/**
+ * Policy, which samples the state after the command, when the interval of
+ * time is passed since the previous sample. The first command is sampled.
+ * The clock is only read once in a number of the commands, so the check
+ * costs a decrement. The number is scaled by the measured speed of the
+ * commands, so the clock is read several times in the interval, however
+ * slow the commands are.
+ */
+public class TimeSamplingPolicy implements ISamplingPolicy
+{
+	private static final int CLOCK_CHECKS_PER_INTERVAL = 8;
+
+	private static final int MAX_CLOCK_CHECK_INTERVAL = 1024;
+
+	/**
+	 * The clock, which returns the time in nanoseconds.
+	 */
+	private final LongSupplier _clock;
+
+	/**
+	 * The number of the commands between the clock checks.
+	 */
+	private int _clockCheckInterval;
+
+	private int _commandsUntilCheck;
+
+	private final long _interval;
+
+	private long _lastCheckTime;
+
+	private long _nextSampleTime;
+
+	public TimeSamplingPolicy(int intervalMillis)
+	{
+		this(intervalMillis, System::nanoTime);
+	}
+
+	/**
+	 * Instantiates a new policy, which reads the time from the specified
+	 * clock.
+	 *
+	 * @param intervalMillis
+	 *            the interval between the samples in milliseconds
+	 * @param clock
+	 *            the clock, which returns the time in nanoseconds
+	 */
+	public TimeSamplingPolicy(int intervalMillis, LongSupplier clock)
+	{
+		Guard.moreThanZero(intervalMillis, "intervalMillis");
+		Guard.notNull(clock, "clock");
+
+		this._clock = clock;
+		this._interval = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+		this._nextSampleTime = clock.getAsLong();
+		this._lastCheckTime = this._nextSampleTime;
+		this._clockCheckInterval = 1;
+		this._commandsUntilCheck = 1;
+	}
+
+	/**
+	 * Gets the interval between the samples.
+	 *
+	 * @return the interval in milliseconds
+	 */
+	public long getIntervalMillis()
+	{
+		return TimeUnit.NANOSECONDS.toMillis(this._interval);
+	}
+
+	@Override
+	public boolean isSampled(int flags, int previousFlags)
+	{
+		if (--this._commandsUntilCheck != 0)
+		{
+			return false;
+		}
+
+		long time = this._clock.getAsLong();
+
+		this.adaptClockCheckInterval(time - this._lastCheckTime);
+
+		this._lastCheckTime = time;
+		this._commandsUntilCheck = this._clockCheckInterval;
+
+		if (time - this._nextSampleTime < 0)
+		{
+			return false;
+		}
+
+		this._nextSampleTime = time + this._interval;
+
+		return true;
+	}
+
+	/**
+	 * Sets the number of the commands, which take the part of the interval
+	 * at the speed of the last commands. The number is at most doubled, so a
+	 * short burst of the fast commands doesn't delay the checks much.
+	 */
+	private void adaptClockCheckInterval(long elapsedTime)
+	{
+		long checkTime =
+			this._interval / TimeSamplingPolicy.CLOCK_CHECKS_PER_INTERVAL;
+
+		long clockCheckInterval =
+			this._clockCheckInterval * checkTime / Math.max(elapsedTime, 1);
+
+		clockCheckInterval =
+			Math.min(clockCheckInterval, 2L * this._clockCheckInterval);
+
+		this._clockCheckInterval =
+			(int) Math.max(1, Math.min(clockCheckInterval,
+				TimeSamplingPolicy.MAX_CLOCK_CHECK_INTERVAL));
+	}
+}
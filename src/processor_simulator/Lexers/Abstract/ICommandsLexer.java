@@ -1,6 +1,7 @@
 package processor_simulator.Lexers.Abstract;
 
 import processor_simulator.Models.Token;
+import processor_simulator.Models.TokenBuffer;
 import processor_simulator.Models.TokenDefinition;
 
 public interface ICommandsLexer extends ILexer<Token>
@@ -12,6 +13,29 @@ public interface ICommandsLexer extends ILexer<Token>
 	 */
 	Iterable<TokenDefinition> getTokenDefinitions();
 
+	/**
+	 * Parses the tokens of the source into the specified buffer, instead of
+	 * creating an object for every token. The buffer's previous tokens are
+	 * removed.
+	 *
+	 * @param tokenBuffer
+	 *            the token buffer
+	 */
+	void parse(TokenBuffer tokenBuffer);
+
+	/**
+	 * Parses the tokens of the specified part of the source into the buffer.
+	 * The tokens' offsets are relative to the whole source.
+	 *
+	 * @param tokenBuffer
+	 *            the token buffer
+	 * @param beginIndex
+	 *            the index of the part's first character
+	 * @param endIndex
+	 *            the index after the part's last character
+	 */
+	void parse(TokenBuffer tokenBuffer, int beginIndex, int endIndex);
+
 	/**
 	 * Sets the token definitions.
 	 *
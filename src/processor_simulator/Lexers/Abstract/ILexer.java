@@ -25,6 +25,15 @@ public interface ILexer<T>
 	 */
 	List<T> parse();
 
+	/**
+	 * Sets the source. The source isn't copied, so it can be a view of a
+	 * memory-mapped file.
+	 *
+	 * @param source
+	 *            the new source
+	 */
+	void setSource(CharSequence source);
+
 	/**
 	 * Sets the source.
 	 *
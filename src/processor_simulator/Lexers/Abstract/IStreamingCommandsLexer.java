@@ -0,0 +1,90 @@
+package processor_simulator.Lexers.Abstract;
+
+import java.io.Reader;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.Spliterator;
+
+import processor_simulator.Exceptions.PatternIsNotSupportedException;
+import processor_simulator.Models.Token;
+import processor_simulator.Models.TokenDefinition;
+
+public interface IStreamingCommandsLexer extends Iterable<Token>
+{
+	/**
+	 * Gets the size of the read buffer.
+	 *
+	 * @return the buffer size
+	 */
+	int getBufferSize();
+
+	/**
+	 * Gets the space characters.
+	 *
+	 * @return the space characters
+	 */
+	Iterable<Character> getSpaceCharacters();
+
+	/**
+	 * Gets the token definitions.
+	 *
+	 * @return the token definitions
+	 */
+	Iterable<TokenDefinition> getTokenDefinitions();
+
+	/**
+	 * Returns an iterator, which lazily reads and parses the tokens from the
+	 * input. The input can be iterated only once; read errors are thrown as
+	 * {@link java.io.UncheckedIOException}.
+	 *
+	 * @return the tokens iterator
+	 */
+	@Override
+	Iterator<Token> iterator();
+
+	/**
+	 * Sets the input channel.
+	 *
+	 * @param channel
+	 *            the channel
+	 * @param charset
+	 *            the charset of the channel's bytes
+	 */
+	void setChannel(ReadableByteChannel channel, Charset charset);
+
+	/**
+	 * Sets the input reader.
+	 *
+	 * @param reader
+	 *            the reader
+	 */
+	void setReader(Reader reader);
+
+	/**
+	 * Sets the space characters.
+	 *
+	 * @param spaceCharacters
+	 *            the new space characters
+	 */
+	void setSpaceCharacters(Iterable<Character> spaceCharacters);
+
+	/**
+	 * Sets the token definitions.
+	 *
+	 * @param tokenDefinitions
+	 *            the new token definitions
+	 * @throws PatternIsNotSupportedException
+	 *             the definitions can't be matched in a streaming way
+	 */
+	void setTokenDefinitions(Iterable<TokenDefinition> tokenDefinitions)
+		throws PatternIsNotSupportedException;
+
+	/**
+	 * Returns an ordered spliterator over the tokens of the input.
+	 *
+	 * @return the tokens spliterator
+	 */
+	@Override
+	Spliterator<Token> spliterator();
+}
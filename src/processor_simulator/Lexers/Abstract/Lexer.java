@@ -1,35 +1,37 @@
 package processor_simulator.Lexers.Abstract;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import processor_simulator.Utils.Guard;
+import processor_simulator.Utils.SpaceCharacterSet;
 
 public abstract class Lexer<T>
 {
+	protected int _endOffset;
+
 	protected int _offset;
 
-	protected String _source;
+	protected CharSequence _source;
 
 	protected List<Character> _spaceCharacters;
 
+	private SpaceCharacterSet _spaceCharacterSet;
+
 	public Lexer()
 	{
 		this._source = "";
 
-		this._spaceCharacters = new ArrayList<Character>() {
-			{
-				this.add(' ');
-				this.add('\n');
-				this.add('\r');
-				this.add('\t');
-			}
-		};
+		this.setSpaceCharacters(SpaceCharacterSet.getDefaultSpaceCharacters());
 	}
 
+	/**
+	 * Gets the source. The source, which isn't a string, is copied.
+	 *
+	 * @return the source
+	 */
 	public String getSource()
 	{
-		return this._source;
+		return this._source.toString();
 	}
 
 	public Iterable<Character> getSpaceCharacters()
@@ -37,37 +39,44 @@ public abstract class Lexer<T>
 		return this._spaceCharacters;
 	}
 
-	public void setSource(String source)
+	public void setSource(CharSequence source)
 	{
 		Guard.notNull(source, "source");
 
 		this._source = source;
 
 		this._offset = 0;
+		this._endOffset = source.length();
+	}
+
+	public void setSource(String source)
+	{
+		this.setSource((CharSequence) source);
 	}
 
 	public void setSpaceCharacters(Iterable<Character> spaceCharacters)
 	{
 		Guard.notNull(spaceCharacters, "spaceCharacters");
 
-		this._spaceCharacters = new ArrayList<Character>();
+		this._spaceCharacterSet = new SpaceCharacterSet(spaceCharacters);
 
-		for (Character spaceCharacter : spaceCharacters)
-		{
-			this._spaceCharacters.add(spaceCharacter);
-		}
+		this._spaceCharacters = this._spaceCharacterSet.getSpaceCharacters();
 	}
 
 	protected boolean isInBounds()
 	{
-		return this._offset < this._source.length();
+		return this._offset < this._endOffset;
+	}
+
+	protected boolean isSpaceCharacter(char character)
+	{
+		return this._spaceCharacterSet.contains(character);
 	}
 
 	protected void skipSpaces()
 	{
 		while (this.isInBounds()
-			&& this._spaceCharacters
-					.contains(this._source.charAt(this._offset)))
+			&& this.isSpaceCharacter(this._source.charAt(this._offset)))
 		{
 			this._offset++;
 		}
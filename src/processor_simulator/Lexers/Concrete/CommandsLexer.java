@@ -1,14 +1,15 @@
 package processor_simulator.Lexers.Concrete;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.regex.Matcher;
 
 import processor_simulator.Enums.TokenKind;
+import processor_simulator.Exceptions.PatternIsNotSupportedException;
 import processor_simulator.Lexers.Abstract.ICommandsLexer;
 import processor_simulator.Lexers.Abstract.Lexer;
 import processor_simulator.Models.Token;
+import processor_simulator.Models.TokenBuffer;
 import processor_simulator.Models.TokenDefinition;
 import processor_simulator.Utils.Guard;
 
@@ -16,11 +17,45 @@ public class CommandsLexer extends Lexer<Token> implements ICommandsLexer
 {
 	private List<TokenDefinition> _tokenDefinitions;
 
+	private TokenAutomaton _tokenAutomaton;
+
 	public CommandsLexer()
 	{
 		super();
 
-		this._tokenDefinitions = new ArrayList<TokenDefinition>() {
+		this.setTokenDefinitions(CommandsLexer.getDefaultTokenDefinitions());
+	}
+
+	/**
+	 * Instantiates a new lexer with the same token definitions and space
+	 * characters as the specified lexer. The compiled definitions are shared,
+	 * so the lexers can be used from different threads.
+	 *
+	 * @param commandsLexer
+	 *            the lexer to copy the settings from
+	 */
+	public CommandsLexer(CommandsLexer commandsLexer)
+	{
+		super();
+
+		Guard.notNull(commandsLexer, "commandsLexer");
+
+		this.setSpaceCharacters(commandsLexer._spaceCharacters);
+
+		this._tokenDefinitions =
+			new ArrayList<TokenDefinition>(commandsLexer._tokenDefinitions);
+
+		this._tokenAutomaton = commandsLexer._tokenAutomaton;
+	}
+
+	/**
+	 * Gets the default token definitions.
+	 *
+	 * @return the default token definitions
+	 */
+	public static List<TokenDefinition> getDefaultTokenDefinitions()
+	{
+		return new ArrayList<TokenDefinition>() {
 			{
 				this.add(new TokenDefinition("[a-zA-Z][a-zA-Z_-]*",
 					TokenKind.Command));
@@ -45,6 +80,10 @@ public class CommandsLexer extends Lexer<Token> implements ICommandsLexer
 		List<Token> tokens = new ArrayList<Token>();
 
 		this._offset = 0;
+		this._endOffset = this._source.length();
+
+		Matcher[] matchers =
+			(this._tokenAutomaton == null) ? this.createMatchers() : null;
 
 		while (this.isInBounds())
 		{
@@ -55,22 +94,60 @@ public class CommandsLexer extends Lexer<Token> implements ICommandsLexer
 				break;
 			}
 
-			Token token = this.processToken();
+			int offset = this._offset;
 
-			if (token == null)
-			{
-				String tokenValue =
-					this._source.substring(this._offset, this._offset + 1);
+			TokenKind tokenKind = this.processToken(matchers);
 
-				token = new Token(TokenKind.Unknown, tokenValue);
+			// The value is copied, so the tokens don't keep the source alive
+			tokens.add(new Token(tokenKind, this._source.subSequence(offset,
+				this._offset).toString(), offset));
+		}
 
-				this._offset += tokenValue.length();
-			}
+		return tokens;
+	}
 
-			tokens.add(token);
+	@Override
+	public void parse(TokenBuffer tokenBuffer)
+	{
+		this.parse(tokenBuffer, 0, this._source.length());
+	}
+
+	@Override
+	public void parse(TokenBuffer tokenBuffer, int beginIndex, int endIndex)
+	{
+		Guard.notNull(tokenBuffer, "tokenBuffer");
+
+		if (beginIndex < 0 || endIndex > this._source.length()
+			|| beginIndex > endIndex)
+		{
+			throw new IndexOutOfBoundsException(String.format(
+				"begin %1$d, end %2$d, length %3$d", beginIndex, endIndex,
+				this._source.length()));
 		}
 
-		return tokens;
+		tokenBuffer.reset(this._source);
+
+		this._offset = beginIndex;
+		this._endOffset = endIndex;
+
+		Matcher[] matchers =
+			(this._tokenAutomaton == null) ? this.createMatchers() : null;
+
+		while (this.isInBounds())
+		{
+			this.skipSpaces();
+
+			if (!this.isInBounds())
+			{
+				break;
+			}
+
+			int offset = this._offset;
+
+			TokenKind tokenKind = this.processToken(matchers);
+
+			tokenBuffer.add(tokenKind, offset, this._offset - offset);
+		}
 	}
 
 	@Override
@@ -84,44 +161,91 @@ public class CommandsLexer extends Lexer<Token> implements ICommandsLexer
 		{
 			this._tokenDefinitions.add(tokenDefinition);
 		}
+
+		try
+		{
+			this._tokenAutomaton = TokenAutomaton.compile(this._tokenDefinitions);
+		}
+		catch (PatternIsNotSupportedException e)
+		{
+			// Fall back to matching the definitions one by one
+			this._tokenAutomaton = null;
+		}
 	}
 
-	private Token processToken()
+	private Matcher[] createMatchers()
 	{
-		List<Token> foundTokens = new ArrayList<Token>();
+		Matcher[] matchers = new Matcher[this._tokenDefinitions.size()];
 
-		for (TokenDefinition definition : this._tokenDefinitions)
+		for (int i = 0; i < matchers.length; i++)
 		{
-			String matchString = this._source.substring(this._offset);
+			matchers[i] =
+				this._tokenDefinitions.get(i).getRepresentation()
+						.matcher(this._source);
+		}
 
-			Matcher matcher =
-				definition.getRepresentation().matcher(matchString);
+		return matchers;
+	}
+
+	/**
+	 * Matches the token at the current offset and moves the offset after it.
+	 * If no definition matches, the token is one unknown character.
+	 *
+	 * @return the kind of the matched token
+	 */
+	private TokenKind processToken(Matcher[] matchers)
+	{
+		long match =
+			(this._tokenAutomaton != null) ? this._tokenAutomaton.match(
+				this._source, this._offset, this._endOffset) : this
+					.matchToken(matchers);
+
+		if (match == TokenAutomaton.NO_MATCH)
+		{
+			this._offset++;
+
+			return TokenKind.Unknown;
+		}
+
+		int definitionIndex = TokenAutomaton.getDefinitionIndex(match);
+
+		this._offset += TokenAutomaton.getMatchLength(match);
+
+		return this._tokenDefinitions.get(definitionIndex).getKind();
+	}
+
+	private long matchToken(Matcher[] matchers)
+	{
+		int longestDefinitionIndex = -1;
+		int longestLength = -1;
+
+		for (int i = 0; i < matchers.length; i++)
+		{
+			Matcher matcher = matchers[i];
+
+			matcher.region(this._offset, this._endOffset);
 
 			if (!matcher.lookingAt())
 			{
 				continue;
 			}
 
-			TokenKind tokenKind = definition.getKind();
-
-			String tokenValue = matchString.substring(0, matcher.end());
-
-			Token token = new Token(tokenKind, tokenValue);
+			int length = matcher.end() - this._offset;
 
-			foundTokens.add(token);
+			// The first of the longest tokens wins
+			if (length > longestLength)
+			{
+				longestDefinitionIndex = i;
+				longestLength = length;
+			}
 		}
 
-		if (foundTokens.size() == 0)
+		// Empty matches are ignored the same way as by the automaton
+		if (longestDefinitionIndex < 0 || longestLength == 0)
 		{
-			return null;
+			return TokenAutomaton.NO_MATCH;
 		}
 
-		Token longestToken =
-			Collections.max(foundTokens, (n1, n2) -> Integer.compare(n1
-					.getValue().length(), n2.getValue().length()));
-
-		this._offset += longestToken.getValue().length();
-
-		return longestToken;
+		return ((long) longestDefinitionIndex << 32) | longestLength;
 	}
-}
\ No newline at end of file
+}
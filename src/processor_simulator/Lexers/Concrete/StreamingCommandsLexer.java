@@ -0,0 +1,351 @@
+package processor_simulator.Lexers.Concrete;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+import processor_simulator.Enums.TokenKind;
+import processor_simulator.Exceptions.PatternIsNotSupportedException;
+import processor_simulator.Lexers.Abstract.IStreamingCommandsLexer;
+import processor_simulator.Models.Token;
+import processor_simulator.Models.TokenDefinition;
+import processor_simulator.Utils.Guard;
+import processor_simulator.Utils.SpaceCharacterSet;
+
+/**
+ * Lexer, which reads the input through a fixed-size buffer and produces the
+ * tokens on demand. The buffer only grows if a single token doesn't fit in
+ * it, so the memory use doesn't depend on the input's length.
+ */
+public class StreamingCommandsLexer implements IStreamingCommandsLexer
+{
+	private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	private final int _bufferSize;
+
+	private Reader _reader;
+
+	private SpaceCharacterSet _spaceCharacterSet;
+
+	private TokenAutomaton _tokenAutomaton;
+
+	private List<TokenDefinition> _tokenDefinitions;
+
+	public StreamingCommandsLexer() throws PatternIsNotSupportedException
+	{
+		this(StreamingCommandsLexer.DEFAULT_BUFFER_SIZE);
+	}
+
+	public StreamingCommandsLexer(int bufferSize)
+		throws PatternIsNotSupportedException
+	{
+		Guard.moreThanZero(bufferSize, "bufferSize");
+
+		this._bufferSize = bufferSize;
+
+		this.setSpaceCharacters(SpaceCharacterSet.getDefaultSpaceCharacters());
+
+		this.setTokenDefinitions(CommandsLexer.getDefaultTokenDefinitions());
+	}
+
+	@Override
+	public int getBufferSize()
+	{
+		return this._bufferSize;
+	}
+
+	@Override
+	public Iterable<Character> getSpaceCharacters()
+	{
+		return this._spaceCharacterSet.getSpaceCharacters();
+	}
+
+	@Override
+	public Iterable<TokenDefinition> getTokenDefinitions()
+	{
+		return this._tokenDefinitions;
+	}
+
+	@Override
+	public Iterator<Token> iterator()
+	{
+		if (this._reader == null)
+		{
+			throw new IllegalStateException("Input is not set.");
+		}
+
+		return new TokensIterator(this._reader);
+	}
+
+	@Override
+	public void setChannel(ReadableByteChannel channel, Charset charset)
+	{
+		Guard.notNull(channel, "channel");
+		Guard.notNull(charset, "charset");
+
+		this._reader =
+			Channels.newReader(channel, charset.newDecoder(), this._bufferSize);
+	}
+
+	@Override
+	public void setReader(Reader reader)
+	{
+		Guard.notNull(reader, "reader");
+
+		this._reader = reader;
+	}
+
+	@Override
+	public void setSpaceCharacters(Iterable<Character> spaceCharacters)
+	{
+		this._spaceCharacterSet = new SpaceCharacterSet(spaceCharacters);
+	}
+
+	@Override
+	public void setTokenDefinitions(Iterable<TokenDefinition> tokenDefinitions)
+		throws PatternIsNotSupportedException
+	{
+		Guard.notNull(tokenDefinitions, "tokenDefinitions");
+
+		List<TokenDefinition> definitions = new ArrayList<TokenDefinition>();
+
+		for (TokenDefinition tokenDefinition : tokenDefinitions)
+		{
+			definitions.add(tokenDefinition);
+		}
+
+		this._tokenAutomaton = TokenAutomaton.compile(definitions);
+
+		this._tokenDefinitions = definitions;
+	}
+
+	@Override
+	public Spliterator<Token> spliterator()
+	{
+		return Spliterators.spliteratorUnknownSize(this.iterator(),
+			Spliterator.ORDERED | Spliterator.NONNULL);
+	}
+
+	private class TokensIterator implements Iterator<Token>
+	{
+		private char[] _buffer;
+
+		/**
+		 * Offset of the buffer's first character in the input.
+		 */
+		private int _bufferOffset;
+
+		private boolean _isEndOfInput;
+
+		private int _limit;
+
+		private Token _nextToken;
+
+		private int _position;
+
+		private final Reader _reader;
+
+		private final SpaceCharacterSet _spaceCharacterSet;
+
+		private final TokenAutomaton _tokenAutomaton;
+
+		public TokensIterator(Reader reader)
+		{
+			this._reader = reader;
+
+			this._spaceCharacterSet =
+				StreamingCommandsLexer.this._spaceCharacterSet;
+
+			this._tokenAutomaton = StreamingCommandsLexer.this._tokenAutomaton;
+
+			this._buffer = new char[StreamingCommandsLexer.this._bufferSize];
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			if (this._nextToken == null)
+			{
+				this._nextToken = this.processToken();
+			}
+
+			return this._nextToken != null;
+		}
+
+		@Override
+		public Token next()
+		{
+			if (!this.hasNext())
+			{
+				throw new NoSuchElementException();
+			}
+
+			Token token = this._nextToken;
+
+			this._nextToken = null;
+
+			return token;
+		}
+
+		/**
+		 * Moves the characters from the specified position to the beginning
+		 * of the buffer and reads more characters after them.
+		 *
+		 * @return true, if any characters were read
+		 */
+		private boolean fill(int keepFrom)
+		{
+			if (keepFrom > 0)
+			{
+				System.arraycopy(this._buffer, keepFrom, this._buffer, 0,
+					this._limit - keepFrom);
+
+				this._limit -= keepFrom;
+
+				this._bufferOffset += keepFrom;
+			}
+
+			if (this._isEndOfInput)
+			{
+				return false;
+			}
+
+			if (this._limit == this._buffer.length)
+			{
+				// A single token doesn't fit in the buffer
+				this._buffer =
+					Arrays.copyOf(this._buffer, this._buffer.length * 2);
+			}
+
+			try
+			{
+				int count =
+					this._reader.read(this._buffer, this._limit,
+						this._buffer.length - this._limit);
+
+				if (count < 0)
+				{
+					this._isEndOfInput = true;
+
+					return false;
+				}
+
+				this._limit += count;
+			}
+			catch (IOException e)
+			{
+				throw new UncheckedIOException(e);
+			}
+
+			return true;
+		}
+
+		private Token processToken()
+		{
+			// Skip spaces
+			while (true)
+			{
+				if (this._position == this._limit)
+				{
+					if (!this.fill(this._position))
+					{
+						return null;
+					}
+
+					this._position = 0;
+				}
+				else if (this._spaceCharacterSet
+						.contains(this._buffer[this._position]))
+				{
+					this._position++;
+				}
+				else
+				{
+					break;
+				}
+			}
+
+			int start = this._position;
+			int scan = start;
+
+			int acceptedEnd = -1;
+			int acceptedDefinition = -1;
+
+			int state = this._tokenAutomaton.getStartState();
+
+			while (true)
+			{
+				if (scan == this._limit)
+				{
+					// The token may continue in the next part of the input
+					boolean isFilled = this.fill(start);
+
+					scan -= start;
+
+					if (acceptedEnd >= 0)
+					{
+						acceptedEnd -= start;
+					}
+
+					start = 0;
+
+					if (!isFilled)
+					{
+						break;
+					}
+				}
+
+				state =
+					this._tokenAutomaton.getNextState(state,
+						this._buffer[scan++]);
+
+				if (state < 0)
+				{
+					break;
+				}
+
+				int definitionIndex =
+					this._tokenAutomaton.getAcceptedDefinition(state);
+
+				if (definitionIndex >= 0)
+				{
+					acceptedEnd = scan;
+					acceptedDefinition = definitionIndex;
+				}
+			}
+
+			Token token;
+
+			if (acceptedDefinition < 0)
+			{
+				token =
+					new Token(TokenKind.Unknown,
+						new String(this._buffer, start, 1), this._bufferOffset
+							+ start);
+
+				acceptedEnd = start + 1;
+			}
+			else
+			{
+				token =
+					new Token(this._tokenAutomaton.getKind(acceptedDefinition),
+						new String(this._buffer, start, acceptedEnd - start),
+						this._bufferOffset + start);
+			}
+
+			this._position = acceptedEnd;
+
+			return token;
+		}
+	}
+}
@@ -0,0 +1,1139 @@
+package processor_simulator.Lexers.Concrete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import processor_simulator.Enums.TokenKind;
+import processor_simulator.Exceptions.PatternIsNotSupportedException;
+import processor_simulator.Models.TokenDefinition;
+import processor_simulator.Utils.Guard;
+
+/**
+ * Deterministic automaton that recognizes all token definitions at once.
+ * <p>
+ * The automaton is built from the definitions' regular expressions
+ * (literals, character classes, '.', groups and greedy quantifiers of single
+ * characters are supported) and finds the longest match of all definitions
+ * in one pass over the source. If several definitions match the same
+ * longest prefix, the one defined first wins, as in
+ * {@link CommandsLexer#parse()}. The input is matched by UTF-16 code units.
+ * <p>
+ * The longest match of such a pattern is the same as the match of
+ * {@link java.util.regex.Matcher#lookingAt()}. Alternation and quantified
+ * groups aren't supported, because the matcher takes the first alternative,
+ * which can be shorter.
+ */
+public class TokenAutomaton
+{
+	public static final long NO_MATCH = -1;
+
+	private static final int ASCII_SIZE = 128;
+
+	private static final int CHARACTERS_COUNT = Character.MAX_VALUE + 1;
+
+	private static final int MAX_NUMBER_OF_STATES = 4096;
+
+	private static final int MAX_REPETITIONS = 256;
+
+	private final int[] _acceptedDefinitions;
+
+	private final int[] _asciiClasses;
+
+	private final int[] _classBoundaries;
+
+	private final TokenKind[] _kinds;
+
+	private final int _numberOfClasses;
+
+	private final int[] _transitions;
+
+	private TokenAutomaton(int[] transitions, int[] acceptedDefinitions,
+		int[] classBoundaries, TokenKind[] kinds)
+	{
+		this._transitions = transitions;
+		this._acceptedDefinitions = acceptedDefinitions;
+		this._classBoundaries = classBoundaries;
+		this._kinds = kinds;
+
+		this._numberOfClasses = classBoundaries.length;
+
+		this._asciiClasses = new int[TokenAutomaton.ASCII_SIZE];
+
+		for (int i = 0; i < TokenAutomaton.ASCII_SIZE; i++)
+		{
+			this._asciiClasses[i] = this.findClass(i);
+		}
+	}
+
+	/**
+	 * Compiles the token definitions into an automaton.
+	 *
+	 * @param tokenDefinitions
+	 *            the token definitions
+	 * @return the token automaton
+	 * @throws PatternIsNotSupportedException
+	 *             one of the patterns uses syntax the automaton can't express
+	 */
+	public static TokenAutomaton compile(
+		List<TokenDefinition> tokenDefinitions)
+		throws PatternIsNotSupportedException
+	{
+		Guard.notNull(tokenDefinitions, "tokenDefinitions");
+
+		int definitionsCount = tokenDefinitions.size();
+
+		List<Node> nodes = new ArrayList<Node>(definitionsCount);
+
+		TokenKind[] kinds = new TokenKind[definitionsCount];
+
+		for (int i = 0; i < definitionsCount; i++)
+		{
+			TokenDefinition tokenDefinition = tokenDefinitions.get(i);
+
+			if (tokenDefinition.getRepresentation().flags() != 0)
+			{
+				throw new PatternIsNotSupportedException(String.format(
+					"Pattern '%1$s' uses flags.",
+					tokenDefinition.getRepresentation().pattern()));
+			}
+
+			nodes.add(new PatternParser(tokenDefinition.getRepresentation()
+					.pattern()).parse());
+
+			kinds[i] = tokenDefinition.getKind();
+		}
+
+		// Split all characters into the classes, which can't be distinguished
+		// by any of the patterns.
+		TreeSet<Integer> boundaries = new TreeSet<Integer>();
+
+		boundaries.add(0);
+
+		for (Node node : nodes)
+		{
+			node.collectBoundaries(boundaries);
+		}
+
+		boundaries.remove(TokenAutomaton.CHARACTERS_COUNT);
+
+		int[] classBoundaries = new int[boundaries.size()];
+
+		int index = 0;
+
+		for (Integer boundary : boundaries)
+		{
+			classBoundaries[index++] = boundary;
+		}
+
+		Nfa nfa = new Nfa(classBoundaries);
+
+		int startState = nfa.addState();
+
+		for (int i = 0; i < definitionsCount; i++)
+		{
+			int[] fragment = nfa.build(nodes.get(i));
+
+			nfa.addEpsilon(startState, fragment[0]);
+
+			nfa.setAccepting(fragment[1], i);
+		}
+
+		return nfa.toAutomaton(startState, classBoundaries, kinds);
+	}
+
+	/**
+	 * Gets the definition index, packed into the match.
+	 *
+	 * @param match
+	 *            the match
+	 * @return the definition index
+	 */
+	public static int getDefinitionIndex(long match)
+	{
+		return (int) (match >>> 32);
+	}
+
+	/**
+	 * Gets the length, packed into the match.
+	 *
+	 * @param match
+	 *            the match
+	 * @return the length
+	 */
+	public static int getMatchLength(long match)
+	{
+		return (int) match;
+	}
+
+	/**
+	 * Gets the index of the definition, accepted in the specified state.
+	 *
+	 * @param state
+	 *            the state
+	 * @return the definition index or -1 if the state is not accepting
+	 */
+	public int getAcceptedDefinition(int state)
+	{
+		return this._acceptedDefinitions[state];
+	}
+
+	/**
+	 * Gets the token kind of the specified definition.
+	 *
+	 * @param definitionIndex
+	 *            the definition index
+	 * @return the token kind
+	 */
+	public TokenKind getKind(int definitionIndex)
+	{
+		return this._kinds[definitionIndex];
+	}
+
+	/**
+	 * Gets the next state.
+	 *
+	 * @param state
+	 *            the current state
+	 * @param character
+	 *            the character
+	 * @return the next state or -1 if no definition can match any more
+	 */
+	public int getNextState(int state, char character)
+	{
+		int characterClass =
+			(character < TokenAutomaton.ASCII_SIZE) ? this._asciiClasses[character]
+				: this.findClass(character);
+
+		return this._transitions[state * this._numberOfClasses
+			+ characterClass];
+	}
+
+	/**
+	 * Gets the number of states.
+	 *
+	 * @return the number of states
+	 */
+	public int getNumberOfStates()
+	{
+		return this._acceptedDefinitions.length;
+	}
+
+	/**
+	 * Gets the start state.
+	 *
+	 * @return the start state
+	 */
+	public int getStartState()
+	{
+		return 0;
+	}
+
+	/**
+	 * Finds the longest non-empty match at the specified offset.
+	 *
+	 * @param source
+	 *            the source
+	 * @param offset
+	 *            the offset
+	 * @param endOffset
+	 *            the offset, the match can't go beyond
+	 * @return the match, packing the definition index and the length, or
+	 *         {@link #NO_MATCH}
+	 */
+	public long match(CharSequence source, int offset, int endOffset)
+	{
+		long match = TokenAutomaton.NO_MATCH;
+
+		int state = 0;
+
+		for (int position = offset; position < endOffset;)
+		{
+			state = this.getNextState(state, source.charAt(position++));
+
+			if (state < 0)
+			{
+				break;
+			}
+
+			int definitionIndex = this._acceptedDefinitions[state];
+
+			if (definitionIndex >= 0)
+			{
+				match = ((long) definitionIndex << 32) | (position - offset);
+			}
+		}
+
+		return match;
+	}
+
+	private int findClass(int character)
+	{
+		int index = Arrays.binarySearch(this._classBoundaries, character);
+
+		return (index >= 0) ? index : -index - 2;
+	}
+
+	private static class Nfa
+	{
+		private final List<Integer> _accepting;
+
+		private final int[] _classBoundaries;
+
+		private final List<List<Integer>> _epsilons;
+
+		private final List<List<Object[]>> _transitions;
+
+		public Nfa(int[] classBoundaries)
+		{
+			this._classBoundaries = classBoundaries;
+
+			this._accepting = new ArrayList<Integer>();
+			this._epsilons = new ArrayList<List<Integer>>();
+			this._transitions = new ArrayList<List<Object[]>>();
+		}
+
+		public void addEpsilon(int from, int to)
+		{
+			this._epsilons.get(from).add(to);
+		}
+
+		public int addState()
+		{
+			this._accepting.add(-1);
+			this._epsilons.add(new ArrayList<Integer>());
+			this._transitions.add(new ArrayList<Object[]>());
+
+			return this._accepting.size() - 1;
+		}
+
+		/**
+		 * Builds the fragment of the specified node.
+		 *
+		 * @return the fragment's start and end states
+		 */
+		public int[] build(Node node)
+		{
+			int start = this.addState();
+			int end;
+
+			switch (node._type)
+			{
+				case Node.CHARACTERS:
+				{
+					end = this.addState();
+
+					this._transitions.get(start).add(new Object[] {
+						this.getClasses(node._ranges), end
+					});
+					break;
+				}
+
+				case Node.CONCATENATION:
+				{
+					end = start;
+
+					for (Node child : node._children)
+					{
+						int[] fragment = this.build(child);
+
+						this.addEpsilon(end, fragment[0]);
+
+						end = fragment[1];
+					}
+					break;
+				}
+
+				default:
+				{
+					Node child = node._children.get(0);
+
+					end = start;
+
+					for (int i = 0; i < node._min; i++)
+					{
+						int[] fragment = this.build(child);
+
+						this.addEpsilon(end, fragment[0]);
+
+						end = fragment[1];
+					}
+
+					if (node._max < 0)
+					{
+						int[] fragment = this.build(child);
+
+						this.addEpsilon(end, fragment[0]);
+						this.addEpsilon(fragment[1], end);
+					}
+					else
+					{
+						int last = this.addState();
+
+						for (int i = node._min; i < node._max; i++)
+						{
+							int[] fragment = this.build(child);
+
+							this.addEpsilon(end, last);
+							this.addEpsilon(end, fragment[0]);
+
+							end = fragment[1];
+						}
+
+						this.addEpsilon(end, last);
+
+						end = last;
+					}
+					break;
+				}
+			}
+
+			return new int[] {
+				start, end
+			};
+		}
+
+		public void setAccepting(int state, int definitionIndex)
+		{
+			this._accepting.set(state, definitionIndex);
+		}
+
+		public TokenAutomaton toAutomaton(int startState,
+			int[] classBoundaries, TokenKind[] kinds)
+			throws PatternIsNotSupportedException
+		{
+			int numberOfClasses = classBoundaries.length;
+
+			Map<BitSet, Integer> statesIndexes = new HashMap<BitSet, Integer>();
+
+			List<BitSet> states = new ArrayList<BitSet>();
+
+			BitSet start = new BitSet();
+
+			start.set(startState);
+
+			this.close(start);
+
+			statesIndexes.put(start, 0);
+			states.add(start);
+
+			List<int[]> transitions = new ArrayList<int[]>();
+
+			for (int i = 0; i < states.size(); i++)
+			{
+				BitSet state = states.get(i);
+
+				int[] stateTransitions = new int[numberOfClasses];
+
+				for (int characterClass = 0; characterClass < numberOfClasses; characterClass++)
+				{
+					BitSet target = this.move(state, characterClass);
+
+					if (target.isEmpty())
+					{
+						stateTransitions[characterClass] = -1;
+
+						continue;
+					}
+
+					this.close(target);
+
+					Integer targetIndex = statesIndexes.get(target);
+
+					if (targetIndex == null)
+					{
+						if (states.size() == TokenAutomaton.MAX_NUMBER_OF_STATES)
+						{
+							throw new PatternIsNotSupportedException(
+								"Token definitions produce too many automaton states.");
+						}
+
+						targetIndex = states.size();
+
+						statesIndexes.put(target, targetIndex);
+						states.add(target);
+					}
+
+					stateTransitions[characterClass] = targetIndex;
+				}
+
+				transitions.add(stateTransitions);
+			}
+
+			int[] flatTransitions = new int[states.size() * numberOfClasses];
+
+			int[] acceptedDefinitions = new int[states.size()];
+
+			for (int i = 0; i < states.size(); i++)
+			{
+				System.arraycopy(transitions.get(i), 0, flatTransitions, i
+					* numberOfClasses, numberOfClasses);
+
+				// The definition, defined first, wins
+				int acceptedDefinition = -1;
+
+				BitSet state = states.get(i);
+
+				for (int nfaState = state.nextSetBit(0); nfaState >= 0; nfaState =
+					state.nextSetBit(nfaState + 1))
+				{
+					int definitionIndex = this._accepting.get(nfaState);
+
+					if (definitionIndex >= 0
+						&& (acceptedDefinition < 0 || definitionIndex < acceptedDefinition))
+					{
+						acceptedDefinition = definitionIndex;
+					}
+				}
+
+				acceptedDefinitions[i] = acceptedDefinition;
+			}
+
+			return new TokenAutomaton(flatTransitions, acceptedDefinitions,
+				classBoundaries, kinds);
+		}
+
+		private void close(BitSet states)
+		{
+			List<Integer> stack = new ArrayList<Integer>();
+
+			for (int state = states.nextSetBit(0); state >= 0; state =
+				states.nextSetBit(state + 1))
+			{
+				stack.add(state);
+			}
+
+			while (!stack.isEmpty())
+			{
+				int state = stack.remove(stack.size() - 1);
+
+				for (Integer target : this._epsilons.get(state))
+				{
+					if (!states.get(target))
+					{
+						states.set(target);
+
+						stack.add(target);
+					}
+				}
+			}
+		}
+
+		private BitSet getClasses(int[] ranges)
+		{
+			BitSet classes = new BitSet();
+
+			for (int i = 0; i < ranges.length; i += 2)
+			{
+				int first = Arrays.binarySearch(this._classBoundaries, ranges[i]);
+
+				for (int j = first; j < this._classBoundaries.length
+					&& this._classBoundaries[j] <= ranges[i + 1]; j++)
+				{
+					classes.set(j);
+				}
+			}
+
+			return classes;
+		}
+
+		private BitSet move(BitSet states, int characterClass)
+		{
+			BitSet target = new BitSet();
+
+			for (int state = states.nextSetBit(0); state >= 0; state =
+				states.nextSetBit(state + 1))
+			{
+				for (Object[] transition : this._transitions.get(state))
+				{
+					if (((BitSet) transition[0]).get(characterClass))
+					{
+						target.set((Integer) transition[1]);
+					}
+				}
+			}
+
+			return target;
+		}
+	}
+
+	private static class Node
+	{
+		public static final int CHARACTERS = 0;
+
+		public static final int CONCATENATION = 1;
+
+		public static final int REPETITION = 2;
+
+		private final List<Node> _children;
+
+		private int _max;
+
+		private int _min;
+
+		private int[] _ranges;
+
+		private final int _type;
+
+		public Node(int type)
+		{
+			this._type = type;
+
+			this._children = new ArrayList<Node>();
+		}
+
+		public static Node characters(int[] ranges)
+		{
+			Node node = new Node(Node.CHARACTERS);
+
+			node._ranges = ranges;
+
+			return node;
+		}
+
+		public static Node repetition(Node child, int min, int max)
+		{
+			Node node = new Node(Node.REPETITION);
+
+			node._children.add(child);
+			node._min = min;
+			node._max = max;
+
+			return node;
+		}
+
+		public void collectBoundaries(TreeSet<Integer> boundaries)
+		{
+			if (this._type == Node.CHARACTERS)
+			{
+				for (int i = 0; i < this._ranges.length; i += 2)
+				{
+					boundaries.add(this._ranges[i]);
+					boundaries.add(this._ranges[i + 1] + 1);
+				}
+			}
+
+			for (Node child : this._children)
+			{
+				child.collectBoundaries(boundaries);
+			}
+		}
+	}
+
+	private static class PatternParser
+	{
+		private static final int[] DIGITS = {
+			'0', '9'
+		};
+
+		private static final int[] SPACES = {
+			'\t', '\r', ' ', ' '
+		};
+
+		private static final int[] WORD_CHARACTERS = {
+			'0', '9', 'A', 'Z', '_', '_', 'a', 'z'
+		};
+
+		private final String _pattern;
+
+		private int _position;
+
+		public PatternParser(String pattern)
+		{
+			this._pattern = pattern;
+		}
+
+		private static int[] complement(int[] ranges)
+		{
+			List<Integer> result = new ArrayList<Integer>();
+
+			int next = 0;
+
+			for (int i = 0; i < ranges.length; i += 2)
+			{
+				if (ranges[i] > next)
+				{
+					result.add(next);
+					result.add(ranges[i] - 1);
+				}
+
+				next = ranges[i + 1] + 1;
+			}
+
+			if (next < TokenAutomaton.CHARACTERS_COUNT)
+			{
+				result.add(next);
+				result.add(TokenAutomaton.CHARACTERS_COUNT - 1);
+			}
+
+			return PatternParser.toArray(result);
+		}
+
+		private static int[] normalize(List<Integer> ranges)
+		{
+			int count = ranges.size() / 2;
+
+			int[][] pairs = new int[count][];
+
+			for (int i = 0; i < count; i++)
+			{
+				pairs[i] = new int[] {
+					ranges.get(2 * i), ranges.get(2 * i + 1)
+				};
+			}
+
+			Arrays.sort(pairs, (n1, n2) -> Integer.compare(n1[0], n2[0]));
+
+			List<Integer> result = new ArrayList<Integer>();
+
+			for (int[] pair : pairs)
+			{
+				int size = result.size();
+
+				if (size > 0 && pair[0] <= result.get(size - 1) + 1)
+				{
+					result.set(size - 1, Math.max(result.get(size - 1), pair[1]));
+				}
+				else
+				{
+					result.add(pair[0]);
+					result.add(pair[1]);
+				}
+			}
+
+			return PatternParser.toArray(result);
+		}
+
+		private static int[] toArray(List<Integer> list)
+		{
+			int[] array = new int[list.size()];
+
+			for (int i = 0; i < array.length; i++)
+			{
+				array[i] = list.get(i);
+			}
+
+			return array;
+		}
+
+		public Node parse() throws PatternIsNotSupportedException
+		{
+			Node node = this.parseConcatenation();
+
+			if (this.isInBounds())
+			{
+				throw this.createException();
+			}
+
+			return node;
+		}
+
+		private PatternIsNotSupportedException createException()
+		{
+			return new PatternIsNotSupportedException(String.format(
+				"Pattern '%1$s' is not supported at index %2$d.", this._pattern,
+				this._position));
+		}
+
+		private boolean isInBounds()
+		{
+			return this._position < this._pattern.length();
+		}
+
+		private static boolean isSingleCharacter(Node node)
+		{
+			if (node._type == Node.CONCATENATION && node._children.size() == 1)
+			{
+				return PatternParser.isSingleCharacter(node._children.get(0));
+			}
+
+			return node._type == Node.CHARACTERS;
+		}
+
+		private Node parseAtom() throws PatternIsNotSupportedException
+		{
+			char character = this._pattern.charAt(this._position++);
+
+			switch (character)
+			{
+				case '(':
+				{
+					if (this.isInBounds() && this.peek() == '?')
+					{
+						if (!this._pattern.startsWith("?:", this._position))
+						{
+							throw this.createException();
+						}
+
+						this._position += 2;
+					}
+
+					Node node = this.parseConcatenation();
+
+					if (!this.isInBounds() || this.peek() != ')')
+					{
+						throw this.createException();
+					}
+
+					this._position++;
+
+					return node;
+				}
+
+				case '[':
+				{
+					return Node.characters(this.parseCharacterClass());
+				}
+
+				case '.':
+				{
+					return Node.characters(PatternParser.complement(new int[] {
+						'\n', '\n', '\r', '\r', '\u0085', '\u0085', '\u2028',
+						'\u2029'
+					}));
+				}
+
+				case '\\':
+				{
+					return Node.characters(this.parseEscape());
+				}
+
+				case '^':
+				case '$':
+				case ')':
+				case '*':
+				case '+':
+				case '?':
+				case '{':
+				{
+					this._position--;
+
+					throw this.createException();
+				}
+
+				default:
+				{
+					return Node.characters(new int[] {
+						character, character
+					});
+				}
+			}
+		}
+
+		private int[] parseCharacterClass()
+			throws PatternIsNotSupportedException
+		{
+			boolean isNegated = false;
+
+			if (this.isInBounds() && this.peek() == '^')
+			{
+				isNegated = true;
+
+				this._position++;
+			}
+
+			if (this.isInBounds() && this.peek() == ']')
+			{
+				throw this.createException();
+			}
+
+			List<Integer> ranges = new ArrayList<Integer>();
+
+			while (true)
+			{
+				if (!this.isInBounds())
+				{
+					throw this.createException();
+				}
+
+				char character = this._pattern.charAt(this._position++);
+
+				if (character == ']')
+				{
+					break;
+				}
+
+				if (character == '[' || character == '&')
+				{
+					this._position--;
+
+					throw this.createException();
+				}
+
+				int first;
+
+				if (character == '\\')
+				{
+					int[] escapedRanges = this.parseEscape();
+
+					if (escapedRanges.length != 2
+						|| escapedRanges[0] != escapedRanges[1])
+					{
+						for (int range : escapedRanges)
+						{
+							ranges.add(range);
+						}
+
+						continue;
+					}
+
+					first = escapedRanges[0];
+				}
+				else
+				{
+					first = character;
+				}
+
+				int last = first;
+
+				if (this._position + 1 < this._pattern.length()
+					&& this.peek() == '-'
+					&& this._pattern.charAt(this._position + 1) != ']')
+				{
+					this._position++;
+
+					char lastCharacter = this._pattern.charAt(this._position++);
+
+					if (lastCharacter == '\\')
+					{
+						int[] escapedRanges = this.parseEscape();
+
+						if (escapedRanges.length != 2
+							|| escapedRanges[0] != escapedRanges[1])
+						{
+							throw this.createException();
+						}
+
+						last = escapedRanges[0];
+					}
+					else if (lastCharacter == '[')
+					{
+						throw this.createException();
+					}
+					else
+					{
+						last = lastCharacter;
+					}
+
+					if (last < first)
+					{
+						throw this.createException();
+					}
+				}
+
+				ranges.add(first);
+				ranges.add(last);
+			}
+
+			int[] result = PatternParser.normalize(ranges);
+
+			return isNegated ? PatternParser.complement(result) : result;
+		}
+
+		private Node parseConcatenation() throws PatternIsNotSupportedException
+		{
+			Node concatenation = new Node(Node.CONCATENATION);
+
+			while (this.isInBounds() && this.peek() != '|'
+				&& this.peek() != ')')
+			{
+				concatenation._children.add(this.parseRepetition());
+			}
+
+			return concatenation;
+		}
+
+		private int parseNumber() throws PatternIsNotSupportedException
+		{
+			int start = this._position;
+
+			while (this.isInBounds() && Character.isDigit(this.peek())
+				&& this._position - start < 4)
+			{
+				this._position++;
+			}
+
+			if (start == this._position)
+			{
+				throw this.createException();
+			}
+
+			return Integer.parseInt(this._pattern.substring(start,
+				this._position));
+		}
+
+		private int[] parseEscape() throws PatternIsNotSupportedException
+		{
+			if (!this.isInBounds())
+			{
+				throw this.createException();
+			}
+
+			char character = this._pattern.charAt(this._position++);
+
+			switch (character)
+			{
+				case 'd':
+					return PatternParser.DIGITS;
+				case 'D':
+					return PatternParser.complement(PatternParser.DIGITS);
+				case 's':
+					return PatternParser.SPACES;
+				case 'S':
+					return PatternParser.complement(PatternParser.SPACES);
+				case 'w':
+					return PatternParser.WORD_CHARACTERS;
+				case 'W':
+					return PatternParser.complement(PatternParser.WORD_CHARACTERS);
+				case 't':
+					character = '\t';
+					break;
+				case 'n':
+					character = '\n';
+					break;
+				case 'r':
+					character = '\r';
+					break;
+				case 'f':
+					character = '\f';
+					break;
+				case 'a':
+					character = '\u0007';
+					break;
+				case 'e':
+					character = '\u001B';
+					break;
+				case 'x':
+					character = this.parseHexadecimal(2);
+					break;
+				case 'u':
+					character = this.parseHexadecimal(4);
+					break;
+				default:
+				{
+					if (Character.isLetterOrDigit(character))
+					{
+						this._position -= 2;
+
+						throw this.createException();
+					}
+					break;
+				}
+			}
+
+			return new int[] {
+				character, character
+			};
+		}
+
+		private char parseHexadecimal(int length)
+			throws PatternIsNotSupportedException
+		{
+			if (this._position + length > this._pattern.length())
+			{
+				throw this.createException();
+			}
+
+			try
+			{
+				int value =
+					Integer.parseInt(this._pattern.substring(this._position,
+						this._position + length), 16);
+
+				this._position += length;
+
+				return (char) value;
+			}
+			catch (NumberFormatException e)
+			{
+				throw this.createException();
+			}
+		}
+
+		private Node parseRepetition() throws PatternIsNotSupportedException
+		{
+			Node node = this.parseAtom();
+
+			while (this.isInBounds())
+			{
+				char character = this.peek();
+
+				// The matcher stops repeating the group before the longest
+				// match, if the rest of the pattern matches
+				if ((character == '*' || character == '+' || character == '?'
+					|| character == '{') && !PatternParser.isSingleCharacter(node))
+				{
+					throw this.createException();
+				}
+
+				int min;
+				int max;
+
+				if (character == '*')
+				{
+					min = 0;
+					max = -1;
+				}
+				else if (character == '+')
+				{
+					min = 1;
+					max = -1;
+				}
+				else if (character == '?')
+				{
+					min = 0;
+					max = 1;
+				}
+				else if (character == '{')
+				{
+					this._position++;
+
+					min = this.parseNumber();
+					max = min;
+
+					if (this.isInBounds() && this.peek() == ',')
+					{
+						this._position++;
+
+						max =
+							(this.isInBounds() && this.peek() == '}') ? -1
+								: this.parseNumber();
+					}
+
+					if (!this.isInBounds() || this.peek() != '}'
+						|| (max >= 0 && max < min)
+						|| Math.max(min, max) > TokenAutomaton.MAX_REPETITIONS)
+					{
+						throw this.createException();
+					}
+				}
+				else
+				{
+					break;
+				}
+
+				this._position++;
+
+				// Lazy and possessive quantifiers change the match length
+				if (this.isInBounds()
+					&& (this.peek() == '?' || this.peek() == '+'))
+				{
+					throw this.createException();
+				}
+
+				node = Node.repetition(node, min, max);
+			}
+
+			return node;
+		}
+
+		private char peek()
+		{
+			return this._pattern.charAt(this._position);
+		}
+	}
+}
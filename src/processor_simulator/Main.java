@@ -1,26 +1,31 @@
 package processor_simulator;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.List;
 
-import processor_simulator.Infrastructure.Abstact.IObservable;
+import processor_simulator.Compilers.Abstract.IProgramCache;
+import processor_simulator.Compilers.Concrete.Assembler;
+import processor_simulator.Compilers.Concrete.ProgramCache;
 import processor_simulator.Infrastructure.Abstact.ITactsListener;
-import processor_simulator.Lexers.Abstract.ICommandsLexer;
-import processor_simulator.Lexers.Concrete.CommandsLexer;
-import processor_simulator.Models.Command;
-import processor_simulator.Models.Token;
-import processor_simulator.Parsers.Abstract.ICommandsParser;
-import processor_simulator.Parsers.Concrete.CommandsParser;
+import processor_simulator.Infrastructure.Concrete.TimeSamplingPolicy;
+import processor_simulator.Models.CompiledProgram;
 import processor_simulator.Simulators.Abstract.IProcessorSimulator;
+import processor_simulator.Simulators.Abstract.IRegistersView;
+import processor_simulator.Simulators.Abstract.IRegistersViewable;
+import processor_simulator.Simulators.Abstract.ISampledObservable;
 import processor_simulator.Simulators.Concrete.ProcessorSimulator;
 import processor_simulator.Utils.NumberUtils;
 
 public class Main
 {
+	private static final String CACHE_DIRECTORY_PROPERTY =
+		"processor_simulator.cacheDirectory";
+
+	/**
+	 * The interval between the status lines in milliseconds.
+	 */
+	private static final int STATUS_INTERVAL = 100;
+
 	public static void main(String[] args)
 	{
 		if (args.length == 0)
@@ -33,42 +38,32 @@ public class Main
 
 		try
 		{
-			// Read all lines from commands file.
-			String source = Main.readAllLinesFromFile(args[0]);
-
-			ICommandsLexer commandsLexer = new CommandsLexer();
-
-			commandsLexer.setSource(source);
+			// Create processorSimulator
+			IProcessorSimulator processorSimulator =
+				new ProcessorSimulator(14, 4);
 
-			// Parse tokens from the source
-			List<Token> tokens = commandsLexer.parse();
+			// Load the program from its compiled image, if the file wasn't
+			// changed since the last run
+			IProgramCache programCache =
+				new ProgramCache(Main.getCacheDirectory(), new Assembler(
+					processorSimulator.getRegisters().length));
 
-			ICommandsParser commandsParser = new CommandsParser();
+			CompiledProgram program = programCache.load(Paths.get(args[0]));
 
-			commandsParser.setTokens(tokens);
+			// Print the status line ten times a second instead of every tact
+			((ISampledObservable) processorSimulator).addSampledListener(
+				new ITactsListener() {
 
-			// Parse commands from the tokens
-			List<Command> commands = commandsParser.parse();
+					@Override
+					public void tactPerformed()
+					{
+						Main.printStatusLine(processorSimulator);
+					}
+				}, new TimeSamplingPolicy(Main.STATUS_INTERVAL));
 
-			// Create processorSimulator
-			IProcessorSimulator processorSimulator =
-				new ProcessorSimulator(14, 4);
+			processorSimulator.performProgram(program);
 
-			// Add tactsListener
-			((IObservable<ITactsListener>) processorSimulator)
-					.addListener(new ITactsListener() {
-
-						@Override
-						public void tactPerformed()
-						{
-							Main.printProcessorSimulatorInfo(processorSimulator);
-						}
-					});
-
-			for (Command command : commands)
-			{
-				processorSimulator.performCommand(command);
-			}
+			Main.printProcessorSimulatorInfo(processorSimulator);
 		}
 		catch (Exception e)
 		{
@@ -77,6 +72,20 @@ public class Main
 		}
 	}
 
+	private static Path getCacheDirectory()
+	{
+		String cacheDirectory =
+			System.getProperty(Main.CACHE_DIRECTORY_PROPERTY);
+
+		if (cacheDirectory == null)
+		{
+			return Paths.get(System.getProperty("java.io.tmpdir"),
+				"processor_simulator", "programs");
+		}
+
+		return Paths.get(cacheDirectory);
+	}
+
 	private static void printProcessorSimulatorInfo(
 		IProcessorSimulator processorSimulator)
 	{
@@ -119,23 +128,28 @@ public class Main
 		System.out.println(stringBuilder.toString());
 	}
 
-	private static String readAllLinesFromFile(String filePath)
-		throws IOException
+	private static void printStatusLine(IProcessorSimulator processorSimulator)
 	{
-		Path path = Paths.get(filePath);
+		StringBuilder stringBuilder = new StringBuilder();
 
-		List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+		stringBuilder.append(String.format(
+			"CommandsCounter = %1$s, OverflowFlag = %2$s, SignFlag = %3$s,",
+			processorSimulator.getCommandsCounter(),
+			processorSimulator.getOverflowFlag(),
+			processorSimulator.getSignFlag()));
 
-		StringBuilder stringBuilder = new StringBuilder();
+		IRegistersView registersView =
+			((IRegistersViewable) processorSimulator).getRegistersView();
 
-		for (String line : lines)
+		for (int i = 1; i <= registersView.getRegistersCount(); i++)
 		{
-			stringBuilder.append(line);
-			stringBuilder.append(System.getProperty("line.separator"));
+			stringBuilder.append(String.format(" R%1$d = %2$d,", i,
+				registersView.getRegister(i)));
 		}
 
-		String source = stringBuilder.toString().trim();
+		stringBuilder.append(String.format(" CurrentCommandText = %1$s",
+			processorSimulator.getCurrentCommandText()));
 
-		return source;
+		System.out.println(stringBuilder.toString());
 	}
 }
\ No newline at end of file
@@ -21,6 +21,16 @@ public class Command
 		this._arguments = new ArrayList<Argument>();
 	}
 
+	/**
+	 * Instantiates a new command, which takes the specified arguments list
+	 * without copying it.
+	 */
+	Command(CommandType type, List<Argument> arguments)
+	{
+		this._type = type;
+		this._arguments = arguments;
+	}
+
 	@Override
 	public boolean equals(Object obj)
 	{
@@ -87,14 +97,19 @@ public class Command
 
 	@Override
 	public String toString()
+	{
+		return Command.toString(this._type, this._arguments);
+	}
+
+	static String toString(CommandType type, List<Argument> arguments)
 	{
 		StringBuilder stringBuilder = new StringBuilder();
 
-		stringBuilder.append(String.format("%1$s ", this._type));
+		stringBuilder.append(String.format("%1$s ", type));
 
 		boolean isFirstArgument = true;
 
-		for (Argument argument : this._arguments)
+		for (Argument argument : arguments)
 		{
 			if (!isFirstArgument)
 			{
@@ -0,0 +1,95 @@
+package processor_simulator.Models;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import processor_simulator.Enums.ArgumentType;
+import processor_simulator.Enums.CommandType;
+import processor_simulator.Utils.Guard;
+
+/**
+ * Reusable builder of commands. The arguments are collected in place and are
+ * copied only once, when the command is built.
+ */
+public class CommandBuilder
+{
+	private final List<Argument> _arguments;
+
+	private CommandType _type;
+
+	public CommandBuilder()
+	{
+		this._arguments = new ArrayList<Argument>();
+
+		this._type = CommandType.Unknown;
+	}
+
+	/**
+	 * Adds the argument to the command.
+	 *
+	 * @param argumentType
+	 *            the argument type
+	 * @param value
+	 *            the argument's value
+	 */
+	public void addArgument(ArgumentType argumentType, int value)
+	{
+		this._arguments.add(new Argument(argumentType, value));
+	}
+
+	/**
+	 * Builds the command from the type and the arguments, added since the
+	 * last reset.
+	 *
+	 * @return the command
+	 */
+	public Command build()
+	{
+		return new Command(this._type, new ArrayList<Argument>(this._arguments));
+	}
+
+	/**
+	 * Gets the number of the added arguments.
+	 *
+	 * @return the arguments count
+	 */
+	public int getArgumentsCount()
+	{
+		return this._arguments.size();
+	}
+
+	/**
+	 * Gets the type of the command.
+	 *
+	 * @return the command type
+	 */
+	public CommandType getType()
+	{
+		return this._type;
+	}
+
+	/**
+	 * Starts a new command of the specified type.
+	 *
+	 * @param type
+	 *            the command type
+	 */
+	public void reset(CommandType type)
+	{
+		Guard.notNull(type, "type");
+
+		this._type = type;
+
+		this._arguments.clear();
+	}
+
+	/**
+	 * Formats the command being built the same way as
+	 * {@link Command#toString()}.
+	 */
+	@Override
+	public String toString()
+	{
+		return Command.toString(this._type, this._arguments);
+	}
+}
@@ -0,0 +1,9 @@
+package processor_simulator.Models;
+
+/**
+ * Event of the performed command. The previous flags are the flags before
+ * the command.
+ */
+public class CommandEvent extends ProcessorEvent
+{
+}
@@ -0,0 +1,188 @@
+package processor_simulator.Models;
+
+import processor_simulator.Enums.ArgumentType;
+import processor_simulator.Enums.CommandType;
+import processor_simulator.Utils.Guard;
+
+/**
+ * The validated, pre-decoded form of a list of commands. Every command is
+ * stored as {@link #INSTRUCTION_SIZE} consecutive words of the code array:
+ * the opcode, the zero-based index of the target register and the operand
+ * (either the zero-based index of the source register or the number itself,
+ * depending on the opcode).
+ */
+public class CompiledProgram
+{
+	public static final int ADD_NUMBER = 1;
+
+	public static final int ADD_REGISTER = 0;
+
+	public static final int INSTRUCTION_SIZE = 3;
+
+	public static final int LEFT_MOVE_NUMBER = 7;
+
+	public static final int LEFT_MOVE_REGISTER = 6;
+
+	public static final int LOAD_NUMBER = 3;
+
+	public static final int LOAD_REGISTER = 2;
+
+	public static final int NUMBER_OPERAND_FLAG = 1;
+
+	public static final int RIGHT_MOVE_NUMBER = 5;
+
+	public static final int RIGHT_MOVE_REGISTER = 4;
+
+	public static final int XOR_NUMBER = 9;
+
+	public static final int XOR_REGISTER = 8;
+
+	private static final CommandType[] COMMAND_TYPES =
+		{
+			CommandType.Add, CommandType.Load, CommandType.RightMove,
+			CommandType.LeftMove, CommandType.Xor
+		};
+
+	private final int[] _code;
+
+	private final int _numberOfRegisters;
+
+	/**
+	 * Instantiates a new compiled program.
+	 *
+	 * @param code
+	 *            the code (is not copied)
+	 * @param numberOfRegisters
+	 *            the number of registers, required by the program
+	 */
+	public CompiledProgram(int[] code, int numberOfRegisters)
+	{
+		Guard.notNull(code, "code");
+
+		if (code.length % CompiledProgram.INSTRUCTION_SIZE != 0)
+		{
+			throw new IllegalArgumentException(String.format(
+				"Argument '%1$s' must consist of whole instructions.", "code"));
+		}
+
+		this._code = code;
+		this._numberOfRegisters = numberOfRegisters;
+	}
+
+	/**
+	 * Gets the opcode of the specified command type and operand type.
+	 *
+	 * @param commandType
+	 *            the command type
+	 * @param operandType
+	 *            the operand type
+	 * @return the opcode
+	 */
+	public static int getOpcode(CommandType commandType,
+		ArgumentType operandType)
+	{
+		Guard.notNull(commandType, "commandType");
+		Guard.notNull(operandType, "operandType");
+
+		for (int i = 0; i < CompiledProgram.COMMAND_TYPES.length; i++)
+		{
+			if (CompiledProgram.COMMAND_TYPES[i] == commandType)
+			{
+				int opcode = i << 1;
+
+				if (operandType == ArgumentType.Number)
+				{
+					opcode |= CompiledProgram.NUMBER_OPERAND_FLAG;
+				}
+
+				return opcode;
+			}
+		}
+
+		throw new IllegalArgumentException(String.format(
+			"Command type '%1$s' has no opcode.", commandType));
+	}
+
+	/**
+	 * Gets the command type of the specified opcode.
+	 *
+	 * @param opcode
+	 *            the opcode
+	 * @return the command type
+	 */
+	public static CommandType getCommandType(int opcode)
+	{
+		return CompiledProgram.COMMAND_TYPES[opcode >> 1];
+	}
+
+	/**
+	 * Gets the operand type of the specified opcode.
+	 *
+	 * @param opcode
+	 *            the opcode
+	 * @return the operand type
+	 */
+	public static ArgumentType getOperandType(int opcode)
+	{
+		return ((opcode & CompiledProgram.NUMBER_OPERAND_FLAG) != 0) ? ArgumentType.Number
+			: ArgumentType.Register;
+	}
+
+	/**
+	 * Gets the code. The returned array is shared and must not be modified.
+	 *
+	 * @return the code
+	 */
+	public int[] getCode()
+	{
+		return this._code;
+	}
+
+	/**
+	 * Gets the number of commands.
+	 *
+	 * @return the number of commands
+	 */
+	public int getCommandsCount()
+	{
+		return this._code.length / CompiledProgram.INSTRUCTION_SIZE;
+	}
+
+	/**
+	 * Gets the string representation of the specified command, in the same
+	 * form as {@link Command#toString()}.
+	 *
+	 * @param commandIndex
+	 *            the zero-based command index
+	 * @return the command's string representation
+	 */
+	public String getCommandText(int commandIndex)
+	{
+		int offset = commandIndex * CompiledProgram.INSTRUCTION_SIZE;
+
+		int opcode = this._code[offset];
+
+		ArgumentType operandType = CompiledProgram.getOperandType(opcode);
+
+		int operand = this._code[offset + 2];
+
+		if (operandType == ArgumentType.Register)
+		{
+			operand++;
+		}
+
+		return String.format("%1$s {%2$s; %3$s}, {%4$s; %5$s}",
+			CompiledProgram.getCommandType(opcode), ArgumentType.Register,
+			this._code[offset + 1] + 1, operandType, operand);
+	}
+
+	/**
+	 * Gets the number of registers, required by the program.
+	 *
+	 * @return the number of registers
+	 */
+	public int getNumberOfRegisters()
+	{
+		return this._numberOfRegisters;
+	}
+}
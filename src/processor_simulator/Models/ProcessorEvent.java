@@ -0,0 +1,212 @@
+package processor_simulator.Models;
+
+/**
+ * Event of the processor simulator, which carries the changes of the state
+ * instead of the whole state. The events are reused, so they are only valid
+ * during the listener's call. Only the simulator changes them, the
+ * listeners get them read-only.
+ */
+public abstract class ProcessorEvent
+{
+	private int _commandsCounter;
+
+	private String _currentCommandText;
+
+	private int _newValue;
+
+	private int _oldValue;
+
+	private boolean _overflowFlag;
+
+	private boolean _previousOverflowFlag;
+
+	private boolean _previousSignFlag;
+
+	private int _registerNumber;
+
+	private boolean _signFlag;
+
+	/**
+	 * Marks, that no register is written.
+	 */
+	protected void clearRegisterChange()
+	{
+		this._registerNumber = 0;
+		this._oldValue = 0;
+		this._newValue = 0;
+	}
+
+	/**
+	 * Gets the commands counter.
+	 *
+	 * @return the commands counter
+	 */
+	public int getCommandsCounter()
+	{
+		return this._commandsCounter;
+	}
+
+	/**
+	 * Gets the current command's string representation.
+	 *
+	 * @return the current command's string representation
+	 */
+	public String getCurrentCommandText()
+	{
+		return this._currentCommandText;
+	}
+
+	/**
+	 * Gets the value, which is written to the register.
+	 *
+	 * @return the new value
+	 */
+	public int getNewValue()
+	{
+		return this._newValue;
+	}
+
+	/**
+	 * Gets the value of the register before it is written.
+	 *
+	 * @return the old value
+	 */
+	public int getOldValue()
+	{
+		return this._oldValue;
+	}
+
+	/**
+	 * Gets the overflow flag.
+	 *
+	 * @return the overflow flag
+	 */
+	public boolean getOverflowFlag()
+	{
+		return this._overflowFlag;
+	}
+
+	/**
+	 * Gets the overflow flag before the event.
+	 *
+	 * @return the previous overflow flag
+	 */
+	public boolean getPreviousOverflowFlag()
+	{
+		return this._previousOverflowFlag;
+	}
+
+	/**
+	 * Gets the sign flag before the event.
+	 *
+	 * @return the previous sign flag
+	 */
+	public boolean getPreviousSignFlag()
+	{
+		return this._previousSignFlag;
+	}
+
+	/**
+	 * Gets the number of the written register.
+	 *
+	 * @return the register's number, starting from 1, or 0, if no register
+	 *         is written
+	 */
+	public int getRegisterNumber()
+	{
+		return this._registerNumber;
+	}
+
+	/**
+	 * Gets the sign flag.
+	 *
+	 * @return the sign flag
+	 */
+	public boolean getSignFlag()
+	{
+		return this._signFlag;
+	}
+
+	/**
+	 * Checks, whether the overflow flag is changed.
+	 *
+	 * @return true, if the flag is changed
+	 */
+	public boolean isOverflowFlagChanged()
+	{
+		return this._overflowFlag != this._previousOverflowFlag;
+	}
+
+	/**
+	 * Checks, whether a register is written.
+	 *
+	 * @return true, if a register is written
+	 */
+	public boolean isRegisterWritten()
+	{
+		return this._registerNumber != 0;
+	}
+
+	/**
+	 * Checks, whether the sign flag is changed.
+	 *
+	 * @return true, if the flag is changed
+	 */
+	public boolean isSignFlagChanged()
+	{
+		return this._signFlag != this._previousSignFlag;
+	}
+
+	/**
+	 * Sets the command.
+	 *
+	 * @param commandsCounter
+	 *            the commands counter
+	 * @param currentCommandText
+	 *            the current command's text
+	 */
+	protected void setCommand(int commandsCounter, String currentCommandText)
+	{
+		this._commandsCounter = commandsCounter;
+		this._currentCommandText = currentCommandText;
+	}
+
+	/**
+	 * Sets the flags before and after the event.
+	 *
+	 * @param previousOverflowFlag
+	 *            the previous overflow flag
+	 * @param previousSignFlag
+	 *            the previous sign flag
+	 * @param overflowFlag
+	 *            the overflow flag
+	 * @param signFlag
+	 *            the sign flag
+	 */
+	protected void setFlags(boolean previousOverflowFlag,
+		boolean previousSignFlag, boolean overflowFlag, boolean signFlag)
+	{
+		this._previousOverflowFlag = previousOverflowFlag;
+		this._previousSignFlag = previousSignFlag;
+		this._overflowFlag = overflowFlag;
+		this._signFlag = signFlag;
+	}
+
+	/**
+	 * Sets the written register.
+	 *
+	 * @param registerNumber
+	 *            the register's number, starting from 1
+	 * @param oldValue
+	 *            the value before
+	 * @param newValue
+	 *            the written value
+	 */
+	protected void setRegisterChange(int registerNumber, int oldValue,
+		int newValue)
+	{
+		this._registerNumber = registerNumber;
+		this._oldValue = oldValue;
+		this._newValue = newValue;
+	}
+}
@@ -0,0 +1,165 @@
+package processor_simulator.Models;
+
+import java.util.Arrays;
+
+import processor_simulator.Utils.Guard;
+
+/**
+ * Immutable snapshot of the observable state of the processor simulator.
+ */
+public class ProcessorState
+{
+	private final int _commandsCounter;
+
+	private final String _currentCommandText;
+
+	private final boolean _overflowFlag;
+
+	private final int[] _registers;
+
+	private final boolean _signFlag;
+
+	private final int _tactsCounter;
+
+	public ProcessorState(int[] registers, int commandsCounter,
+		int tactsCounter, boolean overflowFlag, boolean signFlag,
+		String currentCommandText)
+	{
+		Guard.notNull(registers, "registers");
+
+		this._registers = Arrays.copyOf(registers, registers.length);
+		this._commandsCounter = commandsCounter;
+		this._tactsCounter = tactsCounter;
+		this._overflowFlag = overflowFlag;
+		this._signFlag = signFlag;
+		this._currentCommandText = currentCommandText;
+	}
+
+	@Override
+	public boolean equals(Object obj)
+	{
+		if (this == obj)
+		{
+			return true;
+		}
+		if (obj == null)
+		{
+			return false;
+		}
+		if (this.getClass() != obj.getClass())
+		{
+			return false;
+		}
+		ProcessorState other = (ProcessorState) obj;
+		if (this._commandsCounter != other._commandsCounter)
+		{
+			return false;
+		}
+		if (this._currentCommandText == null)
+		{
+			if (other._currentCommandText != null)
+			{
+				return false;
+			}
+		}
+		else if (!this._currentCommandText.equals(other._currentCommandText))
+		{
+			return false;
+		}
+		if (this._overflowFlag != other._overflowFlag)
+		{
+			return false;
+		}
+		if (!Arrays.equals(this._registers, other._registers))
+		{
+			return false;
+		}
+		if (this._signFlag != other._signFlag)
+		{
+			return false;
+		}
+		if (this._tactsCounter != other._tactsCounter)
+		{
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the commands counter.
+	 *
+	 * @return the commands counter
+	 */
+	public int getCommandsCounter()
+	{
+		return this._commandsCounter;
+	}
+
+	/**
+	 * Gets the current command's string representation.
+	 *
+	 * @return the current command's string representation
+	 */
+	public String getCurrentCommandText()
+	{
+		return this._currentCommandText;
+	}
+
+	/**
+	 * Gets the overflow flag.
+	 *
+	 * @return the overflow flag
+	 */
+	public boolean getOverflowFlag()
+	{
+		return this._overflowFlag;
+	}
+
+	/**
+	 * Gets the registers.
+	 *
+	 * @return the registers
+	 */
+	public int[] getRegisters()
+	{
+		return Arrays.copyOf(this._registers, this._registers.length);
+	}
+
+	/**
+	 * Gets the sign flag.
+	 *
+	 * @return the sign flag
+	 */
+	public boolean getSignFlag()
+	{
+		return this._signFlag;
+	}
+
+	/**
+	 * Gets the tacts counter.
+	 *
+	 * @return the tacts counter
+	 */
+	public int getTactsCounter()
+	{
+		return this._tactsCounter;
+	}
+
+	@Override
+	public int hashCode()
+	{
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + this._commandsCounter;
+		result =
+			prime
+				* result
+				+ ((this._currentCommandText == null) ? 0
+					: this._currentCommandText.hashCode());
+		result = prime * result + (this._overflowFlag ? 1231 : 1237);
+		result = prime * result + Arrays.hashCode(this._registers);
+		result = prime * result + (this._signFlag ? 1231 : 1237);
+		result = prime * result + this._tactsCounter;
+		return result;
+	}
+}
@@ -0,0 +1,79 @@
+package processor_simulator.Models;
+
+import processor_simulator.Utils.Guard;
+
+/**
+ * Immutable configuration of the processor simulator.
+ */
+public class SimulatorConfiguration
+{
+	private final int _numberOfBits;
+
+	private final int _numberOfRegisters;
+
+	public SimulatorConfiguration(int numberOfBits, int numberOfRegisters)
+	{
+		Guard.moreThanZero(numberOfBits, "numberOfBits");
+		Guard.moreThanZero(numberOfRegisters, "numberOfRegisters");
+
+		this._numberOfBits = numberOfBits;
+		this._numberOfRegisters = numberOfRegisters;
+	}
+
+	@Override
+	public boolean equals(Object obj)
+	{
+		if (this == obj)
+		{
+			return true;
+		}
+		if (obj == null)
+		{
+			return false;
+		}
+		if (this.getClass() != obj.getClass())
+		{
+			return false;
+		}
+		SimulatorConfiguration other = (SimulatorConfiguration) obj;
+		if (this._numberOfBits != other._numberOfBits)
+		{
+			return false;
+		}
+		if (this._numberOfRegisters != other._numberOfRegisters)
+		{
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the number of bits.
+	 *
+	 * @return the number of bits
+	 */
+	public int getNumberOfBits()
+	{
+		return this._numberOfBits;
+	}
+
+	/**
+	 * Gets the number of registers.
+	 *
+	 * @return the number of registers
+	 */
+	public int getNumberOfRegisters()
+	{
+		return this._numberOfRegisters;
+	}
+
+	@Override
+	public int hashCode()
+	{
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + this._numberOfBits;
+		result = prime * result + this._numberOfRegisters;
+		return result;
+	}
+}
@@ -0,0 +1,46 @@
+package processor_simulator.Models;
+
+/**
+ * Event of the tact. The tact before the command doesn't write any register,
+ * the tact after the command writes the command's register.
+ */
+public class TactEvent extends ProcessorEvent
+{
+	private boolean _isBeforeCommand;
+
+	private int _tactsCounter;
+
+	/**
+	 * Gets the tacts counter.
+	 *
+	 * @return the tacts counter
+	 */
+	public int getTactsCounter()
+	{
+		return this._tactsCounter;
+	}
+
+	/**
+	 * Checks, whether the tact is performed before the command.
+	 *
+	 * @return true, if the tact is before the command, false, if after
+	 */
+	public boolean isBeforeCommand()
+	{
+		return this._isBeforeCommand;
+	}
+
+	/**
+	 * Sets the tact.
+	 *
+	 * @param isBeforeCommand
+	 *            whether the tact is before the command
+	 * @param tactsCounter
+	 *            the tacts counter
+	 */
+	protected void setTact(boolean isBeforeCommand, int tactsCounter)
+	{
+		this._isBeforeCommand = isBeforeCommand;
+		this._tactsCounter = tactsCounter;
+	}
+}
@@ -0,0 +1,191 @@
+package processor_simulator.Models;
+
+import processor_simulator.Utils.Guard;
+
+/**
+ * Mutable state of the processor simulator after a tact. The instances are
+ * preallocated and reused, so the state is only valid during the listener's
+ * call.
+ */
+public class TactState
+{
+	private int _commandsCounter;
+
+	private String _currentCommandText;
+
+	private boolean _overflowFlag;
+
+	private final int[] _registers;
+
+	private boolean _signFlag;
+
+	private int _skippedTactsCount;
+
+	private int _tactsCounter;
+
+	public TactState(int numberOfRegisters)
+	{
+		Guard.moreThanZero(numberOfRegisters, "numberOfRegisters");
+
+		this._registers = new int[numberOfRegisters];
+	}
+
+	/**
+	 * Copies the registers to the array.
+	 *
+	 * @param registers
+	 *            the array of at least the registers count
+	 */
+	public void copyRegisters(int[] registers)
+	{
+		Guard.notNull(registers, "registers");
+
+		System.arraycopy(this._registers, 0, registers, 0,
+			this._registers.length);
+	}
+
+	/**
+	 * Gets the commands counter.
+	 *
+	 * @return the commands counter
+	 */
+	public int getCommandsCounter()
+	{
+		return this._commandsCounter;
+	}
+
+	/**
+	 * Gets the current command's string representation.
+	 *
+	 * @return the current command's string representation
+	 */
+	public String getCurrentCommandText()
+	{
+		return this._currentCommandText;
+	}
+
+	/**
+	 * Gets the overflow flag.
+	 *
+	 * @return the overflow flag
+	 */
+	public boolean getOverflowFlag()
+	{
+		return this._overflowFlag;
+	}
+
+	/**
+	 * Gets the value of the register.
+	 *
+	 * @param registerNumber
+	 *            the register's number, starting from 1
+	 * @return the value
+	 */
+	public int getRegister(int registerNumber)
+	{
+		if (registerNumber < 1 || registerNumber > this._registers.length)
+		{
+			throw new IllegalArgumentException(String.format(
+				"Register with the number '%1$s' doesn't exist.",
+				registerNumber));
+		}
+
+		return this._registers[registerNumber - 1];
+	}
+
+	/**
+	 * Gets the number of the registers.
+	 *
+	 * @return the registers count
+	 */
+	public int getRegistersCount()
+	{
+		return this._registers.length;
+	}
+
+	/**
+	 * Gets the sign flag.
+	 *
+	 * @return the sign flag
+	 */
+	public boolean getSignFlag()
+	{
+		return this._signFlag;
+	}
+
+	/**
+	 * Gets the number of the tacts right before this one, which weren't
+	 * delivered, because the listener was too slow.
+	 *
+	 * @return the skipped tacts count
+	 */
+	public int getSkippedTactsCount()
+	{
+		return this._skippedTactsCount;
+	}
+
+	/**
+	 * Gets the tacts counter.
+	 *
+	 * @return the tacts counter
+	 */
+	public int getTactsCounter()
+	{
+		return this._tactsCounter;
+	}
+
+	/**
+	 * Sets the number of the skipped tacts.
+	 *
+	 * @param skippedTactsCount
+	 *            the skipped tacts count
+	 */
+	public void setSkippedTactsCount(int skippedTactsCount)
+	{
+		this._skippedTactsCount = skippedTactsCount;
+	}
+
+	/**
+	 * Copies the state of the simulator.
+	 *
+	 * @param registers
+	 *            the registers
+	 * @param commandsCounter
+	 *            the commands counter
+	 * @param tactsCounter
+	 *            the tacts counter
+	 * @param overflowFlag
+	 *            the overflow flag
+	 * @param signFlag
+	 *            the sign flag
+	 * @param currentCommandText
+	 *            the current command's text
+	 */
+	public void update(int[] registers, int commandsCounter, int tactsCounter,
+		boolean overflowFlag, boolean signFlag, String currentCommandText)
+	{
+		System.arraycopy(registers, 0, this._registers, 0,
+			this._registers.length);
+
+		this._commandsCounter = commandsCounter;
+		this._tactsCounter = tactsCounter;
+		this._overflowFlag = overflowFlag;
+		this._signFlag = signFlag;
+		this._currentCommandText = currentCommandText;
+	}
+
+	/**
+	 * Copies the other state.
+	 *
+	 * @param state
+	 *            the state
+	 */
+	public void update(TactState state)
+	{
+		this.update(state._registers, state._commandsCounter,
+			state._tactsCounter, state._overflowFlag, state._signFlag,
+			state._currentCommandText);
+
+		this._skippedTactsCount = state._skippedTactsCount;
+	}
+}
@@ -7,15 +7,42 @@ public class Token
 {
 	private final TokenKind _kind;
 
+	private final int _offset;
+
 	private final String _value;
 
+	/**
+	 * Instantiates a new token, which has no position in a source.
+	 *
+	 * @param tokenKind
+	 *            the token kind
+	 * @param value
+	 *            the token's value
+	 */
 	public Token(TokenKind tokenKind, String value)
+	{
+		this(tokenKind, value, -1);
+	}
+
+	/**
+	 * Instantiates a new token, which is found at the specified offset of the
+	 * source. The value is a copy, so the token doesn't keep the source.
+	 *
+	 * @param tokenKind
+	 *            the token kind
+	 * @param value
+	 *            the token's value
+	 * @param offset
+	 *            the token's offset in the source
+	 */
+	public Token(TokenKind tokenKind, String value, int offset)
 	{
 		Guard.notNull(tokenKind, "tokenKind");
 		Guard.notNull(value, "value");
 
 		this._kind = tokenKind;
 		this._value = value;
+		this._offset = offset;
 	}
 
 	@Override
@@ -57,6 +84,26 @@ public class Token
 		return this._kind;
 	}
 
+	/**
+	 * Gets the token's length.
+	 *
+	 * @return the length
+	 */
+	public int getLength()
+	{
+		return this._value.length();
+	}
+
+	/**
+	 * Gets the token's offset in its source.
+	 *
+	 * @return the offset or -1, if it's unknown
+	 */
+	public int getOffset()
+	{
+		return this._offset;
+	}
+
 	public String getValue()
 	{
 		return this._value;
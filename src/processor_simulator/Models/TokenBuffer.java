@@ -0,0 +1,315 @@
+package processor_simulator.Models;
+
+import java.util.Arrays;
+
+import processor_simulator.Enums.TokenKind;
+import processor_simulator.Utils.Guard;
+import processor_simulator.Utils.NumberUtils;
+
+/**
+ * Primitive-backed list of tokens of a single source. Every token is stored
+ * as its kind, offset and length in parallel arrays, the values of the
+ * number and register tokens are parsed when the token is added. The buffer
+ * can be reused: {@link #reset(CharSequence)} keeps the allocated arrays.
+ */
+public class TokenBuffer
+{
+	private static final int DEFAULT_CAPACITY = 256;
+
+	private static final TokenKind[] TOKEN_KINDS = TokenKind.values();
+
+	private static final int NUMERIC_VALUE_IS_INVALID_FLAG = 0x100;
+
+	private static final int KIND_MASK = 0xFF;
+
+	private int[] _kinds;
+
+	private int[] _lengths;
+
+	private int[] _numericValues;
+
+	private int[] _offsets;
+
+	private CharSequence _source;
+
+	private int _tokensCount;
+
+	public TokenBuffer()
+	{
+		this(TokenBuffer.DEFAULT_CAPACITY);
+	}
+
+	public TokenBuffer(int capacity)
+	{
+		Guard.moreThanZero(capacity, "capacity");
+
+		this._source = "";
+
+		this._kinds = new int[capacity];
+		this._offsets = new int[capacity];
+		this._lengths = new int[capacity];
+		this._numericValues = new int[capacity];
+	}
+
+	/**
+	 * Adds the token, which spans the specified part of the source.
+	 *
+	 * @param tokenKind
+	 *            the token kind
+	 * @param offset
+	 *            the token's offset in the source
+	 * @param length
+	 *            the token's length
+	 */
+	public void add(TokenKind tokenKind, int offset, int length)
+	{
+		Guard.notNull(tokenKind, "tokenKind");
+
+		if (offset < 0 || length < 0 || offset + length > this._source.length())
+		{
+			throw new IllegalArgumentException(String.format(
+				"Span [%1$d, %2$d) is out of the source's bounds.", offset,
+				offset + length));
+		}
+
+		if (this._tokensCount == this._kinds.length)
+		{
+			this.grow();
+		}
+
+		int index = this._tokensCount;
+
+		int kind = tokenKind.ordinal();
+
+		long numericValue = NumberUtils.NOT_A_NUMBER;
+
+		if (tokenKind == TokenKind.Number)
+		{
+			numericValue =
+				NumberUtils.tryParseInt(this._source, offset, offset + length);
+		}
+		else if (tokenKind == TokenKind.Register)
+		{
+			// Get the register's number
+			numericValue =
+				NumberUtils.tryParseInt(this._source, offset + 1, offset
+					+ length);
+		}
+
+		if (numericValue == NumberUtils.NOT_A_NUMBER)
+		{
+			kind |= TokenBuffer.NUMERIC_VALUE_IS_INVALID_FLAG;
+		}
+		else
+		{
+			this._numericValues[index] = (int) numericValue;
+		}
+
+		this._kinds[index] = kind;
+		this._offsets[index] = offset;
+		this._lengths[index] = length;
+
+		this._tokensCount++;
+	}
+
+	/**
+	 * Checks if the specified token has the same kind and value as the token.
+	 *
+	 * @param index
+	 *            the token's index
+	 * @param token
+	 *            the token to compare with
+	 * @return true, if the tokens are equal
+	 */
+	public boolean equalsToken(int index, Token token)
+	{
+		this.checkIndex(index);
+
+		Guard.notNull(token, "token");
+
+		if (this.getKind(index) != token.getKind())
+		{
+			return false;
+		}
+
+		int length = this._lengths[index];
+
+		if (length != token.getLength())
+		{
+			return false;
+		}
+
+		int offset = this._offsets[index];
+
+		String tokenValue = token.getValue();
+
+		for (int i = 0; i < length; i++)
+		{
+			if (this._source.charAt(offset + i) != tokenValue.charAt(i))
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Gets the kind of the specified token.
+	 *
+	 * @param index
+	 *            the token's index
+	 * @return the token kind
+	 */
+	public TokenKind getKind(int index)
+	{
+		this.checkIndex(index);
+
+		return TokenBuffer.TOKEN_KINDS[this._kinds[index]
+			& TokenBuffer.KIND_MASK];
+	}
+
+	/**
+	 * Gets the length of the specified token.
+	 *
+	 * @param index
+	 *            the token's index
+	 * @return the token's length
+	 */
+	public int getLength(int index)
+	{
+		this.checkIndex(index);
+
+		return this._lengths[index];
+	}
+
+	/**
+	 * Gets the pre-parsed value of the specified number or register token
+	 * (for a register, its number without the prefix).
+	 *
+	 * @param index
+	 *            the token's index
+	 * @return the numeric value
+	 * @throws NumberFormatException
+	 *             the token's value is not a valid int, the same as
+	 *             {@link Integer#parseInt(String)} would throw
+	 */
+	public int getNumericValue(int index)
+	{
+		this.checkIndex(index);
+
+		if ((this._kinds[index] & TokenBuffer.NUMERIC_VALUE_IS_INVALID_FLAG) != 0)
+		{
+			String value = this.getValue(index);
+
+			if (this.getKind(index) == TokenKind.Register)
+			{
+				value = value.substring(Math.min(1, value.length()));
+			}
+
+			// Throws the exception with the usual message
+			return Integer.parseInt(value);
+		}
+
+		return this._numericValues[index];
+	}
+
+	/**
+	 * Gets the offset of the specified token in the source.
+	 *
+	 * @param index
+	 *            the token's index
+	 * @return the token's offset
+	 */
+	public int getOffset(int index)
+	{
+		this.checkIndex(index);
+
+		return this._offsets[index];
+	}
+
+	/**
+	 * Gets the source, the tokens span.
+	 *
+	 * @return the source
+	 */
+	public CharSequence getSource()
+	{
+		return this._source;
+	}
+
+	/**
+	 * Creates the token object for the specified token.
+	 *
+	 * @param index
+	 *            the token's index
+	 * @return the token
+	 */
+	public Token getToken(int index)
+	{
+		return new Token(this.getKind(index), this.getValue(index),
+			this._offsets[index]);
+	}
+
+	/**
+	 * Gets the number of tokens.
+	 *
+	 * @return the tokens count
+	 */
+	public int getTokensCount()
+	{
+		return this._tokensCount;
+	}
+
+	/**
+	 * Creates the value of the specified token.
+	 *
+	 * @param index
+	 *            the token's index
+	 * @return the token's value
+	 */
+	public String getValue(int index)
+	{
+		this.checkIndex(index);
+
+		int offset = this._offsets[index];
+
+		return this._source.subSequence(offset, offset + this._lengths[index])
+				.toString();
+	}
+
+	/**
+	 * Removes all tokens and sets the source of the next tokens. The
+	 * allocated capacity is kept.
+	 *
+	 * @param source
+	 *            the source
+	 */
+	public void reset(CharSequence source)
+	{
+		Guard.notNull(source, "source");
+
+		this._source = source;
+
+		this._tokensCount = 0;
+	}
+
+	private void checkIndex(int index)
+	{
+		if (index < 0 || index >= this._tokensCount)
+		{
+			throw new IndexOutOfBoundsException(String.format(
+				"Index: %1$d, Size: %2$d", index, this._tokensCount));
+		}
+	}
+
+	private void grow()
+	{
+		int capacity = this._kinds.length * 2;
+
+		this._kinds = Arrays.copyOf(this._kinds, capacity);
+		this._offsets = Arrays.copyOf(this._offsets, capacity);
+		this._lengths = Arrays.copyOf(this._lengths, capacity);
+		this._numericValues = Arrays.copyOf(this._numericValues, capacity);
+	}
+}
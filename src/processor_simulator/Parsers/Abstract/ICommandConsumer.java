@@ -0,0 +1,23 @@
+package processor_simulator.Parsers.Abstract;
+
+import processor_simulator.Models.Command;
+
+/**
+ * Consumer of the parsed commands, which may throw a checked exception.
+ *
+ * @param <E>
+ *            the type of the exception, thrown by the consumer
+ */
+@FunctionalInterface
+public interface ICommandConsumer<E extends Exception>
+{
+	/**
+	 * Accepts the parsed command.
+	 *
+	 * @param command
+	 *            the command
+	 * @throws E
+	 *             the consumer's exception
+	 */
+	void accept(Command command) throws E;
+}
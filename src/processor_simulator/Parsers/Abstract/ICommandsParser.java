@@ -1,5 +1,6 @@
 package processor_simulator.Parsers.Abstract;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -9,6 +10,7 @@ import processor_simulator.Exceptions.CommandIsInvalidException;
 import processor_simulator.Exceptions.SpecialTokenIsNotDefinedException;
 import processor_simulator.Models.Command;
 import processor_simulator.Models.Token;
+import processor_simulator.Models.TokenBuffer;
 
 public interface ICommandsParser
 {
@@ -42,6 +44,36 @@ public interface ICommandsParser
 	 */
 	List<Command> parse() throws CommandIsInvalidException;
 
+	/**
+	 * Parses the tokens of the specified buffer instead of the set tokens.
+	 *
+	 * @param tokenBuffer
+	 *            the token buffer
+	 * @return the list of commands parsed from the tokens
+	 * @throws CommandIsInvalidException
+	 *             the command is invalid exception
+	 */
+	List<Command> parse(TokenBuffer tokenBuffer)
+		throws CommandIsInvalidException;
+
+	/**
+	 * Parses the tokens, as they are read from the iterator, and passes every
+	 * command to the consumer as soon as its termination token is parsed. The
+	 * parsed commands are not kept.
+	 *
+	 * @param tokens
+	 *            the tokens iterator
+	 * @param commandConsumer
+	 *            the consumer of the commands
+	 * @throws CommandIsInvalidException
+	 *             the command is invalid exception
+	 * @throws E
+	 *             the exception, thrown by the consumer
+	 */
+	<E extends Exception> void parse(Iterator<Token> tokens,
+		ICommandConsumer<E> commandConsumer) throws CommandIsInvalidException,
+		E;
+
 	void setCommandTypesDictionary(
 		Map<String, CommandType> commandTypesDictionary);
 
@@ -0,0 +1,36 @@
+package processor_simulator.Parsers.Abstract;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import processor_simulator.Exceptions.CommandIsInvalidException;
+import processor_simulator.Models.Command;
+
+public interface IParallelCommandsParser
+{
+	/**
+	 * Gets the pool, the chunks are processed on.
+	 *
+	 * @return the fork-join pool
+	 */
+	ForkJoinPool getForkJoinPool();
+
+	/**
+	 * Gets the minimal number of characters in a chunk.
+	 *
+	 * @return the minimal chunk size
+	 */
+	int getMinChunkSize();
+
+	/**
+	 * Lexes and parses the source.
+	 *
+	 * @param source
+	 *            the source
+	 * @return the list of commands in the source's order
+	 * @throws CommandIsInvalidException
+	 *             the first invalid command in the source, its offset is
+	 *             relative to the whole source
+	 */
+	List<Command> parse(CharSequence source) throws CommandIsInvalidException;
+}
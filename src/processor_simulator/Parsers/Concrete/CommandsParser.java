@@ -2,9 +2,9 @@ package processor_simulator.Parsers.Concrete;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Stack;
 
 import processor_simulator.Enums.ArgumentType;
 import processor_simulator.Enums.CommandType;
@@ -12,28 +12,41 @@ import processor_simulator.Enums.SpecialTokenKind;
 import processor_simulator.Enums.TokenKind;
 import processor_simulator.Exceptions.CommandIsInvalidException;
 import processor_simulator.Exceptions.SpecialTokenIsNotDefinedException;
-import processor_simulator.Models.Argument;
 import processor_simulator.Models.Command;
+import processor_simulator.Models.CommandBuilder;
 import processor_simulator.Models.Token;
+import processor_simulator.Models.TokenBuffer;
+import processor_simulator.Parsers.Abstract.ICommandConsumer;
 import processor_simulator.Parsers.Abstract.ICommandsParser;
 import processor_simulator.Utils.Guard;
+import processor_simulator.Utils.NumberUtils;
 
 public class CommandsParser implements ICommandsParser
 {
-	private Stack<Command> _commands;
+	private final CommandBuilder _commandBuilder;
+
+	private List<Command> _commands;
 
 	private Map<String, CommandType> _commandTypesDictionary;
 
+	private int _commandOffset;
+
+	private Token _currentToken;
+
 	private int _currentTokenId;
 
 	private Map<SpecialTokenKind, Token> _specialTokensDictionary;
 
 	private int _state;
 
+	private TokenBuffer _tokenBuffer;
+
 	private List<Token> _tokens;
 
 	public CommandsParser() throws SpecialTokenIsNotDefinedException
 	{
+		this._commandBuilder = new CommandBuilder();
+
 		this._tokens = new ArrayList<Token>();
 
 		this._currentTokenId = 0;
@@ -59,6 +72,31 @@ public class CommandsParser implements ICommandsParser
 		});
 	}
 
+	/**
+	 * Instantiates a new parser with the same dictionaries as the specified
+	 * parser.
+	 *
+	 * @param commandsParser
+	 *            the parser to copy the dictionaries from
+	 */
+	public CommandsParser(CommandsParser commandsParser)
+	{
+		Guard.notNull(commandsParser, "commandsParser");
+
+		this._commandBuilder = new CommandBuilder();
+
+		this._tokens = new ArrayList<Token>();
+
+		this._currentTokenId = 0;
+
+		this.setCommandTypesDictionary(commandsParser._commandTypesDictionary);
+
+		// The dictionary is already validated
+		this._specialTokensDictionary =
+			new HashMap<SpecialTokenKind, Token>(
+				commandsParser._specialTokensDictionary);
+	}
+
 	@Override
 	public Map<String, CommandType> getCommandTypesDictionary()
 	{
@@ -87,6 +125,53 @@ public class CommandsParser implements ICommandsParser
 		return this._commands;
 	}
 
+	@Override
+	public List<Command> parse(TokenBuffer tokenBuffer)
+		throws CommandIsInvalidException
+	{
+		Guard.notNull(tokenBuffer, "tokenBuffer");
+
+		this.initialize();
+
+		this._tokenBuffer = tokenBuffer;
+
+		try
+		{
+			this.processCommands();
+		}
+		finally
+		{
+			this._tokenBuffer = null;
+		}
+
+		return this._commands;
+	}
+
+	@Override
+	public <E extends Exception> void parse(Iterator<Token> tokens,
+		ICommandConsumer<E> commandConsumer) throws CommandIsInvalidException,
+		E
+	{
+		Guard.notNull(tokens, "tokens");
+		Guard.notNull(commandConsumer, "commandConsumer");
+
+		this.initialize();
+
+		while (tokens.hasNext())
+		{
+			this._currentToken = tokens.next();
+
+			if (this.processToken())
+			{
+				commandConsumer.accept(this._commandBuilder.build());
+			}
+
+			this._currentTokenId++;
+		}
+
+		this.processEnd();
+	}
+
 	@Override
 	public void setCommandTypesDictionary(
 		Map<String, CommandType> commandTypesDictionary)
@@ -129,64 +214,121 @@ public class CommandsParser implements ICommandsParser
 
 	private void createCommandStep() throws CommandIsInvalidException
 	{
-		Token currentToken = this.getCurrentToken();
-
-		if (currentToken.getKind() != TokenKind.Command)
+		if (this.getCurrentTokenKind() != TokenKind.Command)
 		{
 			throw new CommandIsInvalidException(
 				String.format(
 					"Invalid command at token '%1$s'. Command must start only from commandName.",
-					currentToken.getValue()));
+					this.getCurrentTokenValue()), this.getCurrentTokenOffset());
 		}
 
-		this._commands.push(this.getCommandFromToken(currentToken));
+		this._commandBuilder.reset(this.getCommandTypeFromCurrentToken());
+
+		this._commandOffset = this.getCurrentTokenOffset();
 
 		this._state = 1;
 	}
 
-	private Argument getArgumentFromToken(Token token)
+	private void addArgumentFromCurrentToken(TokenKind currentTokenKind)
 	{
 		ArgumentType argumentType =
-			(token.getKind() == TokenKind.Register) ? ArgumentType.Register
+			(currentTokenKind == TokenKind.Register) ? ArgumentType.Register
 				: ArgumentType.Number;
 
-		String argumentValue = token.getValue();
+		int argumentValue;
 
-		if (argumentType == ArgumentType.Register)
+		if (this._tokenBuffer != null)
 		{
-			// Get the register's number.
-			argumentValue = argumentValue.substring(1);
+			// The register's number is parsed by the buffer
+			argumentValue =
+				this._tokenBuffer.getNumericValue(this._currentTokenId);
 		}
+		else
+		{
+			String source = this._currentToken.getValue();
+
+			int beginIndex = 0;
+			int endIndex = source.length();
+
+			if (argumentType == ArgumentType.Register)
+			{
+				// Get the register's number.
+				beginIndex = Math.min(beginIndex + 1, endIndex);
+			}
+
+			long value = NumberUtils.tryParseInt(source, beginIndex, endIndex);
+
+			if (value == NumberUtils.NOT_A_NUMBER)
+			{
+				// Throws the exception with the usual message
+				value =
+					Integer.parseInt(source.subSequence(beginIndex, endIndex)
+							.toString());
+			}
 
-		Argument argument =
-			new Argument(argumentType, Integer.parseInt(argumentValue));
+			argumentValue = (int) value;
+		}
 
-		return argument;
+		this._commandBuilder.addArgument(argumentType, argumentValue);
 	}
 
-	private Command getCommandFromToken(Token token)
+	private CommandType getCommandTypeFromCurrentToken()
 	{
 		CommandType commandType =
-			this._commandTypesDictionary.get(token.getValue().toLowerCase());
+			this._commandTypesDictionary.get(this.getCurrentTokenValue()
+					.toLowerCase());
 
 		if (commandType == null)
 		{
 			commandType = CommandType.Unknown;
 		}
 
-		return new Command(commandType);
+		return commandType;
 	}
 
-	private Token getCurrentToken()
+	private TokenKind getCurrentTokenKind()
 	{
-		Token currentToken = this._tokens.get(this._currentTokenId);
+		if (this._tokenBuffer != null)
+		{
+			return this._tokenBuffer.getKind(this._currentTokenId);
+		}
 
-		return currentToken;
+		return this._currentToken.getKind();
+	}
+
+	private int getCurrentTokenOffset()
+	{
+		if (this._tokenBuffer != null)
+		{
+			return this._tokenBuffer.getOffset(this._currentTokenId);
+		}
+
+		return this._currentToken.getOffset();
+	}
+
+	private String getCurrentTokenValue()
+	{
+		if (this._tokenBuffer != null)
+		{
+			return this._tokenBuffer.getValue(this._currentTokenId);
+		}
+
+		return this._currentToken.getValue();
+	}
+
+	private int getTokensCount()
+	{
+		if (this._tokenBuffer != null)
+		{
+			return this._tokenBuffer.getTokensCount();
+		}
+
+		return this._tokens.size();
 	}
 
 	private void initialize()
 	{
-		this._commands = new Stack<Command>();
+		this._commands = new ArrayList<Command>();
 
 		this._currentTokenId = 0;
 
@@ -195,20 +337,29 @@ public class CommandsParser implements ICommandsParser
 
 	private boolean isInBounds()
 	{
-		return this._currentTokenId < this._tokens.size();
+		return this._currentTokenId < this.getTokensCount();
 	}
 
-	private void multipleArgumentsStep() throws CommandIsInvalidException
+	private boolean isCurrentToken(SpecialTokenKind specialTokenKind)
 	{
-		Token currentToken = this.getCurrentToken();
+		Token specialToken = this._specialTokensDictionary.get(specialTokenKind);
 
-		if (currentToken.equals(this._specialTokensDictionary
-				.get(SpecialTokenKind.Concatenation)))
+		if (this._tokenBuffer != null)
+		{
+			return this._tokenBuffer.equalsToken(this._currentTokenId,
+				specialToken);
+		}
+
+		return this._currentToken.equals(specialToken);
+	}
+
+	private void multipleArgumentsStep() throws CommandIsInvalidException
+	{
+		if (this.isCurrentToken(SpecialTokenKind.Concatenation))
 		{
 			this._state = 1;
 		}
-		else if (currentToken.equals(this._specialTokensDictionary
-				.get(SpecialTokenKind.Termination)))
+		else if (this.isCurrentToken(SpecialTokenKind.Termination))
 		{
 			this._state = 0;
 		}
@@ -217,7 +368,7 @@ public class CommandsParser implements ICommandsParser
 			throw new CommandIsInvalidException(
 				String.format(
 					"Invalid command at token '%1$s'. Expected concatenation or termination token.",
-					currentToken.getValue()));
+					this.getCurrentTokenValue()), this.getCurrentTokenOffset());
 		}
 	}
 
@@ -225,44 +376,69 @@ public class CommandsParser implements ICommandsParser
 	{
 		while (this.isInBounds())
 		{
-			switch (this._state)
+			if (this._tokenBuffer == null)
+			{
+				this._currentToken = this._tokens.get(this._currentTokenId);
+			}
+
+			if (this.processToken())
 			{
-				case 0:
-				{
-					this.createCommandStep();
-					break;
-				}
-
-				case 1:
-				{
-					this.setArgumentStep();
-					break;
-				}
-
-				case 2:
-				{
-					this.multipleArgumentsStep();
-					break;
-				}
+				this._commands.add(this._commandBuilder.build());
 			}
 
 			this._currentTokenId++;
 		}
 
+		this.processEnd();
+	}
+
+	private void processEnd() throws CommandIsInvalidException
+	{
+		this._currentToken = null;
+
 		if (this._state != 0)
 		{
-			Command lastCommand = this._commands.peek();
-
 			throw new CommandIsInvalidException(String.format(
-				"Invalid command '%1$s'.", lastCommand.toString()));
+				"Invalid command '%1$s'.", this._commandBuilder.toString()),
+				this._commandOffset);
 		}
 	}
 
-	private void setArgumentStep() throws CommandIsInvalidException
+	/**
+	 * Processes the current token.
+	 *
+	 * @return true, if the token completes the last command
+	 */
+	private boolean processToken() throws CommandIsInvalidException
 	{
-		Token currentToken = this.getCurrentToken();
+		switch (this._state)
+		{
+			case 0:
+			{
+				this.createCommandStep();
+				break;
+			}
+
+			case 1:
+			{
+				this.setArgumentStep();
+				break;
+			}
+
+			case 2:
+			{
+				this.multipleArgumentsStep();
+
+				return this._state == 0;
+			}
+		}
 
-		TokenKind currentTokenKind = currentToken.getKind();
+		return false;
+	}
+
+	private void setArgumentStep() throws CommandIsInvalidException
+	{
+		TokenKind currentTokenKind = this.getCurrentTokenKind();
 
 		if (currentTokenKind != TokenKind.Register
 			&& currentTokenKind != TokenKind.Number)
@@ -270,17 +446,10 @@ public class CommandsParser implements ICommandsParser
 			throw new CommandIsInvalidException(
 				String.format(
 					"Invalid command at token '%1$s'. Expected register or number token.",
-					currentToken.getValue()));
+					this.getCurrentTokenValue()), this.getCurrentTokenOffset());
 		}
 
-		Command lastCommand = this._commands.peek();
-
-		List<Argument> arguments =
-			new ArrayList<Argument>(lastCommand.getArguments());
-
-		arguments.add(this.getArgumentFromToken(currentToken));
-
-		lastCommand.setArguments(arguments);
+		this.addArgumentFromCurrentToken(currentTokenKind);
 
 		this._state = 2;
 	}
@@ -0,0 +1,269 @@
+package processor_simulator.Parsers.Concrete;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import processor_simulator.Enums.SpecialTokenKind;
+import processor_simulator.Exceptions.CommandIsInvalidException;
+import processor_simulator.Exceptions.SpecialTokenIsNotDefinedException;
+import processor_simulator.Lexers.Concrete.CommandsLexer;
+import processor_simulator.Models.Command;
+import processor_simulator.Models.TokenBuffer;
+import processor_simulator.Parsers.Abstract.IParallelCommandsParser;
+import processor_simulator.Utils.Guard;
+
+/**
+ * Front end, which lexes and parses the source on a fork-join pool. The
+ * source is split into chunks right after the termination tokens, every
+ * chunk is processed by its own lexer and parser and the commands are joined
+ * in the source's order. Since the chunks are split at the termination
+ * token's characters, the token definitions must not match them inside
+ * other tokens (the default definitions don't).
+ */
+public class ParallelCommandsParser implements IParallelCommandsParser
+{
+	private static final int CHUNKS_PER_THREAD = 4;
+
+	private static final int DEFAULT_MIN_CHUNK_SIZE = 65536;
+
+	private final CommandsLexer _commandsLexer;
+
+	private final CommandsParser _commandsParser;
+
+	private final ForkJoinPool _forkJoinPool;
+
+	private final int _minChunkSize;
+
+	private final String _terminator;
+
+	public ParallelCommandsParser() throws SpecialTokenIsNotDefinedException
+	{
+		this(new CommandsLexer(), new CommandsParser(), ForkJoinPool
+				.commonPool());
+	}
+
+	public ParallelCommandsParser(CommandsLexer commandsLexer,
+		CommandsParser commandsParser, ForkJoinPool forkJoinPool)
+	{
+		this(commandsLexer, commandsParser, forkJoinPool,
+			ParallelCommandsParser.DEFAULT_MIN_CHUNK_SIZE);
+	}
+
+	/**
+	 * Instantiates a new parallel parser. The settings of the lexer and the
+	 * parser are copied, so changing them later doesn't affect this parser.
+	 *
+	 * @param commandsLexer
+	 *            the lexer to copy the settings from
+	 * @param commandsParser
+	 *            the parser to copy the settings from
+	 * @param forkJoinPool
+	 *            the pool to process the chunks on
+	 * @param minChunkSize
+	 *            the minimal number of characters in a chunk
+	 */
+	public ParallelCommandsParser(CommandsLexer commandsLexer,
+		CommandsParser commandsParser, ForkJoinPool forkJoinPool,
+		int minChunkSize)
+	{
+		Guard.notNull(commandsLexer, "commandsLexer");
+		Guard.notNull(commandsParser, "commandsParser");
+		Guard.notNull(forkJoinPool, "forkJoinPool");
+		Guard.moreThanZero(minChunkSize, "minChunkSize");
+
+		this._commandsLexer = new CommandsLexer(commandsLexer);
+		this._commandsParser = new CommandsParser(commandsParser);
+		this._forkJoinPool = forkJoinPool;
+		this._minChunkSize = minChunkSize;
+
+		this._terminator =
+			this._commandsParser.getSpecialTokensDictionary()
+					.get(SpecialTokenKind.Termination).getValue();
+	}
+
+	@Override
+	public ForkJoinPool getForkJoinPool()
+	{
+		return this._forkJoinPool;
+	}
+
+	@Override
+	public int getMinChunkSize()
+	{
+		return this._minChunkSize;
+	}
+
+	@Override
+	public List<Command> parse(CharSequence source)
+		throws CommandIsInvalidException
+	{
+		Guard.notNull(source, "source");
+
+		List<ChunkTask> tasks = this.split(source);
+
+		for (int i = 1; i < tasks.size(); i++)
+		{
+			this._forkJoinPool.execute(tasks.get(i));
+		}
+
+		// The first chunk is processed by the calling thread
+		tasks.get(0).invoke();
+
+		int commandsCount = 0;
+
+		for (int i = 0; i < tasks.size(); i++)
+		{
+			ChunkTask task = tasks.get(i);
+
+			task.join();
+
+			if (task._exception != null)
+			{
+				// The following chunks' results are not needed anymore
+				for (int j = i + 1; j < tasks.size(); j++)
+				{
+					tasks.get(j).cancel(false);
+				}
+
+				ParallelCommandsParser.rethrow(task._exception);
+			}
+
+			commandsCount += task._commands.size();
+		}
+
+		List<Command> commands = new ArrayList<Command>(commandsCount);
+
+		for (ChunkTask task : tasks)
+		{
+			commands.addAll(task._commands);
+		}
+
+		return commands;
+	}
+
+	private static void rethrow(Exception exception)
+		throws CommandIsInvalidException
+	{
+		if (exception instanceof CommandIsInvalidException)
+		{
+			throw (CommandIsInvalidException) exception;
+		}
+
+		throw (RuntimeException) exception;
+	}
+
+	/**
+	 * Finds the end of the chunk, which is the position after the first
+	 * terminator at or after the specified position.
+	 *
+	 * @return the end of the chunk
+	 */
+	private int findChunkEnd(CharSequence source, int fromIndex)
+	{
+		int terminatorLength = this._terminator.length();
+
+		int lastIndex = source.length() - terminatorLength;
+
+		for (int i = fromIndex; i <= lastIndex; i++)
+		{
+			if (this.isTerminatorAt(source, i))
+			{
+				return i + terminatorLength;
+			}
+		}
+
+		return source.length();
+	}
+
+	private boolean isTerminatorAt(CharSequence source, int index)
+	{
+		for (int i = 0; i < this._terminator.length(); i++)
+		{
+			if (source.charAt(index + i) != this._terminator.charAt(i))
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private List<ChunkTask> split(CharSequence source)
+	{
+		List<ChunkTask> tasks = new ArrayList<ChunkTask>();
+
+		int length = source.length();
+
+		int chunksCount =
+			this._forkJoinPool.getParallelism()
+				* ParallelCommandsParser.CHUNKS_PER_THREAD;
+
+		int chunkSize = Math.max(this._minChunkSize, length / chunksCount);
+
+		int beginIndex = 0;
+
+		do
+		{
+			int endIndex =
+				(length - beginIndex <= chunkSize) ? length : this
+						.findChunkEnd(source, beginIndex + chunkSize);
+
+			tasks.add(new ChunkTask(source, beginIndex, endIndex));
+
+			beginIndex = endIndex;
+		}
+		while (beginIndex < length);
+
+		return tasks;
+	}
+
+	private class ChunkTask extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final int _beginIndex;
+
+		private List<Command> _commands;
+
+		private final int _endIndex;
+
+		private Exception _exception;
+
+		private final CharSequence _source;
+
+		public ChunkTask(CharSequence source, int beginIndex, int endIndex)
+		{
+			this._source = source;
+			this._beginIndex = beginIndex;
+			this._endIndex = endIndex;
+		}
+
+		@Override
+		protected void compute()
+		{
+			try
+			{
+				CommandsLexer commandsLexer =
+					new CommandsLexer(ParallelCommandsParser.this._commandsLexer);
+
+				commandsLexer.setSource(this._source);
+
+				// The offsets of the tokens are relative to the whole source
+				TokenBuffer tokenBuffer = new TokenBuffer();
+
+				commandsLexer.parse(tokenBuffer, this._beginIndex,
+					this._endIndex);
+
+				this._commands =
+					new CommandsParser(ParallelCommandsParser.this._commandsParser)
+							.parse(tokenBuffer);
+			}
+			catch (CommandIsInvalidException | RuntimeException e)
+			{
+				this._exception = e;
+			}
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package processor_simulator.Simulators.Abstract;
+
+public interface IArithmeticLogicUnit
+{
+	/**
+	 * The flag of the result of {@link #getFlags(int, int)}, which is set, if
+	 * the result overflowed.
+	 */
+	int OVERFLOW_FLAG = 1;
+
+	/**
+	 * The flag of the result of {@link #getFlags(int, int)}, which is set, if
+	 * the result is negative.
+	 */
+	int SIGN_FLAG = 2;
+
+	/**
+	 * Casts the value to the number of bits and extends its sign.
+	 *
+	 * @param value
+	 *            the value
+	 * @return the casted value
+	 */
+	int castValue(int value);
+
+	/**
+	 * Gets the flags of the result.
+	 *
+	 * @param castedResult
+	 *            the result, cast to the number of bits
+	 * @param result
+	 *            the result before the cast
+	 * @return the {@link #OVERFLOW_FLAG} and {@link #SIGN_FLAG}
+	 */
+	int getFlags(int castedResult, int result);
+
+	/**
+	 * Gets the number of bits.
+	 *
+	 * @return the number of bits
+	 */
+	int getNumberOfBits();
+
+	/**
+	 * Moves the value to the left, a negative argument moves it to the
+	 * right.
+	 *
+	 * @param value
+	 *            the value
+	 * @param moveArgument
+	 *            the number of bits to move by
+	 * @return the moved value
+	 */
+	int leftMove(int value, int moveArgument);
+
+	/**
+	 * Moves the value to the right, rounding down, a negative argument moves
+	 * it to the left.
+	 *
+	 * @param value
+	 *            the value
+	 * @param moveArgument
+	 *            the number of bits to move by
+	 * @return the moved value
+	 */
+	int rightMove(int value, int moveArgument);
+}
@@ -0,0 +1,56 @@
+package processor_simulator.Simulators.Abstract;
+
+import java.util.List;
+
+import processor_simulator.Exceptions.CommandArgumentIsInvalidException;
+import processor_simulator.Exceptions.CommandIsInvalidException;
+import processor_simulator.Models.Command;
+import processor_simulator.Models.CompiledProgram;
+import processor_simulator.Models.ProcessorState;
+
+/**
+ * Simulator, which performs the whole programs in one call and returns the
+ * final state.
+ */
+public interface IBatchRunnable
+{
+	/**
+	 * Gets the snapshot of the current state.
+	 *
+	 * @return the state
+	 */
+	ProcessorState getState();
+
+	/**
+	 * Performs the compiled program in one call. The final state is the same
+	 * as performing its commands one by one: the commands counter grows by
+	 * the commands count, the flags, the tacts counter and the current
+	 * command's text are those of the last command. The intermediate state
+	 * is only updated while somebody is listening to the tacts.
+	 *
+	 * @param program
+	 *            the compiled program
+	 * @return the final state
+	 * @throws CommandArgumentIsInvalidException
+	 *             the program requires more registers than the simulator has
+	 */
+	ProcessorState run(CompiledProgram program)
+		throws CommandArgumentIsInvalidException;
+
+	/**
+	 * Performs the commands in one call the same way as
+	 * {@link #run(CompiledProgram)}. All commands are checked before the
+	 * first one is performed, so the state is not changed, if any of them is
+	 * invalid.
+	 *
+	 * @param commands
+	 *            the commands
+	 * @return the final state
+	 * @throws CommandIsInvalidException
+	 *             the command is invalid exception
+	 * @throws CommandArgumentIsInvalidException
+	 *             the command argument is invalid exception
+	 */
+	ProcessorState runAll(List<Command> commands)
+		throws CommandIsInvalidException, CommandArgumentIsInvalidException;
+}
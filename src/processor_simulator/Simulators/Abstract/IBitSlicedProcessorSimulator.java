@@ -0,0 +1,104 @@
+package processor_simulator.Simulators.Abstract;
+
+import processor_simulator.Exceptions.CommandArgumentIsInvalidException;
+import processor_simulator.Models.CompiledProgram;
+
+/**
+ * Processor simulator, which performs the same program on 64 independent
+ * machines. Every bit position of a register is a long, whose bit m belongs
+ * to the machine m.
+ */
+public interface IBitSlicedProcessorSimulator
+{
+	/**
+	 * The number of the machines.
+	 */
+	int MACHINES_COUNT = Long.SIZE;
+
+	/**
+	 * Gets the number of bits.
+	 *
+	 * @return the number of bits
+	 */
+	int getNumberOfBits();
+
+	/**
+	 * Gets the number of the registers of every machine.
+	 *
+	 * @return the number of registers
+	 */
+	int getNumberOfRegisters();
+
+	/**
+	 * Gets the overflow flags of the machines, the bit m is the flag of the
+	 * machine m.
+	 *
+	 * @return the overflow mask
+	 */
+	long getOverflowMask();
+
+	/**
+	 * Copies the slices of the specified register, from the lowest bit.
+	 *
+	 * @param registerNumber
+	 *            the register's number, starting from 1
+	 * @param slices
+	 *            the array for the number of bits slices
+	 */
+	void getRegisterSlices(int registerNumber, long[] slices);
+
+	/**
+	 * Gets the sign flags of the machines, the same way as
+	 * {@link #getOverflowMask()}.
+	 *
+	 * @return the sign mask
+	 */
+	long getSignMask();
+
+	/**
+	 * Sets the values of the specified register of all machines. The values
+	 * are cast to the number of bits.
+	 *
+	 * @param registerNumber
+	 *            the register's number, starting from 1
+	 * @param values
+	 *            the values
+	 * @param offset
+	 *            the offset of the first machine's value in the array
+	 */
+	void loadRegister(int registerNumber, int[] values, int offset);
+
+	/**
+	 * Performs all commands of the program on every machine. Only the flags
+	 * of the last command are kept.
+	 *
+	 * @param program
+	 *            the compiled program
+	 * @throws CommandArgumentIsInvalidException
+	 *             the program requires more registers than the simulator has
+	 */
+	void performProgram(CompiledProgram program)
+		throws CommandArgumentIsInvalidException;
+
+	/**
+	 * Copies the values of the specified register of all machines.
+	 *
+	 * @param registerNumber
+	 *            the register's number, starting from 1
+	 * @param values
+	 *            the array for the values
+	 * @param offset
+	 *            the offset of the first machine's value in the array
+	 */
+	void readRegister(int registerNumber, int[] values, int offset);
+
+	/**
+	 * Sets the slices of the specified register, from the lowest bit.
+	 *
+	 * @param registerNumber
+	 *            the register's number, starting from 1
+	 * @param slices
+	 *            the number of bits slices
+	 */
+	void setRegisterSlices(int registerNumber, long[] slices);
+}
@@ -0,0 +1,26 @@
+package processor_simulator.Simulators.Abstract;
+
+import processor_simulator.Models.ProcessorState;
+
+/**
+ * View of the simulator's state, which can be read by the other threads.
+ * The state is published after every command, and the reading never blocks
+ * the simulator.
+ */
+public interface IConcurrentStateView
+{
+	/**
+	 * Gets the number of the readings, which were repeated, because the
+	 * simulator published the state during them.
+	 *
+	 * @return the retries count
+	 */
+	long getRetriesCount();
+
+	/**
+	 * Reads the consistent state after the last published command.
+	 *
+	 * @return the state
+	 */
+	ProcessorState readState();
+}
@@ -0,0 +1,26 @@
+package processor_simulator.Simulators.Abstract;
+
+/**
+ * Simulator, whose state can be read consistently by the other threads
+ * while it runs.
+ */
+public interface IConcurrentlyObservable
+{
+	/**
+	 * Gets the view of the state for the other threads.
+	 *
+	 * @return the concurrent state view, null if the concurrent observation
+	 *         is off
+	 */
+	IConcurrentStateView getConcurrentStateView();
+
+	/**
+	 * Turns the concurrent observation on or off. While it is on, every
+	 * performed command publishes its changes to the concurrent state view,
+	 * so the other threads can read the consistent state.
+	 *
+	 * @param isEnabled
+	 *            whether the observation is on
+	 */
+	void setConcurrentObservation(boolean isEnabled);
+}
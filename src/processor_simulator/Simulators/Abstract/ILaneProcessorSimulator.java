@@ -0,0 +1,127 @@
+package processor_simulator.Simulators.Abstract;
+
+import processor_simulator.Exceptions.CommandArgumentIsInvalidException;
+import processor_simulator.Models.CompiledProgram;
+
+/**
+ * Processor simulator, which performs the same program on many independent
+ * register files (lanes) at once. The lanes don't affect one another, so
+ * the order, in which they are processed, is up to the implementation.
+ */
+public interface ILaneProcessorSimulator
+{
+	/**
+	 * Gets the number of the lanes.
+	 *
+	 * @return the lanes count
+	 */
+	int getLanesCount();
+
+	/**
+	 * Gets the number of bits.
+	 *
+	 * @return the number of bits
+	 */
+	int getNumberOfBits();
+
+	/**
+	 * Gets the number of the registers of every lane.
+	 *
+	 * @return the number of registers
+	 */
+	int getNumberOfRegisters();
+
+	/**
+	 * Gets the overflow flag of the specified lane.
+	 *
+	 * @param lane
+	 *            the lane's index
+	 * @return the overflow flag
+	 */
+	boolean getOverflowFlag(int lane);
+
+	/**
+	 * Gets the overflow flags of all lanes as the mask, where the flag of the
+	 * lane is the bit (lane % 64) of the word (lane / 64).
+	 *
+	 * @return the overflow mask
+	 */
+	long[] getOverflowMask();
+
+	/**
+	 * Copies the values of the specified register of all lanes.
+	 *
+	 * @param registerNumber
+	 *            the register's number, starting from 1
+	 * @param values
+	 *            the array for the values
+	 * @param offset
+	 *            the offset of the first lane's value in the array
+	 */
+	void getRegisterLanes(int registerNumber, int[] values, int offset);
+
+	/**
+	 * Gets the sign flag of the specified lane.
+	 *
+	 * @param lane
+	 *            the lane's index
+	 * @return the sign flag
+	 */
+	boolean getSignFlag(int lane);
+
+	/**
+	 * Gets the sign flags of all lanes as the mask, the same way as
+	 * {@link #getOverflowMask()}.
+	 *
+	 * @return the sign mask
+	 */
+	long[] getSignMask();
+
+	/**
+	 * Sets the registers of all lanes from the states, which follow one
+	 * another: all registers of the first lane, then of the second lane and
+	 * so on. The values are cast to the number of bits.
+	 *
+	 * @param states
+	 *            the states
+	 * @param offset
+	 *            the offset of the first lane's state in the array
+	 */
+	void loadStates(int[] states, int offset);
+
+	/**
+	 * Performs all commands of the program on every lane. Only the flags of
+	 * the last command are kept.
+	 *
+	 * @param program
+	 *            the compiled program
+	 * @throws CommandArgumentIsInvalidException
+	 *             the program requires more registers than the simulator has
+	 */
+	void performProgram(CompiledProgram program)
+		throws CommandArgumentIsInvalidException;
+
+	/**
+	 * Copies the registers of all lanes to the states in the same order as
+	 * {@link #loadStates(int[], int)} reads them.
+	 *
+	 * @param states
+	 *            the array for the states
+	 * @param offset
+	 *            the offset of the first lane's state in the array
+	 */
+	void readStates(int[] states, int offset);
+
+	/**
+	 * Sets the values of the specified register of all lanes. The values are
+	 * cast to the number of bits.
+	 *
+	 * @param registerNumber
+	 *            the register's number, starting from 1
+	 * @param values
+	 *            the values
+	 * @param offset
+	 *            the offset of the first lane's value in the array
+	 */
+	void setRegisterLanes(int registerNumber, int[] values, int offset);
+}
@@ -0,0 +1,127 @@
+package processor_simulator.Simulators.Abstract;
+
+/**
+ * Arithmetic logic unit, which keeps every value in the packed words of a
+ * long array. A value takes {@link #getWordsCount()} words from the lowest
+ * to the highest one, and the bits above the number of bits repeat the sign
+ * bit. The results are exact: a result overflows, if it doesn't fit in the
+ * number of bits. Every operation puts the result to the register's words
+ * and returns the {@link IArithmeticLogicUnit#OVERFLOW_FLAG} and
+ * {@link IArithmeticLogicUnit#SIGN_FLAG} of the result.
+ */
+public interface IMultiWordArithmeticLogicUnit
+{
+	/**
+	 * Adds the operand to the register.
+	 *
+	 * @param registers
+	 *            the words of the registers
+	 * @param registerOffset
+	 *            the offset of the register's words
+	 * @param operand
+	 *            the words of the operand
+	 * @param operandOffset
+	 *            the offset of the operand's words
+	 * @return the flags
+	 */
+	int add(long[] registers, int registerOffset, long[] operand,
+		int operandOffset);
+
+	/**
+	 * Casts the value to the number of bits and extends its sign.
+	 *
+	 * @param words
+	 *            the words of the value
+	 * @param offset
+	 *            the offset of the value's words
+	 */
+	void castValue(long[] words, int offset);
+
+	/**
+	 * Gets the value as the argument of a move. Moving by more than the
+	 * number of bits gives the same result as moving by one more bit than the
+	 * number of bits, so larger values are saturated.
+	 *
+	 * @param words
+	 *            the words of the value
+	 * @param offset
+	 *            the offset of the value's words
+	 * @return the move argument
+	 */
+	long getMoveArgument(long[] words, int offset);
+
+	/**
+	 * Gets the number of bits.
+	 *
+	 * @return the number of bits
+	 */
+	int getNumberOfBits();
+
+	/**
+	 * Gets the number of the words of a value.
+	 *
+	 * @return the words count
+	 */
+	int getWordsCount();
+
+	/**
+	 * Moves the register to the left, a negative argument moves it to the
+	 * right.
+	 *
+	 * @param registers
+	 *            the words of the registers
+	 * @param registerOffset
+	 *            the offset of the register's words
+	 * @param moveArgument
+	 *            the number of bits to move by
+	 * @return the flags
+	 */
+	int leftMove(long[] registers, int registerOffset, long moveArgument);
+
+	/**
+	 * Loads the operand, which may have more bits than the number of bits,
+	 * to the register.
+	 *
+	 * @param registers
+	 *            the words of the registers
+	 * @param registerOffset
+	 *            the offset of the register's words
+	 * @param operand
+	 *            the words of the operand
+	 * @param operandOffset
+	 *            the offset of the operand's words
+	 * @return the flags
+	 */
+	int load(long[] registers, int registerOffset, long[] operand,
+		int operandOffset);
+
+	/**
+	 * Moves the register to the right, rounding down, a negative argument
+	 * moves it to the left.
+	 *
+	 * @param registers
+	 *            the words of the registers
+	 * @param registerOffset
+	 *            the offset of the register's words
+	 * @param moveArgument
+	 *            the number of bits to move by
+	 * @return the flags
+	 */
+	int rightMove(long[] registers, int registerOffset, long moveArgument);
+
+	/**
+	 * Puts the exclusive or of the register and the operand to the register.
+	 *
+	 * @param registers
+	 *            the words of the registers
+	 * @param registerOffset
+	 *            the offset of the register's words
+	 * @param operand
+	 *            the words of the operand
+	 * @param operandOffset
+	 *            the offset of the operand's words
+	 * @return the flags
+	 */
+	int xor(long[] registers, int registerOffset, long[] operand,
+		int operandOffset);
+}
@@ -0,0 +1,116 @@
+package processor_simulator.Simulators.Abstract;
+
+import java.math.BigInteger;
+
+import processor_simulator.Exceptions.CommandArgumentIsInvalidException;
+import processor_simulator.Exceptions.CommandIsInvalidException;
+import processor_simulator.Models.Command;
+import processor_simulator.Models.CompiledProgram;
+
+/**
+ * Processor simulator with registers of any number of bits, which are kept
+ * in the packed long words.
+ */
+public interface IMultiWordProcessorSimulator
+{
+	/**
+	 * Gets the commands counter.
+	 *
+	 * @return the commands counter
+	 */
+	int getCommandsCounter();
+
+	/**
+	 * Gets the current command's string representation.
+	 *
+	 * @return the current command's string representation
+	 */
+	String getCurrentCommandText();
+
+	/**
+	 * Gets the number of bits.
+	 *
+	 * @return the number of bits
+	 */
+	int getNumberOfBits();
+
+	/**
+	 * Gets the overflow flag.
+	 *
+	 * @return the overflow flag
+	 */
+	boolean getOverflowFlag();
+
+	/**
+	 * Gets the value of the specified register.
+	 *
+	 * @param registerNumber
+	 *            the register's number, starting from 1
+	 * @return the register's value
+	 */
+	BigInteger getRegister(int registerNumber);
+
+	/**
+	 * Copies the words of the specified register, from the lowest to the
+	 * highest one.
+	 *
+	 * @param registerNumber
+	 *            the register's number, starting from 1
+	 * @param words
+	 *            the array, at least {@link #getWordsCount()} words long
+	 */
+	void getRegisterWords(int registerNumber, long[] words);
+
+	/**
+	 * Gets the values of the registers.
+	 *
+	 * @return the registers
+	 */
+	BigInteger[] getRegisters();
+
+	/**
+	 * Gets the sign flag.
+	 *
+	 * @return the sign flag
+	 */
+	boolean getSignFlag();
+
+	/**
+	 * Gets the tacts counter.
+	 *
+	 * @return the tacts counter
+	 */
+	int getTactsCounter();
+
+	/**
+	 * Gets the number of the words of a register.
+	 *
+	 * @return the words count
+	 */
+	int getWordsCount();
+
+	/**
+	 * Performs the specified command.
+	 *
+	 * @param command
+	 *            the command
+	 * @throws CommandIsInvalidException
+	 *             the command is invalid exception
+	 * @throws CommandArgumentIsInvalidException
+	 *             the command argument is invalid exception
+	 */
+	void performCommand(Command command) throws CommandIsInvalidException,
+		CommandArgumentIsInvalidException;
+
+	/**
+	 * Performs all commands of the specified compiled program. Tacts are only
+	 * reported while somebody is listening to them.
+	 *
+	 * @param program
+	 *            the compiled program
+	 * @throws CommandArgumentIsInvalidException
+	 *             the program requires more registers than the simulator has
+	 */
+	void performProgram(CompiledProgram program)
+		throws CommandArgumentIsInvalidException;
+}
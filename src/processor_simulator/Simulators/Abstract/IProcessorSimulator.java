@@ -1,11 +1,29 @@
 package processor_simulator.Simulators.Abstract;
 
+import processor_simulator.Compilers.Abstract.IExecutableProgram;
 import processor_simulator.Exceptions.CommandArgumentIsInvalidException;
 import processor_simulator.Exceptions.CommandIsInvalidException;
+import processor_simulator.Infrastructure.Abstact.ICommandEventListener;
+import processor_simulator.Infrastructure.Abstact.IObservable;
+import processor_simulator.Infrastructure.Abstact.ITactEventListener;
 import processor_simulator.Models.Command;
+import processor_simulator.Models.CompiledProgram;
 
 public interface IProcessorSimulator
 {
+	/**
+	 * Clears the registers, the flags and the counters, so the simulator is
+	 * in the same state as the new one and can be reused.
+	 */
+	void clear();
+
+	/**
+	 * Gets the subscription to the events of the performed commands.
+	 *
+	 * @return the command events
+	 */
+	IObservable<ICommandEventListener> getCommandEvents();
+
 	/**
 	 * Gets the commands counter.
 	 *
@@ -48,6 +66,13 @@ public interface IProcessorSimulator
 	 */
 	boolean getSignFlag();
 
+	/**
+	 * Gets the subscription to the events of the tacts.
+	 *
+	 * @return the tact events
+	 */
+	IObservable<ITactEventListener> getTactEvents();
+
 	/**
 	 * Gets the tacts counter.
 	 *
@@ -67,4 +92,31 @@ public interface IProcessorSimulator
 	 */
 	void performCommand(Command command) throws CommandIsInvalidException,
 		CommandArgumentIsInvalidException;
+
+	/**
+	 * Performs all commands of the specified compiled program. The result is
+	 * the same as performing the commands one by one, but tacts are only
+	 * reported while somebody is listening to them.
+	 *
+	 * @param program
+	 *            the compiled program
+	 * @throws CommandArgumentIsInvalidException
+	 *             the program requires more registers than the simulator has
+	 */
+	void performProgram(CompiledProgram program)
+		throws CommandArgumentIsInvalidException;
+
+	/**
+	 * Performs the generated code of the program. The result is the same as
+	 * performing the compiled program, the code is only used while nobody is
+	 * listening to the tacts.
+	 *
+	 * @param program
+	 *            the executable program, generated for the simulator's number
+	 *            of bits
+	 * @throws CommandArgumentIsInvalidException
+	 *             the program requires more registers than the simulator has
+	 */
+	void performProgram(IExecutableProgram program)
+		throws CommandArgumentIsInvalidException;
 }
@@ -0,0 +1,57 @@
+package processor_simulator.Simulators.Abstract;
+
+/**
+ * Immutable snapshot of the processor simulator, which can be restored by
+ * any simulator of the same implementation and configuration.
+ */
+public interface IProcessorSnapshot
+{
+	/**
+	 * Gets the commands counter.
+	 *
+	 * @return the commands counter
+	 */
+	int getCommandsCounter();
+
+	/**
+	 * Gets the current command's string representation.
+	 *
+	 * @return the current command's string representation
+	 */
+	String getCurrentCommandText();
+
+	/**
+	 * Gets the number of bits.
+	 *
+	 * @return the number of bits
+	 */
+	int getNumberOfBits();
+
+	/**
+	 * Gets the overflow flag.
+	 *
+	 * @return the overflow flag
+	 */
+	boolean getOverflowFlag();
+
+	/**
+	 * Gets the copy of the registers.
+	 *
+	 * @return the registers
+	 */
+	int[] getRegisters();
+
+	/**
+	 * Gets the sign flag.
+	 *
+	 * @return the sign flag
+	 */
+	boolean getSignFlag();
+
+	/**
+	 * Gets the tacts counter.
+	 *
+	 * @return the tacts counter
+	 */
+	int getTactsCounter();
+}
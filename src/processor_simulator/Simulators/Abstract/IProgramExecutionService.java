@@ -0,0 +1,92 @@
+package processor_simulator.Simulators.Abstract;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import processor_simulator.Models.Command;
+import processor_simulator.Models.CompiledProgram;
+import processor_simulator.Models.ProcessorState;
+import processor_simulator.Models.SimulatorConfiguration;
+
+/**
+ * Service, which performs the programs concurrently. Every program is
+ * performed from the initial state of the simulator, the futures complete
+ * with the final states or exceptionally with the errors of the programs.
+ */
+public interface IProgramExecutionService
+{
+	/**
+	 * Performs the compiled program.
+	 *
+	 * @param configuration
+	 *            the configuration of the simulator
+	 * @param program
+	 *            the compiled program
+	 * @return the future of the final state
+	 */
+	CompletableFuture<ProcessorState> execute(
+		SimulatorConfiguration configuration, CompiledProgram program);
+
+	/**
+	 * Checks and performs the commands.
+	 *
+	 * @param configuration
+	 *            the configuration of the simulator
+	 * @param commands
+	 *            the commands
+	 * @return the future of the final state
+	 */
+	CompletableFuture<ProcessorState> execute(
+		SimulatorConfiguration configuration, List<Command> commands);
+
+	/**
+	 * Performs the compiled programs.
+	 *
+	 * @param configuration
+	 *            the configuration of the simulators
+	 * @param programs
+	 *            the compiled programs
+	 * @return the futures of the final states in the programs' order, every
+	 *         future completes as soon as its program is performed
+	 */
+	List<CompletableFuture<ProcessorState>> executeAll(
+		SimulatorConfiguration configuration, List<CompiledProgram> programs);
+
+	/**
+	 * Gets the number of the programs, which were performed successfully.
+	 *
+	 * @return the completed count
+	 */
+	long getCompletedCount();
+
+	/**
+	 * Gets the executor, which performs the programs.
+	 *
+	 * @return the executor
+	 */
+	Executor getExecutor();
+
+	/**
+	 * Gets the number of the programs, which failed.
+	 *
+	 * @return the failed count
+	 */
+	long getFailedCount();
+
+	/**
+	 * Gets the number of the programs, which were submitted, but aren't
+	 * started yet.
+	 *
+	 * @return the queue depth
+	 */
+	int getQueueDepth();
+
+	/**
+	 * Gets the number of the completed and the failed programs per second
+	 * since the service was created.
+	 *
+	 * @return the throughput
+	 */
+	double getThroughput();
+}
@@ -0,0 +1,33 @@
+package processor_simulator.Simulators.Abstract;
+
+/**
+ * Read-only view of the simulator's registers, which doesn't copy them. The
+ * view always shows the current registers, so it is read on the
+ * simulator's thread or between the runs.
+ */
+public interface IRegistersView
+{
+	/**
+	 * Copies the registers into the buffer.
+	 *
+	 * @param destination
+	 *            the buffer, which is not shorter than the registers count
+	 */
+	void copyInto(int[] destination);
+
+	/**
+	 * Gets the register's value.
+	 *
+	 * @param registerNumber
+	 *            the register's number, starting from 1
+	 * @return the value
+	 */
+	int getRegister(int registerNumber);
+
+	/**
+	 * Gets the number of the registers.
+	 *
+	 * @return the registers count
+	 */
+	int getRegistersCount();
+}
@@ -0,0 +1,15 @@
+package processor_simulator.Simulators.Abstract;
+
+/**
+ * Simulator, which shows its registers through a read-only view without
+ * copying them.
+ */
+public interface IRegistersViewable
+{
+	/**
+	 * Gets the read-only view of the registers, which doesn't copy them.
+	 *
+	 * @return the registers view
+	 */
+	IRegistersView getRegistersView();
+}
@@ -0,0 +1,32 @@
+package processor_simulator.Simulators.Abstract;
+
+import processor_simulator.Infrastructure.Abstact.ISamplingPolicy;
+import processor_simulator.Infrastructure.Abstact.ITactsListener;
+
+/**
+ * Simulator, whose listeners are only notified after the commands, which
+ * their sampling policies choose.
+ */
+public interface ISampledObservable
+{
+	/**
+	 * Adds the listener, which is notified after the commands, which are
+	 * sampled by the policy. The simulator runs without the tacts between
+	 * the samples, unless it is observed otherwise.
+	 *
+	 * @param listener
+	 *            the listener
+	 * @param samplingPolicy
+	 *            the policy, which isn't shared with the other listeners
+	 */
+	void addSampledListener(ITactsListener listener,
+		ISamplingPolicy samplingPolicy);
+
+	/**
+	 * Removes the sampled listener.
+	 *
+	 * @param listener
+	 *            the listener
+	 */
+	void removeSampledListener(ITactsListener listener);
+}
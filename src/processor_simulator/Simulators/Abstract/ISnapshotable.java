@@ -0,0 +1,26 @@
+package processor_simulator.Simulators.Abstract;
+
+/**
+ * Simulator, whose state can be taken as a snapshot and restored later.
+ */
+public interface ISnapshotable
+{
+	/**
+	 * Restores the registers, the flags and the counters from the snapshot.
+	 * The snapshot isn't changed, so it can be restored many times.
+	 *
+	 * @param snapshot
+	 *            the snapshot, taken by a simulator with the same number of
+	 *            bits and registers
+	 */
+	void restore(IProcessorSnapshot snapshot);
+
+	/**
+	 * Takes the snapshot of the registers, the flags and the counters. The
+	 * registers are shared with the snapshot until the simulator changes
+	 * them, so taking the snapshot doesn't copy them.
+	 *
+	 * @return the snapshot
+	 */
+	IProcessorSnapshot snapshot();
+}
@@ -0,0 +1,21 @@
+package processor_simulator.Simulators.Abstract;
+
+import processor_simulator.Infrastructure.Abstact.ITactsDispatcher;
+
+/**
+ * Simulator, which delivers its tacts to the listeners on other threads
+ * through a dispatcher.
+ */
+public interface ITactsDispatchable
+{
+	/**
+	 * Sets the dispatcher, which delivers the state after every tact to the
+	 * listeners on other threads, so the slow listeners don't slow down the
+	 * simulation.
+	 *
+	 * @param tactsDispatcher
+	 *            the dispatcher of the same number of registers, null to
+	 *            turn the dispatching off
+	 */
+	void setTactsDispatcher(ITactsDispatcher tactsDispatcher);
+}
@@ -0,0 +1,38 @@
+package processor_simulator.Simulators.Abstract;
+
+/**
+ * Simulator, which logs the performed commands, so the last of them can be
+ * stepped back.
+ */
+public interface IUndoable
+{
+	/**
+	 * Gets the number of the last commands, which can be stepped back.
+	 *
+	 * @return the capacity of the undo log, 0 if the log is off
+	 */
+	int getUndoLogCapacity();
+
+	/**
+	 * Sets the number of the last commands, which can be stepped back. Every
+	 * performed command logs the overwritten register's value and the
+	 * previous flags, which takes a long per command. Setting the capacity
+	 * clears the log, 0 turns it off.
+	 *
+	 * @param capacity
+	 *            the capacity of the undo log
+	 */
+	void setUndoLogCapacity(int capacity);
+
+	/**
+	 * Steps back the last performed commands, restoring the registers, the
+	 * flags and the commands counter. The tacts counter and the current
+	 * command's text aren't logged, so they are reset.
+	 *
+	 * @param count
+	 *            the number of commands to step back
+	 * @return the number of commands stepped back, which is less than the
+	 *         count, if the log has less commands
+	 */
+	int stepBack(int count);
+}
@@ -0,0 +1,117 @@
+package processor_simulator.Simulators.Concrete;
+
+import processor_simulator.Simulators.Abstract.IArithmeticLogicUnit;
+import processor_simulator.Utils.Guard;
+
+/**
+ * Base class of the arithmetic logic units, which are specialized for the
+ * number of bits. The moves take constant time: moving to the right with
+ * rounding down is the arithmetic shift, and moving by more than 31 bits
+ * gives the same result as moving by 31 bits.
+ */
+public abstract class ArithmeticLogicUnit implements IArithmeticLogicUnit
+{
+	private final int _numberOfBits;
+
+	protected ArithmeticLogicUnit(int numberOfBits)
+	{
+		Guard.moreThanZero(numberOfBits, "numberOfBits");
+
+		this._numberOfBits = numberOfBits;
+	}
+
+	/**
+	 * Creates the arithmetic logic unit for the number of bits.
+	 *
+	 * @param numberOfBits
+	 *            the number of bits
+	 * @return the arithmetic logic unit
+	 */
+	public static IArithmeticLogicUnit create(int numberOfBits)
+	{
+		Guard.moreThanZero(numberOfBits, "numberOfBits");
+
+		if (numberOfBits < Integer.SIZE)
+		{
+			return new NarrowArithmeticLogicUnit(numberOfBits);
+		}
+
+		return new WideArithmeticLogicUnit(numberOfBits);
+	}
+
+	@Override
+	public int getFlags(int castedResult, int result)
+	{
+		int difference = castedResult ^ result;
+
+		// The highest bit of (x | -x) is set, if x is not 0
+		int overflowFlag = (difference | -difference) >>> (Integer.SIZE - 1);
+
+		int signFlag = (castedResult >>> (Integer.SIZE - 1)) << 1;
+
+		return overflowFlag | signFlag;
+	}
+
+	@Override
+	public int getNumberOfBits()
+	{
+		return this._numberOfBits;
+	}
+
+	@Override
+	public int leftMove(int value, int moveArgument)
+	{
+		return ArithmeticLogicUnit.moveLeft(value, moveArgument);
+	}
+
+	/**
+	 * Moves the value to the left, a negative argument moves it to the
+	 * right. The moving by {@link Integer#MIN_VALUE}, which can't be negated,
+	 * leaves the value unchanged.
+	 *
+	 * @param value
+	 *            the value
+	 * @param moveArgument
+	 *            the number of bits to move by
+	 * @return the moved value
+	 */
+	public static int moveLeft(int value, int moveArgument)
+	{
+		if (moveArgument >= 0)
+		{
+			return value << moveArgument;
+		}
+
+		// The shift distance of Integer.MIN_VALUE is 0
+		return value >> Math.min(-moveArgument, Integer.SIZE - 1);
+	}
+
+	/**
+	 * Moves the value to the right, rounding down, a negative argument moves
+	 * it to the left. The moving by {@link Integer#MIN_VALUE}, which can't be
+	 * negated, leaves the value unchanged.
+	 *
+	 * @param value
+	 *            the value
+	 * @param moveArgument
+	 *            the number of bits to move by
+	 * @return the moved value
+	 */
+	public static int moveRight(int value, int moveArgument)
+	{
+		if (moveArgument >= 0)
+		{
+			// Halving with rounding down more than 31 times gives 0 or -1
+			return value >> Math.min(moveArgument, Integer.SIZE - 1);
+		}
+
+		// The shift distance of Integer.MIN_VALUE is 0
+		return value << -moveArgument;
+	}
+
+	@Override
+	public int rightMove(int value, int moveArgument)
+	{
+		return ArithmeticLogicUnit.moveRight(value, moveArgument);
+	}
+}
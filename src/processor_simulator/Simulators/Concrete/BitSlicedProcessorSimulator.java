@@ -0,0 +1,408 @@
+package processor_simulator.Simulators.Concrete;
+
+import processor_simulator.Exceptions.CommandArgumentIsInvalidException;
+import processor_simulator.Models.CompiledProgram;
+import processor_simulator.Simulators.Abstract.IArithmeticLogicUnit;
+import processor_simulator.Simulators.Abstract.IBitSlicedProcessorSimulator;
+import processor_simulator.Utils.BitSliceUtils;
+import processor_simulator.Utils.Guard;
+
+/**
+ * Processor simulator, which performs 64 machines at once with the bit
+ * slices of the registers. The additions are ripple-carry over the slices,
+ * the moves by numbers are the permutations of the slices, and the flags
+ * are computed for all machines by the same word operations. The moves by
+ * registers move every machine by its own number of bits, so they are
+ * performed on the transposed values.
+ *
+ * The results are the same as of {@link ProcessorSimulator} for less than
+ * 32 bits.
+ */
+public class BitSlicedProcessorSimulator implements
+		IBitSlicedProcessorSimulator
+{
+	private final IArithmeticLogicUnit _arithmeticLogicUnit;
+
+	private final int[] _arguments;
+
+	private final int _numberOfBits;
+
+	private final int _numberOfRegisters;
+
+	private final long[] _operand;
+
+	private long _overflowMask;
+
+	private long _signMask;
+
+	private final long[] _slices;
+
+	private final int[] _values;
+
+	public BitSlicedProcessorSimulator(int numberOfBits, int numberOfRegisters)
+	{
+		Guard.moreThanZero(numberOfBits, "numberOfBits");
+		Guard.moreThanZero(numberOfRegisters, "numberOfRegisters");
+
+		// The casts of 32 and more bits don't keep the lower bits
+		this._arithmeticLogicUnit = new NarrowArithmeticLogicUnit(numberOfBits);
+
+		this._numberOfBits = numberOfBits;
+		this._numberOfRegisters = numberOfRegisters;
+		this._slices = new long[numberOfRegisters * numberOfBits];
+		this._operand = new long[numberOfBits];
+		this._values = new int[IBitSlicedProcessorSimulator.MACHINES_COUNT];
+		this._arguments = new int[IBitSlicedProcessorSimulator.MACHINES_COUNT];
+	}
+
+	@Override
+	public int getNumberOfBits()
+	{
+		return this._numberOfBits;
+	}
+
+	@Override
+	public int getNumberOfRegisters()
+	{
+		return this._numberOfRegisters;
+	}
+
+	@Override
+	public long getOverflowMask()
+	{
+		return this._overflowMask;
+	}
+
+	@Override
+	public void getRegisterSlices(int registerNumber, long[] slices)
+	{
+		this.checkRegisterNumber(registerNumber);
+
+		Guard.notNull(slices, "slices");
+
+		System.arraycopy(this._slices, (registerNumber - 1)
+			* this._numberOfBits, slices, 0, this._numberOfBits);
+	}
+
+	@Override
+	public long getSignMask()
+	{
+		return this._signMask;
+	}
+
+	@Override
+	public void loadRegister(int registerNumber, int[] values, int offset)
+	{
+		this.checkRegisterNumber(registerNumber);
+
+		// Only the lower bits are taken, so the values are cast
+		BitSliceUtils.toSlices(values, offset, this._numberOfBits,
+			this._slices, (registerNumber - 1) * this._numberOfBits);
+	}
+
+	@Override
+	public void performProgram(CompiledProgram program)
+		throws CommandArgumentIsInvalidException
+	{
+		Guard.notNull(program, "program");
+
+		if (program.getNumberOfRegisters() > this._numberOfRegisters)
+		{
+			throw new CommandArgumentIsInvalidException(String.format(
+				"Register with the number '%1$s' doesn't exist.",
+				program.getNumberOfRegisters()));
+		}
+
+		int[] code = program.getCode();
+
+		for (int offset = 0; offset < code.length; offset +=
+			CompiledProgram.INSTRUCTION_SIZE)
+		{
+			this.performInstruction(code[offset], code[offset + 1],
+				code[offset + 2]);
+		}
+	}
+
+	@Override
+	public void readRegister(int registerNumber, int[] values, int offset)
+	{
+		this.checkRegisterNumber(registerNumber);
+
+		BitSliceUtils.fromSlices(this._slices, (registerNumber - 1)
+			* this._numberOfBits, this._numberOfBits, values, offset);
+	}
+
+	@Override
+	public void setRegisterSlices(int registerNumber, long[] slices)
+	{
+		this.checkRegisterNumber(registerNumber);
+
+		Guard.notNull(slices, "slices");
+
+		System.arraycopy(slices, 0, this._slices, (registerNumber - 1)
+			* this._numberOfBits, this._numberOfBits);
+	}
+
+	private void checkRegisterNumber(int registerNumber)
+	{
+		if (registerNumber < 1 || registerNumber > this._numberOfRegisters)
+		{
+			throw new IllegalArgumentException(String.format(
+				"Register with the number '%1$s' doesn't exist.",
+				registerNumber));
+		}
+	}
+
+	/**
+	 * Gets the slice of the bit of the sign-extended value moved to the left.
+	 */
+	private long getMovedBit(int targetOffset, int bit, int distance)
+	{
+		if (bit < distance)
+		{
+			return 0;
+		}
+
+		return this._slices[targetOffset
+			+ Math.min(bit - distance, this._numberOfBits - 1)];
+	}
+
+	/**
+	 * Fills the operand's slices with the bits of the number, which are the
+	 * same for all machines.
+	 */
+	private long[] getNumberSlices(int castedNumber)
+	{
+		long[] operand = this._operand;
+
+		for (int i = 0; i < operand.length; i++)
+		{
+			operand[i] = -(long) ((castedNumber >>> i) & 1);
+		}
+
+		return operand;
+	}
+
+	/**
+	 * Adds the operand's slices with the ripple carry. The sum overflows, if
+	 * the carry into the highest bit differs from the carry out of it.
+	 */
+	private void performAdd(int targetOffset, long[] operand,
+		int operandOffset)
+	{
+		long[] slices = this._slices;
+
+		int highestBit = this._numberOfBits - 1;
+
+		long carry = 0;
+
+		for (int i = 0; i < highestBit; i++)
+		{
+			long a = slices[targetOffset + i];
+			long b = operand[operandOffset + i];
+
+			long halfSum = a ^ b;
+
+			slices[targetOffset + i] = halfSum ^ carry;
+
+			carry = (a & b) | (carry & halfSum);
+		}
+
+		long a = slices[targetOffset + highestBit];
+		long b = operand[operandOffset + highestBit];
+
+		long halfSum = a ^ b;
+
+		slices[targetOffset + highestBit] = halfSum ^ carry;
+
+		this._overflowMask = carry ^ ((a & b) | (carry & halfSum));
+	}
+
+	private void performInstruction(int opcode, int registerIndex, int operand)
+	{
+		long[] slices = this._slices;
+
+		int numberOfBits = this._numberOfBits;
+
+		int targetOffset = registerIndex * numberOfBits;
+
+		int sourceOffset = operand * numberOfBits;
+
+		switch (opcode)
+		{
+			case CompiledProgram.ADD_NUMBER:
+			{
+				this.performAdd(targetOffset, this.getNumberSlices(this._arithmeticLogicUnit
+						.castValue(operand)), 0);
+				break;
+			}
+
+			case CompiledProgram.ADD_REGISTER:
+			{
+				this.performAdd(targetOffset, slices, sourceOffset);
+				break;
+			}
+
+			case CompiledProgram.LEFT_MOVE_NUMBER:
+			{
+				this.performMove(targetOffset,
+					this._arithmeticLogicUnit.castValue(operand));
+				break;
+			}
+
+			case CompiledProgram.LOAD_NUMBER:
+			{
+				int castedOperand = this._arithmeticLogicUnit.castValue(operand);
+
+				System.arraycopy(this.getNumberSlices(castedOperand), 0,
+					slices, targetOffset, numberOfBits);
+
+				this._overflowMask = (castedOperand != operand) ? -1L : 0;
+				break;
+			}
+
+			case CompiledProgram.LOAD_REGISTER:
+			{
+				System.arraycopy(slices, sourceOffset, slices, targetOffset,
+					numberOfBits);
+
+				this._overflowMask = 0;
+				break;
+			}
+
+			case CompiledProgram.RIGHT_MOVE_NUMBER:
+			{
+				this.performMove(targetOffset,
+					-this._arithmeticLogicUnit.castValue(operand));
+				break;
+			}
+
+			case CompiledProgram.XOR_NUMBER:
+			{
+				long[] operandSlices =
+					this.getNumberSlices(this._arithmeticLogicUnit
+							.castValue(operand));
+
+				for (int i = 0; i < numberOfBits; i++)
+				{
+					slices[targetOffset + i] ^= operandSlices[i];
+				}
+
+				this._overflowMask = 0;
+				break;
+			}
+
+			case CompiledProgram.XOR_REGISTER:
+			{
+				for (int i = 0; i < numberOfBits; i++)
+				{
+					slices[targetOffset + i] ^= slices[sourceOffset + i];
+				}
+
+				this._overflowMask = 0;
+				break;
+			}
+
+			default:
+			{
+				this.performRegisterMove(targetOffset, sourceOffset,
+					opcode == CompiledProgram.LEFT_MOVE_REGISTER);
+				break;
+			}
+		}
+
+		this._signMask = slices[targetOffset + numberOfBits - 1];
+	}
+
+	/**
+	 * Moves all machines by the same number of bits, which is the
+	 * permutation of the slices.
+	 */
+	private void performMove(int targetOffset, int leftMoveArgument)
+	{
+		long[] slices = this._slices;
+
+		int highestBit = this._numberOfBits - 1;
+
+		if (leftMoveArgument < 0)
+		{
+			// The lower bits take the higher ones, the highest bit is copied
+			int distance = Math.min(-leftMoveArgument, Integer.SIZE - 1);
+
+			for (int i = 0; i <= highestBit; i++)
+			{
+				slices[targetOffset + i] =
+					slices[targetOffset + Math.min(i + distance, highestBit)];
+			}
+
+			this._overflowMask = 0;
+
+			return;
+		}
+
+		// The same distance as of the int shift
+		int distance = leftMoveArgument & (Integer.SIZE - 1);
+
+		// The int result is cast back unchanged, if its bits from the
+		// highest bit up to the 31st bit are all equal
+		long highestResultBit = this.getMovedBit(targetOffset, highestBit, distance);
+
+		long overflowMask = 0;
+
+		for (int i = highestBit + 1; i < Integer.SIZE; i++)
+		{
+			overflowMask |=
+				this.getMovedBit(targetOffset, i, distance) ^ highestResultBit;
+		}
+
+		this._overflowMask = overflowMask;
+
+		for (int i = highestBit; i >= 0; i--)
+		{
+			slices[targetOffset + i] =
+				(i >= distance) ? slices[targetOffset + i - distance] : 0;
+		}
+	}
+
+	/**
+	 * Moves every machine by the number of bits of its register, which is
+	 * performed on the transposed values.
+	 */
+	private void performRegisterMove(int targetOffset, int sourceOffset,
+		boolean isLeftMove)
+	{
+		IArithmeticLogicUnit arithmeticLogicUnit = this._arithmeticLogicUnit;
+
+		int[] values = this._values;
+		int[] arguments = this._arguments;
+
+		BitSliceUtils.fromSlices(this._slices, targetOffset,
+			this._numberOfBits, values, 0);
+		BitSliceUtils.fromSlices(this._slices, sourceOffset,
+			this._numberOfBits, arguments, 0);
+
+		long overflowMask = 0;
+
+		for (int i = 0; i < values.length; i++)
+		{
+			int result =
+				isLeftMove ? arithmeticLogicUnit.leftMove(values[i],
+					arguments[i]) : arithmeticLogicUnit.rightMove(values[i],
+					arguments[i]);
+
+			int castedResult = arithmeticLogicUnit.castValue(result);
+
+			values[i] = castedResult;
+
+			if (castedResult != result)
+			{
+				overflowMask |= 1L << i;
+			}
+		}
+
+		this._overflowMask = overflowMask;
+
+		BitSliceUtils.toSlices(values, 0, this._numberOfBits, this._slices,
+			targetOffset);
+	}
+}
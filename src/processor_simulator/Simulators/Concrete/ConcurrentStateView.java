@@ -0,0 +1,158 @@
+package processor_simulator.Simulators.Concrete;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+import processor_simulator.Models.CompiledProgram;
+import processor_simulator.Models.ProcessorState;
+import processor_simulator.Simulators.Abstract.IArithmeticLogicUnit;
+import processor_simulator.Simulators.Abstract.IConcurrentStateView;
+
+/**
+ * State view of the sequence lock. The simulator publishes only the changes
+ * of the command under the write stamp, which is a compare-and-set and an
+ * ordered write, and the readers copy the state under the optimistic stamp
+ * and repeat the copy, if the stamp is no longer valid.
+ */
+public class ConcurrentStateView implements IConcurrentStateView
+{
+	private int _commandIndex;
+
+	private int _commandsCounter;
+
+	private String _currentCommandText;
+
+	private int _flags;
+
+	private final StampedLock _lock;
+
+	/**
+	 * The program of the current command, so the command's text is only
+	 * made by the readers.
+	 */
+	private CompiledProgram _program;
+
+	private final int[] _registers;
+
+	private final LongAdder _retriesCount;
+
+	private int _tactsCounter;
+
+	ConcurrentStateView(int numberOfRegisters)
+	{
+		this._registers = new int[numberOfRegisters];
+		this._lock = new StampedLock();
+		this._retriesCount = new LongAdder();
+	}
+
+	@Override
+	public long getRetriesCount()
+	{
+		return this._retriesCount.sum();
+	}
+
+	@Override
+	public ProcessorState readState()
+	{
+		StampedLock lock = this._lock;
+
+		int[] registers = new int[this._registers.length];
+
+		while (true)
+		{
+			long stamp = lock.tryOptimisticRead();
+
+			if (stamp != 0)
+			{
+				// The fields can be torn until the stamp is validated
+				System.arraycopy(this._registers, 0, registers, 0,
+					registers.length);
+
+				int commandsCounter = this._commandsCounter;
+				int tactsCounter = this._tactsCounter;
+				int flags = this._flags;
+				CompiledProgram program = this._program;
+				int commandIndex = this._commandIndex;
+				String currentCommandText = this._currentCommandText;
+
+				if (lock.validate(stamp))
+				{
+					if (program != null)
+					{
+						currentCommandText = program.getCommandText(commandIndex);
+					}
+
+					return new ProcessorState(registers, commandsCounter,
+						tactsCounter,
+						(flags & IArithmeticLogicUnit.OVERFLOW_FLAG) != 0,
+						(flags & IArithmeticLogicUnit.SIGN_FLAG) != 0,
+						currentCommandText);
+				}
+			}
+
+			this._retriesCount.increment();
+
+			Thread.yield();
+		}
+	}
+
+	/**
+	 * Publishes the command of the program, which is performed after the
+	 * previously published state. The counters are the simulator's, so the
+	 * failed commands, which aren't published, are counted too.
+	 */
+	void publishCommand(int registerIndex, int value, int commandsCounter,
+		int tactsCounter, int flags, CompiledProgram program, int commandIndex)
+	{
+		long stamp = this._lock.writeLock();
+
+		this._registers[registerIndex] = value;
+		this._commandsCounter = commandsCounter;
+		this._tactsCounter = tactsCounter;
+		this._flags = flags;
+		this._program = program;
+		this._commandIndex = commandIndex;
+		this._currentCommandText = null;
+
+		this._lock.unlockWrite(stamp);
+	}
+
+	/**
+	 * Publishes the command, which is performed after the previously
+	 * published state.
+	 */
+	void publishCommand(int registerIndex, int value, int commandsCounter,
+		int tactsCounter, int flags, String currentCommandText)
+	{
+		long stamp = this._lock.writeLock();
+
+		this._registers[registerIndex] = value;
+		this._commandsCounter = commandsCounter;
+		this._tactsCounter = tactsCounter;
+		this._flags = flags;
+		this._program = null;
+		this._currentCommandText = currentCommandText;
+
+		this._lock.unlockWrite(stamp);
+	}
+
+	/**
+	 * Publishes the whole state, when it isn't changed by a command.
+	 */
+	void publishState(int[] registers, int commandsCounter, int tactsCounter,
+		int flags, String currentCommandText)
+	{
+		long stamp = this._lock.writeLock();
+
+		System.arraycopy(registers, 0, this._registers, 0,
+			this._registers.length);
+
+		this._commandsCounter = commandsCounter;
+		this._tactsCounter = tactsCounter;
+		this._flags = flags;
+		this._program = null;
+		this._currentCommandText = currentCommandText;
+
+		this._lock.unlockWrite(stamp);
+	}
+}
@@ -0,0 +1,199 @@
+package processor_simulator.Simulators.Concrete;
+
+import processor_simulator.Simulators.Abstract.IArithmeticLogicUnit;
+import processor_simulator.Simulators.Abstract.IMultiWordArithmeticLogicUnit;
+import processor_simulator.Utils.Guard;
+
+/**
+ * Arithmetic logic unit for up to 64 bits, which keeps every value in a
+ * single long word.
+ */
+public class LongArithmeticLogicUnit implements IMultiWordArithmeticLogicUnit
+{
+	private static final int SIGN_SHIFT = Long.SIZE - 1;
+
+	private final int _numberOfBits;
+
+	private final int _shift;
+
+	public LongArithmeticLogicUnit(int numberOfBits)
+	{
+		Guard.moreThanZero(numberOfBits, "numberOfBits");
+
+		if (numberOfBits > Long.SIZE)
+		{
+			throw new IllegalArgumentException(String.format(
+				"Argument 'numberOfBits' can't be more than %1$d.", Long.SIZE));
+		}
+
+		this._numberOfBits = numberOfBits;
+		this._shift = Long.SIZE - numberOfBits;
+	}
+
+	@Override
+	public int add(long[] registers, int registerOffset, long[] operand,
+		int operandOffset)
+	{
+		long value = registers[registerOffset];
+		long operandValue = operand[operandOffset];
+
+		long result = value + operandValue;
+
+		long castedResult = this.castValue(result);
+
+		registers[registerOffset] = castedResult;
+
+		// The sum of 64 bits values overflows, if its sign differs from the
+		// signs of both values
+		long longOverflow = (value ^ result) & (operandValue ^ result);
+
+		return LongArithmeticLogicUnit.getFlags(castedResult, result,
+			longOverflow);
+	}
+
+	@Override
+	public void castValue(long[] words, int offset)
+	{
+		words[offset] = this.castValue(words[offset]);
+	}
+
+	@Override
+	public long getMoveArgument(long[] words, int offset)
+	{
+		long limit = this._numberOfBits + 1;
+
+		return Math.max(-limit, Math.min(limit, words[offset]));
+	}
+
+	@Override
+	public int getNumberOfBits()
+	{
+		return this._numberOfBits;
+	}
+
+	@Override
+	public int getWordsCount()
+	{
+		return 1;
+	}
+
+	@Override
+	public int leftMove(long[] registers, int registerOffset, long moveArgument)
+	{
+		if (moveArgument < 0)
+		{
+			return this.rightMove(registers, registerOffset,
+				LongArithmeticLogicUnit.negate(moveArgument));
+		}
+
+		long value = registers[registerOffset];
+
+		long castedResult;
+
+		long restoredValue;
+
+		if (moveArgument < Long.SIZE)
+		{
+			castedResult = this.castValue(value << moveArgument);
+
+			// No bits are lost, if moving back gives the value
+			restoredValue = castedResult >> moveArgument;
+		}
+		else
+		{
+			castedResult = 0;
+
+			restoredValue = 0;
+		}
+
+		registers[registerOffset] = castedResult;
+
+		int flags =
+			(int) ((castedResult >>> LongArithmeticLogicUnit.SIGN_SHIFT) << 1);
+
+		if (restoredValue != value)
+		{
+			flags |= IArithmeticLogicUnit.OVERFLOW_FLAG;
+		}
+
+		return flags;
+	}
+
+	@Override
+	public int load(long[] registers, int registerOffset, long[] operand,
+		int operandOffset)
+	{
+		long result = operand[operandOffset];
+
+		long castedResult = this.castValue(result);
+
+		registers[registerOffset] = castedResult;
+
+		return LongArithmeticLogicUnit.getFlags(castedResult, result, 0);
+	}
+
+	@Override
+	public int rightMove(long[] registers, int registerOffset,
+		long moveArgument)
+	{
+		if (moveArgument < 0)
+		{
+			return this.leftMove(registers, registerOffset,
+				LongArithmeticLogicUnit.negate(moveArgument));
+		}
+
+		// Halving with rounding down more than 63 times gives 0 or -1
+		long result =
+			registers[registerOffset] >> Math.min(moveArgument,
+				LongArithmeticLogicUnit.SIGN_SHIFT);
+
+		registers[registerOffset] = result;
+
+		return LongArithmeticLogicUnit.getFlags(result, result, 0);
+	}
+
+	@Override
+	public int xor(long[] registers, int registerOffset, long[] operand,
+		int operandOffset)
+	{
+		long result = registers[registerOffset] ^ operand[operandOffset];
+
+		registers[registerOffset] = result;
+
+		return LongArithmeticLogicUnit.getFlags(result, result, 0);
+	}
+
+	private long castValue(long value)
+	{
+		// Sign extension of the lower bits
+		return (value << this._shift) >> this._shift;
+	}
+
+	/**
+	 * Gets the flags of the result, the highest bit of the long overflow is
+	 * set, if the result overflowed the long itself.
+	 */
+	static int getFlags(long castedResult, long result, long longOverflow)
+	{
+		long difference = castedResult ^ result;
+
+		// The highest bit of (x | -x) is set, if x is not 0
+		long overflowFlag =
+			((difference | -difference | longOverflow) >>> LongArithmeticLogicUnit.SIGN_SHIFT);
+
+		long signFlag =
+			(castedResult >>> LongArithmeticLogicUnit.SIGN_SHIFT) << 1;
+
+		return (int) (overflowFlag | signFlag);
+	}
+
+	/**
+	 * Negates the negative move argument, {@link Long#MIN_VALUE} moves by
+	 * {@link Long#MAX_VALUE} bits.
+	 */
+	static long negate(long moveArgument)
+	{
+		return (moveArgument == Long.MIN_VALUE) ? Long.MAX_VALUE
+			: -moveArgument;
+	}
+}
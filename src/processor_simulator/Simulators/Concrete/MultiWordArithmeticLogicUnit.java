@@ -0,0 +1,286 @@
+package processor_simulator.Simulators.Concrete;
+
+import processor_simulator.Simulators.Abstract.IArithmeticLogicUnit;
+import processor_simulator.Simulators.Abstract.IMultiWordArithmeticLogicUnit;
+import processor_simulator.Utils.Guard;
+
+/**
+ * Arithmetic logic unit for any number of bits, which keeps every value in
+ * the packed long words. The carries and the moves are propagated word by
+ * word, so no objects are created by the operations.
+ */
+public class MultiWordArithmeticLogicUnit implements
+		IMultiWordArithmeticLogicUnit
+{
+	private static final int BIT_INDEX_MASK = Long.SIZE - 1;
+
+	private static final int SIGN_SHIFT = Long.SIZE - 1;
+
+	private static final int WORD_SHIFT = 6;
+
+	private final int _numberOfBits;
+
+	private final int _topShift;
+
+	private final int _wordsCount;
+
+	public MultiWordArithmeticLogicUnit(int numberOfBits)
+	{
+		Guard.moreThanZero(numberOfBits, "numberOfBits");
+
+		this._numberOfBits = numberOfBits;
+		this._wordsCount = (numberOfBits + Long.SIZE - 1) / Long.SIZE;
+
+		// The bits of the highest word, which are above the number of bits
+		this._topShift = this._wordsCount * Long.SIZE - numberOfBits;
+	}
+
+	@Override
+	public int add(long[] registers, int registerOffset, long[] operand,
+		int operandOffset)
+	{
+		int lastIndex = this._wordsCount - 1;
+
+		long carry = 0;
+
+		for (int i = 0; i < lastIndex; i++)
+		{
+			long word = registers[registerOffset + i];
+			long operandWord = operand[operandOffset + i];
+
+			long sum = word + operandWord + carry;
+
+			// The carry of the highest bits of the words and the sum
+			carry =
+				((word & operandWord) | ((word | operandWord) & ~sum)) >>> MultiWordArithmeticLogicUnit.SIGN_SHIFT;
+
+			registers[registerOffset + i] = sum;
+		}
+
+		long topWord = registers[registerOffset + lastIndex];
+		long topOperandWord = operand[operandOffset + lastIndex];
+
+		long result = topWord + topOperandWord + carry;
+
+		long castedResult = this.castWord(result);
+
+		registers[registerOffset + lastIndex] = castedResult;
+
+		// The sum overflows all words, if its sign differs from the signs of
+		// both values
+		long longOverflow = (topWord ^ result) & (topOperandWord ^ result);
+
+		return LongArithmeticLogicUnit.getFlags(castedResult, result,
+			longOverflow);
+	}
+
+	@Override
+	public void castValue(long[] words, int offset)
+	{
+		int topIndex = offset + this._wordsCount - 1;
+
+		words[topIndex] = this.castWord(words[topIndex]);
+	}
+
+	@Override
+	public long getMoveArgument(long[] words, int offset)
+	{
+		long limit = this._numberOfBits + 1;
+
+		long lowWord = words[offset];
+
+		long lowSign = lowWord >> MultiWordArithmeticLogicUnit.SIGN_SHIFT;
+
+		for (int i = 1; i < this._wordsCount; i++)
+		{
+			if (words[offset + i] != lowSign)
+			{
+				// The value doesn't fit in a long
+				return (words[offset + this._wordsCount - 1] < 0) ? -limit
+					: limit;
+			}
+		}
+
+		return Math.max(-limit, Math.min(limit, lowWord));
+	}
+
+	@Override
+	public int getNumberOfBits()
+	{
+		return this._numberOfBits;
+	}
+
+	@Override
+	public int getWordsCount()
+	{
+		return this._wordsCount;
+	}
+
+	@Override
+	public int leftMove(long[] registers, int registerOffset, long moveArgument)
+	{
+		if (moveArgument < 0)
+		{
+			return this.rightMove(registers, registerOffset,
+				LongArithmeticLogicUnit.negate(moveArgument));
+		}
+
+		int lastIndex = this._wordsCount - 1;
+
+		long sign =
+			registers[registerOffset + lastIndex] >> MultiWordArithmeticLogicUnit.SIGN_SHIFT;
+
+		if (moveArgument >= this._numberOfBits)
+		{
+			boolean isZero = true;
+
+			for (int i = 0; i <= lastIndex; i++)
+			{
+				isZero &= registers[registerOffset + i] == 0;
+
+				registers[registerOffset + i] = 0;
+			}
+
+			return isZero ? 0 : IArithmeticLogicUnit.OVERFLOW_FLAG;
+		}
+
+		int move = (int) moveArgument;
+
+		// No bits are lost, if all bits from the lowest one, which is moved
+		// to the sign bit, repeat the sign
+		int lowestBit = this._numberOfBits - 1 - move;
+
+		int lowestWordIndex = lowestBit >>> MultiWordArithmeticLogicUnit.WORD_SHIFT;
+
+		long lowestWord =
+			registers[registerOffset + lowestWordIndex] >> (lowestBit & MultiWordArithmeticLogicUnit.BIT_INDEX_MASK);
+
+		boolean isOverflow = lowestWord != sign;
+
+		for (int i = lowestWordIndex + 1; i <= lastIndex; i++)
+		{
+			isOverflow |= registers[registerOffset + i] != sign;
+		}
+
+		int wordsMove = move >>> MultiWordArithmeticLogicUnit.WORD_SHIFT;
+		int bitsMove = move & MultiWordArithmeticLogicUnit.BIT_INDEX_MASK;
+
+		// The higher words are written first, so every word is read before
+		// it is overwritten
+		for (int i = lastIndex; i >= 0; i--)
+		{
+			int sourceIndex = i - wordsMove;
+
+			long word =
+				(sourceIndex >= 0) ? registers[registerOffset + sourceIndex] << bitsMove
+					: 0;
+
+			if (bitsMove != 0 && sourceIndex > 0)
+			{
+				word |=
+					registers[registerOffset + sourceIndex - 1] >>> (Long.SIZE - bitsMove);
+			}
+
+			registers[registerOffset + i] = word;
+		}
+
+		long castedTopWord = this.castWord(registers[registerOffset + lastIndex]);
+
+		registers[registerOffset + lastIndex] = castedTopWord;
+
+		int flags =
+			(int) ((castedTopWord >>> MultiWordArithmeticLogicUnit.SIGN_SHIFT) << 1);
+
+		if (isOverflow)
+		{
+			flags |= IArithmeticLogicUnit.OVERFLOW_FLAG;
+		}
+
+		return flags;
+	}
+
+	@Override
+	public int load(long[] registers, int registerOffset, long[] operand,
+		int operandOffset)
+	{
+		int lastIndex = this._wordsCount - 1;
+
+		System.arraycopy(operand, operandOffset, registers, registerOffset,
+			lastIndex);
+
+		long result = operand[operandOffset + lastIndex];
+
+		long castedResult = this.castWord(result);
+
+		registers[registerOffset + lastIndex] = castedResult;
+
+		return LongArithmeticLogicUnit.getFlags(castedResult, result, 0);
+	}
+
+	@Override
+	public int rightMove(long[] registers, int registerOffset,
+		long moveArgument)
+	{
+		if (moveArgument < 0)
+		{
+			return this.leftMove(registers, registerOffset,
+				LongArithmeticLogicUnit.negate(moveArgument));
+		}
+
+		int lastIndex = this._wordsCount - 1;
+
+		long sign =
+			registers[registerOffset + lastIndex] >> MultiWordArithmeticLogicUnit.SIGN_SHIFT;
+
+		// Halving with rounding down more times than the number of bits gives
+		// 0 or -1
+		int move = (int) Math.min(moveArgument, this._numberOfBits);
+
+		int wordsMove = move >>> MultiWordArithmeticLogicUnit.WORD_SHIFT;
+		int bitsMove = move & MultiWordArithmeticLogicUnit.BIT_INDEX_MASK;
+
+		// The lower words are written first, so every word is read before it
+		// is overwritten
+		for (int i = 0; i <= lastIndex; i++)
+		{
+			int sourceIndex = i + wordsMove;
+
+			long word =
+				(sourceIndex <= lastIndex) ? registers[registerOffset
+					+ sourceIndex] : sign;
+
+			if (bitsMove != 0)
+			{
+				long higherWord =
+					(sourceIndex + 1 <= lastIndex) ? registers[registerOffset
+						+ sourceIndex + 1] : sign;
+
+				word = (word >>> bitsMove) | (higherWord << (Long.SIZE - bitsMove));
+			}
+
+			registers[registerOffset + i] = word;
+		}
+
+		return (int) ((sign & 1) << 1);
+	}
+
+	@Override
+	public int xor(long[] registers, int registerOffset, long[] operand,
+		int operandOffset)
+	{
+		for (int i = 0; i < this._wordsCount; i++)
+		{
+			registers[registerOffset + i] ^= operand[operandOffset + i];
+		}
+
+		long topWord = registers[registerOffset + this._wordsCount - 1];
+
+		return (int) ((topWord >>> MultiWordArithmeticLogicUnit.SIGN_SHIFT) << 1);
+	}
+
+	private long castWord(long topWord)
+	{
+		// Sign extension of the lower bits of the highest word
+		return (topWord << this._topShift) >> this._topShift;
+	}
+}
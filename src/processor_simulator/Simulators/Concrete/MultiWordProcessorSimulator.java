@@ -0,0 +1,399 @@
+package processor_simulator.Simulators.Concrete;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import processor_simulator.Compilers.Abstract.IProgramCompiler;
+import processor_simulator.Compilers.Concrete.ProgramCompiler;
+import processor_simulator.Exceptions.CommandArgumentIsInvalidException;
+import processor_simulator.Exceptions.CommandIsInvalidException;
+import processor_simulator.Infrastructure.Abstact.IObservable;
+import processor_simulator.Infrastructure.Abstact.ITactsListener;
+import processor_simulator.Models.Command;
+import processor_simulator.Models.CompiledProgram;
+import processor_simulator.Simulators.Abstract.IArithmeticLogicUnit;
+import processor_simulator.Simulators.Abstract.IMultiWordArithmeticLogicUnit;
+import processor_simulator.Simulators.Abstract.IMultiWordProcessorSimulator;
+import processor_simulator.Utils.Guard;
+
+/**
+ * Processor simulator with registers of any number of bits. The registers
+ * are packed one after another in a single long array. Up to 64 bits every
+ * register is a single long, wider registers take several words.
+ *
+ * Unlike {@link ProcessorSimulator}, which computes in ints, the results are
+ * exact: a left move overflows, if any bit is lost, even if the value is
+ * moved by more than 31 bits. The number operands are cast to the number of
+ * bits the same way.
+ */
+public class MultiWordProcessorSimulator implements
+		IMultiWordProcessorSimulator, IObservable<ITactsListener>
+{
+	private final IMultiWordArithmeticLogicUnit _arithmeticLogicUnit;
+
+	private int _commandsCounter;
+
+	private String _currentCommandText;
+
+	private final int _numberOfBits;
+
+	private final int _numberOfRegisters;
+
+	private final long[] _operand;
+
+	private boolean _overflowFlag;
+
+	private final IProgramCompiler _programCompiler;
+
+	private final long[] _registers;
+
+	private boolean _signFlag;
+
+	private int _tactsCounter;
+
+	private final List<ITactsListener> _tactsListener;
+
+	private final int _wordsCount;
+
+	public MultiWordProcessorSimulator(int numberOfBits, int numberOfRegisters)
+	{
+		Guard.moreThanZero(numberOfBits, "numberOfBits");
+		Guard.moreThanZero(numberOfRegisters, "numberOfRegisters");
+
+		this._numberOfBits = numberOfBits;
+		this._numberOfRegisters = numberOfRegisters;
+
+		if (numberOfBits <= Long.SIZE)
+		{
+			this._arithmeticLogicUnit = new LongArithmeticLogicUnit(numberOfBits);
+		}
+		else
+		{
+			this._arithmeticLogicUnit =
+				new MultiWordArithmeticLogicUnit(numberOfBits);
+		}
+
+		this._wordsCount = this._arithmeticLogicUnit.getWordsCount();
+
+		this._registers = new long[numberOfRegisters * this._wordsCount];
+		this._operand = new long[this._wordsCount];
+
+		this._programCompiler = new ProgramCompiler(numberOfRegisters);
+
+		this._tactsListener = new ArrayList<ITactsListener>();
+	}
+
+	@Override
+	public void addListener(ITactsListener listener)
+	{
+		Guard.notNull(listener, "listener");
+
+		this._tactsListener.add(listener);
+	}
+
+	@Override
+	public int getCommandsCounter()
+	{
+		return this._commandsCounter;
+	}
+
+	@Override
+	public String getCurrentCommandText()
+	{
+		return this._currentCommandText;
+	}
+
+	@Override
+	public int getNumberOfBits()
+	{
+		return this._numberOfBits;
+	}
+
+	@Override
+	public boolean getOverflowFlag()
+	{
+		return this._overflowFlag;
+	}
+
+	@Override
+	public BigInteger getRegister(int registerNumber)
+	{
+		this.checkRegisterNumber(registerNumber);
+
+		int offset = (registerNumber - 1) * this._wordsCount;
+
+		byte[] bytes = new byte[this._wordsCount * Long.BYTES];
+
+		// Big-endian two's complement, the highest word first
+		for (int i = 0; i < this._wordsCount; i++)
+		{
+			long word = this._registers[offset + this._wordsCount - 1 - i];
+
+			for (int j = 0; j < Long.BYTES; j++)
+			{
+				bytes[i * Long.BYTES + j] =
+					(byte) (word >>> (Long.SIZE - Byte.SIZE * (j + 1)));
+			}
+		}
+
+		return new BigInteger(bytes);
+	}
+
+	@Override
+	public void getRegisterWords(int registerNumber, long[] words)
+	{
+		this.checkRegisterNumber(registerNumber);
+
+		Guard.notNull(words, "words");
+
+		System.arraycopy(this._registers, (registerNumber - 1)
+			* this._wordsCount, words, 0, this._wordsCount);
+	}
+
+	@Override
+	public BigInteger[] getRegisters()
+	{
+		BigInteger[] registers = new BigInteger[this._numberOfRegisters];
+
+		for (int i = 0; i < registers.length; i++)
+		{
+			registers[i] = this.getRegister(i + 1);
+		}
+
+		return registers;
+	}
+
+	@Override
+	public boolean getSignFlag()
+	{
+		return this._signFlag;
+	}
+
+	@Override
+	public int getTactsCounter()
+	{
+		return this._tactsCounter;
+	}
+
+	@Override
+	public int getWordsCount()
+	{
+		return this._wordsCount;
+	}
+
+	@Override
+	public void performCommand(Command command)
+		throws CommandIsInvalidException, CommandArgumentIsInvalidException
+	{
+		Guard.notNull(command, "command");
+
+		this.reset();
+
+		this._commandsCounter++;
+
+		this._currentCommandText = command.toString();
+
+		// Tact before command performing
+		this.performTact();
+
+		CompiledProgram program =
+			this._programCompiler.compile(Collections.singletonList(command));
+
+		int[] code = program.getCode();
+
+		this.setFlags(this.performInstruction(code[0], code[1], code[2]));
+
+		// Tact after command performing
+		this.performTact();
+	}
+
+	@Override
+	public void performProgram(CompiledProgram program)
+		throws CommandArgumentIsInvalidException
+	{
+		Guard.notNull(program, "program");
+
+		if (program.getNumberOfRegisters() > this._numberOfRegisters)
+		{
+			throw new CommandArgumentIsInvalidException(String.format(
+				"Register with the number '%1$s' doesn't exist.",
+				program.getNumberOfRegisters()));
+		}
+
+		int commandsCount = program.getCommandsCount();
+
+		if (commandsCount == 0)
+		{
+			return;
+		}
+
+		int[] code = program.getCode();
+
+		boolean isObserved = !this._tactsListener.isEmpty();
+
+		int flags = 0;
+
+		for (int offset = 0, commandIndex = 0; offset < code.length; offset +=
+			CompiledProgram.INSTRUCTION_SIZE, commandIndex++)
+		{
+			if (isObserved)
+			{
+				this.reset();
+
+				this._commandsCounter++;
+
+				this._currentCommandText = program.getCommandText(commandIndex);
+
+				// Tact before command performing
+				this.performTact();
+			}
+
+			flags =
+				this.performInstruction(code[offset], code[offset + 1],
+					code[offset + 2]);
+
+			if (isObserved)
+			{
+				this.setFlags(flags);
+
+				// Tact after command performing
+				this.performTact();
+			}
+		}
+
+		if (!isObserved)
+		{
+			// Leave the same state as the last performed command would leave
+			this._commandsCounter += commandsCount;
+			this._tactsCounter = 2;
+
+			this.setFlags(flags);
+
+			this._currentCommandText =
+				program.getCommandText(commandsCount - 1);
+		}
+	}
+
+	@Override
+	public void removeListener(ITactsListener listener)
+	{
+		this._tactsListener.remove(listener);
+	}
+
+	private void checkRegisterNumber(int registerNumber)
+	{
+		if (registerNumber < 1 || registerNumber > this._numberOfRegisters)
+		{
+			throw new IllegalArgumentException(String.format(
+				"Register with the number '%1$s' doesn't exist.",
+				registerNumber));
+		}
+	}
+
+	private int performInstruction(int opcode, int registerIndex, int operand)
+	{
+		IMultiWordArithmeticLogicUnit arithmeticLogicUnit =
+			this._arithmeticLogicUnit;
+
+		long[] registers = this._registers;
+
+		int registerOffset = registerIndex * this._wordsCount;
+
+		long[] operandWords;
+
+		int operandOffset;
+
+		if ((opcode & CompiledProgram.NUMBER_OPERAND_FLAG) != 0)
+		{
+			operandWords = this._operand;
+			operandOffset = 0;
+
+			// Sign extension of the number to all words
+			operandWords[0] = operand;
+
+			for (int i = 1; i < this._wordsCount; i++)
+			{
+				operandWords[i] = (operand < 0) ? -1 : 0;
+			}
+
+			// Load uses the number as is
+			if (opcode != CompiledProgram.LOAD_NUMBER)
+			{
+				arithmeticLogicUnit.castValue(operandWords, 0);
+			}
+		}
+		else
+		{
+			// Registers are always cast
+			operandWords = registers;
+			operandOffset = operand * this._wordsCount;
+		}
+
+		switch (opcode)
+		{
+			case CompiledProgram.ADD_REGISTER:
+			case CompiledProgram.ADD_NUMBER:
+			{
+				return arithmeticLogicUnit.add(registers, registerOffset,
+					operandWords, operandOffset);
+			}
+
+			case CompiledProgram.LOAD_REGISTER:
+			case CompiledProgram.LOAD_NUMBER:
+			{
+				return arithmeticLogicUnit.load(registers, registerOffset,
+					operandWords, operandOffset);
+			}
+
+			case CompiledProgram.LEFT_MOVE_REGISTER:
+			case CompiledProgram.LEFT_MOVE_NUMBER:
+			{
+				return arithmeticLogicUnit.leftMove(registers, registerOffset,
+					arithmeticLogicUnit.getMoveArgument(operandWords,
+						operandOffset));
+			}
+
+			case CompiledProgram.RIGHT_MOVE_REGISTER:
+			case CompiledProgram.RIGHT_MOVE_NUMBER:
+			{
+				return arithmeticLogicUnit.rightMove(registers, registerOffset,
+					arithmeticLogicUnit.getMoveArgument(operandWords,
+						operandOffset));
+			}
+
+			default:
+			{
+				return arithmeticLogicUnit.xor(registers, registerOffset,
+					operandWords, operandOffset);
+			}
+		}
+	}
+
+	private void performTact()
+	{
+		this._tactsCounter++;
+
+		for (ITactsListener tactListener : this._tactsListener)
+		{
+			tactListener.tactPerformed();
+		}
+	}
+
+	private void reset()
+	{
+		this._overflowFlag = false;
+		this._signFlag = false;
+
+		this._tactsCounter = 0;
+
+		this._currentCommandText = "";
+	}
+
+	private void setFlags(int flags)
+	{
+		this._overflowFlag = (flags & IArithmeticLogicUnit.OVERFLOW_FLAG) != 0;
+		this._signFlag = (flags & IArithmeticLogicUnit.SIGN_FLAG) != 0;
+	}
+}
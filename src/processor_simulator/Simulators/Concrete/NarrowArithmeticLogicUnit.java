@@ -0,0 +1,41 @@
+package processor_simulator.Simulators.Concrete;
+
+/**
+ * Arithmetic logic unit for less than 32 bits, which casts the values by
+ * the pair of shifts.
+ */
+public class NarrowArithmeticLogicUnit extends ArithmeticLogicUnit
+{
+	private final int _shift;
+
+	public NarrowArithmeticLogicUnit(int numberOfBits)
+	{
+		super(numberOfBits);
+
+		if (numberOfBits >= Integer.SIZE)
+		{
+			throw new IllegalArgumentException(String.format(
+				"Argument 'numberOfBits' can't be more or equal to %1$d.",
+				Integer.SIZE));
+		}
+
+		this._shift = Integer.SIZE - numberOfBits;
+	}
+
+	@Override
+	public int castValue(int value)
+	{
+		// Sign extension of the lower bits
+		return (value << this._shift) >> this._shift;
+	}
+
+	/**
+	 * Gets the distance of the shifts, which cast the values.
+	 *
+	 * @return the shift
+	 */
+	public int getShift()
+	{
+		return this._shift;
+	}
+}
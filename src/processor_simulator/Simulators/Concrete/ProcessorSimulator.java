@@ -4,37 +4,117 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import processor_simulator.Compilers.Abstract.IExecutableProgram;
+import processor_simulator.Compilers.Abstract.IProgramCompiler;
+import processor_simulator.Compilers.Concrete.ProgramCompiler;
 import processor_simulator.Enums.ArgumentType;
 import processor_simulator.Enums.CommandType;
 import processor_simulator.Exceptions.CommandArgumentIsInvalidException;
 import processor_simulator.Exceptions.CommandIsInvalidException;
+import processor_simulator.Infrastructure.Abstact.ICommandEventListener;
 import processor_simulator.Infrastructure.Abstact.IObservable;
+import processor_simulator.Infrastructure.Abstact.ISamplingPolicy;
+import processor_simulator.Infrastructure.Abstact.ITactEventListener;
+import processor_simulator.Infrastructure.Abstact.ITactsDispatcher;
 import processor_simulator.Infrastructure.Abstact.ITactsListener;
+import processor_simulator.Infrastructure.Concrete.ListenersList;
 import processor_simulator.Models.Argument;
 import processor_simulator.Models.Command;
+import processor_simulator.Models.CommandEvent;
+import processor_simulator.Models.CompiledProgram;
+import processor_simulator.Models.ProcessorState;
+import processor_simulator.Models.TactEvent;
+import processor_simulator.Simulators.Abstract.IArithmeticLogicUnit;
+import processor_simulator.Simulators.Abstract.IBatchRunnable;
+import processor_simulator.Simulators.Abstract.IConcurrentStateView;
+import processor_simulator.Simulators.Abstract.IConcurrentlyObservable;
 import processor_simulator.Simulators.Abstract.IProcessorSimulator;
+import processor_simulator.Simulators.Abstract.IProcessorSnapshot;
+import processor_simulator.Simulators.Abstract.IRegistersView;
+import processor_simulator.Simulators.Abstract.IRegistersViewable;
+import processor_simulator.Simulators.Abstract.ISampledObservable;
+import processor_simulator.Simulators.Abstract.ISnapshotable;
+import processor_simulator.Simulators.Abstract.ITactsDispatchable;
+import processor_simulator.Simulators.Abstract.IUndoable;
 import processor_simulator.Utils.Guard;
-import processor_simulator.Utils.NumberUtils;
 
 public class ProcessorSimulator implements IProcessorSimulator,
-		IObservable<ITactsListener>
+		IObservable<ITactsListener>, IBatchRunnable, ISnapshotable, IUndoable,
+		ITactsDispatchable, IRegistersViewable, IConcurrentlyObservable,
+		ISampledObservable
 {
+	private final IArithmeticLogicUnit _arithmeticLogicUnit;
+
+	private final WritableCommandEvent _commandEvent;
+
+	private final ListenersList<ICommandEventListener> _commandEventListeners;
+
 	private int _commandsCounter;
 
+	/**
+	 * The view of the state for the other threads, null if the concurrent
+	 * observation is off.
+	 */
+	private ConcurrentStateView _concurrentStateView;
+
 	private String _currentCommandText;
 
 	private final int _numberOfBits;
 
 	private boolean _overflowFlag;
 
-	private final int[] _registers;
+	/**
+	 * The flags before the current command, which are reported by the
+	 * events. The events are only filled from the simulator's fields, as the
+	 * listeners get the same event objects.
+	 */
+	private int _previousFlags;
+
+	private final IProgramCompiler _programCompiler;
+
+	private int[] _registers;
+
+	/**
+	 * Whether the registers are shared with a snapshot, so they must be
+	 * copied before the change.
+	 */
+	private boolean _registersAreShared;
+
+	private final IRegistersView _registersView;
+
+	private final List<SampledListener> _sampledListeners;
 
 	private boolean _signFlag;
 
+	private final WritableTactEvent _tactEvent;
+
+	private final ListenersList<ITactEventListener> _tactEventListeners;
+
 	private int _tactsCounter;
 
+	/**
+	 * The dispatcher of the tacts to the asynchronous listeners, null if
+	 * there are none.
+	 */
+	private ITactsDispatcher _tactsDispatcher;
+
 	private final List<ITactsListener> _tactsListener;
 
+	/**
+	 * The log of the performed commands, null if the log is off.
+	 */
+	private UndoLog _undoLog;
+
+	private int _writtenNewValue;
+
+	private int _writtenOldValue;
+
+	/**
+	 * The number of the register, which is written by the current command,
+	 * starting from 1, or 0, if no register is written yet.
+	 */
+	private int _writtenRegisterNumber;
+
 	public ProcessorSimulator(int numberOfBits, int numberOfRegisters)
 	{
 		Guard.moreThanZero(numberOfBits, "numberOfBits");
@@ -42,9 +122,22 @@ public class ProcessorSimulator implements IProcessorSimulator,
 
 		this._numberOfBits = numberOfBits;
 
+		this._arithmeticLogicUnit = ArithmeticLogicUnit.create(numberOfBits);
+
 		this._registers = new int[numberOfRegisters];
 
+		this._programCompiler = new ProgramCompiler(numberOfRegisters);
+
 		this._tactsListener = new ArrayList<ITactsListener>();
+
+		this._commandEvent = new WritableCommandEvent();
+		this._commandEventListeners = new ListenersList<ICommandEventListener>();
+		this._tactEvent = new WritableTactEvent();
+		this._tactEventListeners = new ListenersList<ITactEventListener>();
+
+		this._registersView = new RegistersView();
+
+		this._sampledListeners = new ArrayList<SampledListener>();
 	}
 
 	@Override
@@ -55,12 +148,61 @@ public class ProcessorSimulator implements IProcessorSimulator,
 		this._tactsListener.add(listener);
 	}
 
+	@Override
+	public void addSampledListener(ITactsListener listener,
+		ISamplingPolicy samplingPolicy)
+	{
+		Guard.notNull(listener, "listener");
+		Guard.notNull(samplingPolicy, "samplingPolicy");
+
+		this._sampledListeners.add(new SampledListener(listener,
+			samplingPolicy));
+	}
+
+	@Override
+	public void clear()
+	{
+		if (this._registersAreShared)
+		{
+			this._registers = new int[this._registers.length];
+			this._registersAreShared = false;
+		}
+		else
+		{
+			Arrays.fill(this._registers, 0);
+		}
+
+		this._overflowFlag = false;
+		this._signFlag = false;
+
+		this._commandsCounter = 0;
+		this._tactsCounter = 0;
+
+		this._currentCommandText = null;
+
+		this.clearUndoLog();
+
+		this.publishState();
+	}
+
+	@Override
+	public IObservable<ICommandEventListener> getCommandEvents()
+	{
+		return this._commandEventListeners;
+	}
+
 	@Override
 	public int getCommandsCounter()
 	{
 		return this._commandsCounter;
 	}
 
+	@Override
+	public IConcurrentStateView getConcurrentStateView()
+	{
+		return this._concurrentStateView;
+	}
+
 	@Override
 	public String getCurrentCommandText()
 	{
@@ -85,32 +227,62 @@ public class ProcessorSimulator implements IProcessorSimulator,
 		return Arrays.copyOf(this._registers, this._registers.length);
 	}
 
+	@Override
+	public IRegistersView getRegistersView()
+	{
+		return this._registersView;
+	}
+
 	@Override
 	public boolean getSignFlag()
 	{
 		return this._signFlag;
 	}
 
+	@Override
+	public ProcessorState getState()
+	{
+		return new ProcessorState(this._registers, this._commandsCounter,
+			this._tactsCounter, this._overflowFlag, this._signFlag,
+			this._currentCommandText);
+	}
+
+	@Override
+	public IObservable<ITactEventListener> getTactEvents()
+	{
+		return this._tactEventListeners;
+	}
+
 	@Override
 	public int getTactsCounter()
 	{
 		return this._tactsCounter;
 	}
 
+	@Override
+	public int getUndoLogCapacity()
+	{
+		return (this._undoLog == null) ? 0 : this._undoLog.getCapacity();
+	}
+
 	@Override
 	public void performCommand(Command command)
 		throws CommandIsInvalidException, CommandArgumentIsInvalidException
 	{
 		Guard.notNull(command, "command");
 
+		int previousFlags = this.getFlags();
+
 		this.reset();
 
 		this._commandsCounter++;
 
 		this._currentCommandText = command.toString();
 
+		this.beginCommand(previousFlags);
+
 		// Tact before command performing
-		this.performTact();
+		this.performTact(true);
 
 		CommandType commandType = command.getType();
 
@@ -119,7 +291,7 @@ public class ProcessorSimulator implements IProcessorSimulator,
 			|| commandType == CommandType.RightMove
 			|| commandType == CommandType.Xor)
 		{
-			this.performBinaryCommand(command);
+			this.performBinaryCommand(command, previousFlags);
 		}
 		else
 		{
@@ -128,7 +300,221 @@ public class ProcessorSimulator implements IProcessorSimulator,
 		}
 
 		// Tact after command performing
-		this.performTact();
+		this.performTact(false);
+
+		if (this._concurrentStateView != null)
+		{
+			this._concurrentStateView.publishCommand(
+				this._writtenRegisterNumber - 1, this._writtenNewValue,
+				this._commandsCounter,
+				this._tactsCounter, this.getFlags(), this._currentCommandText);
+		}
+
+		if (!this._sampledListeners.isEmpty())
+		{
+			// The state is already set by the tacts
+			this.sampleCommand(null, 0, 0, this.getFlags(), previousFlags);
+		}
+	}
+
+	@Override
+	public void performProgram(CompiledProgram program)
+		throws CommandArgumentIsInvalidException
+	{
+		Guard.notNull(program, "program");
+
+		this.checkProgramRegisters(program);
+
+		int commandsCount = program.getCommandsCount();
+
+		if (commandsCount == 0)
+		{
+			return;
+		}
+
+		int[] code = program.getCode();
+		int[] registers = this.getWritableRegisters();
+		IArithmeticLogicUnit arithmeticLogicUnit = this._arithmeticLogicUnit;
+
+		boolean isObserved = this.isObserved();
+
+		UndoLog undoLog = this._undoLog;
+
+		ConcurrentStateView concurrentStateView = this._concurrentStateView;
+
+		boolean isSampled = !this._sampledListeners.isEmpty();
+
+		int commandsCounter = this._commandsCounter;
+
+		int flags = this.getFlags();
+
+		for (int offset = 0, commandIndex = 0; offset < code.length; offset +=
+			CompiledProgram.INSTRUCTION_SIZE, commandIndex++)
+		{
+			if (isObserved)
+			{
+				this.reset();
+
+				this._commandsCounter++;
+
+				this._currentCommandText = program.getCommandText(commandIndex);
+
+				this.beginCommand(flags);
+
+				// Tact before command performing
+				this.performTact(true);
+
+				// The listener could take a snapshot or restore one
+				registers = this.getWritableRegisters();
+			}
+
+			int opcode = code[offset];
+			int registerIndex = code[offset + 1];
+			int operand = code[offset + 2];
+
+			int argumentValue =
+				((opcode & CompiledProgram.NUMBER_OPERAND_FLAG) != 0) ? operand
+					: registers[operand];
+
+			int castedArgumentValue =
+				arithmeticLogicUnit.castValue(argumentValue);
+
+			int result;
+
+			switch (opcode)
+			{
+				case CompiledProgram.ADD_REGISTER:
+				case CompiledProgram.ADD_NUMBER:
+				{
+					result = registers[registerIndex] + castedArgumentValue;
+					break;
+				}
+
+				case CompiledProgram.LOAD_REGISTER:
+				case CompiledProgram.LOAD_NUMBER:
+				{
+					result = argumentValue;
+					break;
+				}
+
+				case CompiledProgram.LEFT_MOVE_REGISTER:
+				case CompiledProgram.LEFT_MOVE_NUMBER:
+				{
+					result =
+						arithmeticLogicUnit.leftMove(registers[registerIndex],
+							castedArgumentValue);
+					break;
+				}
+
+				case CompiledProgram.RIGHT_MOVE_REGISTER:
+				case CompiledProgram.RIGHT_MOVE_NUMBER:
+				{
+					result =
+						arithmeticLogicUnit.rightMove(registers[registerIndex],
+							castedArgumentValue);
+					break;
+				}
+
+				default:
+				{
+					result = registers[registerIndex] ^ castedArgumentValue;
+					break;
+				}
+			}
+
+			int castedResult = arithmeticLogicUnit.castValue(result);
+
+			if (undoLog != null)
+			{
+				undoLog.append(registerIndex, registers[registerIndex], flags);
+			}
+
+			if (isObserved)
+			{
+				this.setWrittenRegister(registerIndex + 1,
+					registers[registerIndex], castedResult);
+			}
+
+			registers[registerIndex] = castedResult;
+
+			int previousFlags = flags;
+
+			flags = arithmeticLogicUnit.getFlags(castedResult, result);
+
+			if (concurrentStateView != null)
+			{
+				// The observed counter can be changed by the listeners
+				concurrentStateView.publishCommand(registerIndex, castedResult,
+					isObserved ? this._commandsCounter : commandsCounter
+						+ commandIndex + 1, 2, flags, program, commandIndex);
+			}
+
+			if (isObserved)
+			{
+				this.setFlags(flags);
+
+				// Tact after command performing
+				this.performTact(false);
+
+				registers = this.getWritableRegisters();
+				flags = this.getFlags();
+			}
+
+			// The observed state is already set by the tacts
+			if (isSampled
+				&& this.sampleCommand(isObserved ? null : program,
+					commandIndex, commandsCounter + commandIndex + 1, flags,
+					previousFlags))
+			{
+				// The program goes on from the state the listeners left
+				registers = this.getWritableRegisters();
+				flags = this.getFlags();
+				commandsCounter = this._commandsCounter - commandIndex - 1;
+			}
+		}
+
+		if (!isObserved)
+		{
+			this.finishProgram(program, commandsCounter, flags);
+		}
+	}
+
+	@Override
+	public void performProgram(IExecutableProgram program)
+		throws CommandArgumentIsInvalidException
+	{
+		Guard.notNull(program, "program");
+
+		if (program.getNumberOfBits() != this._numberOfBits)
+		{
+			throw new IllegalArgumentException(String.format(
+				"Program is compiled for %1$d bits, but the processor has %2$d bits.",
+				program.getNumberOfBits(), this._numberOfBits));
+		}
+
+		CompiledProgram compiledProgram = program.getProgram();
+
+		if (this.isObserved() || this._undoLog != null
+			|| this._concurrentStateView != null
+			|| !this._sampledListeners.isEmpty())
+		{
+			// The generated code doesn't report tacts, doesn't log and
+			// doesn't publish or sample the commands
+			this.performProgram(compiledProgram);
+
+			return;
+		}
+
+		this.checkProgramRegisters(compiledProgram);
+
+		if (compiledProgram.getCommandsCount() == 0)
+		{
+			return;
+		}
+
+		int flags = program.execute(this.getWritableRegisters());
+
+		this.finishProgram(compiledProgram, this._commandsCounter, flags);
 	}
 
 	@Override
@@ -137,6 +523,191 @@ public class ProcessorSimulator implements IProcessorSimulator,
 		this._tactsListener.remove(listener);
 	}
 
+	@Override
+	public void removeSampledListener(ITactsListener listener)
+	{
+		for (int i = 0; i < this._sampledListeners.size(); i++)
+		{
+			if (this._sampledListeners.get(i)._listener == listener)
+			{
+				this._sampledListeners.remove(i);
+
+				return;
+			}
+		}
+	}
+
+	@Override
+	public void restore(IProcessorSnapshot snapshot)
+	{
+		Guard.notNull(snapshot, "snapshot");
+
+		if (!(snapshot instanceof Snapshot))
+		{
+			throw new IllegalArgumentException(
+				"Snapshot wasn't taken by the processor simulator.");
+		}
+
+		Snapshot processorSnapshot = (Snapshot) snapshot;
+
+		if (processorSnapshot.getNumberOfBits() != this._numberOfBits
+			|| processorSnapshot._registers.length != this._registers.length)
+		{
+			throw new IllegalArgumentException(String.format(
+				"Snapshot of %1$d registers of %2$d bits can't be restored by the processor with %3$d registers of %4$d bits.",
+				processorSnapshot._registers.length,
+				processorSnapshot.getNumberOfBits(), this._registers.length,
+				this._numberOfBits));
+		}
+
+		// The snapshot's registers are never changed, so they are shared
+		this._registers = processorSnapshot._registers;
+		this._registersAreShared = true;
+
+		this._overflowFlag = processorSnapshot.getOverflowFlag();
+		this._signFlag = processorSnapshot.getSignFlag();
+		this._commandsCounter = processorSnapshot.getCommandsCounter();
+		this._tactsCounter = processorSnapshot.getTactsCounter();
+		this._currentCommandText = processorSnapshot.getCurrentCommandText();
+
+		// The logged commands led to the replaced state
+		this.clearUndoLog();
+
+		this.publishState();
+	}
+
+	@Override
+	public ProcessorState run(CompiledProgram program)
+		throws CommandArgumentIsInvalidException
+	{
+		this.performProgram(program);
+
+		return this.getState();
+	}
+
+	@Override
+	public ProcessorState runAll(List<Command> commands)
+		throws CommandIsInvalidException, CommandArgumentIsInvalidException
+	{
+		Guard.notNull(commands, "commands");
+
+		// Check all commands before performing the first one
+		CompiledProgram program = this._programCompiler.compile(commands);
+
+		return this.run(program);
+	}
+
+	@Override
+	public void setConcurrentObservation(boolean isEnabled)
+	{
+		if (!isEnabled)
+		{
+			this._concurrentStateView = null;
+		}
+		else if (this._concurrentStateView == null)
+		{
+			this._concurrentStateView =
+				new ConcurrentStateView(this._registers.length);
+
+			this.publishState();
+		}
+	}
+
+	@Override
+	public void setTactsDispatcher(ITactsDispatcher tactsDispatcher)
+	{
+		if (tactsDispatcher != null
+			&& tactsDispatcher.getNumberOfRegisters() != this._registers.length)
+		{
+			throw new IllegalArgumentException(String.format(
+				"Dispatcher of %1$d registers can't be used by the processor with %2$d registers.",
+				tactsDispatcher.getNumberOfRegisters(), this._registers.length));
+		}
+
+		this._tactsDispatcher = tactsDispatcher;
+	}
+
+	@Override
+	public void setUndoLogCapacity(int capacity)
+	{
+		if (capacity < 0)
+		{
+			throw new IllegalArgumentException(
+				"Argument 'capacity' can't be less than zero.");
+		}
+
+		this._undoLog = (capacity == 0) ? null : new UndoLog(capacity);
+	}
+
+	@Override
+	public IProcessorSnapshot snapshot()
+	{
+		this._registersAreShared = true;
+
+		return new Snapshot(this._registers, this._numberOfBits,
+			this._commandsCounter, this._tactsCounter, this._overflowFlag,
+			this._signFlag, this._currentCommandText);
+	}
+
+	@Override
+	public int stepBack(int count)
+	{
+		Guard.moreThanZero(count, "count");
+
+		UndoLog undoLog = this._undoLog;
+
+		if (undoLog == null || undoLog.getCount() == 0)
+		{
+			return 0;
+		}
+
+		int steppedBackCount = Math.min(count, undoLog.getCount());
+
+		int[] registers = this.getWritableRegisters();
+
+		long entry = 0;
+
+		for (int i = 0; i < steppedBackCount; i++)
+		{
+			entry = undoLog.removeLast();
+
+			registers[UndoLog.getRegisterIndex(entry)] = UndoLog.getValue(entry);
+		}
+
+		this.reset();
+
+		// The flags before the earliest stepped back command
+		this.setFlags(UndoLog.getFlags(entry));
+
+		this._commandsCounter -= steppedBackCount;
+
+		this.publishState();
+
+		return steppedBackCount;
+	}
+
+	/**
+	 * Keeps the flags of the previous command for the events, before they
+	 * are lost.
+	 */
+	private void beginCommand(int previousFlags)
+	{
+		this._previousFlags = previousFlags;
+
+		this.setWrittenRegister(0, 0, 0);
+	}
+
+	private void checkProgramRegisters(CompiledProgram program)
+		throws CommandArgumentIsInvalidException
+	{
+		if (program.getNumberOfRegisters() > this._registers.length)
+		{
+			throw new CommandArgumentIsInvalidException(String.format(
+				"Register with the number '%1$s' doesn't exist.",
+				program.getNumberOfRegisters()));
+		}
+	}
+
 	private void checkRegisterNumber(int registerNumber)
 		throws CommandArgumentIsInvalidException
 	{
@@ -148,6 +719,43 @@ public class ProcessorSimulator implements IProcessorSimulator,
 		}
 	}
 
+	private void clearUndoLog()
+	{
+		if (this._undoLog != null)
+		{
+			this._undoLog.clear();
+		}
+	}
+
+	/**
+	 * Leaves the same state as the performed command would leave.
+	 */
+	private void finishCommand(CompiledProgram program, int commandIndex,
+		int commandsCounter, int flags)
+	{
+		this._commandsCounter = commandsCounter;
+		this._tactsCounter = 2;
+
+		this.setFlags(flags);
+
+		this._currentCommandText = program.getCommandText(commandIndex);
+	}
+
+	private void finishProgram(CompiledProgram program, int commandsCounter,
+		int flags)
+	{
+		int commandsCount = program.getCommandsCount();
+
+		this.finishCommand(program, commandsCount - 1, commandsCounter
+			+ commandsCount, flags);
+	}
+
+	private int getFlags()
+	{
+		return (this._overflowFlag ? IArithmeticLogicUnit.OVERFLOW_FLAG : 0)
+			| (this._signFlag ? IArithmeticLogicUnit.SIGN_FLAG : 0);
+	}
+
 	private int getValueFromArgument(Argument argument)
 		throws CommandArgumentIsInvalidException
 	{
@@ -175,30 +783,38 @@ public class ProcessorSimulator implements IProcessorSimulator,
 		return value;
 	}
 
-	private boolean isRegisterNumberValid(int registerNumber)
+	/**
+	 * Gets the registers, which can be changed, copying them first, if they
+	 * are shared with a snapshot.
+	 */
+	private int[] getWritableRegisters()
 	{
-		boolean result = registerNumber <= this._registers.length;
+		if (this._registersAreShared)
+		{
+			this._registers =
+				Arrays.copyOf(this._registers, this._registers.length);
+			this._registersAreShared = false;
+		}
 
-		return result;
+		return this._registers;
 	}
 
-	private int leftMove(int value, int moveArgument)
+	private boolean isObserved()
 	{
-		int result = value;
+		return !this._tactsListener.isEmpty() || this._tactsDispatcher != null
+			|| !this._tactEventListeners.isEmpty()
+			|| !this._commandEventListeners.isEmpty();
+	}
 
-		if (moveArgument >= 0)
-		{
-			result = result << moveArgument;
-		}
-		else
-		{
-			result = this.rightMove(value, -moveArgument);
-		}
+	private boolean isRegisterNumberValid(int registerNumber)
+	{
+		boolean result = registerNumber <= this._registers.length;
 
 		return result;
 	}
 
-	private void performBinaryCommand(Command binaryCommand)
+	private void performBinaryCommand(Command binaryCommand,
+		int previousFlags)
 		throws CommandArgumentIsInvalidException, CommandIsInvalidException
 	{
 		List<Argument> arguments = binaryCommand.getArguments();
@@ -223,8 +839,8 @@ public class ProcessorSimulator implements IProcessorSimulator,
 		int registerNumber = argumentOne.getValue();
 
 		int castedArgumentValue =
-			NumberUtils.castValue(this.getValueFromArgument(argumentTwo),
-				this._numberOfBits);
+			this._arithmeticLogicUnit.castValue(this
+					.getValueFromArgument(argumentTwo));
 
 		int result = 0;
 
@@ -247,7 +863,8 @@ public class ProcessorSimulator implements IProcessorSimulator,
 			case LeftMove:
 			{
 				result =
-					this.leftMove(this.getValueFromRegister(registerNumber),
+					this._arithmeticLogicUnit.leftMove(
+						this.getValueFromRegister(registerNumber),
 						castedArgumentValue);
 
 				break;
@@ -256,7 +873,8 @@ public class ProcessorSimulator implements IProcessorSimulator,
 			case RightMove:
 			{
 				result =
-					this.rightMove(this.getValueFromRegister(registerNumber),
+					this._arithmeticLogicUnit.rightMove(
+						this.getValueFromRegister(registerNumber),
 						castedArgumentValue);
 
 				break;
@@ -271,10 +889,10 @@ public class ProcessorSimulator implements IProcessorSimulator,
 			}
 		}
 
-		this.putValueToTheRegister(registerNumber, result);
+		this.putValueToTheRegister(registerNumber, result, previousFlags);
 	}
 
-	private void performTact()
+	private void performTact(boolean isBeforeCommand)
 	{
 		this._tactsCounter++;
 
@@ -282,16 +900,87 @@ public class ProcessorSimulator implements IProcessorSimulator,
 		{
 			tactListener.tactPerformed();
 		}
+
+		if (this._tactsDispatcher != null)
+		{
+			this._tactsDispatcher.publish(this._registers,
+				this._commandsCounter, this._tactsCounter, this._overflowFlag,
+				this._signFlag, this._currentCommandText);
+		}
+
+		if (!this._tactEventListeners.isEmpty())
+		{
+			this.publishTactEvent(isBeforeCommand);
+		}
+
+		if (!isBeforeCommand && !this._commandEventListeners.isEmpty())
+		{
+			this.publishCommandEvent();
+		}
 	}
 
-	private void putValueToTheRegister(int registerNumber, int value)
-		throws CommandArgumentIsInvalidException
+	private void publishCommandEvent()
+	{
+		WritableCommandEvent commandEvent = this._commandEvent;
+
+		commandEvent.update();
+
+		ListenersList<ICommandEventListener> listeners =
+			this._commandEventListeners;
+
+		for (int i = 0; i < listeners.size(); i++)
+		{
+			listeners.get(i).commandPerformed(commandEvent);
+		}
+	}
+
+	/**
+	 * Publishes the whole state to the concurrent state view, if the state
+	 * isn't changed by a command.
+	 */
+	private void publishState()
+	{
+		if (this._concurrentStateView != null)
+		{
+			this._concurrentStateView.publishState(this._registers,
+				this._commandsCounter, this._tactsCounter, this.getFlags(),
+				this._currentCommandText);
+		}
+	}
+
+	private void publishTactEvent(boolean isBeforeCommand)
+	{
+		WritableTactEvent tactEvent = this._tactEvent;
+
+		tactEvent.update(isBeforeCommand);
+
+		ListenersList<ITactEventListener> listeners = this._tactEventListeners;
+
+		for (int i = 0; i < listeners.size(); i++)
+		{
+			listeners.get(i).tactPerformed(tactEvent);
+		}
+	}
+
+	private void putValueToTheRegister(int registerNumber, int value,
+		int previousFlags) throws CommandArgumentIsInvalidException
 	{
 		this.checkRegisterNumber(registerNumber);
 
-		int castedValue = NumberUtils.castValue(value, this._numberOfBits);
+		int castedValue = this._arithmeticLogicUnit.castValue(value);
+
+		int[] registers = this.getWritableRegisters();
 
-		this._registers[registerNumber - 1] = castedValue;
+		if (this._undoLog != null)
+		{
+			this._undoLog.append(registerNumber - 1,
+				registers[registerNumber - 1], previousFlags);
+		}
+
+		this.setWrittenRegister(registerNumber, registers[registerNumber - 1],
+			castedValue);
+
+		registers[registerNumber - 1] = castedValue;
 
 		if (castedValue != value)
 		{
@@ -314,28 +1003,255 @@ public class ProcessorSimulator implements IProcessorSimulator,
 		this._currentCommandText = "";
 	}
 
-	private int rightMove(int value, int moveArgument)
+	/**
+	 * Notifies the sampled listeners, which policies sample the command. The
+	 * state of the command of the program is only set, when the first
+	 * listener samples it, or it is already set, if the program is null.
+	 * Returns whether any listener is notified.
+	 */
+	private boolean sampleCommand(CompiledProgram program, int commandIndex,
+		int commandsCounter, int flags, int previousFlags)
 	{
-		int result = value;
+		boolean isStateSet = program == null;
 
-		if (moveArgument >= 0)
+		boolean isNotified = false;
+
+		List<SampledListener> sampledListeners = this._sampledListeners;
+
+		for (int i = 0; i < sampledListeners.size(); i++)
 		{
-			for (int i = 0; i < moveArgument; i++)
+			SampledListener sampledListener = sampledListeners.get(i);
+
+			if (sampledListener._samplingPolicy.isSampled(flags, previousFlags))
 			{
-				// Add "-1" if value is negative and odd
-				if (result < 0 && result % 2 != 0)
+				if (!isStateSet)
 				{
-					result--;
+					this.finishCommand(program, commandIndex, commandsCounter,
+						flags);
+
+					isStateSet = true;
 				}
 
-				result /= 2;
+				sampledListener._listener.tactPerformed();
+
+				isNotified = true;
 			}
 		}
-		else
+
+		return isNotified;
+	}
+
+	private void setFlags(int flags)
+	{
+		this._overflowFlag = (flags & IArithmeticLogicUnit.OVERFLOW_FLAG) != 0;
+		this._signFlag = (flags & IArithmeticLogicUnit.SIGN_FLAG) != 0;
+	}
+
+	private void setWrittenRegister(int registerNumber, int oldValue,
+		int newValue)
+	{
+		this._writtenRegisterNumber = registerNumber;
+		this._writtenOldValue = oldValue;
+		this._writtenNewValue = newValue;
+	}
+
+	/**
+	 * View, which reads the current registers, so it is valid after the
+	 * registers are copied for a snapshot.
+	 */
+	private final class RegistersView implements IRegistersView
+	{
+		@Override
+		public void copyInto(int[] destination)
 		{
-			result = this.leftMove(value, -moveArgument);
+			Guard.notNull(destination, "destination");
+
+			int[] registers = ProcessorSimulator.this._registers;
+
+			if (destination.length < registers.length)
+			{
+				throw new IllegalArgumentException(String.format(
+					"Argument 'destination' can't be shorter than %1$d.",
+					registers.length));
+			}
+
+			System.arraycopy(registers, 0, destination, 0, registers.length);
 		}
 
-		return result;
+		@Override
+		public int getRegister(int registerNumber)
+		{
+			int[] registers = ProcessorSimulator.this._registers;
+
+			if (registerNumber < 1 || registerNumber > registers.length)
+			{
+				throw new IllegalArgumentException(String.format(
+					"Register with the number '%1$s' doesn't exist.",
+					registerNumber));
+			}
+
+			return registers[registerNumber - 1];
+		}
+
+		@Override
+		public int getRegistersCount()
+		{
+			return ProcessorSimulator.this._registers.length;
+		}
+	}
+
+	/**
+	 * Listener with its sampling policy.
+	 */
+	private static final class SampledListener
+	{
+		private final ITactsListener _listener;
+
+		private final ISamplingPolicy _samplingPolicy;
+
+		public SampledListener(ITactsListener listener,
+			ISamplingPolicy samplingPolicy)
+		{
+			this._listener = listener;
+			this._samplingPolicy = samplingPolicy;
+		}
+	}
+
+	/**
+	 * Snapshot, which shares the registers with the simulator. Neither of
+	 * them changes the shared registers.
+	 */
+	private static final class Snapshot implements IProcessorSnapshot
+	{
+		private final int _commandsCounter;
+
+		private final String _currentCommandText;
+
+		private final int _numberOfBits;
+
+		private final boolean _overflowFlag;
+
+		private final int[] _registers;
+
+		private final boolean _signFlag;
+
+		private final int _tactsCounter;
+
+		public Snapshot(int[] registers, int numberOfBits,
+			int commandsCounter, int tactsCounter, boolean overflowFlag,
+			boolean signFlag, String currentCommandText)
+		{
+			this._registers = registers;
+			this._numberOfBits = numberOfBits;
+			this._commandsCounter = commandsCounter;
+			this._tactsCounter = tactsCounter;
+			this._overflowFlag = overflowFlag;
+			this._signFlag = signFlag;
+			this._currentCommandText = currentCommandText;
+		}
+
+		@Override
+		public int getCommandsCounter()
+		{
+			return this._commandsCounter;
+		}
+
+		@Override
+		public String getCurrentCommandText()
+		{
+			return this._currentCommandText;
+		}
+
+		@Override
+		public int getNumberOfBits()
+		{
+			return this._numberOfBits;
+		}
+
+		@Override
+		public boolean getOverflowFlag()
+		{
+			return this._overflowFlag;
+		}
+
+		@Override
+		public int[] getRegisters()
+		{
+			return Arrays.copyOf(this._registers, this._registers.length);
+		}
+
+		@Override
+		public boolean getSignFlag()
+		{
+			return this._signFlag;
+		}
+
+		@Override
+		public int getTactsCounter()
+		{
+			return this._tactsCounter;
+		}
+	}
+
+	/**
+	 * Command event, which is filled from the simulator's fields, so the
+	 * listeners can't change the simulator's state through it.
+	 */
+	private final class WritableCommandEvent extends CommandEvent
+	{
+		public void update()
+		{
+			ProcessorSimulator processorSimulator = ProcessorSimulator.this;
+
+			int previousFlags = processorSimulator._previousFlags;
+
+			this.setCommand(processorSimulator._commandsCounter,
+				processorSimulator._currentCommandText);
+			this.setRegisterChange(processorSimulator._writtenRegisterNumber,
+				processorSimulator._writtenOldValue,
+				processorSimulator._writtenNewValue);
+			this.setFlags(
+				(previousFlags & IArithmeticLogicUnit.OVERFLOW_FLAG) != 0,
+				(previousFlags & IArithmeticLogicUnit.SIGN_FLAG) != 0,
+				processorSimulator._overflowFlag, processorSimulator._signFlag);
+		}
+	}
+
+	/**
+	 * Tact event, which is filled from the simulator's fields.
+	 */
+	private final class WritableTactEvent extends TactEvent
+	{
+		public void update(boolean isBeforeCommand)
+		{
+			ProcessorSimulator processorSimulator = ProcessorSimulator.this;
+
+			this.setTact(isBeforeCommand, processorSimulator._tactsCounter);
+			this.setCommand(processorSimulator._commandsCounter,
+				processorSimulator._currentCommandText);
+
+			if (isBeforeCommand)
+			{
+				int previousFlags = processorSimulator._previousFlags;
+
+				// The flags of the previous command are reset
+				this.clearRegisterChange();
+				this.setFlags(
+					(previousFlags & IArithmeticLogicUnit.OVERFLOW_FLAG) != 0,
+					(previousFlags & IArithmeticLogicUnit.SIGN_FLAG) != 0,
+					processorSimulator._overflowFlag,
+					processorSimulator._signFlag);
+			}
+			else
+			{
+				// The command is performed with the reset flags
+				this.setRegisterChange(
+					processorSimulator._writtenRegisterNumber,
+					processorSimulator._writtenOldValue,
+					processorSimulator._writtenNewValue);
+				this.setFlags(false, false, processorSimulator._overflowFlag,
+					processorSimulator._signFlag);
+			}
+		}
 	}
 }
@@ -0,0 +1,307 @@
+package processor_simulator.Simulators.Concrete;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import processor_simulator.Models.Command;
+import processor_simulator.Models.CompiledProgram;
+import processor_simulator.Models.ProcessorState;
+import processor_simulator.Models.SimulatorConfiguration;
+import processor_simulator.Simulators.Abstract.IProgramExecutionService;
+import processor_simulator.Utils.Guard;
+
+/**
+ * Service, which performs the programs on the executor. The simulators are
+ * borrowed from the pool of their configuration and cleared, when they are
+ * returned, so a simulator performs a single program at a time, whichever
+ * thread performs it. The pools are bounded, the extra simulators are left
+ * to the garbage collector.
+ */
+public class ProgramExecutionService implements IProgramExecutionService
+{
+	private final LongAdder _completedCount;
+
+	private final Executor _executor;
+
+	private final LongAdder _failedCount;
+
+	private final int _poolCapacity;
+
+	private final AtomicInteger _queueDepth;
+
+	private final ConcurrentMap<SimulatorConfiguration, SimulatorsPool> _simulatorsPools;
+
+	private final long _startTime;
+
+	public ProgramExecutionService()
+	{
+		this(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Instantiates a new service.
+	 *
+	 * @param executor
+	 *            the executor to perform the programs on, for example a
+	 *            work-stealing pool
+	 */
+	public ProgramExecutionService(Executor executor)
+	{
+		this(executor, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Instantiates a new service.
+	 *
+	 * @param executor
+	 *            the executor to perform the programs on, for example a
+	 *            work-stealing pool
+	 * @param poolCapacity
+	 *            the number of the idle simulators, which are kept for every
+	 *            configuration
+	 */
+	public ProgramExecutionService(Executor executor, int poolCapacity)
+	{
+		Guard.notNull(executor, "executor");
+		Guard.moreThanZero(poolCapacity, "poolCapacity");
+
+		this._executor = executor;
+		this._poolCapacity = poolCapacity;
+		this._completedCount = new LongAdder();
+		this._failedCount = new LongAdder();
+		this._queueDepth = new AtomicInteger();
+		this._simulatorsPools =
+			new ConcurrentHashMap<SimulatorConfiguration, SimulatorsPool>();
+		this._startTime = System.nanoTime();
+	}
+
+	@Override
+	public CompletableFuture<ProcessorState> execute(
+		SimulatorConfiguration configuration, CompiledProgram program)
+	{
+		Guard.notNull(configuration, "configuration");
+		Guard.notNull(program, "program");
+
+		return this.submit(configuration,
+			processorSimulator -> processorSimulator.run(program));
+	}
+
+	@Override
+	public CompletableFuture<ProcessorState> execute(
+		SimulatorConfiguration configuration, List<Command> commands)
+	{
+		Guard.notNull(configuration, "configuration");
+		Guard.notNull(commands, "commands");
+
+		// The caller may change the list, while the program is in the queue
+		List<Command> commandsCopy = new ArrayList<Command>(commands);
+
+		return this.submit(configuration,
+			processorSimulator -> processorSimulator.runAll(commandsCopy));
+	}
+
+	@Override
+	public List<CompletableFuture<ProcessorState>> executeAll(
+		SimulatorConfiguration configuration, List<CompiledProgram> programs)
+	{
+		Guard.notNull(configuration, "configuration");
+		Guard.notNull(programs, "programs");
+
+		List<CompletableFuture<ProcessorState>> futures =
+			new ArrayList<CompletableFuture<ProcessorState>>(programs.size());
+
+		for (CompiledProgram program : programs)
+		{
+			futures.add(this.execute(configuration, program));
+		}
+
+		return futures;
+	}
+
+	@Override
+	public long getCompletedCount()
+	{
+		return this._completedCount.sum();
+	}
+
+	@Override
+	public Executor getExecutor()
+	{
+		return this._executor;
+	}
+
+	@Override
+	public long getFailedCount()
+	{
+		return this._failedCount.sum();
+	}
+
+	/**
+	 * Gets the number of the idle simulators of the configuration.
+	 *
+	 * @param configuration
+	 *            the configuration
+	 * @return the pooled simulators count
+	 */
+	public int getPooledSimulatorsCount(SimulatorConfiguration configuration)
+	{
+		Guard.notNull(configuration, "configuration");
+
+		SimulatorsPool simulatorsPool =
+			this._simulatorsPools.get(configuration);
+
+		return (simulatorsPool == null) ? 0 : simulatorsPool._count.get();
+	}
+
+	@Override
+	public int getQueueDepth()
+	{
+		return this._queueDepth.get();
+	}
+
+	@Override
+	public double getThroughput()
+	{
+		long elapsedTime = System.nanoTime() - this._startTime;
+
+		if (elapsedTime <= 0)
+		{
+			return 0;
+		}
+
+		return (this._completedCount.sum() + this._failedCount.sum())
+			* (double) TimeUnit.SECONDS.toNanos(1) / elapsedTime;
+	}
+
+	private ProcessorSimulator borrowSimulator(
+		SimulatorsPool simulatorsPool, SimulatorConfiguration configuration)
+	{
+		ProcessorSimulator processorSimulator =
+			simulatorsPool._simulators.poll();
+
+		if (processorSimulator == null)
+		{
+			return new ProcessorSimulator(configuration.getNumberOfBits(),
+				configuration.getNumberOfRegisters());
+		}
+
+		simulatorsPool._count.decrementAndGet();
+
+		return processorSimulator;
+	}
+
+	private void perform(SimulatorConfiguration configuration,
+		ISimulatorTask task, CompletableFuture<ProcessorState> future)
+	{
+		SimulatorsPool simulatorsPool =
+			this._simulatorsPools.computeIfAbsent(configuration,
+				key -> new SimulatorsPool());
+
+		ProcessorSimulator processorSimulator =
+			this.borrowSimulator(simulatorsPool, configuration);
+
+		ProcessorState state;
+
+		try
+		{
+			state = task.run(processorSimulator);
+		}
+		catch (Throwable e)
+		{
+			// The future must complete whatever the program throws
+			this._failedCount.increment();
+
+			future.completeExceptionally(e);
+
+			return;
+		}
+		finally
+		{
+			this.returnSimulator(simulatorsPool, processorSimulator);
+		}
+
+		this._completedCount.increment();
+
+		future.complete(state);
+	}
+
+	private void returnSimulator(SimulatorsPool simulatorsPool,
+		ProcessorSimulator processorSimulator)
+	{
+		if (simulatorsPool._count.incrementAndGet() > this._poolCapacity)
+		{
+			simulatorsPool._count.decrementAndGet();
+
+			return;
+		}
+
+		processorSimulator.clear();
+
+		simulatorsPool._simulators.offer(processorSimulator);
+	}
+
+	private CompletableFuture<ProcessorState> submit(
+		SimulatorConfiguration configuration, ISimulatorTask task)
+	{
+		CompletableFuture<ProcessorState> future =
+			new CompletableFuture<ProcessorState>();
+
+		this._queueDepth.incrementAndGet();
+
+		try
+		{
+			this._executor.execute(() ->
+			{
+				this._queueDepth.decrementAndGet();
+
+				this.perform(configuration, task, future);
+			});
+		}
+		catch (RuntimeException e)
+		{
+			// The executor rejected the program
+			this._queueDepth.decrementAndGet();
+			this._failedCount.increment();
+
+			future.completeExceptionally(e);
+		}
+
+		return future;
+	}
+
+	/**
+	 * Program, which is performed on the borrowed simulator.
+	 */
+	@FunctionalInterface
+	private interface ISimulatorTask
+	{
+		ProcessorState run(ProcessorSimulator processorSimulator)
+			throws Exception;
+	}
+
+	/**
+	 * Idle simulators of a configuration. The count is kept apart, as the
+	 * size of the queue is counted by walking it.
+	 */
+	private static final class SimulatorsPool
+	{
+		private final AtomicInteger _count;
+
+		private final ConcurrentLinkedQueue<ProcessorSimulator> _simulators;
+
+		public SimulatorsPool()
+		{
+			this._count = new AtomicInteger();
+			this._simulators = new ConcurrentLinkedQueue<ProcessorSimulator>();
+		}
+	}
+}
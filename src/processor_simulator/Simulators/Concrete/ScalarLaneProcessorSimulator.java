@@ -0,0 +1,468 @@
+package processor_simulator.Simulators.Concrete;
+
+import java.util.Arrays;
+
+import processor_simulator.Exceptions.CommandArgumentIsInvalidException;
+import processor_simulator.Models.CompiledProgram;
+import processor_simulator.Simulators.Abstract.IArithmeticLogicUnit;
+import processor_simulator.Simulators.Abstract.ILaneProcessorSimulator;
+import processor_simulator.Utils.Guard;
+
+/**
+ * Processor simulator, which keeps the registers of all lanes in the
+ * struct-of-arrays layout: the values of a register for every lane follow
+ * one another, so a command is a single loop over the lanes.
+ *
+ * The lanes are processed in blocks, the whole program is performed on a
+ * block before the next one, so the block's registers stay in the cache.
+ * The loops are plain scalar code, the simulator doesn't use the Vector
+ * API. For less than 32 bits they are free of branches and calls, so the
+ * JIT compiler may vectorize them on its own. Moves by the registers and
+ * 32 and more bits use the arithmetic logic unit lane by lane.
+ */
+public class ScalarLaneProcessorSimulator implements ILaneProcessorSimulator
+{
+	private static final int BLOCK_SIZE = 1024;
+
+	private final IArithmeticLogicUnit _arithmeticLogicUnit;
+
+	private final boolean _isNarrow;
+
+	private final int _lanesCount;
+
+	private final int _numberOfRegisters;
+
+	private final long[] _overflowMask;
+
+	private final int[] _registers;
+
+	private final int _shift;
+
+	private final long[] _signMask;
+
+	public ScalarLaneProcessorSimulator(int numberOfBits, int numberOfRegisters,
+		int lanesCount)
+	{
+		Guard.moreThanZero(numberOfBits, "numberOfBits");
+		Guard.moreThanZero(numberOfRegisters, "numberOfRegisters");
+		Guard.moreThanZero(lanesCount, "lanesCount");
+
+		this._arithmeticLogicUnit = ArithmeticLogicUnit.create(numberOfBits);
+		this._isNarrow = numberOfBits < Integer.SIZE;
+		this._shift = Integer.SIZE - numberOfBits;
+		this._numberOfRegisters = numberOfRegisters;
+		this._lanesCount = lanesCount;
+		this._registers = new int[numberOfRegisters * lanesCount];
+
+		int masksLength = (lanesCount + Long.SIZE - 1) / Long.SIZE;
+
+		this._overflowMask = new long[masksLength];
+		this._signMask = new long[masksLength];
+	}
+
+	@Override
+	public int getLanesCount()
+	{
+		return this._lanesCount;
+	}
+
+	@Override
+	public int getNumberOfBits()
+	{
+		return this._arithmeticLogicUnit.getNumberOfBits();
+	}
+
+	@Override
+	public int getNumberOfRegisters()
+	{
+		return this._numberOfRegisters;
+	}
+
+	@Override
+	public boolean getOverflowFlag(int lane)
+	{
+		this.checkLane(lane);
+
+		return ScalarLaneProcessorSimulator.getBit(this._overflowMask, lane);
+	}
+
+	@Override
+	public long[] getOverflowMask()
+	{
+		return Arrays.copyOf(this._overflowMask, this._overflowMask.length);
+	}
+
+	@Override
+	public void getRegisterLanes(int registerNumber, int[] values, int offset)
+	{
+		this.checkRegisterNumber(registerNumber);
+
+		Guard.notNull(values, "values");
+
+		System.arraycopy(this._registers, (registerNumber - 1)
+			* this._lanesCount, values, offset, this._lanesCount);
+	}
+
+	@Override
+	public boolean getSignFlag(int lane)
+	{
+		this.checkLane(lane);
+
+		return ScalarLaneProcessorSimulator.getBit(this._signMask, lane);
+	}
+
+	@Override
+	public long[] getSignMask()
+	{
+		return Arrays.copyOf(this._signMask, this._signMask.length);
+	}
+
+	@Override
+	public void loadStates(int[] states, int offset)
+	{
+		Guard.notNull(states, "states");
+
+		IArithmeticLogicUnit arithmeticLogicUnit = this._arithmeticLogicUnit;
+
+		int[] registers = this._registers;
+
+		int lanesCount = this._lanesCount;
+
+		int numberOfRegisters = this._numberOfRegisters;
+
+		// Transpose the lane-major states to the register-major layout
+		for (int lane = 0; lane < lanesCount; lane++)
+		{
+			int stateOffset = offset + lane * numberOfRegisters;
+
+			for (int i = 0; i < numberOfRegisters; i++)
+			{
+				registers[i * lanesCount + lane] =
+					arithmeticLogicUnit.castValue(states[stateOffset + i]);
+			}
+		}
+	}
+
+	@Override
+	public void performProgram(CompiledProgram program)
+		throws CommandArgumentIsInvalidException
+	{
+		Guard.notNull(program, "program");
+
+		if (program.getNumberOfRegisters() > this._numberOfRegisters)
+		{
+			throw new CommandArgumentIsInvalidException(String.format(
+				"Register with the number '%1$s' doesn't exist.",
+				program.getNumberOfRegisters()));
+		}
+
+		int[] code = program.getCode();
+
+		if (code.length == 0)
+		{
+			return;
+		}
+
+		int lastOffset = code.length - CompiledProgram.INSTRUCTION_SIZE;
+
+		for (int begin = 0; begin < this._lanesCount; begin +=
+			ScalarLaneProcessorSimulator.BLOCK_SIZE)
+		{
+			int end =
+				Math.min(begin + ScalarLaneProcessorSimulator.BLOCK_SIZE,
+					this._lanesCount);
+
+			for (int offset = 0; offset < lastOffset; offset +=
+				CompiledProgram.INSTRUCTION_SIZE)
+			{
+				if (this._isNarrow)
+				{
+					this.performNarrowInstruction(code[offset],
+						code[offset + 1], code[offset + 2], begin, end);
+				}
+				else
+				{
+					this.performInstruction(code[offset], code[offset + 1],
+						code[offset + 2], begin, end, false);
+				}
+			}
+
+			// Only the flags of the last command are observable
+			this.performInstruction(code[lastOffset], code[lastOffset + 1],
+				code[lastOffset + 2], begin, end, true);
+		}
+	}
+
+	@Override
+	public void readStates(int[] states, int offset)
+	{
+		Guard.notNull(states, "states");
+
+		int[] registers = this._registers;
+
+		int lanesCount = this._lanesCount;
+
+		int numberOfRegisters = this._numberOfRegisters;
+
+		for (int lane = 0; lane < lanesCount; lane++)
+		{
+			int stateOffset = offset + lane * numberOfRegisters;
+
+			for (int i = 0; i < numberOfRegisters; i++)
+			{
+				states[stateOffset + i] = registers[i * lanesCount + lane];
+			}
+		}
+	}
+
+	@Override
+	public void setRegisterLanes(int registerNumber, int[] values, int offset)
+	{
+		this.checkRegisterNumber(registerNumber);
+
+		Guard.notNull(values, "values");
+
+		IArithmeticLogicUnit arithmeticLogicUnit = this._arithmeticLogicUnit;
+
+		int[] registers = this._registers;
+
+		int registerOffset = (registerNumber - 1) * this._lanesCount;
+
+		for (int lane = 0; lane < this._lanesCount; lane++)
+		{
+			registers[registerOffset + lane] =
+				arithmeticLogicUnit.castValue(values[offset + lane]);
+		}
+	}
+
+	private static boolean getBit(long[] mask, int lane)
+	{
+		return (mask[lane >>> 6] & (1L << lane)) != 0;
+	}
+
+	private static void setBit(long[] mask, int lane, boolean value)
+	{
+		int index = lane >>> 6;
+
+		long bit = 1L << lane;
+
+		mask[index] = value ? mask[index] | bit : mask[index] & ~bit;
+	}
+
+	private void checkLane(int lane)
+	{
+		if (lane < 0 || lane >= this._lanesCount)
+		{
+			throw new IllegalArgumentException(String.format(
+				"Lane with the index '%1$s' doesn't exist.", lane));
+		}
+	}
+
+	private void checkRegisterNumber(int registerNumber)
+	{
+		if (registerNumber < 1 || registerNumber > this._numberOfRegisters)
+		{
+			throw new IllegalArgumentException(String.format(
+				"Register with the number '%1$s' doesn't exist.",
+				registerNumber));
+		}
+	}
+
+	/**
+	 * Performs the command on the lanes with the arithmetic logic unit, the
+	 * same way as {@link ProcessorSimulator} does.
+	 */
+	private void performInstruction(int opcode, int registerIndex,
+		int operand, int begin, int end, boolean setsFlags)
+	{
+		IArithmeticLogicUnit arithmeticLogicUnit = this._arithmeticLogicUnit;
+
+		int[] registers = this._registers;
+
+		boolean isNumberOperand =
+			(opcode & CompiledProgram.NUMBER_OPERAND_FLAG) != 0;
+
+		int targetOffset = registerIndex * this._lanesCount;
+
+		int sourceOffset = isNumberOperand ? 0 : operand * this._lanesCount;
+
+		for (int lane = begin; lane < end; lane++)
+		{
+			int value = registers[targetOffset + lane];
+
+			int argument =
+				isNumberOperand ? operand : registers[sourceOffset + lane];
+
+			int result;
+
+			switch (opcode)
+			{
+				case CompiledProgram.ADD_NUMBER:
+				case CompiledProgram.ADD_REGISTER:
+					result = value + arithmeticLogicUnit.castValue(argument);
+					break;
+
+				case CompiledProgram.LEFT_MOVE_NUMBER:
+				case CompiledProgram.LEFT_MOVE_REGISTER:
+					result =
+						arithmeticLogicUnit.leftMove(value,
+							arithmeticLogicUnit.castValue(argument));
+					break;
+
+				case CompiledProgram.LOAD_NUMBER:
+				case CompiledProgram.LOAD_REGISTER:
+					result = argument;
+					break;
+
+				case CompiledProgram.RIGHT_MOVE_NUMBER:
+				case CompiledProgram.RIGHT_MOVE_REGISTER:
+					result =
+						arithmeticLogicUnit.rightMove(value,
+							arithmeticLogicUnit.castValue(argument));
+					break;
+
+				default:
+					result = value ^ arithmeticLogicUnit.castValue(argument);
+					break;
+			}
+
+			int castedResult = arithmeticLogicUnit.castValue(result);
+
+			registers[targetOffset + lane] = castedResult;
+
+			if (setsFlags)
+			{
+				int flags = arithmeticLogicUnit.getFlags(castedResult, result);
+
+				ScalarLaneProcessorSimulator.setBit(this._overflowMask, lane,
+					(flags & IArithmeticLogicUnit.OVERFLOW_FLAG) != 0);
+				ScalarLaneProcessorSimulator.setBit(this._signMask, lane,
+					(flags & IArithmeticLogicUnit.SIGN_FLAG) != 0);
+			}
+		}
+	}
+
+	/**
+	 * Performs the command without the flags for less than 32 bits. The
+	 * registers always hold the cast values, so the register operands and
+	 * the results of the exclusive or don't need the casts.
+	 */
+	private void performNarrowInstruction(int opcode, int registerIndex,
+		int operand, int begin, int end)
+	{
+		int[] registers = this._registers;
+
+		int shift = this._shift;
+
+		int targetOffset = registerIndex * this._lanesCount;
+
+		switch (opcode)
+		{
+			case CompiledProgram.ADD_NUMBER:
+			{
+				int castedOperand = (operand << shift) >> shift;
+
+				for (int i = targetOffset + begin, last = targetOffset + end; i < last; i++)
+				{
+					registers[i] = ((registers[i] + castedOperand) << shift) >> shift;
+				}
+
+				break;
+			}
+
+			case CompiledProgram.ADD_REGISTER:
+			{
+				int delta = (operand - registerIndex) * this._lanesCount;
+
+				for (int i = targetOffset + begin, last = targetOffset + end; i < last; i++)
+				{
+					registers[i] =
+						((registers[i] + registers[i + delta]) << shift) >> shift;
+				}
+
+				break;
+			}
+
+			case CompiledProgram.LEFT_MOVE_NUMBER:
+			case CompiledProgram.RIGHT_MOVE_NUMBER:
+			{
+				int castedOperand = (operand << shift) >> shift;
+
+				int leftMoveArgument =
+					(opcode == CompiledProgram.LEFT_MOVE_NUMBER) ? castedOperand
+						: -castedOperand;
+
+				if (leftMoveArgument >= 0)
+				{
+					for (int i = targetOffset + begin, last = targetOffset + end; i < last; i++)
+					{
+						registers[i] =
+							((registers[i] << leftMoveArgument) << shift) >> shift;
+					}
+				}
+				else
+				{
+					// Halving with rounding down more than 31 times gives 0 or -1
+					int rightMoveArgument =
+						Math.min(-leftMoveArgument, Integer.SIZE - 1);
+
+					// The cast value moved right stays cast
+					for (int i = targetOffset + begin, last = targetOffset + end; i < last; i++)
+					{
+						registers[i] = registers[i] >> rightMoveArgument;
+					}
+				}
+
+				break;
+			}
+
+			case CompiledProgram.LOAD_NUMBER:
+			{
+				Arrays.fill(registers, targetOffset + begin, targetOffset + end,
+					(operand << shift) >> shift);
+
+				break;
+			}
+
+			case CompiledProgram.LOAD_REGISTER:
+			{
+				System.arraycopy(registers, operand * this._lanesCount + begin,
+					registers, targetOffset + begin, end - begin);
+
+				break;
+			}
+
+			case CompiledProgram.XOR_NUMBER:
+			{
+				int castedOperand = (operand << shift) >> shift;
+
+				for (int i = targetOffset + begin, last = targetOffset + end; i < last; i++)
+				{
+					registers[i] ^= castedOperand;
+				}
+
+				break;
+			}
+
+			case CompiledProgram.XOR_REGISTER:
+			{
+				int delta = (operand - registerIndex) * this._lanesCount;
+
+				for (int i = targetOffset + begin, last = targetOffset + end; i < last; i++)
+				{
+					registers[i] ^= registers[i + delta];
+				}
+
+				break;
+			}
+
+			default:
+			{
+				this.performInstruction(opcode, registerIndex, operand, begin,
+					end, false);
+
+				break;
+			}
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package processor_simulator.Simulators.Concrete;
+
+import processor_simulator.Utils.Guard;
+
+/**
+ * Bounded ring buffer of the undo entries. An entry is a single long with
+ * the overwritten value of the register in the upper half, and the
+ * register's index and the previous flags in the lower half. When the log
+ * is full, the oldest entries are overwritten.
+ */
+public class UndoLog
+{
+	private static final int FLAGS_BITS = 2;
+
+	private static final int FLAGS_MASK = (1 << UndoLog.FLAGS_BITS) - 1;
+
+	private int _count;
+
+	private final long[] _entries;
+
+	private int _nextIndex;
+
+	public UndoLog(int capacity)
+	{
+		Guard.moreThanZero(capacity, "capacity");
+
+		this._entries = new long[capacity];
+	}
+
+	/**
+	 * Appends the entry, overwriting the oldest one, if the log is full.
+	 *
+	 * @param registerIndex
+	 *            the index of the overwritten register
+	 * @param value
+	 *            the overwritten value
+	 * @param flags
+	 *            the flags before the command
+	 */
+	public void append(int registerIndex, int value, int flags)
+	{
+		long[] entries = this._entries;
+
+		entries[this._nextIndex] =
+			((long) value << Integer.SIZE)
+				| (((registerIndex << UndoLog.FLAGS_BITS) | flags) & 0xFFFFFFFFL);
+
+		if (++this._nextIndex == entries.length)
+		{
+			this._nextIndex = 0;
+		}
+
+		if (this._count < entries.length)
+		{
+			this._count++;
+		}
+	}
+
+	/**
+	 * Removes all entries.
+	 */
+	public void clear()
+	{
+		this._count = 0;
+		this._nextIndex = 0;
+	}
+
+	/**
+	 * Gets the maximal number of the entries.
+	 *
+	 * @return the capacity
+	 */
+	public int getCapacity()
+	{
+		return this._entries.length;
+	}
+
+	/**
+	 * Gets the number of the entries.
+	 *
+	 * @return the count
+	 */
+	public int getCount()
+	{
+		return this._count;
+	}
+
+	/**
+	 * Gets the previous flags of the entry.
+	 *
+	 * @param entry
+	 *            the entry
+	 * @return the flags
+	 */
+	public static int getFlags(long entry)
+	{
+		return (int) entry & UndoLog.FLAGS_MASK;
+	}
+
+	/**
+	 * Gets the index of the overwritten register of the entry.
+	 *
+	 * @param entry
+	 *            the entry
+	 * @return the register's index
+	 */
+	public static int getRegisterIndex(long entry)
+	{
+		return (int) entry >>> UndoLog.FLAGS_BITS;
+	}
+
+	/**
+	 * Gets the overwritten value of the register of the entry.
+	 *
+	 * @param entry
+	 *            the entry
+	 * @return the value
+	 */
+	public static int getValue(long entry)
+	{
+		return (int) (entry >>> Integer.SIZE);
+	}
+
+	/**
+	 * Removes the latest entry.
+	 *
+	 * @return the entry
+	 */
+	public long removeLast()
+	{
+		if (this._count == 0)
+		{
+			throw new IllegalStateException("Undo log is empty.");
+		}
+
+		if (--this._nextIndex < 0)
+		{
+			this._nextIndex = this._entries.length - 1;
+		}
+
+		this._count--;
+
+		return this._entries[this._nextIndex];
+	}
+}
@@ -0,0 +1,69 @@
+package processor_simulator.Simulators.Concrete;
+
+/**
+ * Arithmetic logic unit for any number of bits, which casts the values by
+ * the masks of {@link processor_simulator.Utils.NumberUtils#castValue(int, int)}.
+ * The masks are computed once with the same int arithmetic, so the casts
+ * also give the same results for 32 and more bits.
+ */
+public class WideArithmeticLogicUnit extends ArithmeticLogicUnit
+{
+	private final int _mask;
+
+	private final int _signBit;
+
+	private final int _signExtension;
+
+	public WideArithmeticLogicUnit(int numberOfBits)
+	{
+		super(numberOfBits);
+
+		this._mask = (1 << numberOfBits) - 1;
+		this._signBit = 1 << (numberOfBits - 1);
+		this._signExtension =
+			((1 << (Integer.SIZE - numberOfBits)) - 1) << numberOfBits;
+	}
+
+	@Override
+	public int castValue(int value)
+	{
+		int maskedValue = value & this._mask;
+
+		int signBit = maskedValue & this._signBit;
+
+		// All ones, if the sign bit is set
+		int extensionMask = -((signBit | -signBit) >>> (Integer.SIZE - 1));
+
+		return maskedValue | (this._signExtension & extensionMask);
+	}
+
+	/**
+	 * Gets the mask of the value's bits.
+	 *
+	 * @return the mask
+	 */
+	public int getMask()
+	{
+		return this._mask;
+	}
+
+	/**
+	 * Gets the mask of the sign bit.
+	 *
+	 * @return the sign bit
+	 */
+	public int getSignBit()
+	{
+		return this._signBit;
+	}
+
+	/**
+	 * Gets the bits, which are set, if the sign bit is set.
+	 *
+	 * @return the sign extension
+	 */
+	public int getSignExtension()
+	{
+		return this._signExtension;
+	}
+}
@@ -0,0 +1,108 @@
+package processor_simulator.Utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only character sequence over the bytes of a buffer, where every byte
+ * is one character (ASCII, bytes above 127 are read as ISO-8859-1). No
+ * characters are copied until {@link #toString()} is called.
+ */
+public class AsciiCharSequence implements CharSequence
+{
+	private final ByteBuffer _buffer;
+
+	private final int _length;
+
+	private final int _offset;
+
+	public AsciiCharSequence(ByteBuffer buffer)
+	{
+		this(buffer, buffer.position(), buffer.remaining());
+	}
+
+	private AsciiCharSequence(ByteBuffer buffer, int offset, int length)
+	{
+		Guard.notNull(buffer, "buffer");
+
+		this._buffer = buffer;
+		this._offset = offset;
+		this._length = length;
+	}
+
+	/**
+	 * Maps the specified file into memory.
+	 *
+	 * @param path
+	 *            the file's path
+	 * @return the character sequence over the file's content
+	 * @throws IOException
+	 *             the file can't be read or is larger than 2 GB
+	 */
+	public static AsciiCharSequence map(Path path) throws IOException
+	{
+		Guard.notNull(path, "path");
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+		{
+			long size = channel.size();
+
+			if (size > Integer.MAX_VALUE)
+			{
+				throw new IOException(String.format(
+					"File '%1$s' is too large to be mapped.", path));
+			}
+
+			// The mapping stays valid after the channel is closed
+			return new AsciiCharSequence(channel.map(
+				FileChannel.MapMode.READ_ONLY, 0, size));
+		}
+	}
+
+	@Override
+	public char charAt(int index)
+	{
+		if (index < 0 || index >= this._length)
+		{
+			throw new IndexOutOfBoundsException(String.valueOf(index));
+		}
+
+		return (char) (this._buffer.get(this._offset + index) & 0xFF);
+	}
+
+	@Override
+	public int length()
+	{
+		return this._length;
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end)
+	{
+		if (start < 0 || end > this._length || start > end)
+		{
+			throw new IndexOutOfBoundsException(String.format(
+				"start %1$d, end %2$d, length %3$d", start, end, this._length));
+		}
+
+		return new AsciiCharSequence(this._buffer, this._offset + start, end
+			- start);
+	}
+
+	@Override
+	public String toString()
+	{
+		byte[] bytes = new byte[this._length];
+
+		ByteBuffer buffer = this._buffer.duplicate();
+
+		buffer.position(this._offset);
+		buffer.get(bytes);
+
+		return new String(bytes, StandardCharsets.ISO_8859_1);
+	}
+}
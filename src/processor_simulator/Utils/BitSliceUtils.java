@@ -0,0 +1,129 @@
+package processor_simulator.Utils;
+
+/**
+ * Conversions between the values of 64 machines and the bit slices, where
+ * the slice of a bit position is a long, whose bit m is the bit of the value
+ * of the machine m.
+ */
+public class BitSliceUtils
+{
+	/**
+	 * Converts the slices of 64 values to the values. The bits above the
+	 * number of bits are the copies of the highest bit, so the values are
+	 * sign-extended.
+	 *
+	 * @param slices
+	 *            the slices, from the lowest bit
+	 * @param slicesOffset
+	 *            the offset of the lowest bit's slice
+	 * @param numberOfBits
+	 *            the number of slices
+	 * @param values
+	 *            the array for 64 values
+	 * @param valuesOffset
+	 *            the offset of the first machine's value
+	 */
+	public static void fromSlices(long[] slices, int slicesOffset,
+		int numberOfBits, int[] values, int valuesOffset)
+	{
+		Guard.notNull(slices, "slices");
+		Guard.notNull(values, "values");
+		BitSliceUtils.checkNumberOfBits(numberOfBits);
+
+		long[] matrix = new long[Long.SIZE];
+
+		System.arraycopy(slices, slicesOffset, matrix, 0, numberOfBits);
+
+		long signSlice = matrix[numberOfBits - 1];
+
+		for (int i = numberOfBits; i < Long.SIZE; i++)
+		{
+			matrix[i] = signSlice;
+		}
+
+		BitSliceUtils.transpose(matrix);
+
+		for (int i = 0; i < Long.SIZE; i++)
+		{
+			values[valuesOffset + i] = (int) matrix[i];
+		}
+	}
+
+	/**
+	 * Converts 64 values to the slices of their lower bits.
+	 *
+	 * @param values
+	 *            the values
+	 * @param valuesOffset
+	 *            the offset of the first machine's value
+	 * @param numberOfBits
+	 *            the number of slices
+	 * @param slices
+	 *            the array for the slices, from the lowest bit
+	 * @param slicesOffset
+	 *            the offset of the lowest bit's slice
+	 */
+	public static void toSlices(int[] values, int valuesOffset,
+		int numberOfBits, long[] slices, int slicesOffset)
+	{
+		Guard.notNull(values, "values");
+		Guard.notNull(slices, "slices");
+		BitSliceUtils.checkNumberOfBits(numberOfBits);
+
+		long[] matrix = new long[Long.SIZE];
+
+		for (int i = 0; i < Long.SIZE; i++)
+		{
+			matrix[i] = values[valuesOffset + i];
+		}
+
+		BitSliceUtils.transpose(matrix);
+
+		System.arraycopy(matrix, 0, slices, slicesOffset, numberOfBits);
+	}
+
+	/**
+	 * Transposes the 64x64 bit matrix in place, so the bit c of the row r
+	 * becomes the bit r of the row c.
+	 *
+	 * @param matrix
+	 *            the 64 rows
+	 */
+	public static void transpose(long[] matrix)
+	{
+		Guard.notNull(matrix, "matrix");
+
+		if (matrix.length != Long.SIZE)
+		{
+			throw new IllegalArgumentException(String.format(
+				"Argument 'matrix' must have %1$d rows.", Long.SIZE));
+		}
+
+		// Swap the upper right and the lower left blocks of 32, 16, ... 1 bits
+		long mask = 0x00000000FFFFFFFFL;
+
+		for (int width = Integer.SIZE; width != 0; width >>>= 1, mask ^=
+			mask << width)
+		{
+			for (int i = 0; i < Long.SIZE; i = ((i | width) + 1) & ~width)
+			{
+				long swapped = ((matrix[i] >>> width) ^ matrix[i | width]) & mask;
+
+				matrix[i] ^= swapped << width;
+				matrix[i | width] ^= swapped;
+			}
+		}
+	}
+
+	private static void checkNumberOfBits(int numberOfBits)
+	{
+		Guard.moreThanZero(numberOfBits, "numberOfBits");
+
+		if (numberOfBits > Integer.SIZE)
+		{
+			throw new IllegalArgumentException(String.format(
+				"Argument 'numberOfBits' can't be more than %1$d.",
+				Integer.SIZE));
+		}
+	}
+}
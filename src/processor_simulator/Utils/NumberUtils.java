@@ -2,6 +2,12 @@ package processor_simulator.Utils;
 
 public class NumberUtils
 {
+	/**
+	 * The result of {@link #tryParseInt(CharSequence, int, int)}, if the
+	 * characters are not a valid int.
+	 */
+	public static final long NOT_A_NUMBER = Long.MIN_VALUE;
+
 	public static int castValue(int value, int numberOfBits)
 	{
 		Guard.moreThanZero(numberOfBits, "numberOfBits");
@@ -57,4 +63,73 @@ public class NumberUtils
 
 		return result;
 	}
+
+	/**
+	 * Parses the specified part of the characters the same way as
+	 * {@link Integer#parseInt(String)}, but without creating a string.
+	 *
+	 * @param characters
+	 *            the characters
+	 * @param beginIndex
+	 *            the index of the first character
+	 * @param endIndex
+	 *            the index after the last character
+	 * @return the parsed value or {@link #NOT_A_NUMBER}, if the characters
+	 *         are not a valid int
+	 */
+	public static long tryParseInt(CharSequence characters, int beginIndex,
+		int endIndex)
+	{
+		Guard.notNull(characters, "characters");
+
+		int index = beginIndex;
+
+		if (index >= endIndex)
+		{
+			return NumberUtils.NOT_A_NUMBER;
+		}
+
+		char firstCharacter = characters.charAt(index);
+
+		boolean isNegative = firstCharacter == '-';
+
+		if (isNegative || firstCharacter == '+')
+		{
+			index++;
+
+			if (index == endIndex)
+			{
+				return NumberUtils.NOT_A_NUMBER;
+			}
+		}
+
+		long value = 0;
+
+		// Accumulate the magnitude, the int range is checked on every digit
+		for (; index < endIndex; index++)
+		{
+			int digit = Character.digit(characters.charAt(index), 10);
+
+			if (digit < 0)
+			{
+				return NumberUtils.NOT_A_NUMBER;
+			}
+
+			value = value * 10 + digit;
+
+			if (value > (long) Integer.MAX_VALUE + 1)
+			{
+				return NumberUtils.NOT_A_NUMBER;
+			}
+		}
+
+		value = isNegative ? -value : value;
+
+		if (value > Integer.MAX_VALUE)
+		{
+			return NumberUtils.NOT_A_NUMBER;
+		}
+
+		return value;
+	}
 }
@@ -0,0 +1,64 @@
+package processor_simulator.Utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Set of the space characters, which checks the ASCII characters with a
+ * table instead of searching the list, because the lexers check every
+ * character of the source.
+ */
+public class SpaceCharacterSet
+{
+	private static final int ASCII_SIZE = 128;
+
+	private final boolean[] _asciiSpaceCharacters;
+
+	private final List<Character> _spaceCharacters;
+
+	public SpaceCharacterSet(Iterable<Character> spaceCharacters)
+	{
+		Guard.notNull(spaceCharacters, "spaceCharacters");
+
+		this._spaceCharacters = new ArrayList<Character>();
+
+		for (Character spaceCharacter : spaceCharacters)
+		{
+			this._spaceCharacters.add(spaceCharacter);
+		}
+
+		this._asciiSpaceCharacters = new boolean[SpaceCharacterSet.ASCII_SIZE];
+
+		for (int i = 0; i < SpaceCharacterSet.ASCII_SIZE; i++)
+		{
+			this._asciiSpaceCharacters[i] =
+				this._spaceCharacters.contains((char) i);
+		}
+	}
+
+	/**
+	 * Gets the default space characters.
+	 *
+	 * @return the default space characters
+	 */
+	public static List<Character> getDefaultSpaceCharacters()
+	{
+		return new ArrayList<Character>(Arrays.asList(' ', '\n', '\r', '\t'));
+	}
+
+	public boolean contains(char character)
+	{
+		if (character < SpaceCharacterSet.ASCII_SIZE)
+		{
+			return this._asciiSpaceCharacters[character];
+		}
+
+		return this._spaceCharacters.contains(character);
+	}
+
+	public List<Character> getSpaceCharacters()
+	{
+		return this._spaceCharacters;
+	}
+}
@@ -0,0 +1,164 @@
+package processor_simulator.Compilers.Concrete;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import processor_simulator.Compilers.Abstract.IAssembler;
+import processor_simulator.Exceptions.CommandArgumentIsInvalidException;
+import processor_simulator.Exceptions.CommandIsInvalidException;
+import processor_simulator.Lexers.Concrete.CommandsLexer;
+import processor_simulator.Models.Command;
+import processor_simulator.Models.CompiledProgram;
+import processor_simulator.Parsers.Concrete.CommandsParser;
+
+public class AssemblerTests
+{
+	private static final int NUMBER_OF_REGISTERS = 4;
+
+	private IAssembler _assembler;
+
+	@Test
+	public void assemble_CommandNamesHaveMixedCase_ReturnsCompiledProgram()
+		throws Exception
+	{
+		// Arrange
+		String source = "LOAD R1, 5; aDd R2, R1;\nrightMove R2, -1;";
+
+		// Act
+		CompiledProgram program = this._assembler.assemble(source);
+
+		// Assert
+		Assert.assertEquals(3, program.getCommandsCount());
+		Assert.assertEquals("Load {Register; 1}, {Number; 5}",
+			program.getCommandText(0));
+		Assert.assertEquals("Add {Register; 2}, {Register; 1}",
+			program.getCommandText(1));
+		Assert.assertEquals("RightMove {Register; 2}, {Number; -1}",
+			program.getCommandText(2));
+		Assert.assertEquals(2, program.getNumberOfRegisters());
+	}
+
+	@Test
+	public void assemble_ParsingErrorFollowsCompilingError_ThrowsParsingError()
+		throws Exception
+	{
+		// Arrange
+		String source = "Add R9, 1; Load R1 R2;";
+
+		// Act
+		Object result = this.assemble(source);
+
+		// Assert
+		Assert.assertEquals(
+			"CommandIsInvalidException: Invalid command at token 'R2'. Expected concatenation or termination token.",
+			result);
+	}
+
+	@Test
+	public void assemble_SourcesAreRandom_ReturnsSameResultsAsPipeline()
+		throws Exception
+	{
+		// Arrange
+		String[] names = { "Add", "load", "XOR", "RightMove", "leftmove", "Sub" };
+
+		String[] arguments =
+			{ "R1", "R2", "R4", "R5", "R0", "0", "-3", "2147483647", "99999999999" };
+
+		String[] noise = { ",", ";", " ", "\n", "?", "R", "-" };
+
+		Random random = new Random(42);
+
+		for (int i = 0; i < 5000; i++)
+		{
+			StringBuilder stringBuilder = new StringBuilder();
+
+			for (int j = random.nextInt(4); j >= 0; j--)
+			{
+				stringBuilder.append(names[random.nextInt(names.length)]);
+
+				for (int k = random.nextInt(3); k >= 0; k--)
+				{
+					stringBuilder.append(" ");
+					stringBuilder.append(arguments[random
+							.nextInt(arguments.length)]);
+					stringBuilder.append((k > 0) ? "," : ";");
+				}
+
+				if (random.nextInt(8) == 0)
+				{
+					// Break the command
+					stringBuilder.insert(random.nextInt(stringBuilder.length()),
+						noise[random.nextInt(noise.length)]);
+				}
+			}
+
+			String source = stringBuilder.toString();
+
+			// Act
+			Object result = this.assemble(source);
+
+			// Assert
+			Assert.assertEquals(source, AssemblerTests.compile(source), result);
+		}
+	}
+
+	@Before
+	public void setUp() throws Exception
+	{
+		this._assembler = new Assembler(AssemblerTests.NUMBER_OF_REGISTERS);
+	}
+
+	private static Object compile(String source) throws Exception
+	{
+		try
+		{
+			CommandsLexer commandsLexer = new CommandsLexer();
+
+			commandsLexer.setSource(source);
+
+			CommandsParser commandsParser = new CommandsParser();
+
+			commandsParser.setTokens(commandsLexer.parse());
+
+			List<Command> commands = commandsParser.parse();
+
+			return AssemblerTests.toString(new ProgramCompiler(
+				AssemblerTests.NUMBER_OF_REGISTERS).compile(commands));
+		}
+		catch (CommandIsInvalidException | CommandArgumentIsInvalidException
+			| NumberFormatException e)
+		{
+			return AssemblerTests.toString(e);
+		}
+	}
+
+	private static String toString(CompiledProgram program)
+	{
+		return Arrays.toString(program.getCode()) + " "
+			+ program.getNumberOfRegisters();
+	}
+
+	private static String toString(Exception exception)
+	{
+		return exception.getClass().getSimpleName() + ": "
+			+ exception.getMessage();
+	}
+
+	private Object assemble(String source) throws Exception
+	{
+		try
+		{
+			return AssemblerTests.toString(this._assembler.assemble(source));
+		}
+		catch (CommandIsInvalidException | CommandArgumentIsInvalidException
+			| NumberFormatException e)
+		{
+			return AssemblerTests.toString(e);
+		}
+	}
+}
@@ -0,0 +1,163 @@
+package processor_simulator.Compilers.Concrete;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import processor_simulator.Compilers.Abstract.IExecutableProgram;
+import processor_simulator.Models.CompiledProgram;
+import processor_simulator.Simulators.Concrete.ProcessorSimulator;
+
+public class BytecodeCompilerTests
+{
+	private static final int[] MOVE_ARGUMENTS = { 0, 1, -1, 3, -3, 31, -31,
+		32, -32, 40, -40, 8191, -8192 };
+
+	private static final int NUMBER_OF_REGISTERS = 6;
+
+	private static final int[] NUMBERS = { 0, 1, -1, 5, -7, 8191, -8192, 8192,
+		123456, -123456, Integer.MAX_VALUE, Integer.MIN_VALUE };
+
+	private Random _random;
+
+	@Test
+	public void compile_ProgramIsEmpty_ReturnsProgramWithoutFlags()
+	{
+		// Arrange
+		CompiledProgram program =
+			new CompiledProgram(new int[0], BytecodeCompilerTests.NUMBER_OF_REGISTERS);
+
+		int[] registers = { 1, 2, 3 };
+
+		// Act
+		int flags = new BytecodeCompiler(14).compile(program).execute(registers);
+
+		// Assert
+		Assert.assertEquals(0, flags);
+		Assert.assertArrayEquals(new int[] { 1, 2, 3 }, registers);
+	}
+
+	@Test
+	public void compile_ProgramIsLarge_ReturnsSameResultsAsSimulator()
+		throws Exception
+	{
+		// Arrange
+		CompiledProgram program = this.createRandomProgram(45000, 14);
+
+		// Act & Assert
+		this.assertSameResults(program, 14);
+	}
+
+	@Test
+	public void compile_ProgramsAreRandom_ReturnsSameResultsAsSimulator()
+		throws Exception
+	{
+		// Arrange
+		int[] numbersOfBits = { 1, 4, 14, 16, 31, 32, 33, 64 };
+
+		for (int numberOfBits : numbersOfBits)
+		{
+			for (int i = 0; i < 50; i++)
+			{
+				CompiledProgram program =
+					this.createRandomProgram(1 + this._random.nextInt(300),
+						numberOfBits);
+
+				// Act & Assert
+				this.assertSameResults(program, numberOfBits);
+			}
+		}
+	}
+
+	@Test
+	public void getNumberOfBits_CompilerIsCreated_ReturnsNumberOfBits()
+	{
+		// Arrange
+		BytecodeCompiler bytecodeCompiler = new BytecodeCompiler(14);
+
+		// Act
+		int numberOfBits = bytecodeCompiler.getNumberOfBits();
+
+		// Assert
+		Assert.assertEquals(14, numberOfBits);
+	}
+
+	@Before
+	public void setUp() throws Exception
+	{
+		this._random = new Random(42);
+	}
+
+	private void assertSameResults(CompiledProgram program, int numberOfBits)
+		throws Exception
+	{
+		ProcessorSimulator testProcessorSimulator =
+			new ProcessorSimulator(numberOfBits,
+				BytecodeCompilerTests.NUMBER_OF_REGISTERS);
+
+		testProcessorSimulator.performProgram(program);
+
+		IExecutableProgram executableProgram =
+			new BytecodeCompiler(numberOfBits).compile(program);
+
+		int[] registers = new int[BytecodeCompilerTests.NUMBER_OF_REGISTERS];
+
+		int flags = executableProgram.execute(registers);
+
+		Assert.assertSame(program, executableProgram.getProgram());
+		Assert.assertEquals(numberOfBits, executableProgram.getNumberOfBits());
+
+		Assert.assertArrayEquals(testProcessorSimulator.getRegisters(),
+			registers);
+		Assert.assertEquals(testProcessorSimulator.getOverflowFlag(),
+			(flags & IExecutableProgram.OVERFLOW_FLAG) != 0);
+		Assert.assertEquals(testProcessorSimulator.getSignFlag(),
+			(flags & IExecutableProgram.SIGN_FLAG) != 0);
+	}
+
+	private CompiledProgram createRandomProgram(int commandsCount,
+		int numberOfBits)
+	{
+		int[] code = new int[commandsCount * CompiledProgram.INSTRUCTION_SIZE];
+
+		for (int offset = 0; offset < code.length; offset +=
+			CompiledProgram.INSTRUCTION_SIZE)
+		{
+			int opcode = this._random.nextInt(CompiledProgram.XOR_NUMBER + 1);
+
+			boolean isMove =
+				opcode >= CompiledProgram.RIGHT_MOVE_REGISTER
+					&& opcode <= CompiledProgram.LEFT_MOVE_NUMBER;
+
+			int operand;
+
+			if ((opcode & CompiledProgram.NUMBER_OPERAND_FLAG) == 0)
+			{
+				operand =
+					this._random.nextInt(BytecodeCompilerTests.NUMBER_OF_REGISTERS);
+			}
+			else if (isMove)
+			{
+				operand =
+					BytecodeCompilerTests.MOVE_ARGUMENTS[this._random
+							.nextInt(BytecodeCompilerTests.MOVE_ARGUMENTS.length)];
+			}
+			else
+			{
+				operand =
+					BytecodeCompilerTests.NUMBERS[this._random
+							.nextInt(BytecodeCompilerTests.NUMBERS.length)];
+			}
+
+			code[offset] = opcode;
+			code[offset + 1] =
+				this._random.nextInt(BytecodeCompilerTests.NUMBER_OF_REGISTERS);
+			code[offset + 2] = operand;
+		}
+
+		return new CompiledProgram(code,
+			BytecodeCompilerTests.NUMBER_OF_REGISTERS);
+	}
+}
@@ -0,0 +1,145 @@
+package processor_simulator.Compilers.Concrete;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+
+import processor_simulator.Compilers.Abstract.IAssembler;
+import processor_simulator.Compilers.Abstract.IProgramCache;
+import processor_simulator.Enums.CommandType;
+import processor_simulator.Lexers.Concrete.CommandsLexer;
+import processor_simulator.Models.CompiledProgram;
+import processor_simulator.Parsers.Abstract.ICommandsParser;
+import processor_simulator.Parsers.Concrete.CommandsParser;
+
+public class ProgramCacheTests
+{
+	private static final String SOURCE = "Load R1, 5; Add R2, R1;";
+
+	private IAssembler _assemblerSpy;
+
+	private Path _cacheDirectory;
+
+	private IProgramCache _programCache;
+
+	private Path _sourcePath;
+
+	@Rule
+	public TemporaryFolder _temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void load_AssemblerSettingsAreChanged_CompilesSourceAgain()
+		throws Exception
+	{
+		// Arrange
+		this._programCache.load(this._sourcePath);
+
+		ICommandsParser commandsParser = new CommandsParser();
+
+		Map<String, CommandType> commandTypesDictionary =
+			new HashMap<String, CommandType>(
+				commandsParser.getCommandTypesDictionary());
+
+		commandTypesDictionary.put("load", CommandType.Xor);
+
+		commandsParser.setCommandTypesDictionary(commandTypesDictionary);
+
+		IProgramCache programCache =
+			new ProgramCache(this._cacheDirectory, new Assembler(
+				new CommandsLexer(), commandsParser, 4));
+
+		// Act
+		CompiledProgram program = programCache.load(this._sourcePath);
+
+		// Assert
+		Assert.assertEquals("Xor {Register; 1}, {Number; 5}",
+			program.getCommandText(0));
+		Assert.assertEquals(2, this._cacheDirectory.toFile().listFiles().length);
+	}
+
+	@Test
+	public void load_ImageIsDamaged_CompilesSourceAgain() throws Exception
+	{
+		// Arrange
+		this._programCache.load(this._sourcePath);
+
+		File[] images = this._cacheDirectory.toFile().listFiles();
+
+		Files.write(images[0].toPath(), new byte[] { 1, 2, 3 });
+
+		// Act
+		CompiledProgram program = this._programCache.load(this._sourcePath);
+
+		// Assert
+		Mockito.verify(this._assemblerSpy, Mockito.times(2)).assemble(
+			Matchers.any(CharSequence.class));
+
+		Assert.assertEquals(2, program.getCommandsCount());
+	}
+
+	@Test
+	public void load_SourceIsChanged_CompilesChangedSource() throws Exception
+	{
+		// Arrange
+		this._programCache.load(this._sourcePath);
+
+		Files.write(this._sourcePath, "Xor R3, 1;"
+				.getBytes(StandardCharsets.US_ASCII));
+
+		// Act
+		CompiledProgram program = this._programCache.load(this._sourcePath);
+
+		// Assert
+		Assert.assertEquals(1, program.getCommandsCount());
+		Assert.assertEquals("Xor {Register; 3}, {Number; 1}",
+			program.getCommandText(0));
+		Assert.assertEquals(2, this._cacheDirectory.toFile().listFiles().length);
+	}
+
+	@Test
+	public void load_SourceIsCached_ReadsProgramWithoutAssembling()
+		throws Exception
+	{
+		// Arrange
+		CompiledProgram testProgram = this._programCache.load(this._sourcePath);
+
+		// Act
+		CompiledProgram program = this._programCache.load(this._sourcePath);
+
+		// Assert
+		Mockito.verify(this._assemblerSpy, Mockito.times(1)).assemble(
+			Matchers.any(CharSequence.class));
+
+		Assert.assertArrayEquals(testProgram.getCode(), program.getCode());
+		Assert.assertEquals(testProgram.getNumberOfRegisters(),
+			program.getNumberOfRegisters());
+	}
+
+	@Before
+	public void setUp() throws Exception
+	{
+		this._sourcePath = this._temporaryFolder.newFile("program.txt").toPath();
+
+		Files.write(this._sourcePath,
+			ProgramCacheTests.SOURCE.getBytes(StandardCharsets.US_ASCII));
+
+		this._cacheDirectory =
+			this._temporaryFolder.getRoot().toPath().resolve("cache");
+
+		this._assemblerSpy = Mockito.spy(new Assembler(4));
+
+		this._programCache =
+			new ProgramCache(this._cacheDirectory, this._assemblerSpy);
+	}
+}
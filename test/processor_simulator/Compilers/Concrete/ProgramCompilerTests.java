@@ -0,0 +1,133 @@
+package processor_simulator.Compilers.Concrete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import processor_simulator.Compilers.Abstract.IProgramCompiler;
+import processor_simulator.Enums.ArgumentType;
+import processor_simulator.Enums.CommandType;
+import processor_simulator.Exceptions.CommandArgumentIsInvalidException;
+import processor_simulator.Exceptions.CommandIsInvalidException;
+import processor_simulator.Models.Argument;
+import processor_simulator.Models.Command;
+import processor_simulator.Models.CompiledProgram;
+
+public class ProgramCompilerTests
+{
+	private IProgramCompiler _programCompiler;
+
+	@Test(expected = CommandIsInvalidException.class)
+	public void compile_CommandHasOneArgument_ThrowsCommandIsInvalidException()
+		throws Exception
+	{
+		// Arrange
+		Command command = new Command(CommandType.Add);
+
+		command.setArguments(Arrays.asList(new Argument(ArgumentType.Register,
+			1)));
+
+		// Act & Assert
+		this._programCompiler.compile(Arrays.asList(command));
+	}
+
+	@Test(expected = CommandIsInvalidException.class)
+	public void compile_CommandIsUnknown_ThrowsCommandIsInvalidException()
+		throws Exception
+	{
+		// Arrange
+		Command command = new Command(CommandType.Unknown);
+
+		command.setArguments(Arrays.asList(new Argument(ArgumentType.Register,
+			1), new Argument(ArgumentType.Number, 1)));
+
+		// Act & Assert
+		this._programCompiler.compile(Arrays.asList(command));
+	}
+
+	@Test
+	public void compile_CommandsListIsEmpty_ReturnsEmptyProgram()
+		throws Exception
+	{
+		// Act
+		CompiledProgram program =
+			this._programCompiler.compile(new ArrayList<Command>());
+
+		// Assert
+		Assert.assertEquals(0, program.getCommandsCount());
+	}
+
+	@Test(expected = CommandArgumentIsInvalidException.class)
+	public void compile_FirstArgumentIsNumber_ThrowsCommandArgumentIsInvalidException()
+		throws Exception
+	{
+		// Arrange
+		Command command = new Command(CommandType.Load);
+
+		command.setArguments(Arrays.asList(
+			new Argument(ArgumentType.Number, 1), new Argument(
+				ArgumentType.Number, 1)));
+
+		// Act & Assert
+		this._programCompiler.compile(Arrays.asList(command));
+	}
+
+	@Test(expected = CommandArgumentIsInvalidException.class)
+	public void compile_RegisterDoesNotExist_ThrowsCommandArgumentIsInvalidException()
+		throws Exception
+	{
+		// Arrange
+		Command command = new Command(CommandType.Xor);
+
+		command.setArguments(Arrays.asList(new Argument(ArgumentType.Register,
+			1), new Argument(ArgumentType.Register,
+			this._programCompiler.getNumberOfRegisters() + 1)));
+
+		// Act & Assert
+		this._programCompiler.compile(Arrays.asList(command));
+	}
+
+	@Test
+	public void compile_ReturnsValidProgram() throws Exception
+	{
+		// Arrange - create commands
+		Command commandOne = new Command(CommandType.Load);
+
+		commandOne.setArguments(Arrays.asList(new Argument(
+			ArgumentType.Register, 2), new Argument(ArgumentType.Number, -3)));
+
+		Command commandTwo = new Command(CommandType.RightMove);
+
+		commandTwo.setArguments(Arrays.asList(new Argument(
+			ArgumentType.Register, 1), new Argument(ArgumentType.Register, 3)));
+
+		// Arrange - create testCode
+		int[] testCode =
+			{
+				CompiledProgram.LOAD_NUMBER, 1, -3,
+				CompiledProgram.RIGHT_MOVE_REGISTER, 0, 2
+			};
+
+		// Act
+		CompiledProgram program =
+			this._programCompiler.compile(Arrays
+					.asList(commandOne, commandTwo));
+
+		// Assert
+		Assert.assertArrayEquals(testCode, program.getCode());
+
+		Assert.assertEquals(2, program.getCommandsCount());
+		Assert.assertEquals(3, program.getNumberOfRegisters());
+		Assert.assertEquals(commandOne.toString(), program.getCommandText(0));
+		Assert.assertEquals(commandTwo.toString(), program.getCommandText(1));
+	}
+
+	@Before
+	public void setUp()
+	{
+		this._programCompiler = new ProgramCompiler(4);
+	}
+}
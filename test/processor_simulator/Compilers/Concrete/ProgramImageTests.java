@@ -0,0 +1,94 @@
+package processor_simulator.Compilers.Concrete;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import processor_simulator.Exceptions.ProgramImageIsInvalidException;
+import processor_simulator.Models.CompiledProgram;
+
+public class ProgramImageTests
+{
+	@Test(expected = ProgramImageIsInvalidException.class)
+	public void read_CodeIsInvalid_ThrowsProgramImageIsInvalidException()
+		throws Exception
+	{
+		// Arrange - the target register is out of the program's registers
+		ByteBuffer buffer =
+			ProgramImageTests.write(new CompiledProgram(new int[] {
+				CompiledProgram.LOAD_NUMBER, 2, 5
+			}, 2), new byte[ProgramImage.SOURCE_HASH_LENGTH]);
+
+		// Act & Assert
+		ProgramImage.read(buffer, new byte[ProgramImage.SOURCE_HASH_LENGTH]);
+	}
+
+	@Test(expected = ProgramImageIsInvalidException.class)
+	public void read_ImageIsTruncated_ThrowsProgramImageIsInvalidException()
+		throws Exception
+	{
+		// Arrange
+		ByteBuffer buffer =
+			ProgramImageTests.write(new CompiledProgram(new int[] {
+				CompiledProgram.LOAD_NUMBER, 0, 5
+			}, 1), new byte[ProgramImage.SOURCE_HASH_LENGTH]);
+
+		buffer.limit(buffer.limit() - 1);
+
+		// Act & Assert
+		ProgramImage.read(buffer, new byte[ProgramImage.SOURCE_HASH_LENGTH]);
+	}
+
+	@Test
+	public void read_ImageIsWritten_ReturnsSameProgram() throws Exception
+	{
+		// Arrange
+		CompiledProgram testProgram = new CompiledProgram(new int[] {
+			CompiledProgram.LOAD_NUMBER, 0, -5,
+			CompiledProgram.XOR_REGISTER, 1, 0
+		}, 2);
+
+		byte[] sourceHash = new byte[ProgramImage.SOURCE_HASH_LENGTH];
+
+		sourceHash[0] = 42;
+
+		ByteBuffer buffer = ProgramImageTests.write(testProgram, sourceHash);
+
+		// Act
+		CompiledProgram program = ProgramImage.read(buffer, sourceHash);
+
+		// Assert
+		Assert.assertArrayEquals(testProgram.getCode(), program.getCode());
+		Assert.assertEquals(2, program.getNumberOfRegisters());
+	}
+
+	@Test(expected = ProgramImageIsInvalidException.class)
+	public void read_SourceHashIsDifferent_ThrowsProgramImageIsInvalidException()
+		throws Exception
+	{
+		// Arrange
+		ByteBuffer buffer =
+			ProgramImageTests.write(new CompiledProgram(new int[0], 0),
+				new byte[ProgramImage.SOURCE_HASH_LENGTH]);
+
+		byte[] sourceHash = new byte[ProgramImage.SOURCE_HASH_LENGTH];
+
+		sourceHash[31] = 1;
+
+		// Act & Assert
+		ProgramImage.read(buffer, sourceHash);
+	}
+
+	private static ByteBuffer write(CompiledProgram program, byte[] sourceHash)
+	{
+		ByteBuffer buffer =
+			ByteBuffer.allocate(ProgramImage.getSize(program));
+
+		ProgramImage.write(program, sourceHash, buffer);
+
+		buffer.flip();
+
+		return buffer;
+	}
+}
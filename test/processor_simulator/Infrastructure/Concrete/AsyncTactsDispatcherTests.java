@@ -0,0 +1,226 @@
+package processor_simulator.Infrastructure.Concrete;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import processor_simulator.Enums.BackpressurePolicy;
+import processor_simulator.Enums.WaitStrategy;
+import processor_simulator.Infrastructure.Abstact.IObservable;
+import processor_simulator.Infrastructure.Abstact.ITactStateListener;
+import processor_simulator.Infrastructure.Abstact.ITactsListener;
+import processor_simulator.Models.CompiledProgram;
+import processor_simulator.Models.ProcessorState;
+import processor_simulator.Models.TactState;
+import processor_simulator.Simulators.Concrete.ProcessorSimulator;
+
+public class AsyncTactsDispatcherTests
+{
+	private static final int NUMBER_OF_REGISTERS = 2;
+
+	@Test(expected = IllegalArgumentException.class)
+	public void asyncTactsDispatcher_CapacityIsNotPowerOfTwo_ThrowsIllegalArgumentException()
+	{
+		// Act & Assert
+		new AsyncTactsDispatcher(1, 6, WaitStrategy.Yield,
+			BackpressurePolicy.Block);
+	}
+
+	@Test
+	public void close_ThreadIsInterrupted_StopsListenersAndKeepsInterrupt()
+	{
+		// Arrange
+		AsyncTactsDispatcher asyncTactsDispatcher =
+			new AsyncTactsDispatcher(
+				AsyncTactsDispatcherTests.NUMBER_OF_REGISTERS, 4,
+				WaitStrategy.Yield, BackpressurePolicy.Block);
+
+		List<int[]> states = Collections.synchronizedList(new ArrayList<int[]>());
+
+		asyncTactsDispatcher.addListener(state -> states.add(new int[] { state
+				.getCommandsCounter() }));
+
+		this.publish(asyncTactsDispatcher, 3);
+
+		Thread.currentThread().interrupt();
+
+		// Act
+		asyncTactsDispatcher.close();
+
+		// Assert
+		Assert.assertTrue(Thread.interrupted());
+		Assert.assertEquals(3, states.size());
+	}
+
+	@Test
+	public void publish_PolicyIsBlock_DeliversAllStatesInOrder()
+		throws Exception
+	{
+		// Arrange
+		ProcessorSimulator processorSimulator =
+			new ProcessorSimulator(14,
+				AsyncTactsDispatcherTests.NUMBER_OF_REGISTERS);
+
+		List<ProcessorState> expectedStates = new ArrayList<ProcessorState>();
+
+		((IObservable<ITactsListener>) processorSimulator)
+				.addListener(() -> expectedStates.add(processorSimulator
+						.getState()));
+
+		List<ProcessorState> states =
+			Collections.synchronizedList(new ArrayList<ProcessorState>());
+
+		try (AsyncTactsDispatcher asyncTactsDispatcher =
+			new AsyncTactsDispatcher(
+				AsyncTactsDispatcherTests.NUMBER_OF_REGISTERS, 4,
+				WaitStrategy.Park, BackpressurePolicy.Block))
+		{
+			asyncTactsDispatcher.addListener(state ->
+			{
+				int[] registers = new int[state.getRegistersCount()];
+
+				state.copyRegisters(registers);
+
+				states.add(new ProcessorState(registers, state
+						.getCommandsCounter(), state.getTactsCounter(), state
+						.getOverflowFlag(), state.getSignFlag(), state
+						.getCurrentCommandText()));
+			});
+
+			processorSimulator.setTactsDispatcher(asyncTactsDispatcher);
+
+			// Act
+			processorSimulator.performProgram(this.createProgram(100));
+
+			asyncTactsDispatcher.flush();
+
+			// Assert
+			Assert.assertEquals(200, expectedStates.size());
+			Assert.assertEquals(expectedStates, states);
+			Assert.assertEquals(0, asyncTactsDispatcher.getDroppedCount());
+			Assert.assertEquals(0, asyncTactsDispatcher.getQueueDepth());
+		}
+	}
+
+	@Test
+	public void publish_PolicyIsCoalesce_DeliversLatestStateAfterFlush()
+		throws Exception
+	{
+		// Arrange
+		CountDownLatch latch = new CountDownLatch(1);
+
+		List<int[]> states = Collections.synchronizedList(new ArrayList<int[]>());
+
+		try (AsyncTactsDispatcher asyncTactsDispatcher =
+			this.createBlockedDispatcher(BackpressurePolicy.Coalesce, latch,
+				states))
+		{
+			// Act
+			this.publish(asyncTactsDispatcher, 20);
+
+			latch.countDown();
+
+			asyncTactsDispatcher.flush();
+
+			// Assert
+			Assert.assertEquals(15, asyncTactsDispatcher.getDroppedCount());
+			Assert.assertEquals(5, states.size());
+			Assert.assertArrayEquals(new int[] { 3, 0 }, states.get(3));
+			Assert.assertArrayEquals(new int[] { 19, 15 }, states.get(4));
+		}
+	}
+
+	@Test
+	public void publish_PolicyIsDrop_DropsStatesWhenBufferIsFull()
+		throws Exception
+	{
+		// Arrange
+		CountDownLatch latch = new CountDownLatch(1);
+
+		List<int[]> states = Collections.synchronizedList(new ArrayList<int[]>());
+
+		try (AsyncTactsDispatcher asyncTactsDispatcher =
+			this.createBlockedDispatcher(BackpressurePolicy.Drop, latch,
+				states))
+		{
+			// Act
+			this.publish(asyncTactsDispatcher, 20);
+
+			latch.countDown();
+
+			asyncTactsDispatcher.flush();
+
+			asyncTactsDispatcher.publish(new int[2], 20, 0, false, false, "");
+
+			asyncTactsDispatcher.flush();
+
+			// Assert
+			Assert.assertEquals(16, asyncTactsDispatcher.getDroppedCount());
+			Assert.assertEquals(5, states.size());
+			Assert.assertArrayEquals(new int[] { 3, 0 }, states.get(3));
+			Assert.assertArrayEquals(new int[] { 20, 16 }, states.get(4));
+		}
+	}
+
+	/**
+	 * Creates the dispatcher of 4 slots, whose listener waits for the latch
+	 * and records the commands counters and the skipped tacts counts.
+	 */
+	private AsyncTactsDispatcher createBlockedDispatcher(
+		BackpressurePolicy backpressurePolicy, CountDownLatch latch,
+		List<int[]> states)
+	{
+		AsyncTactsDispatcher asyncTactsDispatcher =
+			new AsyncTactsDispatcher(
+				AsyncTactsDispatcherTests.NUMBER_OF_REGISTERS, 4,
+				WaitStrategy.Yield, backpressurePolicy);
+
+		ITactStateListener listener = (TactState state) ->
+		{
+			try
+			{
+				latch.await();
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+
+			states.add(new int[] { state.getCommandsCounter(),
+				state.getSkippedTactsCount() });
+		};
+
+		asyncTactsDispatcher.addListener(listener);
+
+		return asyncTactsDispatcher;
+	}
+
+	private CompiledProgram createProgram(int commandsCount)
+	{
+		int[] code = new int[commandsCount * CompiledProgram.INSTRUCTION_SIZE];
+
+		for (int i = 0; i < commandsCount; i++)
+		{
+			int offset = i * CompiledProgram.INSTRUCTION_SIZE;
+
+			code[offset] = CompiledProgram.ADD_NUMBER;
+			code[offset + 1] = i % AsyncTactsDispatcherTests.NUMBER_OF_REGISTERS;
+			code[offset + 2] = i * 37;
+		}
+
+		return new CompiledProgram(code,
+			AsyncTactsDispatcherTests.NUMBER_OF_REGISTERS);
+	}
+
+	private void publish(AsyncTactsDispatcher asyncTactsDispatcher, int count)
+	{
+		for (int i = 0; i < count; i++)
+		{
+			asyncTactsDispatcher.publish(new int[2], i, 0, false, false, "");
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package processor_simulator.Infrastructure.Concrete;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TactsSamplingPolicyTests
+{
+	@Test
+	public void isSampled_IntervalIsFiveTacts_SamplesEveryThirdCommand()
+	{
+		// Arrange
+		TactsSamplingPolicy tactsSamplingPolicy = new TactsSamplingPolicy(5);
+
+		boolean[] samples = new boolean[6];
+
+		// Act
+		for (int i = 0; i < samples.length; i++)
+		{
+			samples[i] = tactsSamplingPolicy.isSampled(0, 0);
+		}
+
+		// Assert
+		Assert.assertArrayEquals(new boolean[] { false, false, true, false,
+			false, true }, samples);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void tactsSamplingPolicy_IntervalIsZero_ThrowsIllegalArgumentException()
+	{
+		// Act & Assert
+		new TactsSamplingPolicy(0);
+	}
+}
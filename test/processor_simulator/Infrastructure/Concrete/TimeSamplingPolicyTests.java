@@ -0,0 +1,105 @@
+package processor_simulator.Infrastructure.Concrete;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TimeSamplingPolicyTests
+{
+	@Test
+	public void isSampled_CommandsAreSlow_ChecksClockWithinInterval()
+	{
+		// Arrange
+		long[] time = { 0 };
+
+		TimeSamplingPolicy timeSamplingPolicy =
+			new TimeSamplingPolicy(20, () -> time[0]);
+
+		long maxSamplesInterval = 0;
+
+		long lastSampleTime = 0;
+
+		// Act
+		for (int i = 0; i < 1000; i++)
+		{
+			time[0] += TimeUnit.MILLISECONDS.toNanos(1);
+
+			if (timeSamplingPolicy.isSampled(0, 0))
+			{
+				maxSamplesInterval =
+					Math.max(maxSamplesInterval, time[0] - lastSampleTime);
+
+				lastSampleTime = time[0];
+			}
+		}
+
+		// Assert - the clock is checked at least once in the eighth part of
+		// the interval
+		Assert.assertTrue(maxSamplesInterval > 0);
+		Assert.assertTrue(maxSamplesInterval <= TimeUnit.MILLISECONDS
+				.toNanos(20 + 20 / 8));
+	}
+
+	@Test
+	public void isSampled_IntervalIsNotPassed_SamplesOnlyFirstCommand()
+	{
+		// Arrange
+		long[] time = { 0 };
+
+		TimeSamplingPolicy timeSamplingPolicy =
+			new TimeSamplingPolicy(60000, () -> time[0]);
+
+		// Act
+		boolean isFirstSampled = timeSamplingPolicy.isSampled(0, 0);
+
+		int samplesCount = 0;
+
+		for (int i = 0; i < 5000; i++)
+		{
+			time[0] += TimeUnit.MILLISECONDS.toNanos(1);
+
+			if (timeSamplingPolicy.isSampled(0, 0))
+			{
+				samplesCount++;
+			}
+		}
+
+		// Assert
+		Assert.assertTrue(isFirstSampled);
+		Assert.assertEquals(0, samplesCount);
+	}
+
+	@Test
+	public void isSampled_IntervalIsPassed_SamplesWhenClockIsChecked()
+	{
+		// Arrange
+		long[] time = { 0 };
+
+		int[] clockChecksCount = { 0 };
+
+		TimeSamplingPolicy timeSamplingPolicy =
+			new TimeSamplingPolicy(1, () -> {
+				clockChecksCount[0]++;
+
+				return time[0];
+			});
+
+		timeSamplingPolicy.isSampled(0, 0);
+
+		time[0] += TimeUnit.MILLISECONDS.toNanos(5);
+
+		int checkedClockChecksCount = clockChecksCount[0];
+
+		// Act
+		boolean isSampled = false;
+
+		while (clockChecksCount[0] == checkedClockChecksCount)
+		{
+			isSampled = timeSamplingPolicy.isSampled(0, 0);
+		}
+
+		// Assert
+		Assert.assertTrue(isSampled);
+	}
+}
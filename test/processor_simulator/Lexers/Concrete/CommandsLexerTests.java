@@ -1,5 +1,7 @@
 package processor_simulator.Lexers.Concrete;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -11,11 +13,29 @@ import org.junit.Test;
 import processor_simulator.Enums.TokenKind;
 import processor_simulator.Lexers.Abstract.ICommandsLexer;
 import processor_simulator.Models.Token;
+import processor_simulator.Models.TokenBuffer;
+import processor_simulator.Models.TokenDefinition;
+import processor_simulator.Utils.AsciiCharSequence;
 
 public class CommandsLexerTests
 {
 	private ICommandsLexer _commandsLexer;
 
+	@Test
+	public void getSource_SourceIsString_ReturnsSameString()
+	{
+		// Arrange
+		String source = "Add R1, -1;";
+
+		this._commandsLexer.setSource(source);
+
+		// Act
+		String actualSource = this._commandsLexer.getSource();
+
+		// Assert
+		Assert.assertSame(source, actualSource);
+	}
+
 	@Test
 	public void parse_MethodIsIdempotent()
 	{
@@ -233,6 +253,29 @@ public class CommandsLexerTests
 		Assert.assertEquals(Arrays.asList(testTokens), tokens);
 	}
 
+	@Test
+	public void parse_SourceIsCharSequence_ReturnsTokensWithOffsets()
+	{
+		// Arrange
+		CharSequence source =
+			new AsciiCharSequence(ByteBuffer.wrap("Add R1, -1;"
+					.getBytes(StandardCharsets.US_ASCII)));
+
+		this._commandsLexer.setSource(source);
+
+		// Act
+		List<Token> tokens = this._commandsLexer.parse();
+
+		// Assert
+		Assert.assertEquals(5, tokens.size());
+
+		Token token = tokens.get(3);
+
+		Assert.assertEquals(8, token.getOffset());
+		Assert.assertEquals(2, token.getLength());
+		Assert.assertEquals(new Token(TokenKind.Number, "-1"), token);
+	}
+
 	@Test
 	public void parse_SourceIsEmpty_ReturnsEmptyTokensList()
 	{
@@ -247,6 +290,80 @@ public class CommandsLexerTests
 		Assert.assertEquals(0, tokens.size());
 	}
 
+	@Test
+	public void parse_TokenBufferIsSpecified_AddsSameTokensAsList()
+	{
+		// Arrange
+		this._commandsLexer.setSource("Load R12, -7;\n xor R1,R2 ?;");
+
+		TokenBuffer tokenBuffer = new TokenBuffer(1);
+
+		tokenBuffer.reset("stale");
+		tokenBuffer.add(TokenKind.Unknown, 0, 5);
+
+		List<Token> testTokens = this._commandsLexer.parse();
+
+		// Act
+		this._commandsLexer.parse(tokenBuffer);
+
+		// Assert
+		Assert.assertEquals(testTokens.size(), tokenBuffer.getTokensCount());
+
+		for (int i = 0; i < testTokens.size(); i++)
+		{
+			Assert.assertEquals(testTokens.get(i), tokenBuffer.getToken(i));
+		}
+
+		Assert.assertEquals(12, tokenBuffer.getNumericValue(1));
+		Assert.assertEquals(-7, tokenBuffer.getNumericValue(3));
+	}
+
+	@Test
+	public void parse_TokenDefinitionHasAlternation_MatchesFirstAlternative()
+	{
+		// Arrange - create tokens
+		Token[] testTokens =
+			{
+				new Token(TokenKind.Command, "a"),
+				new Token(TokenKind.Unknown, "b")
+			};
+
+		this._commandsLexer.setTokenDefinitions(Arrays
+				.asList(new TokenDefinition("a|ab", TokenKind.Command)));
+
+		this._commandsLexer.setSource("ab");
+
+		// Act
+		List<Token> tokens = this._commandsLexer.parse();
+
+		// Assert
+		Assert.assertEquals(Arrays.asList(testTokens), tokens);
+	}
+
+	@Test
+	public void parse_TokenDefinitionsAreNotSupportedByAutomaton_ReturnsValidTokens()
+	{
+		// Arrange - create tokens
+		Token[] testTokens =
+			{
+				new Token(TokenKind.Command, "load"),
+				new Token(TokenKind.Unknown, "x"),
+				new Token(TokenKind.Number, "12")
+			};
+
+		this._commandsLexer.setTokenDefinitions(Arrays.asList(
+			new TokenDefinition("[a-z]+(?=\\s)", TokenKind.Command),
+			new TokenDefinition("\\d+", TokenKind.Number)));
+
+		this._commandsLexer.setSource("load x12");
+
+		// Act
+		List<Token> tokens = this._commandsLexer.parse();
+
+		// Assert
+		Assert.assertEquals(Arrays.asList(testTokens), tokens);
+	}
+
 	@Before
 	public void setUp()
 	{
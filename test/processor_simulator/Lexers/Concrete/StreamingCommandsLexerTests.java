@@ -0,0 +1,189 @@
+package processor_simulator.Lexers.Concrete;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import processor_simulator.Enums.TokenKind;
+import processor_simulator.Exceptions.PatternIsNotSupportedException;
+import processor_simulator.Lexers.Abstract.ICommandsLexer;
+import processor_simulator.Lexers.Abstract.IStreamingCommandsLexer;
+import processor_simulator.Models.Token;
+import processor_simulator.Models.TokenDefinition;
+
+public class StreamingCommandsLexerTests
+{
+	private static final String SOURCE =
+		"Load R1, 8191;\n\nAdd R12, -1;\r\n  Xor R1,R2; . RightMove\tR2, 123456;";
+
+	@Test
+	public void iterator_InputIsChannel_ReturnsSameTokensAsCommandsLexer()
+		throws Exception
+	{
+		// Arrange
+		IStreamingCommandsLexer streamingCommandsLexer =
+			new StreamingCommandsLexer(3);
+
+		streamingCommandsLexer.setChannel(Channels
+				.newChannel(new ByteArrayInputStream(StreamingCommandsLexerTests.SOURCE
+						.getBytes(StandardCharsets.US_ASCII))),
+			StandardCharsets.US_ASCII);
+
+		// Act
+		List<Token> tokens =
+			StreamingCommandsLexerTests.toList(streamingCommandsLexer
+					.iterator());
+
+		// Assert
+		Assert.assertEquals(StreamingCommandsLexerTests
+				.parse(StreamingCommandsLexerTests.SOURCE), tokens);
+	}
+
+	@Test
+	public void iterator_InputIsEmpty_ReturnsNoTokens() throws Exception
+	{
+		// Arrange
+		IStreamingCommandsLexer streamingCommandsLexer =
+			new StreamingCommandsLexer();
+
+		streamingCommandsLexer.setReader(new StringReader(" \n\t "));
+
+		// Act
+		Iterator<Token> iterator = streamingCommandsLexer.iterator();
+
+		// Assert
+		Assert.assertFalse(iterator.hasNext());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void iterator_InputIsNotSet_ThrowsIllegalStateException()
+		throws Exception
+	{
+		// Act & Assert
+		new StreamingCommandsLexer().iterator();
+	}
+
+	@Test
+	public void iterator_TokensStraddleBufferBoundaries_ReturnsSameOffsetsAsCommandsLexer()
+		throws Exception
+	{
+		List<Token> testTokens =
+			StreamingCommandsLexerTests
+					.parse(StreamingCommandsLexerTests.SOURCE);
+
+		for (int bufferSize = 1; bufferSize <= 16; bufferSize++)
+		{
+			// Arrange
+			IStreamingCommandsLexer streamingCommandsLexer =
+				new StreamingCommandsLexer(bufferSize);
+
+			streamingCommandsLexer.setReader(new StringReader(
+				StreamingCommandsLexerTests.SOURCE));
+
+			// Act
+			List<Token> tokens =
+				StreamingCommandsLexerTests.toList(streamingCommandsLexer
+						.iterator());
+
+			// Assert
+			Assert.assertEquals(testTokens.size(), tokens.size());
+
+			for (int i = 0; i < tokens.size(); i++)
+			{
+				Assert.assertEquals(testTokens.get(i).getOffset(), tokens
+						.get(i).getOffset());
+			}
+		}
+	}
+
+	@Test
+	public void iterator_TokensStraddleBufferBoundaries_ReturnsSameTokensAsCommandsLexer()
+		throws Exception
+	{
+		for (int bufferSize = 1; bufferSize <= 16; bufferSize++)
+		{
+			// Arrange
+			IStreamingCommandsLexer streamingCommandsLexer =
+				new StreamingCommandsLexer(bufferSize);
+
+			streamingCommandsLexer.setReader(new StringReader(
+				StreamingCommandsLexerTests.SOURCE));
+
+			// Act
+			List<Token> tokens =
+				StreamingCommandsLexerTests.toList(streamingCommandsLexer
+						.iterator());
+
+			// Assert
+			Assert.assertEquals(StreamingCommandsLexerTests
+					.parse(StreamingCommandsLexerTests.SOURCE), tokens);
+		}
+	}
+
+	@Test
+	public void iterator_TokenIsLongerThanBuffer_ReturnsWholeToken()
+		throws Exception
+	{
+		// Arrange
+		IStreamingCommandsLexer streamingCommandsLexer =
+			new StreamingCommandsLexer(4);
+
+		streamingCommandsLexer.setReader(new StringReader(
+			"prefix-command_suffix 1234567890"));
+
+		List<Token> testTokens =
+			Arrays.asList(
+				new Token(TokenKind.Command, "prefix-command_suffix"),
+				new Token(TokenKind.Number, "1234567890"));
+
+		// Act
+		List<Token> tokens =
+			StreamingCommandsLexerTests.toList(streamingCommandsLexer
+					.iterator());
+
+		// Assert
+		Assert.assertEquals(testTokens, tokens);
+	}
+
+	@Test(expected = PatternIsNotSupportedException.class)
+	public void setTokenDefinitions_PatternIsNotSupported_ThrowsPatternIsNotSupportedException()
+		throws Exception
+	{
+		// Arrange
+		IStreamingCommandsLexer streamingCommandsLexer =
+			new StreamingCommandsLexer();
+
+		// Act & Assert
+		streamingCommandsLexer.setTokenDefinitions(Arrays
+				.asList(new TokenDefinition("\\bR\\d+", TokenKind.Register)));
+	}
+
+	private static List<Token> parse(String source)
+	{
+		ICommandsLexer commandsLexer = new CommandsLexer();
+
+		commandsLexer.setSource(source);
+
+		return commandsLexer.parse();
+	}
+
+	private static List<Token> toList(Iterator<Token> iterator)
+	{
+		List<Token> tokens = new ArrayList<Token>();
+
+		while (iterator.hasNext())
+		{
+			tokens.add(iterator.next());
+		}
+
+		return tokens;
+	}
+}
@@ -0,0 +1,150 @@
+package processor_simulator.Lexers.Concrete;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import processor_simulator.Enums.TokenKind;
+import processor_simulator.Exceptions.PatternIsNotSupportedException;
+import processor_simulator.Models.TokenDefinition;
+
+public class TokenAutomatonTests
+{
+	@Test(expected = PatternIsNotSupportedException.class)
+	public void compile_PatternHasLookahead_ThrowsPatternIsNotSupportedException()
+		throws Exception
+	{
+		// Arrange
+		List<TokenDefinition> tokenDefinitions =
+			Arrays.asList(new TokenDefinition("a(?=b)", TokenKind.Command));
+
+		// Act & Assert
+		TokenAutomaton.compile(tokenDefinitions);
+	}
+
+	@Test(expected = PatternIsNotSupportedException.class)
+	public void compile_PatternHasAlternation_ThrowsPatternIsNotSupportedException()
+		throws Exception
+	{
+		// Arrange
+		List<TokenDefinition> tokenDefinitions =
+			Arrays.asList(new TokenDefinition("a|ab", TokenKind.Command));
+
+		// Act & Assert
+		TokenAutomaton.compile(tokenDefinitions);
+	}
+
+	@Test(expected = PatternIsNotSupportedException.class)
+	public void compile_PatternHasLazyQuantifier_ThrowsPatternIsNotSupportedException()
+		throws Exception
+	{
+		// Arrange
+		List<TokenDefinition> tokenDefinitions =
+			Arrays.asList(new TokenDefinition("a+?", TokenKind.Command));
+
+		// Act & Assert
+		TokenAutomaton.compile(tokenDefinitions);
+	}
+
+	@Test(expected = PatternIsNotSupportedException.class)
+	public void compile_PatternHasQuantifiedGroup_ThrowsPatternIsNotSupportedException()
+		throws Exception
+	{
+		// Arrange
+		List<TokenDefinition> tokenDefinitions =
+			Arrays.asList(new TokenDefinition("[ab]?(?:ab)*", TokenKind.Command));
+
+		// Act & Assert
+		TokenAutomaton.compile(tokenDefinitions);
+	}
+
+	@Test
+	public void compile_PatternHasQuantifiedSingleCharacterGroup_CompilesPattern()
+		throws Exception
+	{
+		// Arrange
+		TokenAutomaton tokenAutomaton =
+			TokenAutomaton.compile(Arrays.asList(new TokenDefinition(
+				"(?:-)?(\\d)+", TokenKind.Number)));
+
+		// Act
+		long match = tokenAutomaton.match("-12,", 0, 4);
+
+		// Assert
+		Assert.assertEquals(3, TokenAutomaton.getMatchLength(match));
+	}
+
+	@Test
+	public void match_DefinitionsMatchSameLength_ReturnsFirstDefinition()
+		throws Exception
+	{
+		// Arrange
+		TokenAutomaton tokenAutomaton =
+			TokenAutomaton.compile(Arrays.asList(new TokenDefinition(
+				"[a-z]+", TokenKind.Command), new TokenDefinition("[ab]+",
+				TokenKind.Register)));
+
+		// Act
+		long match = tokenAutomaton.match("abab", 0, 4);
+
+		// Assert
+		Assert.assertEquals(0, TokenAutomaton.getDefinitionIndex(match));
+		Assert.assertEquals(4, TokenAutomaton.getMatchLength(match));
+	}
+
+	@Test
+	public void match_NothingMatches_ReturnsNoMatch() throws Exception
+	{
+		// Arrange
+		TokenAutomaton tokenAutomaton =
+			TokenAutomaton.compile(Arrays.asList(new TokenDefinition(
+				"\\d{2,3}", TokenKind.Number)));
+
+		// Act
+		long match = tokenAutomaton.match("1a", 0, 2);
+
+		// Assert
+		Assert.assertEquals(TokenAutomaton.NO_MATCH, match);
+	}
+
+	@Test
+	public void match_ReturnsLongestMatch() throws Exception
+	{
+		// Arrange
+		TokenAutomaton tokenAutomaton =
+			TokenAutomaton.compile(Arrays.asList(new TokenDefinition(
+				"[a-zA-Z][a-zA-Z_-]*", TokenKind.Command), new TokenDefinition(
+				"R[1-9][0-9]*", TokenKind.Register)));
+
+		String source = " R12, Rx";
+
+		// Act
+		long registerMatch = tokenAutomaton.match(source, 1, source.length());
+		long commandMatch = tokenAutomaton.match(source, 6, source.length());
+
+		// Assert
+		Assert.assertEquals(1, TokenAutomaton.getDefinitionIndex(registerMatch));
+		Assert.assertEquals(3, TokenAutomaton.getMatchLength(registerMatch));
+
+		Assert.assertEquals(0, TokenAutomaton.getDefinitionIndex(commandMatch));
+		Assert.assertEquals(2, TokenAutomaton.getMatchLength(commandMatch));
+	}
+
+	@Test
+	public void match_SourceIsLongerThanEndOffset_StopsAtEndOffset()
+		throws Exception
+	{
+		// Arrange
+		TokenAutomaton tokenAutomaton =
+			TokenAutomaton.compile(Arrays.asList(new TokenDefinition(
+				"-?[0-9]+", TokenKind.Number)));
+
+		// Act
+		long match = tokenAutomaton.match("-12345", 0, 3);
+
+		// Assert
+		Assert.assertEquals(3, TokenAutomaton.getMatchLength(match));
+	}
+}
@@ -3,6 +3,7 @@ package processor_simulator.Parsers.Concrete;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -19,6 +20,7 @@ import processor_simulator.Exceptions.SpecialTokenIsNotDefinedException;
 import processor_simulator.Models.Argument;
 import processor_simulator.Models.Command;
 import processor_simulator.Models.Token;
+import processor_simulator.Models.TokenBuffer;
 import processor_simulator.Parsers.Abstract.ICommandsParser;
 
 public class CommandsParserTests
@@ -254,6 +256,187 @@ public class CommandsParserTests
 		Assert.assertEquals(testCommands, commands);
 	}
 
+	@Test
+	public void parse_TokenBufferIsSpecified_ReturnsValidCommandsList()
+		throws Exception
+	{
+		// Arrange - add tokens of "Load R1, 1234 ; XOR R2 ;"
+		TokenBuffer tokenBuffer = new TokenBuffer();
+
+		tokenBuffer.reset("Load R1, 1234 ; XOR R2 ;");
+
+		tokenBuffer.add(TokenKind.Command, 0, 4);
+		tokenBuffer.add(TokenKind.Register, 5, 2);
+		tokenBuffer.add(TokenKind.Delimiter, 7, 1);
+		tokenBuffer.add(TokenKind.Number, 9, 4);
+		tokenBuffer.add(TokenKind.Delimiter, 14, 1);
+		tokenBuffer.add(TokenKind.Command, 16, 3);
+		tokenBuffer.add(TokenKind.Register, 20, 2);
+		tokenBuffer.add(TokenKind.Delimiter, 23, 1);
+
+		// Arrange - create testCommands
+		Command commandOne = new Command(CommandType.Load);
+
+		commandOne.setArguments(Arrays.asList(new Argument(
+			ArgumentType.Register, 1), new Argument(ArgumentType.Number, 1234)));
+
+		Command commandTwo = new Command(CommandType.Xor);
+
+		commandTwo.setArguments(Arrays.asList(new Argument(
+			ArgumentType.Register, 2)));
+
+		List<Command> testCommands = Arrays.asList(commandOne, commandTwo);
+
+		// Act
+		List<Command> commands = this._commandsParser.parse(tokenBuffer);
+
+		// Assert
+		Assert.assertEquals(testCommands, commands);
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void parse_TokenBufferNumberIsOutOfRange_ThrowsNumberFormatException()
+		throws Exception
+	{
+		// Arrange
+		TokenBuffer tokenBuffer = new TokenBuffer();
+
+		tokenBuffer.reset("Load R1, 2147483648;");
+
+		tokenBuffer.add(TokenKind.Command, 0, 4);
+		tokenBuffer.add(TokenKind.Register, 5, 2);
+		tokenBuffer.add(TokenKind.Delimiter, 7, 1);
+		tokenBuffer.add(TokenKind.Number, 9, 10);
+		tokenBuffer.add(TokenKind.Delimiter, 19, 1);
+
+		// Act & Assert
+		this._commandsParser.parse(tokenBuffer);
+	}
+
+	@Test
+	public void parse_TokensHaveOffsets_DecodesArgumentsFromValues()
+		throws Exception
+	{
+		// Arrange - create tokens of "xor R12, -2147483648;"
+		Token[] tokens =
+			{
+				new Token(TokenKind.Command, "xor", 0),
+				new Token(TokenKind.Register, "R12", 4),
+				new Token(TokenKind.Delimiter, ",", 7),
+				new Token(TokenKind.Number, "-2147483648", 9),
+				new Token(TokenKind.Delimiter, ";", 20)
+			};
+
+		this._commandsParser.setTokens(Arrays.asList(tokens));
+
+		Command testCommand = new Command(CommandType.Xor);
+
+		testCommand.setArguments(Arrays.asList(new Argument(
+			ArgumentType.Register, 12), new Argument(ArgumentType.Number,
+			Integer.MIN_VALUE)));
+
+		// Act
+		List<Command> commands = this._commandsParser.parse();
+
+		// Assert
+		Assert.assertEquals(Arrays.asList(testCommand), commands);
+	}
+
+	@Test
+	public void parse_TokensIteratorAndConsumer_PassesEveryCommandAfterItsTermination()
+		throws Exception
+	{
+		// Arrange - create tokens
+		Token[] tokens =
+			{
+				new Token(TokenKind.Command, "Load"),
+				new Token(TokenKind.Register, "R1"),
+				this._specialTokensDictionary
+						.get(SpecialTokenKind.Concatenation),
+				new Token(TokenKind.Number, "1234"),
+				this._specialTokensDictionary.get(SpecialTokenKind.Termination),
+				new Token(TokenKind.Command, "Xor"),
+				new Token(TokenKind.Register, "R2"),
+				this._specialTokensDictionary.get(SpecialTokenKind.Termination)
+			}; // Load R1, 1234 ; Xor R2 ;
+
+		Iterator<Token> iterator = Arrays.asList(tokens).iterator();
+
+		List<Command> commands = new ArrayList<Command>();
+
+		List<Boolean> hasNextTokens = new ArrayList<Boolean>();
+
+		// Arrange - create testCommands
+		Command commandOne = new Command(CommandType.Load);
+
+		commandOne.setArguments(Arrays.asList(new Argument(
+			ArgumentType.Register, 1), new Argument(ArgumentType.Number, 1234)));
+
+		Command commandTwo = new Command(CommandType.Xor);
+
+		commandTwo.setArguments(Arrays.asList(new Argument(
+			ArgumentType.Register, 2)));
+
+		// Act
+		this._commandsParser.parse(iterator, command -> {
+			commands.add(command);
+			hasNextTokens.add(iterator.hasNext());
+		});
+
+		// Assert
+		Assert.assertEquals(Arrays.asList(commandOne, commandTwo), commands);
+		Assert.assertEquals(Arrays.asList(true, false), hasNextTokens);
+	}
+
+	@Test(expected = CommandIsInvalidException.class)
+	public void parse_TokensIteratorEndsInsideCommand_ThrowsCommandIsInvalidException()
+		throws Exception
+	{
+		// Arrange
+		Token[] tokens =
+			{
+				new Token(TokenKind.Command, "Load"),
+				new Token(TokenKind.Register, "R1")
+			}; // Load R1
+
+		// Act & Assert
+		this._commandsParser.parse(Arrays.asList(tokens).iterator(),
+			command -> Assert.fail());
+	}
+
+	@Test
+	public void parse_TokensIteratorHasInvalidToken_ThrowsExceptionWithTokenOffset()
+		throws Exception
+	{
+		// Arrange
+		Token[] tokens =
+			{
+				new Token(TokenKind.Command, "Load", 0),
+				new Token(TokenKind.Register, "R1", 5),
+				new Token(TokenKind.Delimiter, ";", 7),
+				new Token(TokenKind.Register, "R2", 9),
+				new Token(TokenKind.Delimiter, ";", 11)
+			}; // Load R1; R2;
+
+		CommandIsInvalidException exception = null;
+
+		// Act
+		try
+		{
+			this._commandsParser.parse(Arrays.asList(tokens).iterator(),
+				command -> {
+				});
+		}
+		catch (CommandIsInvalidException e)
+		{
+			exception = e;
+		}
+
+		// Assert
+		Assert.assertNotNull(exception);
+		Assert.assertEquals(9, exception.getOffset());
+	}
+
 	@Test
 	public void parse_TokensListIsEmpty_ReturnsEmptyList() throws Exception
 	{
@@ -0,0 +1,147 @@
+package processor_simulator.Parsers.Concrete;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import processor_simulator.Exceptions.CommandIsInvalidException;
+import processor_simulator.Lexers.Concrete.CommandsLexer;
+import processor_simulator.Models.Command;
+import processor_simulator.Models.TokenBuffer;
+import processor_simulator.Parsers.Abstract.IParallelCommandsParser;
+
+public class ParallelCommandsParserTests
+{
+	private ForkJoinPool _forkJoinPool;
+
+	private IParallelCommandsParser _parallelCommandsParser;
+
+	@Test
+	public void parse_ChunksAreInvalid_ThrowsFirstErrorWithGlobalOffset()
+		throws Exception
+	{
+		// Arrange
+		StringBuilder stringBuilder = new StringBuilder();
+
+		for (int i = 0; i < 100; i++)
+		{
+			stringBuilder.append("Load R1, 1;\n");
+
+			if (i == 40 || i == 80)
+			{
+				stringBuilder.append("Add R1 R2;\n");
+			}
+		}
+
+		String source = stringBuilder.toString();
+
+		CommandIsInvalidException testException =
+			ParallelCommandsParserTests.parseSequentially(source);
+
+		// Act
+		CommandIsInvalidException exception = null;
+
+		try
+		{
+			this._parallelCommandsParser.parse(source);
+		}
+		catch (CommandIsInvalidException e)
+		{
+			exception = e;
+		}
+
+		// Assert
+		Assert.assertNotNull(testException);
+		Assert.assertNotNull(exception);
+		Assert.assertEquals(testException.getMessage(), exception.getMessage());
+		Assert.assertEquals(testException.getOffset(), exception.getOffset());
+		Assert.assertEquals(source.indexOf("R2;"), exception.getOffset());
+	}
+
+	@Test
+	public void parse_SourceIsEmpty_ReturnsEmptyList() throws Exception
+	{
+		// Act
+		List<Command> commands = this._parallelCommandsParser.parse("");
+
+		// Assert
+		Assert.assertEquals(0, commands.size());
+	}
+
+	@Test
+	public void parse_SourceIsSplitIntoChunks_ReturnsSameCommandsAsSequentialParsing()
+		throws Exception
+	{
+		// Arrange
+		StringBuilder stringBuilder = new StringBuilder();
+
+		for (int i = 0; i < 500; i++)
+		{
+			stringBuilder.append(String.format("Add R%1$d, %2$d;%3$s",
+				i % 4 + 1, i - 250, (i % 3 == 0) ? "\n" : " "));
+		}
+
+		stringBuilder.append("Xor R1, R2");
+
+		String source = stringBuilder.toString() + ";";
+
+		List<Command> testCommands =
+			new CommandsParser().parse(ParallelCommandsParserTests
+					.parseTokens(source));
+
+		// Act
+		List<Command> commands = this._parallelCommandsParser.parse(source);
+
+		// Assert
+		Assert.assertEquals(testCommands, commands);
+	}
+
+	@Before
+	public void setUp() throws Exception
+	{
+		this._forkJoinPool = new ForkJoinPool(4);
+
+		this._parallelCommandsParser =
+			new ParallelCommandsParser(new CommandsLexer(),
+				new CommandsParser(), this._forkJoinPool, 16);
+	}
+
+	@After
+	public void tearDown()
+	{
+		this._forkJoinPool.shutdown();
+	}
+
+	private static CommandIsInvalidException parseSequentially(String source)
+		throws Exception
+	{
+		try
+		{
+			new CommandsParser().parse(ParallelCommandsParserTests
+					.parseTokens(source));
+		}
+		catch (CommandIsInvalidException e)
+		{
+			return e;
+		}
+
+		return null;
+	}
+
+	private static TokenBuffer parseTokens(String source)
+	{
+		CommandsLexer commandsLexer = new CommandsLexer();
+
+		commandsLexer.setSource(source);
+
+		TokenBuffer tokenBuffer = new TokenBuffer();
+
+		commandsLexer.parse(tokenBuffer);
+
+		return tokenBuffer;
+	}
+}
@@ -0,0 +1,252 @@
+package processor_simulator.Simulators.Concrete;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import processor_simulator.Simulators.Abstract.IArithmeticLogicUnit;
+import processor_simulator.Utils.NumberUtils;
+
+public class ArithmeticLogicUnitTests
+{
+	private static final int MAX_MOVE_ARGUMENT = 40;
+
+	private static final int MAX_NUMBER_OF_BITS = 64;
+
+	private static final int RANGE = 1 << 16;
+
+	private int[] _values;
+
+	@Test
+	public void castValue_ValuesAreAny_ReturnsSameValuesAsNumberUtils()
+	{
+		for (int numberOfBits = 1; numberOfBits <= ArithmeticLogicUnitTests.MAX_NUMBER_OF_BITS; numberOfBits++)
+		{
+			// Arrange
+			IArithmeticLogicUnit arithmeticLogicUnit =
+				ArithmeticLogicUnit.create(numberOfBits);
+
+			for (int value : this._values)
+			{
+				// Act
+				int castedValue = arithmeticLogicUnit.castValue(value);
+
+				// Assert
+				Assert.assertEquals(numberOfBits + ": " + value,
+					NumberUtils.castValue(value, numberOfBits), castedValue);
+			}
+		}
+	}
+
+	@Test
+	public void create_NumberOfBitsIsLessThan32_ReturnsNarrowArithmeticLogicUnit()
+	{
+		// Act
+		IArithmeticLogicUnit arithmeticLogicUnit = ArithmeticLogicUnit.create(31);
+
+		// Assert
+		Assert.assertTrue(arithmeticLogicUnit instanceof NarrowArithmeticLogicUnit);
+		Assert.assertEquals(31, arithmeticLogicUnit.getNumberOfBits());
+	}
+
+	@Test
+	public void create_NumberOfBitsIsNotLessThan32_ReturnsWideArithmeticLogicUnit()
+	{
+		// Act
+		IArithmeticLogicUnit arithmeticLogicUnit = ArithmeticLogicUnit.create(32);
+
+		// Assert
+		Assert.assertTrue(arithmeticLogicUnit instanceof WideArithmeticLogicUnit);
+		Assert.assertEquals(32, arithmeticLogicUnit.getNumberOfBits());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_NumberOfBitsIsZero_ThrowsIllegalArgumentException()
+	{
+		// Act & Assert
+		ArithmeticLogicUnit.create(0);
+	}
+
+	@Test
+	public void getFlags_ResultsAreAny_ReturnsSameFlagsAsComparisons()
+	{
+		for (int numberOfBits = 1; numberOfBits <= ArithmeticLogicUnitTests.MAX_NUMBER_OF_BITS; numberOfBits++)
+		{
+			// Arrange
+			IArithmeticLogicUnit arithmeticLogicUnit =
+				ArithmeticLogicUnit.create(numberOfBits);
+
+			for (int result : this._values)
+			{
+				int castedResult = arithmeticLogicUnit.castValue(result);
+
+				// Act
+				int flags = arithmeticLogicUnit.getFlags(castedResult, result);
+
+				// Assert
+				Assert.assertEquals(castedResult != result,
+					(flags & IArithmeticLogicUnit.OVERFLOW_FLAG) != 0);
+				Assert.assertEquals(castedResult < 0,
+					(flags & IArithmeticLogicUnit.SIGN_FLAG) != 0);
+			}
+		}
+	}
+
+	@Test
+	public void leftMove_MoveArgumentIsMinValue_ReturnsValue()
+	{
+		// Arrange
+		IArithmeticLogicUnit arithmeticLogicUnit = ArithmeticLogicUnit.create(14);
+
+		// Act
+		int result = arithmeticLogicUnit.leftMove(-5, Integer.MIN_VALUE);
+
+		// Assert
+		Assert.assertEquals(-5, result);
+	}
+
+	@Test
+	public void leftMove_ValuesAreAny_ReturnsSameValuesAsLoop()
+	{
+		// Arrange
+		IArithmeticLogicUnit arithmeticLogicUnit = ArithmeticLogicUnit.create(14);
+
+		for (int value : this._values)
+		{
+			for (int moveArgument = -ArithmeticLogicUnitTests.MAX_MOVE_ARGUMENT; moveArgument <= ArithmeticLogicUnitTests.MAX_MOVE_ARGUMENT; moveArgument++)
+			{
+				// Act
+				int result = arithmeticLogicUnit.leftMove(value, moveArgument);
+
+				// Assert
+				Assert.assertEquals(value + " << " + moveArgument,
+					ArithmeticLogicUnitTests.leftMove(value, moveArgument),
+					result);
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void narrowArithmeticLogicUnit_NumberOfBitsIs32_ThrowsIllegalArgumentException()
+	{
+		// Act & Assert
+		new NarrowArithmeticLogicUnit(32);
+	}
+
+	@Test
+	public void rightMove_MoveArgumentIsMinValue_ReturnsValue()
+	{
+		// Arrange
+		IArithmeticLogicUnit arithmeticLogicUnit = ArithmeticLogicUnit.create(14);
+
+		// Act
+		int result = arithmeticLogicUnit.rightMove(-5, Integer.MIN_VALUE);
+
+		// Assert
+		Assert.assertEquals(-5, result);
+	}
+
+	@Test
+	public void rightMove_ValuesAreAny_ReturnsSameValuesAsLoop()
+	{
+		// Arrange
+		IArithmeticLogicUnit arithmeticLogicUnit = ArithmeticLogicUnit.create(14);
+
+		for (int value : this._values)
+		{
+			for (int moveArgument = -ArithmeticLogicUnitTests.MAX_MOVE_ARGUMENT; moveArgument <= ArithmeticLogicUnitTests.MAX_MOVE_ARGUMENT; moveArgument++)
+			{
+				// Act
+				int result = arithmeticLogicUnit.rightMove(value, moveArgument);
+
+				// Assert
+				Assert.assertEquals(value + " >> " + moveArgument,
+					ArithmeticLogicUnitTests.rightMove(value, moveArgument),
+					result);
+			}
+		}
+	}
+
+	@Before
+	public void setUp() throws Exception
+	{
+		int[] edgeValues =
+			{ Integer.MIN_VALUE, Integer.MIN_VALUE + 1, Integer.MAX_VALUE - 1,
+				Integer.MAX_VALUE };
+
+		int randomValuesCount = 1000;
+
+		int count = 2 * ArithmeticLogicUnitTests.RANGE + 1;
+
+		this._values = new int[count + edgeValues.length + randomValuesCount];
+
+		int index = 0;
+
+		// Every value of the 17-bit range
+		for (int value = -ArithmeticLogicUnitTests.RANGE; value <= ArithmeticLogicUnitTests.RANGE; value++)
+		{
+			this._values[index++] = value;
+		}
+
+		for (int value : edgeValues)
+		{
+			this._values[index++] = value;
+		}
+
+		Random random = new Random(42);
+
+		while (index < this._values.length)
+		{
+			this._values[index++] = random.nextInt();
+		}
+	}
+
+	/**
+	 * The former implementation of the left move of the simulator.
+	 */
+	private static int leftMove(int value, int moveArgument)
+	{
+		int result = value;
+
+		if (moveArgument >= 0)
+		{
+			result = result << moveArgument;
+		}
+		else
+		{
+			result = ArithmeticLogicUnitTests.rightMove(value, -moveArgument);
+		}
+
+		return result;
+	}
+
+	/**
+	 * The former implementation of the right move of the simulator.
+	 */
+	private static int rightMove(int value, int moveArgument)
+	{
+		int result = value;
+
+		if (moveArgument >= 0)
+		{
+			for (int i = 0; i < moveArgument; i++)
+			{
+				// Add "-1" if value is negative and odd
+				if (result < 0 && result % 2 != 0)
+				{
+					result--;
+				}
+
+				result /= 2;
+			}
+		}
+		else
+		{
+			result = ArithmeticLogicUnitTests.leftMove(value, -moveArgument);
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,235 @@
+package processor_simulator.Simulators.Concrete;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import processor_simulator.Exceptions.CommandArgumentIsInvalidException;
+import processor_simulator.Models.CompiledProgram;
+import processor_simulator.Simulators.Abstract.IBitSlicedProcessorSimulator;
+import processor_simulator.Utils.NumberUtils;
+
+public class BitSlicedProcessorSimulatorTests
+{
+	private static final int[] MOVE_ARGUMENTS = { 0, 1, -1, 3, -3, 13, -13,
+		31, -31, 32, -32, 40, -40, 8191, -8192 };
+
+	private static final int NUMBER_OF_REGISTERS = 4;
+
+	private static final int[] NUMBERS = { 0, 1, -1, 5, -7, 8191, -8192, 8192,
+		123456, -123456, Integer.MAX_VALUE, Integer.MIN_VALUE };
+
+	private Random _random;
+
+	@Test(expected = IllegalArgumentException.class)
+	public void bitSlicedProcessorSimulator_NumberOfBitsIs32_ThrowsIllegalArgumentException()
+	{
+		// Act & Assert
+		new BitSlicedProcessorSimulator(32, 1);
+	}
+
+	@Test
+	public void loadRegister_ValuesAreWide_CastsValues()
+	{
+		// Arrange
+		BitSlicedProcessorSimulator bitSlicedProcessorSimulator =
+			new BitSlicedProcessorSimulator(4, 2);
+
+		int[] values = new int[IBitSlicedProcessorSimulator.MACHINES_COUNT];
+
+		values[0] = 9;
+		values[63] = -9;
+
+		// Act
+		bitSlicedProcessorSimulator.loadRegister(2, values, 0);
+
+		// Assert
+		int[] actualValues = new int[values.length];
+
+		bitSlicedProcessorSimulator.readRegister(2, actualValues, 0);
+
+		Assert.assertEquals(-7, actualValues[0]);
+		Assert.assertEquals(7, actualValues[63]);
+
+		long[] slices = new long[4];
+
+		bitSlicedProcessorSimulator.getRegisterSlices(2, slices);
+
+		Assert.assertArrayEquals(new long[] { 1L | 1L << 63, 1L << 63,
+			1L << 63, 1L }, slices);
+	}
+
+	@Test
+	public void performProgram_ProgramsAreRandom_ReturnsSameResultsAsSimulator()
+		throws Exception
+	{
+		// Arrange
+		int[] numbersOfBits = { 1, 2, 4, 14, 16, 31 };
+
+		for (int numberOfBits : numbersOfBits)
+		{
+			for (int i = 0; i < 30; i++)
+			{
+				CompiledProgram program =
+					this.createRandomProgram(1 + this._random.nextInt(30));
+
+				// Act & Assert
+				this.assertSameResults(program, numberOfBits);
+			}
+		}
+	}
+
+	@Test(expected = CommandArgumentIsInvalidException.class)
+	public void performProgram_RegisterDoesNotExist_ThrowsCommandArgumentIsInvalidException()
+		throws Exception
+	{
+		// Arrange
+		BitSlicedProcessorSimulator bitSlicedProcessorSimulator =
+			new BitSlicedProcessorSimulator(4, 1);
+
+		// Act & Assert
+		bitSlicedProcessorSimulator.performProgram(new CompiledProgram(
+			new int[] { CompiledProgram.LOAD_NUMBER, 1, 2 }, 2));
+	}
+
+	@Before
+	public void setUp() throws Exception
+	{
+		this._random = new Random(42);
+	}
+
+	private void assertSameResults(CompiledProgram program, int numberOfBits)
+		throws Exception
+	{
+		int numberOfRegisters =
+			BitSlicedProcessorSimulatorTests.NUMBER_OF_REGISTERS;
+
+		int machinesCount = IBitSlicedProcessorSimulator.MACHINES_COUNT;
+
+		BitSlicedProcessorSimulator bitSlicedProcessorSimulator =
+			new BitSlicedProcessorSimulator(numberOfBits, numberOfRegisters);
+
+		// The values of the register i of all machines
+		int[][] values = new int[numberOfRegisters][machinesCount];
+
+		for (int i = 0; i < numberOfRegisters; i++)
+		{
+			for (int machine = 0; machine < machinesCount; machine++)
+			{
+				values[i][machine] =
+					NumberUtils.castValue(this._random.nextInt(), numberOfBits);
+			}
+
+			bitSlicedProcessorSimulator.loadRegister(i + 1, values[i], 0);
+		}
+
+		bitSlicedProcessorSimulator.performProgram(program);
+
+		int[][] actualValues = new int[numberOfRegisters][machinesCount];
+
+		for (int i = 0; i < numberOfRegisters; i++)
+		{
+			bitSlicedProcessorSimulator.readRegister(i + 1, actualValues[i], 0);
+		}
+
+		for (int machine = 0; machine < machinesCount; machine++)
+		{
+			ProcessorSimulator testProcessorSimulator =
+				new ProcessorSimulator(numberOfBits, numberOfRegisters);
+
+			testProcessorSimulator.performProgram(this.createMachineProgram(
+				values, machine, program));
+
+			int[] expectedRegisters = testProcessorSimulator.getRegisters();
+
+			for (int i = 0; i < numberOfRegisters; i++)
+			{
+				Assert.assertEquals(numberOfBits + ": " + machine,
+					expectedRegisters[i], actualValues[i][machine]);
+			}
+
+			Assert.assertEquals(testProcessorSimulator.getOverflowFlag(),
+				((bitSlicedProcessorSimulator.getOverflowMask() >>> machine) & 1) != 0);
+			Assert.assertEquals(testProcessorSimulator.getSignFlag(),
+				((bitSlicedProcessorSimulator.getSignMask() >>> machine) & 1) != 0);
+		}
+	}
+
+	/**
+	 * Creates the program, which loads the machine's registers before the
+	 * commands.
+	 */
+	private CompiledProgram createMachineProgram(int[][] values, int machine,
+		CompiledProgram program)
+	{
+		int numberOfRegisters =
+			BitSlicedProcessorSimulatorTests.NUMBER_OF_REGISTERS;
+
+		int[] programCode = program.getCode();
+
+		int[] code =
+			new int[numberOfRegisters * CompiledProgram.INSTRUCTION_SIZE
+				+ programCode.length];
+
+		for (int i = 0; i < numberOfRegisters; i++)
+		{
+			int offset = i * CompiledProgram.INSTRUCTION_SIZE;
+
+			code[offset] = CompiledProgram.LOAD_NUMBER;
+			code[offset + 1] = i;
+			code[offset + 2] = values[i][machine];
+		}
+
+		System.arraycopy(programCode, 0, code, numberOfRegisters
+			* CompiledProgram.INSTRUCTION_SIZE, programCode.length);
+
+		return new CompiledProgram(code, numberOfRegisters);
+	}
+
+	private CompiledProgram createRandomProgram(int commandsCount)
+	{
+		int[] code = new int[commandsCount * CompiledProgram.INSTRUCTION_SIZE];
+
+		for (int offset = 0; offset < code.length; offset +=
+			CompiledProgram.INSTRUCTION_SIZE)
+		{
+			int opcode = this._random.nextInt(CompiledProgram.XOR_NUMBER + 1);
+
+			boolean isMove =
+				opcode >= CompiledProgram.RIGHT_MOVE_REGISTER
+					&& opcode <= CompiledProgram.LEFT_MOVE_NUMBER;
+
+			int operand;
+
+			if ((opcode & CompiledProgram.NUMBER_OPERAND_FLAG) == 0)
+			{
+				operand =
+					this._random
+							.nextInt(BitSlicedProcessorSimulatorTests.NUMBER_OF_REGISTERS);
+			}
+			else if (isMove)
+			{
+				operand =
+					BitSlicedProcessorSimulatorTests.MOVE_ARGUMENTS[this._random
+							.nextInt(BitSlicedProcessorSimulatorTests.MOVE_ARGUMENTS.length)];
+			}
+			else
+			{
+				operand =
+					BitSlicedProcessorSimulatorTests.NUMBERS[this._random
+							.nextInt(BitSlicedProcessorSimulatorTests.NUMBERS.length)];
+			}
+
+			code[offset] = opcode;
+			code[offset + 1] =
+				this._random
+						.nextInt(BitSlicedProcessorSimulatorTests.NUMBER_OF_REGISTERS);
+			code[offset + 2] = operand;
+		}
+
+		return new CompiledProgram(code,
+			BitSlicedProcessorSimulatorTests.NUMBER_OF_REGISTERS);
+	}
+}
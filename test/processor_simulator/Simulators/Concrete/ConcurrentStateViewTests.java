@@ -0,0 +1,254 @@
+package processor_simulator.Simulators.Concrete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import processor_simulator.Enums.ArgumentType;
+import processor_simulator.Enums.CommandType;
+import processor_simulator.Exceptions.CommandArgumentIsInvalidException;
+import processor_simulator.Models.Argument;
+import processor_simulator.Models.Command;
+import processor_simulator.Models.CompiledProgram;
+import processor_simulator.Models.ProcessorState;
+import processor_simulator.Simulators.Abstract.IConcurrentStateView;
+
+public class ConcurrentStateViewTests
+{
+	private static final int COMMANDS_COUNT = 1000;
+
+	private ProcessorSimulator _processorSimulator;
+
+	private CompiledProgram _program;
+
+	@Test
+	public void getConcurrentStateView_ObservationIsOff_ReturnsNull()
+	{
+		// Act
+		this._processorSimulator.setConcurrentObservation(false);
+
+		// Assert
+		Assert.assertNull(this._processorSimulator.getConcurrentStateView());
+	}
+
+	@Test
+	public void readState_CommandIsPerformedAfterFailedCommand_ReturnsSameStateAsSimulator()
+		throws Exception
+	{
+		// Arrange
+		Command failedCommand = new Command(CommandType.Load);
+
+		// Load R3, 1;
+		failedCommand.setArguments(Arrays.asList(new Argument(
+			ArgumentType.Register, 3), new Argument(ArgumentType.Number, 1)));
+
+		Command command = new Command(CommandType.Add);
+
+		// Add R2, 9;
+		command.setArguments(Arrays.asList(new Argument(ArgumentType.Register,
+			2), new Argument(ArgumentType.Number, 9)));
+
+		boolean exceptionIsThrown = false;
+
+		// The failed command is counted, but isn't published
+		try
+		{
+			this._processorSimulator.performCommand(failedCommand);
+		}
+		catch (CommandArgumentIsInvalidException e)
+		{
+			exceptionIsThrown = true;
+		}
+
+		// Act
+		this._processorSimulator.performCommand(command);
+
+		// Assert
+		Assert.assertEquals(true, exceptionIsThrown);
+		Assert.assertEquals(this._processorSimulator.getState(),
+			this._processorSimulator.getConcurrentStateView().readState());
+	}
+
+	@Test
+	public void readState_CommandIsPerformed_ReturnsSameStateAsSimulator()
+		throws Exception
+	{
+		// Arrange
+		Command command = new Command(CommandType.Add);
+
+		// Add R2, 9;
+		command.setArguments(Arrays.asList(new Argument(ArgumentType.Register,
+			2), new Argument(ArgumentType.Number, 9)));
+
+		// Act
+		this._processorSimulator.performCommand(command);
+
+		// Assert
+		Assert.assertEquals(this._processorSimulator.getState(),
+			this._processorSimulator.getConcurrentStateView().readState());
+	}
+
+	@Test
+	public void readState_CommandIsPerformedWithEventsListener_ReturnsSameStateAsSimulator()
+		throws Exception
+	{
+		// Arrange
+		Command command = new Command(CommandType.Add);
+
+		// Add R2, 9;
+		command.setArguments(Arrays.asList(new Argument(ArgumentType.Register,
+			2), new Argument(ArgumentType.Number, 9)));
+
+		List<Integer> registerNumbers = new ArrayList<Integer>();
+
+		this._processorSimulator.getCommandEvents().addListener(
+			event -> registerNumbers.add(event.getRegisterNumber()));
+
+		// Act
+		this._processorSimulator.performCommand(command);
+
+		// Assert
+		Assert.assertEquals(Arrays.asList(2), registerNumbers);
+		Assert.assertEquals(this._processorSimulator.getState(),
+			this._processorSimulator.getConcurrentStateView().readState());
+	}
+
+	@Test
+	public void readState_ProgramIsPerformed_ReturnsSameStateAsSimulator()
+		throws Exception
+	{
+		// Act
+		this._processorSimulator.performProgram(this._program);
+
+		// Assert
+		Assert.assertEquals(this._processorSimulator.getState(),
+			this._processorSimulator.getConcurrentStateView().readState());
+	}
+
+	@Test
+	public void readState_ProgramIsPerformedConcurrently_ReturnsConsistentStates()
+		throws Exception
+	{
+		// Arrange
+		final IConcurrentStateView concurrentStateView =
+			this._processorSimulator.getConcurrentStateView();
+
+		final AtomicBoolean isRunning = new AtomicBoolean(true);
+
+		final String[] errors = new String[1];
+
+		Thread reader = new Thread(new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				while (isRunning.get() && errors[0] == null)
+				{
+					errors[0] =
+						ConcurrentStateViewTests.checkState(concurrentStateView
+								.readState());
+				}
+			}
+		});
+
+		reader.start();
+
+		// Act
+		for (int i = 0; i < 200; i++)
+		{
+			this._processorSimulator.performProgram(this._program);
+			this._processorSimulator.clear();
+		}
+
+		isRunning.set(false);
+
+		reader.join();
+
+		// Assert
+		Assert.assertNull(errors[0]);
+	}
+
+	@Test
+	public void readState_SimulatorIsCleared_ReturnsStateOfNewSimulator()
+		throws Exception
+	{
+		// Arrange
+		this._processorSimulator.performProgram(this._program);
+
+		// Act
+		this._processorSimulator.clear();
+
+		// Assert
+		Assert.assertEquals(new ProcessorSimulator(20, 2).getState(),
+			this._processorSimulator.getConcurrentStateView().readState());
+	}
+
+	@Test
+	public void readState_StepBackIsPerformed_ReturnsSameStateAsSimulator()
+		throws Exception
+	{
+		// Arrange
+		this._processorSimulator.setUndoLogCapacity(10);
+		this._processorSimulator.performProgram(this._program);
+
+		// Act
+		this._processorSimulator.stepBack(3);
+
+		// Assert
+		Assert.assertEquals(this._processorSimulator.getState(),
+			this._processorSimulator.getConcurrentStateView().readState());
+	}
+
+	@Before
+	public void setUp() throws Exception
+	{
+		this._processorSimulator = new ProcessorSimulator(20, 2);
+		this._processorSimulator.setConcurrentObservation(true);
+
+		// The command with the number n loads n into one of the registers in
+		// turn, so the registers are known from the commands counter
+		int[] code =
+			new int[ConcurrentStateViewTests.COMMANDS_COUNT
+				* CompiledProgram.INSTRUCTION_SIZE];
+
+		for (int i = 0; i < ConcurrentStateViewTests.COMMANDS_COUNT; i++)
+		{
+			int offset = i * CompiledProgram.INSTRUCTION_SIZE;
+
+			code[offset] = CompiledProgram.LOAD_NUMBER;
+			code[offset + 1] = i % 2;
+			code[offset + 2] = i + 1;
+		}
+
+		this._program = new CompiledProgram(code, 2);
+	}
+
+	/**
+	 * Checks, that the registers match the commands counter.
+	 */
+	private static String checkState(ProcessorState state)
+	{
+		int commandsCounter = state.getCommandsCounter();
+
+		int[] registers = state.getRegisters();
+
+		int lastValue = commandsCounter;
+		int previousValue = Math.max(commandsCounter - 1, 0);
+
+		int[] expectedRegisters =
+			(commandsCounter % 2 == 1) ? new int[] { lastValue, previousValue }
+				: new int[] { previousValue, lastValue };
+
+		if (!Arrays.equals(expectedRegisters, registers))
+		{
+			return commandsCounter + ": " + Arrays.toString(registers);
+		}
+
+		return null;
+	}
+}
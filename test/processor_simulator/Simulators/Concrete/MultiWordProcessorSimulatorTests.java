@@ -0,0 +1,428 @@
+package processor_simulator.Simulators.Concrete;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import processor_simulator.Enums.ArgumentType;
+import processor_simulator.Enums.CommandType;
+import processor_simulator.Exceptions.CommandArgumentIsInvalidException;
+import processor_simulator.Infrastructure.Abstact.ITactsListener;
+import processor_simulator.Models.Argument;
+import processor_simulator.Models.Command;
+import processor_simulator.Models.CompiledProgram;
+import processor_simulator.Simulators.Abstract.IMultiWordProcessorSimulator;
+
+public class MultiWordProcessorSimulatorTests
+{
+	private static final int[] MOVE_ARGUMENTS = { 0, 1, -1, 7, -7, 31, -31,
+		63, -63, 64, -64, 65, 100, -100, 127, 200, -200, 255, 256, -300 };
+
+	private static final int NUMBER_OF_REGISTERS = 4;
+
+	private static final int[] NUMBERS = { 0, 1, -1, 5, -7, 8191, -8192,
+		123456, -123456, Integer.MAX_VALUE, Integer.MIN_VALUE };
+
+	private Random _random;
+
+	@Test
+	public void getRegister_RegisterNumberIsInvalid_ThrowsIllegalArgumentException()
+	{
+		// Arrange
+		IMultiWordProcessorSimulator processorSimulator =
+			new MultiWordProcessorSimulator(128,
+				MultiWordProcessorSimulatorTests.NUMBER_OF_REGISTERS);
+
+		try
+		{
+			// Act
+			processorSimulator
+					.getRegister(MultiWordProcessorSimulatorTests.NUMBER_OF_REGISTERS + 1);
+
+			Assert.fail();
+		}
+		catch (IllegalArgumentException e)
+		{
+			// Assert
+			Assert.assertEquals("Register with the number '5' doesn't exist.",
+				e.getMessage());
+		}
+	}
+
+	@Test
+	public void getRegisterWords_RegisterIsWide_CopiesWordsFromLowest()
+		throws Exception
+	{
+		// Arrange
+		IMultiWordProcessorSimulator processorSimulator =
+			new MultiWordProcessorSimulator(128,
+				MultiWordProcessorSimulatorTests.NUMBER_OF_REGISTERS);
+
+		processorSimulator.performCommand(MultiWordProcessorSimulatorTests
+				.createCommand(CommandType.Load, 1, ArgumentType.Number, 3));
+		processorSimulator.performCommand(MultiWordProcessorSimulatorTests
+				.createCommand(CommandType.LeftMove, 1, ArgumentType.Number, 64));
+
+		long[] words = new long[processorSimulator.getWordsCount()];
+
+		// Act
+		processorSimulator.getRegisterWords(1, words);
+
+		// Assert
+		Assert.assertArrayEquals(new long[] { 0, 3 }, words);
+	}
+
+	@Test
+	public void getWordsCount_NumberOfBitsIsMoreThan64_ReturnsWordsCount()
+	{
+		// Arrange
+		IMultiWordProcessorSimulator processorSimulator =
+			new MultiWordProcessorSimulator(65,
+				MultiWordProcessorSimulatorTests.NUMBER_OF_REGISTERS);
+
+		// Act
+		int wordsCount = processorSimulator.getWordsCount();
+
+		// Assert
+		Assert.assertEquals(2, wordsCount);
+	}
+
+	@Test
+	public void performCommand_LeftMoveLosesSignBit_SetsOverflowFlag()
+		throws Exception
+	{
+		// Arrange
+		MultiWordProcessorSimulator processorSimulator =
+			new MultiWordProcessorSimulator(256,
+				MultiWordProcessorSimulatorTests.NUMBER_OF_REGISTERS);
+
+		ITactsListener tactsListenerMock = Mockito.mock(ITactsListener.class);
+
+		processorSimulator.performCommand(MultiWordProcessorSimulatorTests
+				.createCommand(CommandType.Load, 1, ArgumentType.Number, -1));
+		processorSimulator.performCommand(MultiWordProcessorSimulatorTests
+				.createCommand(CommandType.LeftMove, 1, ArgumentType.Number, 255));
+
+		BigInteger testValue = BigInteger.ONE.shiftLeft(255).negate();
+
+		Assert.assertEquals(testValue, processorSimulator.getRegister(1));
+		Assert.assertEquals(false, processorSimulator.getOverflowFlag());
+		Assert.assertEquals(true, processorSimulator.getSignFlag());
+
+		processorSimulator.addListener(tactsListenerMock);
+
+		Command command =
+			MultiWordProcessorSimulatorTests.createCommand(
+				CommandType.LeftMove, 1, ArgumentType.Number, 1);
+
+		// Act
+		processorSimulator.performCommand(command);
+
+		// Assert
+		Assert.assertEquals(BigInteger.ZERO, processorSimulator.getRegister(1));
+		Assert.assertEquals(3, processorSimulator.getCommandsCounter());
+		Assert.assertEquals(true, processorSimulator.getOverflowFlag());
+		Assert.assertEquals(false, processorSimulator.getSignFlag());
+		Assert.assertEquals(2, processorSimulator.getTactsCounter());
+		Assert.assertEquals(command.toString(),
+			processorSimulator.getCurrentCommandText());
+
+		Mockito.verify(tactsListenerMock, Mockito.times(2)).tactPerformed();
+	}
+
+	@Test
+	public void performProgram_NarrowProgramsAreRandom_ReturnsSameResultsAsProcessorSimulator()
+		throws Exception
+	{
+		// Arrange
+		int[] numbersOfBits = { 1, 4, 14 };
+
+		for (int numberOfBits : numbersOfBits)
+		{
+			for (int i = 0; i < 100; i++)
+			{
+				// The int simulator loses the bits, which are moved above 32
+				CompiledProgram program =
+					this.createRandomProgram(1 + this._random.nextInt(100),
+						31 - numberOfBits, false);
+
+				ProcessorSimulator testProcessorSimulator =
+					new ProcessorSimulator(numberOfBits,
+						MultiWordProcessorSimulatorTests.NUMBER_OF_REGISTERS);
+
+				testProcessorSimulator.performProgram(program);
+
+				MultiWordProcessorSimulator processorSimulator =
+					new MultiWordProcessorSimulator(numberOfBits,
+						MultiWordProcessorSimulatorTests.NUMBER_OF_REGISTERS);
+
+				// Act
+				processorSimulator.performProgram(program);
+
+				// Assert
+				BigInteger[] testRegisters =
+					new BigInteger[MultiWordProcessorSimulatorTests.NUMBER_OF_REGISTERS];
+
+				for (int j = 0; j < testRegisters.length; j++)
+				{
+					testRegisters[j] =
+						BigInteger.valueOf(testProcessorSimulator.getRegisters()[j]);
+				}
+
+				Assert.assertArrayEquals(testRegisters,
+					processorSimulator.getRegisters());
+				Assert.assertEquals(testProcessorSimulator.getOverflowFlag(),
+					processorSimulator.getOverflowFlag());
+				Assert.assertEquals(testProcessorSimulator.getSignFlag(),
+					processorSimulator.getSignFlag());
+				Assert.assertEquals(
+					testProcessorSimulator.getCurrentCommandText(),
+					processorSimulator.getCurrentCommandText());
+			}
+		}
+	}
+
+	@Test
+	public void performProgram_ProgramsAreRandom_ReturnsSameResultsAsBigIntegers()
+		throws Exception
+	{
+		// Arrange
+		int[] numbersOfBits =
+			{ 1, 8, 14, 31, 32, 33, 63, 64, 65, 100, 128, 192, 256 };
+
+		for (int numberOfBits : numbersOfBits)
+		{
+			for (int i = 0; i < 100; i++)
+			{
+				CompiledProgram program =
+					this.createRandomProgram(1 + this._random.nextInt(100),
+						Integer.MAX_VALUE, true);
+
+				MultiWordProcessorSimulator processorSimulator =
+					new MultiWordProcessorSimulator(numberOfBits,
+						MultiWordProcessorSimulatorTests.NUMBER_OF_REGISTERS);
+
+				BigInteger[] testRegisters =
+					new BigInteger[MultiWordProcessorSimulatorTests.NUMBER_OF_REGISTERS];
+
+				Arrays.fill(testRegisters, BigInteger.ZERO);
+
+				boolean[] testFlags = new boolean[2];
+
+				int[] code = program.getCode();
+
+				for (int offset = 0; offset < code.length; offset +=
+					CompiledProgram.INSTRUCTION_SIZE)
+				{
+					MultiWordProcessorSimulatorTests.perform(testRegisters,
+						testFlags, numberOfBits, code[offset],
+						code[offset + 1], code[offset + 2]);
+				}
+
+				// Act
+				processorSimulator.performProgram(program);
+
+				// Assert
+				String message = numberOfBits + ": " + Arrays.toString(code);
+
+				Assert.assertArrayEquals(message, testRegisters,
+					processorSimulator.getRegisters());
+				Assert.assertEquals(message, testFlags[0],
+					processorSimulator.getOverflowFlag());
+				Assert.assertEquals(message, testFlags[1],
+					processorSimulator.getSignFlag());
+				Assert.assertEquals(program.getCommandsCount(),
+					processorSimulator.getCommandsCounter());
+			}
+		}
+	}
+
+	@Test(expected = CommandArgumentIsInvalidException.class)
+	public void performProgram_ProgramRequiresMoreRegisters_ThrowsCommandArgumentIsInvalidException()
+		throws Exception
+	{
+		// Arrange
+		MultiWordProcessorSimulator processorSimulator =
+			new MultiWordProcessorSimulator(128,
+				MultiWordProcessorSimulatorTests.NUMBER_OF_REGISTERS);
+
+		CompiledProgram program =
+			new CompiledProgram(new int[] { CompiledProgram.LOAD_NUMBER, 0, 1 },
+				MultiWordProcessorSimulatorTests.NUMBER_OF_REGISTERS + 1);
+
+		// Act & Assert
+		processorSimulator.performProgram(program);
+	}
+
+	@Before
+	public void setUp() throws Exception
+	{
+		this._random = new Random(42);
+	}
+
+	private static BigInteger castValue(BigInteger value, int numberOfBits)
+	{
+		BigInteger modulus = BigInteger.ONE.shiftLeft(numberOfBits);
+
+		BigInteger result = value.mod(modulus);
+
+		if (result.testBit(numberOfBits - 1))
+		{
+			result = result.subtract(modulus);
+		}
+
+		return result;
+	}
+
+	private static Command createCommand(CommandType commandType,
+		int registerNumber, ArgumentType argumentType, int value)
+	{
+		Command command = new Command(commandType);
+
+		command.setArguments(Arrays.asList(new Argument(ArgumentType.Register,
+			registerNumber), new Argument(argumentType, value)));
+
+		return command;
+	}
+
+	/**
+	 * Performs the instruction with the exact arithmetic of big integers.
+	 */
+	private static void perform(BigInteger[] registers, boolean[] flags,
+		int numberOfBits, int opcode, int registerIndex, int operand)
+	{
+		BigInteger value = registers[registerIndex];
+
+		BigInteger argumentValue;
+
+		BigInteger castedArgumentValue;
+
+		if ((opcode & CompiledProgram.NUMBER_OPERAND_FLAG) != 0)
+		{
+			argumentValue = BigInteger.valueOf(operand);
+
+			castedArgumentValue =
+				MultiWordProcessorSimulatorTests.castValue(argumentValue,
+					numberOfBits);
+		}
+		else
+		{
+			argumentValue = registers[operand];
+
+			castedArgumentValue = argumentValue;
+		}
+
+		// Moving by more bits gives the same results
+		BigInteger limit = BigInteger.valueOf(numberOfBits + 1);
+
+		int moveArgument =
+			castedArgumentValue.max(limit.negate()).min(limit).intValue();
+
+		BigInteger result;
+
+		switch (CompiledProgram.getCommandType(opcode))
+		{
+			case Add:
+			{
+				result = value.add(castedArgumentValue);
+				break;
+			}
+
+			case Load:
+			{
+				result = argumentValue;
+				break;
+			}
+
+			case LeftMove:
+			{
+				result =
+					(moveArgument >= 0) ? value.shiftLeft(moveArgument) : value
+							.shiftRight(-moveArgument);
+				break;
+			}
+
+			case RightMove:
+			{
+				result =
+					(moveArgument >= 0) ? value.shiftRight(moveArgument)
+						: value.shiftLeft(-moveArgument);
+				break;
+			}
+
+			default:
+			{
+				result = value.xor(castedArgumentValue);
+				break;
+			}
+		}
+
+		BigInteger castedResult =
+			MultiWordProcessorSimulatorTests.castValue(result, numberOfBits);
+
+		registers[registerIndex] = castedResult;
+
+		flags[0] = !castedResult.equals(result);
+		flags[1] = castedResult.signum() < 0;
+	}
+
+	private CompiledProgram createRandomProgram(int commandsCount,
+		int maxMoveArgument, boolean isMoveByRegisterAllowed)
+	{
+		int[] code = new int[commandsCount * CompiledProgram.INSTRUCTION_SIZE];
+
+		for (int offset = 0; offset < code.length; offset +=
+			CompiledProgram.INSTRUCTION_SIZE)
+		{
+			int opcode = this._random.nextInt(CompiledProgram.XOR_NUMBER + 1);
+
+			boolean isMove =
+				opcode >= CompiledProgram.RIGHT_MOVE_REGISTER
+					&& opcode <= CompiledProgram.LEFT_MOVE_NUMBER;
+
+			if (isMove && !isMoveByRegisterAllowed)
+			{
+				opcode |= CompiledProgram.NUMBER_OPERAND_FLAG;
+			}
+
+			int operand;
+
+			if ((opcode & CompiledProgram.NUMBER_OPERAND_FLAG) == 0)
+			{
+				operand =
+					this._random
+							.nextInt(MultiWordProcessorSimulatorTests.NUMBER_OF_REGISTERS);
+			}
+			else if (isMove)
+			{
+				do
+				{
+					operand =
+						MultiWordProcessorSimulatorTests.MOVE_ARGUMENTS[this._random
+								.nextInt(MultiWordProcessorSimulatorTests.MOVE_ARGUMENTS.length)];
+				}
+				while (Math.abs(operand) > maxMoveArgument);
+			}
+			else
+			{
+				operand =
+					MultiWordProcessorSimulatorTests.NUMBERS[this._random
+							.nextInt(MultiWordProcessorSimulatorTests.NUMBERS.length)];
+			}
+
+			code[offset] = opcode;
+			code[offset + 1] =
+				this._random
+						.nextInt(MultiWordProcessorSimulatorTests.NUMBER_OF_REGISTERS);
+			code[offset + 2] = operand;
+		}
+
+		return new CompiledProgram(code,
+			MultiWordProcessorSimulatorTests.NUMBER_OF_REGISTERS);
+	}
+}
@@ -1,28 +1,229 @@
 package processor_simulator.Simulators.Concrete;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import processor_simulator.Compilers.Abstract.IExecutableProgram;
+import processor_simulator.Compilers.Concrete.BytecodeCompiler;
+import processor_simulator.Compilers.Concrete.ProgramCompiler;
 import processor_simulator.Enums.ArgumentType;
 import processor_simulator.Enums.CommandType;
 import processor_simulator.Exceptions.CommandArgumentIsInvalidException;
 import processor_simulator.Exceptions.CommandIsInvalidException;
+import processor_simulator.Infrastructure.Abstact.ICommandEventListener;
 import processor_simulator.Infrastructure.Abstact.IObservable;
+import processor_simulator.Infrastructure.Abstact.ISamplingPolicy;
+import processor_simulator.Infrastructure.Abstact.ITactEventListener;
+import processor_simulator.Infrastructure.Abstact.ITactsDispatcher;
 import processor_simulator.Infrastructure.Abstact.ITactsListener;
+import processor_simulator.Infrastructure.Concrete.FlagsChangeSamplingPolicy;
+import processor_simulator.Infrastructure.Concrete.TactsSamplingPolicy;
 import processor_simulator.Models.Argument;
 import processor_simulator.Models.Command;
-import processor_simulator.Simulators.Abstract.IProcessorSimulator;
+import processor_simulator.Models.CommandEvent;
+import processor_simulator.Models.CompiledProgram;
+import processor_simulator.Models.ProcessorEvent;
+import processor_simulator.Models.ProcessorState;
+import processor_simulator.Models.TactEvent;
+import processor_simulator.Simulators.Abstract.IProcessorSnapshot;
+import processor_simulator.Simulators.Abstract.IRegistersView;
 
 public class ProcessorSimulatorTests
 {
-	private IProcessorSimulator _processorSimulator;
+	private ProcessorSimulator _processorSimulator;
 
 	private ITactsListener _tactsListenerMock;
 
+	@Test
+	public void addSampledListener_PolicyIsFlagsChange_NotifiesSameStatesAsPerformCommand()
+		throws Exception
+	{
+		// Act & Assert
+		this.assertSameSampledStates(new FlagsChangeSamplingPolicy(),
+			new FlagsChangeSamplingPolicy(), 5);
+	}
+
+	@Test
+	public void addSampledListener_PolicyIsTacts_NotifiesSameStatesAsPerformCommand()
+		throws Exception
+	{
+		// Act & Assert
+		this.assertSameSampledStates(new TactsSamplingPolicy(4),
+			new TactsSamplingPolicy(4), 3);
+	}
+
+	@Test
+	public void clear_CommandsArePerformed_ReturnsStateOfNewSimulator()
+		throws Exception
+	{
+		// Arrange
+		ProcessorSimulator processorSimulator = new ProcessorSimulator(4, 4);
+
+		processorSimulator.runAll(this.createTestCommands());
+
+		// Act
+		processorSimulator.clear();
+
+		// Assert
+		Assert.assertEquals(new ProcessorSimulator(4, 4).getState(),
+			processorSimulator.getState());
+	}
+
+	@Test
+	public void getCommandEvents_CommandIsPerformed_ReportsRegisterChangeAndFlagsTransition()
+		throws Exception
+	{
+		// Arrange
+		final List<String> events = new ArrayList<String>();
+
+		this._processorSimulator.getCommandEvents().addListener(
+			new ICommandEventListener()
+			{
+				@Override
+				public void commandPerformed(CommandEvent event)
+				{
+					events.add(ProcessorSimulatorTests.describeEvent(event));
+				}
+			});
+
+		Command command = new Command(CommandType.Add);
+
+		// Add R1, 7;
+		command.setArguments(Arrays.asList(new Argument(ArgumentType.Register,
+			1), new Argument(ArgumentType.Number, 7)));
+
+		// Act
+		this._processorSimulator.performCommand(command);
+
+		// Assert
+		Assert.assertEquals(Arrays.asList("3 " + command
+			+ " R1 3->-6 O false->true S true->true"), events);
+	}
+
+	@Test
+	public void getRegistersView_CommandIsPerformedAfterSnapshot_ShowsCurrentRegisters()
+		throws Exception
+	{
+		// Arrange
+		IRegistersView registersView =
+			this._processorSimulator.getRegistersView();
+
+		this._processorSimulator.snapshot();
+
+		Command command = new Command(CommandType.Load);
+
+		// Load R3, 5;
+		command.setArguments(Arrays.asList(new Argument(ArgumentType.Register,
+			3), new Argument(ArgumentType.Number, 5)));
+
+		// Act
+		this._processorSimulator.performCommand(command);
+
+		// Assert
+		int[] registers = new int[5];
+
+		registersView.copyInto(registers);
+
+		Assert.assertArrayEquals(new int[] { 3, -3, 5, 0, 0 }, registers);
+		Assert.assertEquals(5, registersView.getRegister(3));
+		Assert.assertEquals(4, registersView.getRegistersCount());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void getRegistersView_DestinationIsShorter_ThrowsIllegalArgumentException()
+	{
+		// Act & Assert
+		this._processorSimulator.getRegistersView().copyInto(new int[3]);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void getRegistersView_RegisterDoesNotExist_ThrowsIllegalArgumentException()
+	{
+		// Act & Assert
+		this._processorSimulator.getRegistersView().getRegister(5);
+	}
+
+	@Test
+	public void getState_CommandsArePerformed_ReturnsCurrentState()
+	{
+		// Act
+		ProcessorState state = this._processorSimulator.getState();
+
+		// Assert
+		Assert.assertArrayEquals(this._processorSimulator.getRegisters(),
+			state.getRegisters());
+
+		Assert.assertEquals(this._processorSimulator.getCommandsCounter(),
+			state.getCommandsCounter());
+
+		Assert.assertEquals(this._processorSimulator.getOverflowFlag(),
+			state.getOverflowFlag());
+		Assert.assertEquals(this._processorSimulator.getSignFlag(),
+			state.getSignFlag());
+		Assert.assertEquals(this._processorSimulator.getTactsCounter(),
+			state.getTactsCounter());
+		Assert.assertEquals(this._processorSimulator.getCurrentCommandText(),
+			state.getCurrentCommandText());
+	}
+
+	@Test
+	public void getTactEvents_CommandIsPerformed_ReportsTactsBeforeAndAfterCommand()
+		throws Exception
+	{
+		// Arrange
+		List<String> events = this.listenTactEvents(this._processorSimulator);
+
+		Command command = new Command(CommandType.Load);
+
+		// Load R2, 1;
+		command.setArguments(Arrays.asList(new Argument(ArgumentType.Register,
+			2), new Argument(ArgumentType.Number, 1)));
+
+		// Act
+		this._processorSimulator.performCommand(command);
+
+		// Assert
+		Assert.assertEquals(Arrays.asList("3 " + command
+			+ " before 1 - O false->false S true->false", "3 " + command
+			+ " after 2 R2 -3->1 O false->false S false->false"), events);
+	}
+
+	@Test
+	public void getTactEvents_ProgramIsPerformed_ReportsSameEventsAsPerformCommand()
+		throws Exception
+	{
+		// Arrange
+		List<Command> commands = this.createTestCommands();
+
+		ProcessorSimulator testProcessorSimulator =
+			new ProcessorSimulator(4, 4);
+
+		List<String> expectedEvents =
+			this.listenTactEvents(testProcessorSimulator);
+
+		for (Command command : commands)
+		{
+			testProcessorSimulator.performCommand(command);
+		}
+
+		ProcessorSimulator processorSimulator = new ProcessorSimulator(4, 4);
+
+		List<String> events = this.listenTactEvents(processorSimulator);
+
+		// Act
+		processorSimulator.runAll(commands);
+
+		// Assert
+		Assert.assertEquals(commands.size() * 2, events.size());
+		Assert.assertEquals(expectedEvents, events);
+	}
+
 	@Test
 	public void performCommand_AddCommandWithNegativeResult_PerformsCommandAndSetsSignFlagAsTrue()
 		throws Exception
@@ -1102,6 +1303,509 @@ public class ProcessorSimulatorTests
 				.tactPerformed();
 	}
 
+	@Test(expected = IllegalArgumentException.class)
+	public void performProgram_ExecutableProgramHasOtherNumberOfBits_ThrowsIllegalArgumentException()
+		throws Exception
+	{
+		// Arrange
+		CompiledProgram program =
+			new ProgramCompiler(this._processorSimulator.getRegisters().length)
+					.compile(this.createTestCommands());
+
+		IExecutableProgram executableProgram =
+			new BytecodeCompiler(this._processorSimulator.getNumberOfBits() + 1)
+					.compile(program);
+
+		// Act & Assert
+		this._processorSimulator.performProgram(executableProgram);
+	}
+
+	@Test
+	public void performProgram_ExecutableProgramIsNotObserved_LeavesSameStateAsPerformCommand()
+		throws Exception
+	{
+		// Arrange
+		List<Command> commands = this.createTestCommands();
+
+		ProcessorSimulator testProcessorSimulator =
+			new ProcessorSimulator(this._processorSimulator.getNumberOfBits(),
+				this._processorSimulator.getRegisters().length);
+
+		ProcessorSimulator processorSimulator =
+			new ProcessorSimulator(this._processorSimulator.getNumberOfBits(),
+				this._processorSimulator.getRegisters().length);
+
+		for (Command command : commands)
+		{
+			testProcessorSimulator.performCommand(command);
+		}
+
+		IExecutableProgram program =
+			new BytecodeCompiler(processorSimulator.getNumberOfBits())
+					.compile(new ProgramCompiler(processorSimulator
+							.getRegisters().length).compile(commands));
+
+		// Act
+		processorSimulator.performProgram(program);
+
+		// Assert
+		Assert.assertArrayEquals(testProcessorSimulator.getRegisters(),
+			processorSimulator.getRegisters());
+
+		Assert.assertEquals(testProcessorSimulator.getCommandsCounter(),
+			processorSimulator.getCommandsCounter());
+
+		Assert.assertEquals(testProcessorSimulator.getOverflowFlag(),
+			processorSimulator.getOverflowFlag());
+		Assert.assertEquals(testProcessorSimulator.getSignFlag(),
+			processorSimulator.getSignFlag());
+		Assert.assertEquals(testProcessorSimulator.getTactsCounter(),
+			processorSimulator.getTactsCounter());
+		Assert.assertEquals(testProcessorSimulator.getCurrentCommandText(),
+			processorSimulator.getCurrentCommandText());
+	}
+
+	@Test
+	public void performProgram_ListenerTakesSnapshots_DoesNotChangeSnapshots()
+		throws Exception
+	{
+		// Arrange
+		CompiledProgram program =
+			new ProgramCompiler(this._processorSimulator.getRegisters().length)
+					.compile(this.createTestCommands());
+
+		List<IProcessorSnapshot> snapshots = new ArrayList<IProcessorSnapshot>();
+		List<int[]> expectedRegisters = new ArrayList<int[]>();
+
+		this._processorSimulator.addListener(() -> {
+			snapshots.add(this._processorSimulator.snapshot());
+			expectedRegisters.add(this._processorSimulator.getRegisters());
+		});
+
+		// Act
+		this._processorSimulator.performProgram(program);
+
+		// Assert
+		for (int i = 0; i < snapshots.size(); i++)
+		{
+			Assert.assertArrayEquals(expectedRegisters.get(i), snapshots.get(i)
+					.getRegisters());
+		}
+	}
+
+	@Test
+	public void performProgram_ProgramIsNotObserved_LeavesSameStateAsPerformCommand()
+		throws Exception
+	{
+		// Arrange
+		List<Command> commands = this.createTestCommands();
+
+		ProcessorSimulator testProcessorSimulator =
+			new ProcessorSimulator(this._processorSimulator.getNumberOfBits(),
+				this._processorSimulator.getRegisters().length);
+
+		ProcessorSimulator processorSimulator =
+			new ProcessorSimulator(this._processorSimulator.getNumberOfBits(),
+				this._processorSimulator.getRegisters().length);
+
+		for (Command command : commands)
+		{
+			testProcessorSimulator.performCommand(command);
+		}
+
+		CompiledProgram program =
+			new ProgramCompiler(processorSimulator.getRegisters().length)
+					.compile(commands);
+
+		// Act
+		processorSimulator.performProgram(program);
+
+		// Assert
+		Assert.assertArrayEquals(testProcessorSimulator.getRegisters(),
+			processorSimulator.getRegisters());
+
+		Assert.assertEquals(testProcessorSimulator.getCommandsCounter(),
+			processorSimulator.getCommandsCounter());
+
+		Assert.assertEquals(testProcessorSimulator.getOverflowFlag(),
+			processorSimulator.getOverflowFlag());
+		Assert.assertEquals(testProcessorSimulator.getSignFlag(),
+			processorSimulator.getSignFlag());
+		Assert.assertEquals(testProcessorSimulator.getTactsCounter(),
+			processorSimulator.getTactsCounter());
+		Assert.assertEquals(testProcessorSimulator.getCurrentCommandText(),
+			processorSimulator.getCurrentCommandText());
+	}
+
+	@Test
+	public void performProgram_ProgramIsObserved_PerformsTwoTactsPerCommand()
+		throws Exception
+	{
+		// Arrange
+		List<Command> commands = this.createTestCommands();
+
+		CompiledProgram program =
+			new ProgramCompiler(this._processorSimulator.getRegisters().length)
+					.compile(commands);
+
+		// Act
+		this._processorSimulator.performProgram(program);
+
+		// Assert
+		Mockito.verify(this._tactsListenerMock,
+			Mockito.times(commands.size() * 2)).tactPerformed();
+	}
+
+	@Test(expected = CommandArgumentIsInvalidException.class)
+	public void performProgram_ProgramRequiresMoreRegisters_ThrowsCommandArgumentIsInvalidException()
+		throws Exception
+	{
+		// Arrange
+		int numberOfRegisters = this._processorSimulator.getRegisters().length;
+
+		Command command = new Command(CommandType.Load);
+
+		command.setArguments(Arrays.asList(new Argument(ArgumentType.Register,
+			numberOfRegisters + 1), new Argument(ArgumentType.Number, 1)));
+
+		CompiledProgram program =
+			new ProgramCompiler(numberOfRegisters + 1).compile(Arrays
+					.asList(command));
+
+		// Act & Assert
+		this._processorSimulator.performProgram(program);
+	}
+
+	@Test
+	public void performProgram_SampledListenerRestoresSnapshot_GoesOnFromRestoredState()
+		throws Exception
+	{
+		// Arrange
+		List<Command> commands = this.createTestCommands();
+
+		ProcessorSimulator testProcessorSimulator =
+			new ProcessorSimulator(4, 4);
+
+		this.addRestoringListener(testProcessorSimulator);
+
+		for (Command command : commands)
+		{
+			testProcessorSimulator.performCommand(command);
+		}
+
+		ProcessorSimulator processorSimulator = new ProcessorSimulator(4, 4);
+
+		this.addRestoringListener(processorSimulator);
+
+		CompiledProgram program = new ProgramCompiler(4).compile(commands);
+
+		// Act
+		processorSimulator.performProgram(program);
+
+		// Assert
+		Assert.assertEquals(testProcessorSimulator.getState(),
+			processorSimulator.getState());
+	}
+
+	@Test
+	public void removeSampledListener_ListenerIsRemoved_DoesNotNotifyListener()
+		throws Exception
+	{
+		// Arrange
+		ITactsListener tactsListenerMock = Mockito.mock(ITactsListener.class);
+
+		this._processorSimulator.addSampledListener(tactsListenerMock,
+			new TactsSamplingPolicy(1));
+
+		// Act
+		this._processorSimulator.removeSampledListener(tactsListenerMock);
+
+		this._processorSimulator.runAll(this.createTestCommands());
+
+		// Assert
+		Mockito.verifyZeroInteractions(tactsListenerMock);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void restore_SnapshotIsOfOtherConfiguration_ThrowsIllegalArgumentException()
+	{
+		// Arrange
+		IProcessorSnapshot snapshot = new ProcessorSimulator(4, 5).snapshot();
+
+		// Act & Assert
+		new ProcessorSimulator(4, 4).restore(snapshot);
+	}
+
+	@Test
+	public void restore_SnapshotIsRestoredTwice_BranchesDoNotAffectEachOther()
+		throws Exception
+	{
+		// Arrange
+		List<Command> commands = this.createTestCommands();
+
+		ProcessorSimulator processorSimulator = new ProcessorSimulator(4, 4);
+
+		processorSimulator.runAll(commands);
+
+		ProcessorState prefixState = processorSimulator.getState();
+
+		IProcessorSnapshot snapshot = processorSimulator.snapshot();
+
+		processorSimulator.runAll(commands);
+
+		ProcessorState branchState = processorSimulator.getState();
+
+		// Act
+		processorSimulator.restore(snapshot);
+
+		ProcessorState restoredState = processorSimulator.getState();
+
+		processorSimulator.performCommand(commands.get(1));
+		processorSimulator.restore(snapshot);
+
+		ProcessorState restoredAgainState = processorSimulator.getState();
+
+		processorSimulator.runAll(commands);
+
+		// Assert
+		Assert.assertEquals(prefixState, restoredState);
+		Assert.assertEquals(prefixState, restoredAgainState);
+		Assert.assertEquals(branchState, processorSimulator.getState());
+	}
+
+	@Test
+	public void runAll_CommandIsInvalid_DoesNotChangeState() throws Exception
+	{
+		// Arrange
+		List<Command> commands = this.createTestCommands();
+
+		Command command = new Command(CommandType.Load);
+
+		command.setArguments(Arrays.asList(new Argument(ArgumentType.Register,
+			this._processorSimulator.getRegisters().length + 1), new Argument(
+			ArgumentType.Number, 1)));
+
+		commands.add(command);
+
+		ProcessorState testState = this._processorSimulator.getState();
+
+		// Act
+		try
+		{
+			this._processorSimulator.runAll(commands);
+
+			Assert.fail();
+		}
+		catch (CommandArgumentIsInvalidException e)
+		{
+		}
+
+		// Assert
+		Assert.assertEquals(testState, this._processorSimulator.getState());
+
+		Mockito.verify(this._tactsListenerMock, Mockito.never())
+				.tactPerformed();
+	}
+
+	@Test
+	public void runAll_CommandsAreValid_ReturnsSameStateAsPerformCommand()
+		throws Exception
+	{
+		// Arrange
+		List<Command> commands = this.createTestCommands();
+
+		ProcessorSimulator testProcessorSimulator =
+			new ProcessorSimulator(this._processorSimulator.getNumberOfBits(),
+				this._processorSimulator.getRegisters().length);
+
+		ProcessorSimulator processorSimulator =
+			new ProcessorSimulator(this._processorSimulator.getNumberOfBits(),
+				this._processorSimulator.getRegisters().length);
+
+		for (Command command : commands)
+		{
+			testProcessorSimulator.performCommand(command);
+		}
+
+		// Act
+		ProcessorState state = processorSimulator.runAll(commands);
+
+		// Assert
+		Assert.assertEquals(testProcessorSimulator.getState(), state);
+		Assert.assertEquals(state, processorSimulator.getState());
+	}
+
+	@Test
+	public void run_ProgramIsObserved_ReturnsStateOfLastTact() throws Exception
+	{
+		// Arrange
+		CompiledProgram program =
+			new ProgramCompiler(this._processorSimulator.getRegisters().length)
+					.compile(this.createTestCommands());
+
+		ProcessorState[] testState = new ProcessorState[1];
+
+		this._processorSimulator.addListener(() -> testState[0] =
+			this._processorSimulator.getState());
+
+		// Act
+		ProcessorState state = this._processorSimulator.run(program);
+
+		// Assert
+		Assert.assertEquals(testState[0], state);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setTactsDispatcher_DispatcherHasOtherNumberOfRegisters_ThrowsIllegalArgumentException()
+	{
+		// Arrange
+		ITactsDispatcher tactsDispatcherMock =
+			Mockito.mock(ITactsDispatcher.class);
+
+		Mockito.when(tactsDispatcherMock.getNumberOfRegisters()).thenReturn(
+			this._processorSimulator.getRegisters().length + 1);
+
+		// Act & Assert
+		this._processorSimulator.setTactsDispatcher(tactsDispatcherMock);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setUndoLogCapacity_CapacityIsNegative_ThrowsIllegalArgumentException()
+	{
+		// Act & Assert
+		this._processorSimulator.setUndoLogCapacity(-1);
+	}
+
+	@Test
+	public void snapshot_RegistersAreChanged_DoesNotChangeSnapshot()
+		throws Exception
+	{
+		// Arrange
+		List<Command> commands = this.createTestCommands();
+
+		ProcessorSimulator processorSimulator = new ProcessorSimulator(4, 4);
+
+		processorSimulator.runAll(commands);
+
+		ProcessorState state = processorSimulator.getState();
+
+		// Act
+		IProcessorSnapshot snapshot = processorSimulator.snapshot();
+
+		processorSimulator.runAll(commands);
+		processorSimulator.clear();
+
+		// Assert
+		Assert.assertArrayEquals(state.getRegisters(), snapshot.getRegisters());
+		Assert.assertEquals(state.getCommandsCounter(),
+			snapshot.getCommandsCounter());
+		Assert.assertEquals(state.getTactsCounter(), snapshot.getTactsCounter());
+		Assert.assertEquals(state.getOverflowFlag(), snapshot.getOverflowFlag());
+		Assert.assertEquals(state.getSignFlag(), snapshot.getSignFlag());
+		Assert.assertEquals(state.getCurrentCommandText(),
+			snapshot.getCurrentCommandText());
+	}
+
+	@Test
+	public void stepBack_CommandsArePerformedOneByOne_RestoresEarlierStates()
+		throws Exception
+	{
+		// Arrange
+		List<Command> commands = this.createTestCommands();
+
+		ProcessorSimulator processorSimulator = new ProcessorSimulator(4, 4);
+
+		processorSimulator.setUndoLogCapacity(100);
+
+		List<ProcessorState> states = new ArrayList<ProcessorState>();
+
+		for (Command command : commands)
+		{
+			states.add(this.getStateBetweenCommands(processorSimulator));
+
+			processorSimulator.performCommand(command);
+		}
+
+		for (int i = commands.size() - 1; i >= 0; i--)
+		{
+			// Act
+			int steppedBackCount = processorSimulator.stepBack(1);
+
+			// Assert
+			Assert.assertEquals(1, steppedBackCount);
+			Assert.assertEquals(states.get(i), processorSimulator.getState());
+		}
+	}
+
+	@Test
+	public void stepBack_LogIsFull_StepsBackCapacity() throws Exception
+	{
+		// Arrange
+		List<Command> commands = this.createTestCommands();
+
+		ProcessorSimulator processorSimulator = new ProcessorSimulator(4, 4);
+
+		processorSimulator.setUndoLogCapacity(2);
+
+		processorSimulator.runAll(commands.subList(0, 4));
+
+		ProcessorState state =
+			this.getStateBetweenCommands(processorSimulator);
+
+		processorSimulator.runAll(commands.subList(4, 6));
+
+		// Act
+		int steppedBackCount = processorSimulator.stepBack(5);
+
+		// Assert
+		Assert.assertEquals(2, steppedBackCount);
+		Assert.assertEquals(state, processorSimulator.getState());
+		Assert.assertEquals(0, processorSimulator.stepBack(1));
+	}
+
+	@Test
+	public void stepBack_LogIsOff_ReturnsZero() throws Exception
+	{
+		// Arrange
+		this._processorSimulator.runAll(this.createTestCommands());
+
+		ProcessorState state = this._processorSimulator.getState();
+
+		// Act
+		int steppedBackCount = this._processorSimulator.stepBack(1);
+
+		// Assert
+		Assert.assertEquals(0, steppedBackCount);
+		Assert.assertEquals(state, this._processorSimulator.getState());
+	}
+
+	@Test
+	public void stepBack_ProgramIsPerformed_RestoresStateOfPrefix()
+		throws Exception
+	{
+		// Arrange
+		List<Command> commands = this.createTestCommands();
+
+		ProcessorSimulator testProcessorSimulator =
+			new ProcessorSimulator(4, 4);
+
+		testProcessorSimulator.runAll(commands.subList(0, 3));
+
+		ProcessorSimulator processorSimulator = new ProcessorSimulator(4, 4);
+
+		processorSimulator.setUndoLogCapacity(100);
+		processorSimulator.runAll(commands);
+
+		// Act
+		int steppedBackCount = processorSimulator.stepBack(3);
+
+		// Assert
+		Assert.assertEquals(3, steppedBackCount);
+		Assert.assertEquals(
+			this.getStateBetweenCommands(testProcessorSimulator),
+			processorSimulator.getState());
+	}
+
 	@Before
 	public void setUp() throws Exception
 	{
@@ -1128,6 +1832,178 @@ public class ProcessorSimulatorTests
 		this.mockTactsListener();
 	}
 
+	/**
+	 * Adds the listener, which restores the state before the first command
+	 * once, when the half of the test commands is performed.
+	 */
+	private void addRestoringListener(
+		final ProcessorSimulator processorSimulator) throws Exception
+	{
+		processorSimulator.runAll(this.createTestCommands().subList(4, 6));
+
+		final IProcessorSnapshot snapshot = processorSimulator.snapshot();
+		final boolean[] isRestored = new boolean[1];
+
+		processorSimulator.addSampledListener(new ITactsListener()
+		{
+			@Override
+			public void tactPerformed()
+			{
+				if (!isRestored[0])
+				{
+					isRestored[0] = true;
+
+					processorSimulator.restore(snapshot);
+				}
+			}
+		}, new TactsSamplingPolicy(3 * ISamplingPolicy.TACTS_PER_COMMAND));
+	}
+
+	/**
+	 * Checks, that the sampled states of the program's run are the same as
+	 * of performing the commands one by one.
+	 */
+	private void assertSameSampledStates(ISamplingPolicy samplingPolicy,
+		ISamplingPolicy expectedSamplingPolicy, int expectedSamplesCount)
+		throws Exception
+	{
+		List<Command> commands = this.createTestCommands();
+
+		ProcessorSimulator testProcessorSimulator =
+			new ProcessorSimulator(4, 4);
+
+		List<ProcessorState> expectedStates =
+			this.listenSampledStates(testProcessorSimulator,
+				expectedSamplingPolicy);
+
+		for (Command command : commands)
+		{
+			testProcessorSimulator.performCommand(command);
+		}
+
+		ProcessorSimulator processorSimulator = new ProcessorSimulator(4, 4);
+
+		List<ProcessorState> states =
+			this.listenSampledStates(processorSimulator, samplingPolicy);
+
+		processorSimulator.runAll(commands);
+
+		Assert.assertEquals(expectedSamplesCount, states.size());
+		Assert.assertEquals(expectedStates, states);
+		Assert.assertEquals(testProcessorSimulator.getState(),
+			processorSimulator.getState());
+	}
+
+	private List<Command> createTestCommands()
+	{
+		List<Command> commands = new ArrayList<Command>();
+
+		Object[][] commandsData =
+			{
+				{ CommandType.Load, 1, ArgumentType.Number, 5 },
+				{ CommandType.Add, 1, ArgumentType.Number, 4 },
+				{ CommandType.Xor, 2, ArgumentType.Register, 1 },
+				{ CommandType.LeftMove, 3, ArgumentType.Register, 2 },
+				{ CommandType.RightMove, 2, ArgumentType.Number, 2 },
+				{ CommandType.Load, 4, ArgumentType.Number, 100 }
+			};
+
+		for (Object[] commandData : commandsData)
+		{
+			Command command = new Command((CommandType) commandData[0]);
+
+			command.setArguments(Arrays.asList(new Argument(
+				ArgumentType.Register, (int) commandData[1]), new Argument(
+				(ArgumentType) commandData[2], (int) commandData[3])));
+
+			commands.add(command);
+		}
+
+		return commands;
+	}
+
+	/**
+	 * Describes the event, because the event itself is reused.
+	 */
+	private static String describeEvent(ProcessorEvent event)
+	{
+		StringBuilder builder = new StringBuilder();
+
+		builder.append(event.getCommandsCounter()).append(' ')
+				.append(event.getCurrentCommandText()).append(' ');
+
+		if (event instanceof TactEvent)
+		{
+			TactEvent tactEvent = (TactEvent) event;
+
+			builder.append(tactEvent.isBeforeCommand() ? "before " : "after ")
+					.append(tactEvent.getTactsCounter()).append(' ');
+		}
+
+		if (event.isRegisterWritten())
+		{
+			builder.append('R').append(event.getRegisterNumber()).append(' ')
+					.append(event.getOldValue()).append("->")
+					.append(event.getNewValue());
+		}
+		else
+		{
+			builder.append('-');
+		}
+
+		return builder.append(" O ").append(event.getPreviousOverflowFlag())
+				.append("->").append(event.getOverflowFlag()).append(" S ")
+				.append(event.getPreviousSignFlag()).append("->")
+				.append(event.getSignFlag()).toString();
+	}
+
+	/**
+	 * Gets the state, which the step back leaves: the tacts counter and the
+	 * current command's text are reset.
+	 */
+	private ProcessorState getStateBetweenCommands(
+		ProcessorSimulator processorSimulator)
+	{
+		return new ProcessorState(processorSimulator.getRegisters(),
+			processorSimulator.getCommandsCounter(), 0,
+			processorSimulator.getOverflowFlag(),
+			processorSimulator.getSignFlag(), "");
+	}
+
+	private List<String> listenTactEvents(ProcessorSimulator processorSimulator)
+	{
+		final List<String> events = new ArrayList<String>();
+
+		processorSimulator.getTactEvents().addListener(new ITactEventListener()
+		{
+			@Override
+			public void tactPerformed(TactEvent event)
+			{
+				events.add(ProcessorSimulatorTests.describeEvent(event));
+			}
+		});
+
+		return events;
+	}
+
+	private List<ProcessorState> listenSampledStates(
+		final ProcessorSimulator processorSimulator,
+		ISamplingPolicy samplingPolicy)
+	{
+		final List<ProcessorState> states = new ArrayList<ProcessorState>();
+
+		processorSimulator.addSampledListener(new ITactsListener()
+		{
+			@Override
+			public void tactPerformed()
+			{
+				states.add(processorSimulator.getState());
+			}
+		}, samplingPolicy);
+
+		return states;
+	}
+
 	private void mockTactsListener()
 	{
 		this._tactsListenerMock = Mockito.mock(ITactsListener.class);
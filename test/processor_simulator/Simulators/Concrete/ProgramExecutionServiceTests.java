@@ -0,0 +1,228 @@
+package processor_simulator.Simulators.Concrete;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import processor_simulator.Exceptions.CommandArgumentIsInvalidException;
+import processor_simulator.Models.CompiledProgram;
+import processor_simulator.Models.ProcessorState;
+import processor_simulator.Models.SimulatorConfiguration;
+
+public class ProgramExecutionServiceTests
+{
+	private static final SimulatorConfiguration CONFIGURATION =
+		new SimulatorConfiguration(14, 4);
+
+	private ForkJoinPool _forkJoinPool;
+
+	private Random _random;
+
+	@Test
+	public void execute_ExecutorRejectsProgram_CompletesExceptionally()
+	{
+		// Arrange
+		ProgramExecutionService programExecutionService =
+			new ProgramExecutionService(runnable ->
+			{
+				throw new RejectedExecutionException();
+			});
+
+		// Act
+		CompletableFuture<ProcessorState> future =
+			programExecutionService.execute(
+				ProgramExecutionServiceTests.CONFIGURATION,
+				this.createRandomProgram(4));
+
+		// Assert
+		Assert.assertTrue(future.isCompletedExceptionally());
+		Assert.assertEquals(0, programExecutionService.getQueueDepth());
+		Assert.assertEquals(1, programExecutionService.getFailedCount());
+	}
+
+	@Test
+	public void execute_ProgramIsInvalid_CompletesExceptionally()
+		throws Exception
+	{
+		// Arrange
+		ProgramExecutionService programExecutionService =
+			new ProgramExecutionService(this._forkJoinPool);
+
+		CompiledProgram program =
+			new CompiledProgram(new int[] { CompiledProgram.LOAD_NUMBER, 4, 1 },
+				5);
+
+		// Act
+		CompletableFuture<ProcessorState> future =
+			programExecutionService.execute(
+				ProgramExecutionServiceTests.CONFIGURATION, program);
+
+		// Assert
+		try
+		{
+			future.get();
+
+			Assert.fail();
+		}
+		catch (ExecutionException e)
+		{
+			Assert.assertTrue(e.getCause() instanceof CommandArgumentIsInvalidException);
+		}
+
+		Assert.assertEquals(1, programExecutionService.getFailedCount());
+		Assert.assertEquals(0, programExecutionService.getCompletedCount());
+	}
+
+	@Test
+	public void execute_SimulatorIsReused_ReturnsStateOfNewSimulator()
+		throws Exception
+	{
+		// Arrange
+		ProgramExecutionService programExecutionService =
+			new ProgramExecutionService(Runnable::run);
+
+		CompiledProgram program = this.createRandomProgram(20);
+
+		programExecutionService.execute(
+			ProgramExecutionServiceTests.CONFIGURATION,
+			this.createRandomProgram(20));
+
+		// Act
+		ProcessorState state =
+			programExecutionService.execute(
+				ProgramExecutionServiceTests.CONFIGURATION, program).get();
+
+		// Assert
+		Assert.assertEquals(this.run(program), state);
+	}
+
+	@Test
+	public void execute_EveryProgramIsOnNewThread_ReusesSimulator()
+		throws Exception
+	{
+		// Arrange
+		ProgramExecutionService programExecutionService =
+			new ProgramExecutionService(runnable -> new Thread(runnable).start());
+
+		// Act
+		for (int i = 0; i < 10; i++)
+		{
+			programExecutionService.execute(
+				ProgramExecutionServiceTests.CONFIGURATION,
+				this.createRandomProgram(20)).get();
+		}
+
+		// Assert
+		Assert.assertEquals(1, programExecutionService
+			.getPooledSimulatorsCount(ProgramExecutionServiceTests.CONFIGURATION));
+	}
+
+	@Test
+	public void executeAll_PoolCapacityIsExceeded_KeepsOnlyPoolCapacity()
+		throws Exception
+	{
+		// Arrange
+		ProgramExecutionService programExecutionService =
+			new ProgramExecutionService(this._forkJoinPool, 2);
+
+		List<CompiledProgram> programs = new ArrayList<CompiledProgram>();
+
+		for (int i = 0; i < 200; i++)
+		{
+			programs.add(this.createRandomProgram(200));
+		}
+
+		// Act
+		List<CompletableFuture<ProcessorState>> futures =
+			programExecutionService.executeAll(
+				ProgramExecutionServiceTests.CONFIGURATION, programs);
+
+		// Assert
+		for (int i = 0; i < programs.size(); i++)
+		{
+			Assert.assertEquals(this.run(programs.get(i)), futures.get(i).get());
+		}
+
+		Assert.assertTrue(programExecutionService
+			.getPooledSimulatorsCount(ProgramExecutionServiceTests.CONFIGURATION) <= 2);
+	}
+
+	@Test
+	public void executeAll_ProgramsAreRandom_ReturnsStatesInProgramsOrder()
+		throws Exception
+	{
+		// Arrange
+		ProgramExecutionService programExecutionService =
+			new ProgramExecutionService(this._forkJoinPool);
+
+		List<CompiledProgram> programs = new ArrayList<CompiledProgram>();
+
+		for (int i = 0; i < 2000; i++)
+		{
+			programs.add(this.createRandomProgram(1 + this._random.nextInt(40)));
+		}
+
+		// Act
+		List<CompletableFuture<ProcessorState>> futures =
+			programExecutionService.executeAll(
+				ProgramExecutionServiceTests.CONFIGURATION, programs);
+
+		// Assert
+		for (int i = 0; i < programs.size(); i++)
+		{
+			Assert.assertEquals(this.run(programs.get(i)), futures.get(i).get());
+		}
+
+		Assert.assertEquals(programs.size(),
+			programExecutionService.getCompletedCount());
+		Assert.assertEquals(0, programExecutionService.getFailedCount());
+		Assert.assertEquals(0, programExecutionService.getQueueDepth());
+		Assert.assertTrue(programExecutionService.getThroughput() > 0);
+	}
+
+	@Before
+	public void setUp() throws Exception
+	{
+		this._forkJoinPool = new ForkJoinPool(4);
+		this._random = new Random(42);
+	}
+
+	@After
+	public void tearDown() throws Exception
+	{
+		this._forkJoinPool.shutdown();
+	}
+
+	private CompiledProgram createRandomProgram(int commandsCount)
+	{
+		int[] code = new int[commandsCount * CompiledProgram.INSTRUCTION_SIZE];
+
+		for (int offset = 0; offset < code.length; offset +=
+			CompiledProgram.INSTRUCTION_SIZE)
+		{
+			int opcode = this._random.nextInt(CompiledProgram.XOR_NUMBER + 1);
+
+			code[offset] = opcode;
+			code[offset + 1] = this._random.nextInt(4);
+			code[offset + 2] =
+				((opcode & CompiledProgram.NUMBER_OPERAND_FLAG) == 0) ? this._random
+						.nextInt(4) : this._random.nextInt(64) - 32;
+		}
+
+		return new CompiledProgram(code, 4);
+	}
+
+	private ProcessorState run(CompiledProgram program) throws Exception
+	{
+		return new ProcessorSimulator(14, 4).run(program);
+	}
+}
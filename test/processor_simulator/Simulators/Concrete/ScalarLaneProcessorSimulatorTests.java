@@ -0,0 +1,269 @@
+package processor_simulator.Simulators.Concrete;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import processor_simulator.Exceptions.CommandArgumentIsInvalidException;
+import processor_simulator.Models.CompiledProgram;
+import processor_simulator.Utils.NumberUtils;
+
+public class ScalarLaneProcessorSimulatorTests
+{
+	private static final int LANES_COUNT = 1100;
+
+	private static final int[] MOVE_ARGUMENTS = { 0, 1, -1, 3, -3, 31, -31,
+		32, -32, 40, -40, 8191, -8192 };
+
+	private static final int NUMBER_OF_REGISTERS = 4;
+
+	private static final int[] NUMBERS = { 0, 1, -1, 5, -7, 8191, -8192, 8192,
+		123456, -123456, Integer.MAX_VALUE, Integer.MIN_VALUE };
+
+	private Random _random;
+
+	@Test(expected = IllegalArgumentException.class)
+	public void getOverflowFlag_LaneDoesNotExist_ThrowsIllegalArgumentException()
+	{
+		// Act & Assert
+		new ScalarLaneProcessorSimulator(4, 1, 70).getOverflowFlag(70);
+	}
+
+	@Test
+	public void getOverflowMask_LastCommandOverflowsOnSomeLanes_ReturnsMaskOfLanes()
+		throws Exception
+	{
+		// Arrange
+		ScalarLaneProcessorSimulator laneProcessorSimulator =
+			new ScalarLaneProcessorSimulator(4, 1, 70);
+
+		int[] states = new int[70];
+
+		states[3] = 7;
+		states[69] = 6;
+
+		laneProcessorSimulator.loadStates(states, 0);
+
+		// Act
+		laneProcessorSimulator.performProgram(new CompiledProgram(new int[] {
+			CompiledProgram.ADD_NUMBER, 0, 2 }, 1));
+
+		// Assert
+		Assert.assertArrayEquals(new long[] { 1L << 3, 1L << 5 },
+			laneProcessorSimulator.getOverflowMask());
+		Assert.assertArrayEquals(new long[] { 1L << 3, 1L << 5 },
+			laneProcessorSimulator.getSignMask());
+		Assert.assertTrue(laneProcessorSimulator.getOverflowFlag(69));
+		Assert.assertFalse(laneProcessorSimulator.getOverflowFlag(68));
+	}
+
+	@Test
+	public void loadStates_ValuesAreWide_CastsValues()
+	{
+		// Arrange
+		ScalarLaneProcessorSimulator laneProcessorSimulator =
+			new ScalarLaneProcessorSimulator(4, 2, 3);
+
+		int[] states = { 1, 7, 8, 15, 16, -9 };
+
+		// Act
+		laneProcessorSimulator.loadStates(states, 0);
+
+		// Assert
+		int[] actualStates = new int[states.length];
+
+		laneProcessorSimulator.readStates(actualStates, 0);
+
+		Assert.assertArrayEquals(new int[] { 1, 7, -8, -1, 0, 7 }, actualStates);
+
+		int[] values = new int[3];
+
+		laneProcessorSimulator.getRegisterLanes(2, values, 0);
+
+		Assert.assertArrayEquals(new int[] { 7, -1, 7 }, values);
+	}
+
+	@Test
+	public void performProgram_ProgramsAreRandom_ReturnsSameResultsAsSimulator()
+		throws Exception
+	{
+		// Arrange
+		int[] numbersOfBits = { 1, 4, 14, 31, 32, 33 };
+
+		for (int numberOfBits : numbersOfBits)
+		{
+			for (int i = 0; i < 5; i++)
+			{
+				CompiledProgram program =
+					this.createRandomProgram(1 + this._random.nextInt(50));
+
+				// Act & Assert
+				this.assertSameResults(program, numberOfBits);
+			}
+		}
+	}
+
+	@Test(expected = CommandArgumentIsInvalidException.class)
+	public void performProgram_RegisterDoesNotExist_ThrowsCommandArgumentIsInvalidException()
+		throws Exception
+	{
+		// Arrange
+		ScalarLaneProcessorSimulator laneProcessorSimulator =
+			new ScalarLaneProcessorSimulator(4, 1, 3);
+
+		// Act & Assert
+		laneProcessorSimulator.performProgram(new CompiledProgram(new int[] {
+			CompiledProgram.LOAD_NUMBER, 1, 2 }, 2));
+	}
+
+	@Test
+	public void setRegisterLanes_ValuesAreWide_CastsValues()
+	{
+		// Arrange
+		ScalarLaneProcessorSimulator laneProcessorSimulator =
+			new ScalarLaneProcessorSimulator(4, 2, 3);
+
+		// Act
+		laneProcessorSimulator.setRegisterLanes(1, new int[] { 0, 9, 3, -9 }, 1);
+
+		// Assert
+		int[] values = new int[3];
+
+		laneProcessorSimulator.getRegisterLanes(1, values, 0);
+
+		Assert.assertArrayEquals(new int[] { -7, 3, 7 }, values);
+	}
+
+	@Before
+	public void setUp() throws Exception
+	{
+		this._random = new Random(42);
+	}
+
+	private void assertSameResults(CompiledProgram program, int numberOfBits)
+		throws Exception
+	{
+		int numberOfRegisters =
+			ScalarLaneProcessorSimulatorTests.NUMBER_OF_REGISTERS;
+
+		int[] states =
+			new int[ScalarLaneProcessorSimulatorTests.LANES_COUNT
+				* numberOfRegisters];
+
+		for (int i = 0; i < states.length; i++)
+		{
+			states[i] =
+				NumberUtils.castValue(this._random.nextInt(), numberOfBits);
+		}
+
+		ScalarLaneProcessorSimulator laneProcessorSimulator =
+			new ScalarLaneProcessorSimulator(numberOfBits, numberOfRegisters,
+				ScalarLaneProcessorSimulatorTests.LANES_COUNT);
+
+		laneProcessorSimulator.loadStates(states, 0);
+		laneProcessorSimulator.performProgram(program);
+
+		int[] actualStates = new int[states.length];
+
+		laneProcessorSimulator.readStates(actualStates, 0);
+
+		for (int lane = 0; lane < ScalarLaneProcessorSimulatorTests.LANES_COUNT; lane++)
+		{
+			ProcessorSimulator testProcessorSimulator =
+				new ProcessorSimulator(numberOfBits, numberOfRegisters);
+
+			testProcessorSimulator.performProgram(this.createLaneProgram(states,
+				lane, program));
+
+			int[] expectedRegisters = testProcessorSimulator.getRegisters();
+
+			for (int i = 0; i < numberOfRegisters; i++)
+			{
+				Assert.assertEquals(numberOfBits + ": " + lane,
+					expectedRegisters[i], actualStates[lane * numberOfRegisters
+						+ i]);
+			}
+
+			Assert.assertEquals(testProcessorSimulator.getOverflowFlag(),
+				laneProcessorSimulator.getOverflowFlag(lane));
+			Assert.assertEquals(testProcessorSimulator.getSignFlag(),
+				laneProcessorSimulator.getSignFlag(lane));
+		}
+	}
+
+	/**
+	 * Creates the program, which loads the lane's state before the commands.
+	 */
+	private CompiledProgram createLaneProgram(int[] states, int lane,
+		CompiledProgram program)
+	{
+		int numberOfRegisters =
+			ScalarLaneProcessorSimulatorTests.NUMBER_OF_REGISTERS;
+
+		int[] programCode = program.getCode();
+
+		int[] code =
+			new int[numberOfRegisters * CompiledProgram.INSTRUCTION_SIZE
+				+ programCode.length];
+
+		for (int i = 0; i < numberOfRegisters; i++)
+		{
+			int offset = i * CompiledProgram.INSTRUCTION_SIZE;
+
+			code[offset] = CompiledProgram.LOAD_NUMBER;
+			code[offset + 1] = i;
+			code[offset + 2] = states[lane * numberOfRegisters + i];
+		}
+
+		System.arraycopy(programCode, 0, code, numberOfRegisters
+			* CompiledProgram.INSTRUCTION_SIZE, programCode.length);
+
+		return new CompiledProgram(code, numberOfRegisters);
+	}
+
+	private CompiledProgram createRandomProgram(int commandsCount)
+	{
+		int[] code = new int[commandsCount * CompiledProgram.INSTRUCTION_SIZE];
+
+		for (int offset = 0; offset < code.length; offset +=
+			CompiledProgram.INSTRUCTION_SIZE)
+		{
+			int opcode = this._random.nextInt(CompiledProgram.XOR_NUMBER + 1);
+
+			boolean isMove =
+				opcode >= CompiledProgram.RIGHT_MOVE_REGISTER
+					&& opcode <= CompiledProgram.LEFT_MOVE_NUMBER;
+
+			int operand;
+
+			if ((opcode & CompiledProgram.NUMBER_OPERAND_FLAG) == 0)
+			{
+				operand =
+					this._random
+							.nextInt(ScalarLaneProcessorSimulatorTests.NUMBER_OF_REGISTERS);
+			}
+			else if (isMove)
+			{
+				operand =
+					ScalarLaneProcessorSimulatorTests.MOVE_ARGUMENTS[this._random
+							.nextInt(ScalarLaneProcessorSimulatorTests.MOVE_ARGUMENTS.length)];
+			}
+			else
+			{
+				operand =
+					ScalarLaneProcessorSimulatorTests.NUMBERS[this._random
+							.nextInt(ScalarLaneProcessorSimulatorTests.NUMBERS.length)];
+			}
+
+			code[offset] = opcode;
+			code[offset + 1] =
+				this._random.nextInt(ScalarLaneProcessorSimulatorTests.NUMBER_OF_REGISTERS);
+			code[offset + 2] = operand;
+		}
+
+		return new CompiledProgram(code,
+			ScalarLaneProcessorSimulatorTests.NUMBER_OF_REGISTERS);
+	}
+}
@@ -0,0 +1,55 @@
+package processor_simulator.Simulators.Concrete;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import processor_simulator.Simulators.Abstract.IArithmeticLogicUnit;
+
+public class UndoLogTests
+{
+	@Test
+	public void append_LogIsFull_OverwritesOldestEntry()
+	{
+		// Arrange
+		UndoLog undoLog = new UndoLog(2);
+
+		undoLog.append(0, 1, 0);
+		undoLog.append(1, 2, 0);
+
+		// Act
+		undoLog.append(2, 3, 0);
+
+		// Assert
+		Assert.assertEquals(2, undoLog.getCount());
+		Assert.assertEquals(3, UndoLog.getValue(undoLog.removeLast()));
+		Assert.assertEquals(2, UndoLog.getValue(undoLog.removeLast()));
+		Assert.assertEquals(0, undoLog.getCount());
+	}
+
+	@Test
+	public void removeLast_EntryIsAppended_ReturnsEntryFields()
+	{
+		// Arrange
+		UndoLog undoLog = new UndoLog(3);
+
+		int flags =
+			IArithmeticLogicUnit.OVERFLOW_FLAG | IArithmeticLogicUnit.SIGN_FLAG;
+
+		undoLog.append(123456, Integer.MIN_VALUE, flags);
+
+		// Act
+		long entry = undoLog.removeLast();
+
+		// Assert
+		Assert.assertEquals(123456, UndoLog.getRegisterIndex(entry));
+		Assert.assertEquals(Integer.MIN_VALUE, UndoLog.getValue(entry));
+		Assert.assertEquals(flags, UndoLog.getFlags(entry));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void removeLast_LogIsEmpty_ThrowsIllegalStateException()
+	{
+		// Act & Assert
+		new UndoLog(3).removeLast();
+	}
+}
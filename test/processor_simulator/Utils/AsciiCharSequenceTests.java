@@ -0,0 +1,62 @@
+package processor_simulator.Utils;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AsciiCharSequenceTests
+{
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void charAt_IndexIsOutOfBounds_ThrowsIndexOutOfBoundsException()
+	{
+		// Arrange
+		AsciiCharSequence charSequence =
+			new AsciiCharSequence(ByteBuffer.wrap("abc"
+					.getBytes(StandardCharsets.US_ASCII)));
+
+		// Act & Assert
+		charSequence.charAt(3);
+	}
+
+	@Test
+	public void map_FileExists_ReturnsFileContent() throws Exception
+	{
+		// Arrange
+		String content = "Load R1, 8191;\nAdd R1, 1;";
+
+		File file = File.createTempFile("commands", ".txt");
+
+		file.deleteOnExit();
+
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.US_ASCII));
+
+		// Act
+		AsciiCharSequence charSequence = AsciiCharSequence.map(file.toPath());
+
+		// Assert
+		Assert.assertEquals(content.length(), charSequence.length());
+		Assert.assertEquals(content.charAt(5), charSequence.charAt(5));
+		Assert.assertEquals(content, charSequence.toString());
+	}
+
+	@Test
+	public void subSequence_ReturnsViewOfSameBytes()
+	{
+		// Arrange
+		AsciiCharSequence charSequence =
+			new AsciiCharSequence(ByteBuffer.wrap("Load R1, 8191;"
+					.getBytes(StandardCharsets.US_ASCII)));
+
+		// Act
+		CharSequence subSequence = charSequence.subSequence(5, 7);
+
+		// Assert
+		Assert.assertEquals(2, subSequence.length());
+		Assert.assertEquals("R1", subSequence.toString());
+		Assert.assertEquals("1", subSequence.subSequence(1, 2).toString());
+	}
+}
@@ -0,0 +1,114 @@
+package processor_simulator.Utils;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BitSliceUtilsTests
+{
+	private Random _random;
+
+	@Test
+	public void fromSlices_SlicesAreFromValues_ReturnsSignExtendedValues()
+	{
+		for (int numberOfBits = 1; numberOfBits <= Integer.SIZE; numberOfBits++)
+		{
+			// Arrange
+			int[] values = this.createRandomValues();
+
+			long[] slices = new long[numberOfBits + 1];
+
+			BitSliceUtils.toSlices(values, 1, numberOfBits, slices, 1);
+
+			int[] actualValues = new int[Long.SIZE + 2];
+
+			// Act
+			BitSliceUtils.fromSlices(slices, 1, numberOfBits, actualValues, 2);
+
+			// Assert
+			for (int i = 0; i < Long.SIZE; i++)
+			{
+				int shift = Integer.SIZE - numberOfBits;
+
+				Assert.assertEquals((values[i + 1] << shift) >> shift,
+					actualValues[i + 2]);
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void toSlices_NumberOfBitsIsMoreThan32_ThrowsIllegalArgumentException()
+	{
+		// Act & Assert
+		BitSliceUtils.toSlices(new int[Long.SIZE], 0, 33, new long[33], 0);
+	}
+
+	@Test
+	public void toSlices_ValuesAreAny_ReturnsBitsOfValues()
+	{
+		// Arrange
+		int[] values = this.createRandomValues();
+
+		long[] slices = new long[Integer.SIZE];
+
+		// Act
+		BitSliceUtils.toSlices(values, 1, Integer.SIZE, slices, 0);
+
+		// Assert
+		for (int bit = 0; bit < Integer.SIZE; bit++)
+		{
+			for (int machine = 0; machine < Long.SIZE; machine++)
+			{
+				Assert.assertEquals((values[machine + 1] >>> bit) & 1,
+					(slices[bit] >>> machine) & 1);
+			}
+		}
+	}
+
+	@Test
+	public void transpose_MatrixIsAny_SwapsRowsAndColumns()
+	{
+		// Arrange
+		long[] matrix = new long[Long.SIZE];
+
+		for (int i = 0; i < matrix.length; i++)
+		{
+			matrix[i] = this._random.nextLong();
+		}
+
+		long[] transposedMatrix = matrix.clone();
+
+		// Act
+		BitSliceUtils.transpose(transposedMatrix);
+
+		// Assert
+		for (int row = 0; row < Long.SIZE; row++)
+		{
+			for (int column = 0; column < Long.SIZE; column++)
+			{
+				Assert.assertEquals((matrix[row] >>> column) & 1,
+					(transposedMatrix[column] >>> row) & 1);
+			}
+		}
+	}
+
+	@Before
+	public void setUp() throws Exception
+	{
+		this._random = new Random(42);
+	}
+
+	private int[] createRandomValues()
+	{
+		int[] values = new int[Long.SIZE + 1];
+
+		for (int i = 0; i < values.length; i++)
+		{
+			values[i] = this._random.nextInt();
+		}
+
+		return values;
+	}
+}
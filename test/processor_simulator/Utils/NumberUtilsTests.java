@@ -142,4 +142,41 @@ public class NumberUtilsTests
 		// Assert
 		Assert.assertEquals(testBinaryString, binaryString);
 	}
+
+	@Test
+	public void tryParseInt_CharactersAreNotValidInt_ReturnsNotANumber()
+	{
+		// Arrange
+		String[] testValues =
+			{ "", "-", "+", "12a", "2147483648", "-2147483649", "R1" };
+
+		for (String testValue : testValues)
+		{
+			// Act
+			long value =
+				NumberUtils.tryParseInt(testValue, 0, testValue.length());
+
+			// Assert
+			Assert.assertEquals(testValue, NumberUtils.NOT_A_NUMBER, value);
+		}
+	}
+
+	@Test
+	public void tryParseInt_CharactersAreValidInt_ReturnsSameValueAsParseInt()
+	{
+		// Arrange
+		String[] testValues =
+			{ "0", "-0", "+5", "0012", "-1", "2147483647", "-2147483648" };
+
+		for (String testValue : testValues)
+		{
+			// Act
+			long value =
+				NumberUtils.tryParseInt("[" + testValue + "]", 1,
+					testValue.length() + 1);
+
+			// Assert
+			Assert.assertEquals(Integer.parseInt(testValue), value);
+		}
+	}
 }
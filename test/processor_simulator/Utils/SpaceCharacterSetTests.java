@@ -0,0 +1,43 @@
+package processor_simulator.Utils;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SpaceCharacterSetTests
+{
+	@Test
+	public void contains_CharacterIsNotAscii_ChecksSpaceCharacters()
+	{
+		// Arrange
+		SpaceCharacterSet spaceCharacterSet =
+			new SpaceCharacterSet(Arrays.asList(' ', '\u00a0'));
+
+		// Act & Assert
+		Assert.assertTrue(spaceCharacterSet.contains('\u00a0'));
+		Assert.assertFalse(spaceCharacterSet.contains('\u2003'));
+	}
+
+	@Test
+	public void contains_SpaceCharactersAreDefault_ChecksAsciiCharacters()
+	{
+		// Arrange
+		SpaceCharacterSet spaceCharacterSet =
+			new SpaceCharacterSet(SpaceCharacterSet.getDefaultSpaceCharacters());
+
+		// Act & Assert
+		for (char character = 0; character < 128; character++)
+		{
+			Assert.assertEquals(" \n\r\t".indexOf(character) >= 0,
+				spaceCharacterSet.contains(character));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void spaceCharacterSet_SpaceCharactersAreNull_ThrowsIllegalArgumentException()
+	{
+		// Act & Assert
+		new SpaceCharacterSet(null);
+	}
+}